@@ -0,0 +1,136 @@
+package com.annimon.stream;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes elements to and reads them from a binary stream.
+ * Used by operations that spill elements to temporary files.
+ *
+ * @param <T> the type of the elements
+ * @see Stream#sortedExternal(java.util.Comparator, Codec, int)
+ * @since 1.2.3
+ */
+public interface Codec<T> {
+
+    /**
+     * Writes the element.
+     *
+     * @param output  the output to write to
+     * @param value  the element
+     * @throws IOException if an I/O error occurs
+     */
+    void write(@NotNull DataOutput output, T value) throws IOException;
+
+    /**
+     * Reads the element previously written with {@link #write(DataOutput, Object)}.
+     *
+     * @param input  the input to read from
+     * @return the element
+     * @throws IOException if an I/O error occurs
+     */
+    T read(@NotNull DataInput input) throws IOException;
+
+    class Util {
+
+        private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+        private static final Codec<String> STRING = new Codec<String>() {
+            @Override
+            public void write(@NotNull DataOutput output, String value) throws IOException {
+                // writeUTF is limited to 64 KB, so the length is written separately
+                final byte[] bytes = value.getBytes(UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+
+            @Override
+            public String read(@NotNull DataInput input) throws IOException {
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return new String(bytes, UTF_8);
+            }
+        };
+
+        private static final Codec<Integer> INTEGER = new Codec<Integer>() {
+            @Override
+            public void write(@NotNull DataOutput output, Integer value) throws IOException {
+                output.writeInt(value);
+            }
+
+            @Override
+            public Integer read(@NotNull DataInput input) throws IOException {
+                return input.readInt();
+            }
+        };
+
+        private static final Codec<Long> LONG = new Codec<Long>() {
+            @Override
+            public void write(@NotNull DataOutput output, Long value) throws IOException {
+                output.writeLong(value);
+            }
+
+            @Override
+            public Long read(@NotNull DataInput input) throws IOException {
+                return input.readLong();
+            }
+        };
+
+        private static final Codec<Double> DOUBLE = new Codec<Double>() {
+            @Override
+            public void write(@NotNull DataOutput output, Double value) throws IOException {
+                output.writeDouble(value);
+            }
+
+            @Override
+            public Double read(@NotNull DataInput input) throws IOException {
+                return input.readDouble();
+            }
+        };
+
+        private Util() { }
+
+        /**
+         * Returns a codec for non-null strings in UTF-8.
+         *
+         * @return a codec
+         */
+        @NotNull
+        public static Codec<String> ofString() {
+            return STRING;
+        }
+
+        /**
+         * Returns a codec for non-null integers.
+         *
+         * @return a codec
+         */
+        @NotNull
+        public static Codec<Integer> ofInteger() {
+            return INTEGER;
+        }
+
+        /**
+         * Returns a codec for non-null longs.
+         *
+         * @return a codec
+         */
+        @NotNull
+        public static Codec<Long> ofLong() {
+            return LONG;
+        }
+
+        /**
+         * Returns a codec for non-null doubles.
+         *
+         * @return a codec
+         */
+        @NotNull
+        public static Codec<Double> ofDouble() {
+            return DOUBLE;
+        }
+    }
+}
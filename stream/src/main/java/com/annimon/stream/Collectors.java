@@ -1,7 +1,11 @@
 package com.annimon.stream;
 
 import com.annimon.stream.function.*;
-
+import com.annimon.stream.internal.Hashing;
+import com.annimon.stream.internal.HyperLogLog;
+import com.annimon.stream.internal.IntHashMap;
+import com.annimon.stream.internal.LongHashMap;
+import com.annimon.stream.internal.SpaceSaving;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -36,6 +40,36 @@ public final class Collectors {
         }
     };
 
+    private static final BinaryOperator<int[]> INT_ARRAY_SUM_COMBINER = new BinaryOperator<int[]>() {
+        @Override
+        public int[] apply(int[] t, int[] u) {
+            for (int i = 0; i < t.length; i++) {
+                t[i] += u[i];
+            }
+            return t;
+        }
+    };
+
+    private static final BinaryOperator<long[]> LONG_ARRAY_SUM_COMBINER = new BinaryOperator<long[]>() {
+        @Override
+        public long[] apply(long[] t, long[] u) {
+            for (int i = 0; i < t.length; i++) {
+                t[i] += u[i];
+            }
+            return t;
+        }
+    };
+
+    private static final BinaryOperator<double[]> DOUBLE_ARRAY_SUM_COMBINER = new BinaryOperator<double[]>() {
+        @Override
+        public double[] apply(double[] t, double[] u) {
+            for (int i = 0; i < t.length; i++) {
+                t[i] += u[i];
+            }
+            return t;
+        }
+    };
+
     private Collectors() { }
 
     /**
@@ -59,7 +93,9 @@ public final class Collectors {
                     public void accept(@NotNull R t, T u) {
                         t.add(u);
                     }
-                }
+                },
+
+                Collectors.<T, R>addAllCombiner()
         );
     }
 
@@ -86,8 +122,16 @@ public final class Collectors {
                     public void accept(@NotNull List<T> t, T u) {
                         t.add(u);
                     }
-                }
-        );
+                },
+
+                Collectors.<T, List<T>>addAllCombiner()
+        ).withSizedSupplier(new IntFunction<List<T>>() {
+            @NotNull
+            @Override
+            public List<T> apply(int size) {
+                return new ArrayList<T>(size);
+            }
+        });
     }
 
     /**
@@ -136,8 +180,17 @@ public final class Collectors {
                     public void accept(@NotNull Set<T> set, T t) {
                         set.add(t);
                     }
-                }
-        );
+                },
+
+                Collectors.<T, Set<T>>addAllCombiner()
+        ).withSizedSupplier(new IntFunction<Set<T>>() {
+            @NotNull
+            @Override
+            public Set<T> apply(int size) {
+                // Default load factor is 0.75
+                return new HashSet<T>(Math.max(16, (int) (size / 0.75f) + 1));
+            }
+        });
     }
 
     /**
@@ -245,7 +298,9 @@ public final class Collectors {
                             throw duplicateKeyException(key, oldValue, value);
                         }
                     }
-                }
+                },
+
+                Collectors.<K, V, M>uniqueKeysMapCombiner()
         );
     }
 
@@ -335,7 +390,9 @@ public final class Collectors {
                         final V value = valueMapper.apply(t);
                         mapMerge(map, key, value, mergeFunction);
                     }
-                }
+                },
+
+                Collectors.<K, V, M>mapMergeCombiner(mergeFunction)
         );
     }
 
@@ -418,37 +475,53 @@ public final class Collectors {
             @NotNull final CharSequence prefix,
             @NotNull final CharSequence suffix,
             @NotNull final String emptyValue) {
-        return new CollectorsImpl<CharSequence, StringBuilder, String>(
+        return new CollectorsImpl<CharSequence, JoiningState, String>(
 
-                new Supplier<StringBuilder>() {
+                new Supplier<JoiningState>() {
                     @NotNull
                     @Override
-                    public StringBuilder get() {
-                        return new StringBuilder();
+                    public JoiningState get() {
+                        return new JoiningState();
                     }
                 },
 
-                new BiConsumer<StringBuilder, CharSequence>() {
+                new BiConsumer<JoiningState, CharSequence>() {
                     @Override
-                    public void accept(@NotNull StringBuilder t, CharSequence u) {
-                        if (t.length() > 0) {
-                            t.append(delimiter);
+                    public void accept(@NotNull JoiningState t, CharSequence u) {
+                        if (t.hasElements) {
+                            t.builder.append(delimiter);
                         } else {
-                            t.append(prefix);
+                            t.builder.append(prefix);
+                            t.hasElements = true;
+                        }
+                        t.builder.append(u);
+                    }
+                },
+
+                new BinaryOperator<JoiningState>() {
+                    @Override
+                    public JoiningState apply(@NotNull JoiningState t, @NotNull JoiningState u) {
+                        if (!u.hasElements) {
+                            return t;
+                        }
+                        if (!t.hasElements) {
+                            return u;
                         }
-                        t.append(u);
+                        // Both parts start with the prefix, so skip it in the second one
+                        t.builder.append(delimiter).append(u.builder, prefix.length(), u.builder.length());
+                        return t;
                     }
                 },
 
-                new Function<StringBuilder, String>() {
+                new Function<JoiningState, String>() {
                     @NotNull
                     @Override
-                    public String apply(@NotNull StringBuilder value) {
-                        if (value.length() == 0) {
+                    public String apply(@NotNull JoiningState value) {
+                        if (!value.hasElements) {
                             return emptyValue;
                         } else {
-                            value.append(suffix);
-                            return value.toString();
+                            value.builder.append(suffix);
+                            return value.builder.toString();
                         }
                     }
                 }
@@ -522,6 +595,8 @@ public final class Collectors {
 
                 accumulator,
 
+                LONG_ARRAY_SUM_COMBINER,
+
                 new Function<long[], Double>() {
                     @NotNull
                     @Override
@@ -555,6 +630,8 @@ public final class Collectors {
                     }
                 },
 
+                DOUBLE_ARRAY_SUM_COMBINER,
+
                 new Function<double[], Double>() {
                     @NotNull
                     @Override
@@ -593,6 +670,8 @@ public final class Collectors {
                     }
                 },
 
+                INT_ARRAY_SUM_COMBINER,
+
                 new Function<int[], Integer>() {
                     @Override
                     public Integer apply(int[] value) {
@@ -623,6 +702,8 @@ public final class Collectors {
                     }
                 },
 
+                LONG_ARRAY_SUM_COMBINER,
+
                 new Function<long[], Long>() {
                     @Override
                     public Long apply(long[] value) {
@@ -653,6 +734,8 @@ public final class Collectors {
                     }
                 },
 
+                DOUBLE_ARRAY_SUM_COMBINER,
+
                 new Function<double[], Double>() {
                     @Override
                     public Double apply(double[] value) {
@@ -662,6 +745,210 @@ public final class Collectors {
         );
     }
 
+    /**
+     * Returns a {@code Collector} that collects count, sum, min, max and average
+     * of int-valued input elements in a single pass.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (str) -&gt; str.length()
+     * stream: ["abc", "a", "ab"]
+     * result: {count: 3, sum: 6, min: 1, max: 3, average: 2.0}
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param mapper  the mapping function which extracts value from element to calculate result
+     * @return a {@code Collector}
+     * @see IntSummaryStatistics
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizingInt(
+            @NotNull final ToIntFunction<? super T> mapper) {
+        return new CollectorsImpl<T, IntSummaryStatistics, IntSummaryStatistics>(
+
+                new Supplier<IntSummaryStatistics>() {
+                    @NotNull
+                    @Override
+                    public IntSummaryStatistics get() {
+                        return new IntSummaryStatistics();
+                    }
+                },
+
+                new BiConsumer<IntSummaryStatistics, T>() {
+                    @Override
+                    public void accept(@NotNull IntSummaryStatistics statistics, T t) {
+                        statistics.accept(mapper.applyAsInt(t));
+                    }
+                },
+
+                new BinaryOperator<IntSummaryStatistics>() {
+                    @NotNull
+                    @Override
+                    public IntSummaryStatistics apply(
+                            @NotNull IntSummaryStatistics left,
+                            @NotNull IntSummaryStatistics right) {
+                        left.combine(right);
+                        return left;
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} that collects count, sum, min, max and average
+     * of long-valued input elements in a single pass.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (str) -&gt; str.length()
+     * stream: ["abc", "a", "ab"]
+     * result: {count: 3, sum: 6, min: 1, max: 3, average: 2.0}
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param mapper  the mapping function which extracts value from element to calculate result
+     * @return a {@code Collector}
+     * @see LongSummaryStatistics
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T> Collector<T, ?, LongSummaryStatistics> summarizingLong(
+            @NotNull final ToLongFunction<? super T> mapper) {
+        return new CollectorsImpl<T, LongSummaryStatistics, LongSummaryStatistics>(
+
+                new Supplier<LongSummaryStatistics>() {
+                    @NotNull
+                    @Override
+                    public LongSummaryStatistics get() {
+                        return new LongSummaryStatistics();
+                    }
+                },
+
+                new BiConsumer<LongSummaryStatistics, T>() {
+                    @Override
+                    public void accept(@NotNull LongSummaryStatistics statistics, T t) {
+                        statistics.accept(mapper.applyAsLong(t));
+                    }
+                },
+
+                new BinaryOperator<LongSummaryStatistics>() {
+                    @NotNull
+                    @Override
+                    public LongSummaryStatistics apply(
+                            @NotNull LongSummaryStatistics left,
+                            @NotNull LongSummaryStatistics right) {
+                        left.combine(right);
+                        return left;
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} that collects count, sum, min, max and average
+     * of double-valued input elements in a single pass.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (str) -&gt; str.length()
+     * stream: ["abc", "a", "ab"]
+     * result: {count: 3, sum: 6.0, min: 1.0, max: 3.0, average: 2.0}
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param mapper  the mapping function which extracts value from element to calculate result
+     * @return a {@code Collector}
+     * @see DoubleSummaryStatistics
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T> Collector<T, ?, DoubleSummaryStatistics> summarizingDouble(
+            @NotNull final ToDoubleFunction<? super T> mapper) {
+        return new CollectorsImpl<T, DoubleSummaryStatistics, DoubleSummaryStatistics>(
+
+                new Supplier<DoubleSummaryStatistics>() {
+                    @NotNull
+                    @Override
+                    public DoubleSummaryStatistics get() {
+                        return new DoubleSummaryStatistics();
+                    }
+                },
+
+                new BiConsumer<DoubleSummaryStatistics, T>() {
+                    @Override
+                    public void accept(@NotNull DoubleSummaryStatistics statistics, T t) {
+                        statistics.accept(mapper.applyAsDouble(t));
+                    }
+                },
+
+                new BinaryOperator<DoubleSummaryStatistics>() {
+                    @NotNull
+                    @Override
+                    public DoubleSummaryStatistics apply(
+                            @NotNull DoubleSummaryStatistics left,
+                            @NotNull DoubleSummaryStatistics right) {
+                        left.combine(right);
+                        return left;
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} that collects double-valued input elements
+     * into a {@link QuantileSketch}. Memory usage is bounded regardless of the number of elements,
+     * the sketch can be queried for any quantile afterwards.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (request) -&gt; request.latencyMillis
+     * compression: 100
+     * result.quantile(0.99): the estimated 99th percentile of latencies
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param mapper  the mapping function which extracts value from element
+     * @param compression  the compression of the sketch, from 10 to 10000.
+     *                     Larger compression gives more accurate estimates and takes more memory
+     * @return a {@code Collector}
+     * @throws IllegalArgumentException if {@code compression} is out of range
+     * @see QuantileSketch
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T> Collector<T, ?, QuantileSketch> quantiles(
+            @NotNull final ToDoubleFunction<? super T> mapper,
+            final int compression) {
+        QuantileSketch.checkCompression(compression);
+        return new CollectorsImpl<T, QuantileSketch, QuantileSketch>(
+
+                new Supplier<QuantileSketch>() {
+                    @NotNull
+                    @Override
+                    public QuantileSketch get() {
+                        return new QuantileSketch(compression);
+                    }
+                },
+
+                new BiConsumer<QuantileSketch, T>() {
+                    @Override
+                    public void accept(@NotNull QuantileSketch sketch, T t) {
+                        sketch.accept(mapper.applyAsDouble(t));
+                    }
+                },
+
+                new BinaryOperator<QuantileSketch>() {
+                    @NotNull
+                    @Override
+                    public QuantileSketch apply(@NotNull QuantileSketch left, @NotNull QuantileSketch right) {
+                        left.merge(right);
+                        return left;
+                    }
+                }
+        );
+    }
+
     /**
      * Returns a {@code Collector} that counts the number of input elements.
      *
@@ -679,6 +966,172 @@ public final class Collectors {
         });
     }
 
+    /**
+     * Returns a {@code Collector} that estimates the number of distinct input elements
+     * with a HyperLogLog sketch. Elements are distinguished by their {@code hashCode}.
+     *
+     * <p>Distinct elements with equal hash codes are indistinguishable, so the estimate
+     * is corrected for the expected number of collisions of random 32-bit hash codes.
+     * The correction assumes well distributed hash codes, and the estimate is unreliable
+     * for billions of distinct elements, as there are only {@code 2^32} hash codes.
+     *
+     * <p>The sketch takes {@code 2^precision} bytes regardless of the number of elements.
+     * The relative standard error is about {@code 1.04 / sqrt(2^precision)}:
+     * <pre>
+     * precision: 10, memory: 1 KB, error: 3.25%
+     * precision: 12, memory: 4 KB, error: 1.63%
+     * precision: 14, memory: 16 KB, error: 0.81%
+     * precision: 16, memory: 64 KB, error: 0.41%
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param precision  the number of bits used to select a register, from 4 to 18
+     * @return a {@code Collector}
+     * @throws IllegalArgumentException if {@code precision} is out of range
+     * @see Stream#distinct()
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T> Collector<T, ?, Long> approxCountDistinct(final int precision) {
+        HyperLogLog.checkPrecision(precision);
+        return new CollectorsImpl<T, HyperLogLog, Long>(
+
+                new Supplier<HyperLogLog>() {
+                    @NotNull
+                    @Override
+                    public HyperLogLog get() {
+                        return new HyperLogLog(precision);
+                    }
+                },
+
+                new BiConsumer<HyperLogLog, T>() {
+                    @Override
+                    public void accept(@NotNull HyperLogLog sketch, T t) {
+                        sketch.addHash(Hashing.hash64(t));
+                    }
+                },
+
+                new BinaryOperator<HyperLogLog>() {
+                    @NotNull
+                    @Override
+                    public HyperLogLog apply(@NotNull HyperLogLog left, @NotNull HyperLogLog right) {
+                        left.merge(right);
+                        return left;
+                    }
+                },
+
+                new Function<HyperLogLog, Long>() {
+                    @NotNull
+                    @Override
+                    public Long apply(@NotNull HyperLogLog sketch) {
+                        return sketch.estimateOfHashCodes();
+                    }
+                }
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} that finds up to {@code k} most frequent keys
+     * using the Space-Saving algorithm with {@code k} counters.
+     *
+     * @param <T> the type of the input elements
+     * @param <K> the type of the keys
+     * @param k  the number of counters and the maximum number of keys in the result
+     * @param keyFn  the function which extracts key from element
+     * @return a {@code Collector}
+     * @throws IllegalArgumentException if {@code k} is zero or negative
+     * @see #heavyHitters(int, int, Function)
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T, K> Collector<T, ?, List<Map.Entry<K, Long>>> heavyHitters(
+            int k,
+            @NotNull Function<? super T, ? extends K> keyFn) {
+        return heavyHitters(k, k, keyFn);
+    }
+
+    /**
+     * Returns a {@code Collector} that finds up to {@code k} most frequent keys
+     * using the Space-Saving algorithm with {@code capacity} counters.
+     * Memory usage is bounded by {@code capacity} regardless of the number of distinct keys.
+     *
+     * <p>The result contains keys with estimated counts in descending order of counts.
+     * For {@code n} input elements:
+     * <ul>
+     *   <li>each estimated count is not less than the true count
+     *       and overestimates it by at most {@code n / capacity};</li>
+     *   <li>every key that occurs more than {@code n / capacity} times is counted,
+     *       so it is in the result if it is among the {@code k} largest counts.</li>
+     * </ul>
+     * To get more accurate top keys, use more counters than keys in the result.
+     *
+     * <p>Partial results of parallel collection are merged, the bounds then hold
+     * for the total number of elements.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * capacity: 3
+     * keyFn: (str) -&gt; str
+     * stream: ["a", "b", "a", "c", "a", "b"]
+     * result: [{a: 3}, {b: 2}]
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param <K> the type of the keys
+     * @param k  the maximum number of keys in the result
+     * @param capacity  the number of counters
+     * @param keyFn  the function which extracts key from element
+     * @return a {@code Collector}
+     * @throws IllegalArgumentException if {@code k} is zero or negative,
+     *         or {@code capacity} is less than {@code k}
+     * @see #groupingBy(Function, Collector)
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T, K> Collector<T, ?, List<Map.Entry<K, Long>>> heavyHitters(
+            final int k, final int capacity,
+            @NotNull final Function<? super T, ? extends K> keyFn) {
+        if (k <= 0) throw new IllegalArgumentException("k cannot be zero or negative");
+        if (capacity < k) throw new IllegalArgumentException("capacity cannot be less than k");
+        Objects.requireNonNull(keyFn);
+        return new CollectorsImpl<T, SpaceSaving<K>, List<Map.Entry<K, Long>>>(
+
+                new Supplier<SpaceSaving<K>>() {
+                    @NotNull
+                    @Override
+                    public SpaceSaving<K> get() {
+                        return new SpaceSaving<K>(capacity);
+                    }
+                },
+
+                new BiConsumer<SpaceSaving<K>, T>() {
+                    @Override
+                    public void accept(@NotNull SpaceSaving<K> sketch, T t) {
+                        sketch.add(keyFn.apply(t));
+                    }
+                },
+
+                new BinaryOperator<SpaceSaving<K>>() {
+                    @NotNull
+                    @Override
+                    public SpaceSaving<K> apply(
+                            @NotNull SpaceSaving<K> left, @NotNull SpaceSaving<K> right) {
+                        left.merge(right);
+                        return left;
+                    }
+                },
+
+                new Function<SpaceSaving<K>, List<Map.Entry<K, Long>>>() {
+                    @NotNull
+                    @Override
+                    public List<Map.Entry<K, Long>> apply(@NotNull SpaceSaving<K> sketch) {
+                        return sketch.top(k);
+                    }
+                }
+        );
+    }
+
     /**
      * Returns a {@code Collector} that reduces input elements.
      *
@@ -708,6 +1161,8 @@ public final class Collectors {
                     }
                 },
 
+                Collectors.<T>tuple1Combiner(op),
+
                 new Function<Tuple1<T>, T>() {
                     @Override
                     public T apply(@NotNull Tuple1<T> tuple) {
@@ -750,6 +1205,8 @@ public final class Collectors {
                     }
                 },
 
+                Collectors.<R>tuple1Combiner(op),
+
                 new Function<Tuple1<R>, R>() {
                     @Override
                     public R apply(@NotNull Tuple1<R> tuple) {
@@ -787,6 +1244,8 @@ public final class Collectors {
                     }
                 },
 
+                combinerOf(downstream),
+
                 downstream.finisher()
         );
     }
@@ -819,6 +1278,8 @@ public final class Collectors {
                     }
                 },
 
+                combinerOf(downstream),
+
                 downstream.finisher()
         );
     }
@@ -859,6 +1320,8 @@ public final class Collectors {
                     }
                 },
 
+                combinerOf(downstream),
+
                 downstream.finisher()
         );
     }
@@ -880,8 +1343,9 @@ public final class Collectors {
             @NotNull Function<IR, OR> finisher) {
         Objects.requireNonNull(c);
         Objects.requireNonNull(finisher);
-        return new CollectorsImpl<T, A, OR>(c.supplier(), c.accumulator(),
-                Function.Util.andThen(c.finisher(), finisher));
+        return new CollectorsImpl<T, A, OR>(c.supplier(), c.accumulator(), combinerOf(c),
+                Function.Util.andThen(c.finisher(), finisher))
+                .withSizedSupplier(Collectors.sizedSupplier(c));
     }
 
     /**
@@ -981,10 +1445,124 @@ public final class Collectors {
                     }
                 },
 
+                Collectors.<K, A, Map<K, A>>mapMergeCombiner(combinerOf(downstream)),
+
                 finisher
         );
     }
 
+    /**
+     * Returns a {@code Collector} that performs grouping operation by given {@code int} classifier.
+     *
+     * <p>Unlike {@link #groupingBy(Function, Collector)}, keys are not boxed while grouping:
+     * containers are stored in an open addressing map with primitive keys.
+     * The resulting {@code Map<Integer, D>} is backed by this map
+     * and does not support removal of mappings.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (str) -&gt; str.length()
+     * downstream: Collectors.counting()
+     * stream: ["a", "bc", "d", "ef", "ghij"]
+     * result: {1: 2, 2: 2, 4: 1}
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param <A> the accumulation type
+     * @param <D> the result type of downstream reduction
+     * @param classifier  the classifier function
+     * @param downstream  the collector of mapped elements
+     * @return a {@code Collector}
+     * @see #groupingByLong(ToLongFunction, Collector)
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T, A, D> Collector<T, ?, Map<Integer, D>> groupingByInt(
+            @NotNull final ToIntFunction<? super T> classifier,
+            @NotNull final Collector<? super T, A, D> downstream) {
+        final Supplier<A> downstreamSupplier = downstream.supplier();
+        final BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        return new CollectorsImpl<T, IntHashMap<A>, Map<Integer, D>>(
+
+                new Supplier<IntHashMap<A>>() {
+                    @NotNull
+                    @Override
+                    public IntHashMap<A> get() {
+                        return new IntHashMap<A>();
+                    }
+                },
+
+                new BiConsumer<IntHashMap<A>, T>() {
+                    @Override
+                    public void accept(@NotNull IntHashMap<A> map, T t) {
+                        final A container = map.getOrPut(
+                                classifier.applyAsInt(t), downstreamSupplier);
+                        downstreamAccumulator.accept(container, t);
+                    }
+                },
+
+                Collectors.<Integer, A, IntHashMap<A>>mapMergeCombiner(combinerOf(downstream)),
+
+                Collectors.<Integer, A, D, IntHashMap<A>>valuesFinisher(downstream.finisher())
+        );
+    }
+
+    /**
+     * Returns a {@code Collector} that performs grouping operation by given {@code long} classifier.
+     *
+     * <p>Unlike {@link #groupingBy(Function, Collector)}, keys are not boxed while grouping:
+     * containers are stored in an open addressing map with primitive keys.
+     * The resulting {@code Map<Long, D>} is backed by this map
+     * and does not support removal of mappings.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (event) -&gt; event.userId
+     * downstream: Collectors.counting()
+     * stream: [{userId: 7}, {userId: 9}, {userId: 7}]
+     * result: {7: 2, 9: 1}
+     * </pre>
+     *
+     * @param <T> the type of the input elements
+     * @param <A> the accumulation type
+     * @param <D> the result type of downstream reduction
+     * @param classifier  the classifier function
+     * @param downstream  the collector of mapped elements
+     * @return a {@code Collector}
+     * @see #groupingByInt(ToIntFunction, Collector)
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T, A, D> Collector<T, ?, Map<Long, D>> groupingByLong(
+            @NotNull final ToLongFunction<? super T> classifier,
+            @NotNull final Collector<? super T, A, D> downstream) {
+        final Supplier<A> downstreamSupplier = downstream.supplier();
+        final BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        return new CollectorsImpl<T, LongHashMap<A>, Map<Long, D>>(
+
+                new Supplier<LongHashMap<A>>() {
+                    @NotNull
+                    @Override
+                    public LongHashMap<A> get() {
+                        return new LongHashMap<A>();
+                    }
+                },
+
+                new BiConsumer<LongHashMap<A>, T>() {
+                    @Override
+                    public void accept(@NotNull LongHashMap<A> map, T t) {
+                        final A container = map.getOrPut(
+                                classifier.applyAsLong(t), downstreamSupplier);
+                        downstreamAccumulator.accept(container, t);
+                    }
+                },
+
+                Collectors.<Long, A, LongHashMap<A>>mapMergeCombiner(combinerOf(downstream)),
+
+                Collectors.<Long, A, D, LongHashMap<A>>valuesFinisher(downstream.finisher())
+        );
+    }
+
     /**
      * Returns a {@code Collector} that performs partitioning operation according to a predicate.
      * The returned {@code Map} always contains mappings for both {@code false} and {@code true} keys.
@@ -1018,6 +1596,7 @@ public final class Collectors {
             @NotNull final Collector<? super T, A, D> downstream) {
 
         final BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+        final BinaryOperator<A> downstreamCombiner = combinerOf(downstream);
         return new CollectorsImpl<T, Tuple2<A>, Map<Boolean, D>>(
                 new Supplier<Tuple2<A>>() {
                     @NotNull
@@ -1035,6 +1614,15 @@ public final class Collectors {
                                 predicate.test(t) ? container.a : container.b, t);
                     }
                 },
+                downstreamCombiner == null ? null : new BinaryOperator<Tuple2<A>>() {
+                    @NotNull
+                    @Override
+                    public Tuple2<A> apply(@NotNull Tuple2<A> t, @NotNull Tuple2<A> u) {
+                        return new Tuple2<A>(
+                                downstreamCombiner.apply(t.a, u.a),
+                                downstreamCombiner.apply(t.b, u.b));
+                    }
+                },
                 new Function<Tuple2<A>, Map<Boolean, D>>() {
                     @NotNull
                     @Override
@@ -1092,6 +1680,9 @@ public final class Collectors {
         final BiConsumer<A2, ? super T> acc2 =
                 Objects.requireNonNull(downstream2.accumulator(), "downstream2 accumulator");
 
+        final BinaryOperator<A1> combiner1 = combinerOf(downstream1);
+        final BinaryOperator<A2> combiner2 = combinerOf(downstream2);
+
         final Function<A1, R1> finisher1 =
                 Objects.requireNonNull(downstream1.finisher(), "downstream1 finisher");
         final Function<A2, R2> finisher2 =
@@ -1114,6 +1705,15 @@ public final class Collectors {
                         acc2.accept(entry.getValue(), t);
                     }
                 },
+                (combiner1 == null || combiner2 == null) ? null : new BinaryOperator<Map.Entry<A1, A2>>() {
+                    @NotNull
+                    @Override
+                    public Map.Entry<A1, A2> apply(@NotNull Map.Entry<A1, A2> t, @NotNull Map.Entry<A1, A2> u) {
+                        return new AbstractMap.SimpleEntry<A1, A2>(
+                                combiner1.apply(t.getKey(), u.getKey()),
+                                combiner2.apply(t.getValue(), u.getValue()));
+                    }
+                },
                 new Function<Map.Entry<A1, A2>, R>() {
                     @NotNull
                     @Override
@@ -1138,6 +1738,86 @@ public final class Collectors {
         };
     }
 
+    @NotNull
+    private static <T, C extends Collection<T>> BinaryOperator<C> addAllCombiner() {
+        return new BinaryOperator<C>() {
+            @NotNull
+            @Override
+            public C apply(@NotNull C t, @NotNull C u) {
+                t.addAll(u);
+                return t;
+            }
+        };
+    }
+
+    @NotNull
+    private static <K, V, M extends Map<K, V>> BinaryOperator<M> uniqueKeysMapCombiner() {
+        return new BinaryOperator<M>() {
+            @NotNull
+            @Override
+            public M apply(@NotNull M t, @NotNull M u) {
+                for (Map.Entry<K, V> entry : u.entrySet()) {
+                    final K key = entry.getKey();
+                    final V value = entry.getValue();
+                    final V oldValue = t.put(key, value);
+                    if (oldValue != null) {
+                        t.put(key, oldValue);
+                        throw duplicateKeyException(key, oldValue, value);
+                    }
+                }
+                return t;
+            }
+        };
+    }
+
+    @NotNull
+    static <K, A, D, M extends Map<K, A>> Function<M, Map<K, D>> valuesFinisher(
+            @NotNull Function<A, D> downstreamFinisher) {
+        @SuppressWarnings("unchecked")
+        final Function<A, A> finisher = (Function<A, A>) downstreamFinisher;
+        return new Function<M, Map<K, D>>() {
+            @NotNull
+            @Override
+            public Map<K, D> apply(@NotNull M map) {
+                // Update values of a map by a finisher function
+                for (Map.Entry<K, A> entry : map.entrySet()) {
+                    entry.setValue(finisher.apply(entry.getValue()));
+                }
+                @SuppressWarnings("unchecked")
+                final Map<K, D> castedMap = (Map<K, D>) map;
+                return castedMap;
+            }
+        };
+    }
+
+    @Nullable
+    private static <K, V, M extends Map<K, V>> BinaryOperator<M> mapMergeCombiner(
+            @Nullable final BinaryOperator<V> merger) {
+        if (merger == null) return null;
+        return new BinaryOperator<M>() {
+            @NotNull
+            @Override
+            public M apply(@NotNull M t, @NotNull M u) {
+                for (Map.Entry<K, V> entry : u.entrySet()) {
+                    mapMerge(t, entry.getKey(), entry.getValue(), merger);
+                }
+                return t;
+            }
+        };
+    }
+
+    @NotNull
+    private static <T> BinaryOperator<Tuple1<T>> tuple1Combiner(@NotNull final BinaryOperator<T> op) {
+        return new BinaryOperator<Tuple1<T>>() {
+            @NotNull
+            @Override
+            public Tuple1<T> apply(@NotNull Tuple1<T> t, @NotNull Tuple1<T> u) {
+                t.a = op.apply(t.a, u.a);
+                return t;
+            }
+        };
+    }
+
     @NotNull
     private static IllegalStateException duplicateKeyException(Object key, Object old, Object value) {
         return new IllegalStateException(String.format(
@@ -1205,22 +1885,79 @@ public final class Collectors {
         }
     }
 
-    private static final class CollectorsImpl<T, A, R> implements Collector<T, A, R> {
+    /**
+     * Creates a new container for the given collector.
+     * Built-in collectors to lists and sets are presized if the number of elements is known.
+     *
+     * @param collector  the collector
+     * @param expectedSize  the expected number of elements, or {@code -1} if unknown
+     * @return a new container
+     */
+    static <A> A newContainer(@NotNull Collector<?, A, ?> collector, long expectedSize) {
+        if (expectedSize >= 0 && expectedSize <= Integer.MAX_VALUE) {
+            final IntFunction<A> sizedSupplier = Collectors.sizedSupplier(collector);
+            if (sizedSupplier != null) {
+                return sizedSupplier.apply((int) expectedSize);
+            }
+        }
+        return collector.supplier().get();
+    }
+
+    /**
+     * Returns the combiner of the collector, if it is a {@link CombinableCollector}.
+     *
+     * @param <A> the mutable accumulation type of the collector
+     * @param collector  the collector
+     * @return the combiner or {@code null} if containers cannot be merged
+     */
+    @Nullable
+    static <A> BinaryOperator<A> combinerOf(@NotNull Collector<?, A, ?> collector) {
+        if (collector instanceof CombinableCollector) {
+            return ((CombinableCollector<?, A, ?>) collector).combiner();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static <A> IntFunction<A> sizedSupplier(@NotNull Collector<?, A, ?> collector) {
+        if (collector instanceof CollectorsImpl) {
+            return ((CollectorsImpl<?, A, ?>) collector).sizedSupplier;
+        }
+        return null;
+    }
+
+    private static final class JoiningState {
+        // Elements may be empty strings, so emptiness is tracked separately from the length
+        final StringBuilder builder = new StringBuilder();
+        boolean hasElements;
+    }
+
+    private static final class CollectorsImpl<T, A, R> implements CombinableCollector<T, A, R> {
 
         private final Supplier<A> supplier;
         private final BiConsumer<A, T> accumulator;
+        private final BinaryOperator<A> combiner;
         private final Function<A, R> finisher;
+        private IntFunction<A> sizedSupplier;
 
-        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator) {
-            this(supplier, accumulator, Collectors.<A, R>castIdentity());
+        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator,
+                              BinaryOperator<A> combiner) {
+            this(supplier, accumulator, combiner, Collectors.<A, R>castIdentity());
         }
 
-        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator, Function<A, R> finisher) {
+        public CollectorsImpl(Supplier<A> supplier, BiConsumer<A, T> accumulator,
+                              BinaryOperator<A> combiner, Function<A, R> finisher) {
             this.supplier = supplier;
             this.accumulator = accumulator;
+            this.combiner = combiner;
             this.finisher = finisher;
         }
 
+        CollectorsImpl<T, A, R> withSizedSupplier(@Nullable IntFunction<A> sizedSupplier) {
+            this.sizedSupplier = sizedSupplier;
+            return this;
+        }
+
         @Override
         public Supplier<A> supplier() {
             return supplier;
@@ -1231,6 +1968,11 @@ public final class Collectors {
             return accumulator;
         }
 
+        @Override
+        public BinaryOperator<A> combiner() {
+            return combiner;
+        }
+
         @Nullable
         @Override
         public Function<A, R> finisher() {
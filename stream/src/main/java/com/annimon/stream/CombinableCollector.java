@@ -0,0 +1,26 @@
+package com.annimon.stream;
+
+import com.annimon.stream.function.BinaryOperator;
+
+/**
+ * The Collector, which partial containers can be merged.
+ * Such collectors can be applied to parts of the stream concurrently.
+ *
+ * @param <T> the type of input elements to the reduction operation
+ * @param <A> the mutable accumulation type of the reduction operation
+ * @param <R> the result type of the reduction operation
+ * @see Stream#collectParallel(com.annimon.stream.Collector, int)
+ * @since 1.2.3
+ */
+public interface CombinableCollector<T, A, R> extends Collector<T, A, R> {
+
+    /**
+     * Function merges two partial containers into one.
+     * The first container holds elements that precede elements of the second one.
+     * May return {@code null} if containers cannot be merged,
+     * in that case the collector is always applied sequentially.
+     *
+     * @return {@code BinaryOperator} or {@code null}
+     */
+    BinaryOperator<A> combiner();
+}
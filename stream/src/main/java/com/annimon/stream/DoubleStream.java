@@ -1,6 +1,7 @@
 package com.annimon.stream;
 
 import com.annimon.stream.function.*;
+import com.annimon.stream.internal.BloomFilter;
 import com.annimon.stream.internal.Compose;
 import com.annimon.stream.internal.Operators;
 import com.annimon.stream.internal.Params;
@@ -9,6 +10,7 @@ import com.annimon.stream.iterator.PrimitiveIndexedIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import com.annimon.stream.operator.*;
 import java.io.Closeable;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -678,7 +680,44 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public DoubleStream distinct() {
-        return boxed().distinct().mapToDouble(UNBOX_FUNCTION);
+        return new DoubleStream(params, new DoubleDistinct(iterator));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream,
+     * using a Bloom filter instead of remembering all seen elements.
+     * Memory usage is fixed by the expected number of distinct elements
+     * and the false positive probability, and does not grow with the stream.
+     *
+     * <p>Duplicates are never emitted, but a distinct element may be dropped
+     * with the probability about {@code fpp}.
+     * The filter never forgets elements, so it saturates if the stream contains more than
+     * {@code expectedItems} distinct elements: the probability grows with each of them and
+     * approaches 1, and then almost all new elements of a long or infinite stream are dropped.
+     * For example, 1 million elements with {@code fpp} 0.01 take about 1.2 MB. Elements are hashed without boxing.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * expectedItems: 100
+     * fpp: 0.01
+     * stream: [1.5, 4, 2, 3.5, 3.5, 4, 1.5]
+     * result: [1.5, 4, 2, 3.5]
+     * </pre>
+     *
+     * @param expectedItems  the expected number of distinct elements
+     * @param fpp  the false positive probability, in range (0, 1)
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code expectedItems} is zero or negative
+     *         or {@code fpp} is out of range
+     * @see #distinct()
+     * @since 1.2.3
+     */
+    @NotNull
+    public DoubleStream distinctApprox(long expectedItems, double fpp) {
+        final BloomFilter filter = new BloomFilter(expectedItems, fpp);
+        return new DoubleStream(params, new DoubleDistinctApprox(iterator, filter));
     }
 
     /**
@@ -699,6 +738,30 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(params, new DoubleSorted(iterator));
     }
 
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted
+     * order, always using the LSD radix sort.
+     *
+     * <p>{@link #sorted()} already switches to the radix sort for large streams.
+     * This method forces it for any size, which is usually faster for
+     * uniformly distributed keys, such as hashes or timestamps.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @return the new stream
+     * @since 1.2.3
+     */
+    @NotNull
+    public DoubleStream sortedRadix() {
+        return new DoubleStream(params, new DoubleSorted(iterator, null, true));
+    }
+
     /**
      * Returns a stream consisting of the elements of this stream
      * in sorted order as determinated by provided {@code Comparator}.
@@ -720,6 +783,100 @@ public final class DoubleStream implements Closeable {
         return boxed().sorted(comparator).mapToDouble(UNBOX_FUNCTION);
     }
 
+    /**
+     * Returns {@code DoubleStream} with sorted elements (as determinated by provided {@code DoubleComparator}).
+     * Unlike {@link #sorted(java.util.Comparator)}, elements are sorted without boxing.
+     * The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: DoubleComparator.Util.reverseOrder()
+     * stream: [1.0, 2.0, 3.0, 4.0]
+     * result: [4.0, 3.0, 2.0, 1.0]
+     * </pre>
+     *
+     * @param comparator  the {@code DoubleComparator} to compare elements,
+     *                    {@code null} means natural order
+     * @return the new {@code DoubleStream}
+     * @since 1.2.3
+     */
+    @NotNull
+    public DoubleStream sortedWith(@Nullable DoubleComparator comparator) {
+        return new DoubleStream(params, new DoubleSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns {@code DoubleStream} with sorted elements, sorting them with up to {@code parallelism} threads.
+     *
+     * <p>The elements are split into parts, which are sorted concurrently and then merged.
+     * The result is the same as for {@link #sortedWith(DoubleComparator)}.
+     * Plain threads are used, so it works on every Java and Android version.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: null (natural order)
+     * parallelism: 4
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @param comparator  the comparator to compare elements, or {@code null} for the natural order
+     * @param parallelism  the maximum number of threads
+     * @return the new {@code DoubleStream}
+     * @throws IllegalArgumentException if {@code parallelism} is zero or negative
+     * @see Stream#sortedParallel(Comparator, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public DoubleStream sortedParallel(@Nullable DoubleComparator comparator, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism cannot be zero or negative");
+        return new DoubleStream(params, new DoubleSorted(iterator, comparator, parallelism));
+    }
+
+    /**
+     * Returns {@code DoubleStream} with sorted elements, keeping at most
+     * {@code memoryBudget} elements in memory.
+     *
+     * <p>If the stream is larger than the budget, sorted runs of {@code memoryBudget} elements
+     * are written to temporary files and lazily merged back.
+     * At most 64 runs are merged at once, more runs are merged in several passes.
+     * The files are deleted when the elements are consumed or the stream is closed.
+     * I/O errors are rethrown as {@link UncheckedIOException}.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: null (natural order)
+     * memoryBudget: 2
+     * stream: [3, 1, 4, 2]
+     * runs: [1, 3], [2, 4]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @param comparator  the comparator to compare elements, or {@code null} for the natural order
+     * @param memoryBudget  the maximum number of elements to keep in memory
+     * @return the new {@code DoubleStream}
+     * @throws IllegalArgumentException if {@code memoryBudget} is zero or negative
+     * @see Stream#sortedExternal(Comparator, Codec, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public DoubleStream sortedExternal(@Nullable DoubleComparator comparator, final int memoryBudget) {
+        if (memoryBudget <= 0) throw new IllegalArgumentException("memoryBudget cannot be zero or negative");
+        final DoubleSortedExternal sorted = new DoubleSortedExternal(iterator, comparator, memoryBudget);
+        return new DoubleStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
     /**
      * Samples the {@code DoubleStream} by emitting every n-th element.
      *
@@ -744,6 +901,107 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(params, new DoubleSample(iterator, stepWidth));
     }
 
+    /**
+     * Returns {@code DoubleStream} with {@code k} elements randomly selected from this stream,
+     * or all elements if the stream has fewer elements.
+     * Each element has the same probability to be selected.
+     *
+     * <p>Uses reservoir sampling (Algorithm L): elements are processed in a single pass
+     * with O(k) memory, and instead of drawing a random number for each element,
+     * the number of elements to skip before the next selected one is computed.
+     * The stream must be finite.
+     * Selected elements are emitted in no particular order.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 3
+     * stream: [1.0, 2.0, 3.0, 4.0, 5.0, 6.0]
+     * result: [5.0, 2.0, 6.0] (one of possible samples)
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @param random  the source of randomness
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NullPointerException if {@code random} is null
+     * @see #sample(int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public DoubleStream sampleRandom(int k, @NotNull RandomCompat random) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        Objects.requireNonNull(random);
+        if (k == 0) return DoubleStream.empty();
+        return new DoubleStream(params, new DoubleSampleRandom(iterator, k, random.getRandom()));
+    }
+
+    /**
+     * Partitions {@code DoubleStream} into arrays of fixed size by sliding over the elements
+     * with the given step width. Each window is copied to a new array.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3, stepWidth: 2
+     * stream: [1, 2, 3, 4, 5, 6, 7]
+     * result: [[1, 2, 3], [3, 4, 5], [5, 6, 7]]
+     * </pre>
+     *
+     * @param windowSize  number of elements in a window
+     * @param stepWidth  step width
+     * @return the new {@code Stream} of arrays
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#slidingWindow(int, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<double[]> slidingWindow(final int windowSize, final int stepWidth) {
+        return slidingWindowView(windowSize, stepWidth).map(new Function<DoubleBuffer, double[]>() {
+            @Override
+            public double[] apply(DoubleBuffer window) {
+                final double[] result = new double[window.remaining()];
+                window.get(result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Partitions {@code DoubleStream} into read-only {@code DoubleBuffer} views of fixed size
+     * by sliding over the elements with the given step width.
+     *
+     * <p>Elements are kept in a contiguous array and are not copied for each window.
+     * A view is valid only until the next window is requested, so it must be processed
+     * immediately or copied explicitly.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3, stepWidth: 1
+     * stream: [1, 2, 3, 4, 5]
+     * result: [[1, 2, 3], [2, 3, 4], [3, 4, 5]]
+     * </pre>
+     *
+     * @param windowSize  number of elements in a window
+     * @param stepWidth  step width
+     * @return the new {@code Stream} of window views
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#slidingWindowView(int, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<DoubleBuffer> slidingWindowView(final int windowSize, final int stepWidth) {
+        if (windowSize <= 0) throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        if (stepWidth <= 0) throw new IllegalArgumentException("stepWidth cannot be zero or negative");
+        return new Stream<DoubleBuffer>(params, new DoubleSlidingWindow(iterator, windowSize, stepWidth));
+    }
+
     /**
      * Performs provided action on each element.
      *
@@ -900,6 +1158,13 @@ public final class DoubleStream implements Closeable {
     public DoubleStream limit(final long maxSize) {
         if (maxSize < 0) throw new IllegalArgumentException("maxSize cannot be negative");
         if (maxSize == 0) return DoubleStream.empty();
+        if (iterator instanceof DoubleSorted) {
+            // sorted().limit(k) keeps only k elements in a bounded heap, if k is small enough
+            final DoubleTopK topK = ((DoubleSorted) iterator).limit(maxSize);
+            if (topK != null) {
+                return new DoubleStream(params, topK);
+            }
+        }
         return new DoubleStream(params, new DoubleLimit(iterator, maxSize));
     }
 
@@ -940,9 +1205,7 @@ public final class DoubleStream implements Closeable {
      * @param action  the action to be performed on each element
      */
     public void forEach(@NotNull DoubleConsumer action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.nextDouble());
-        }
+        iterator.pushRemaining(action);
     }
 
     /**
@@ -1003,13 +1266,15 @@ public final class DoubleStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public double reduce(double identity, @NotNull DoubleBinaryOperator accumulator) {
-        double result = identity;
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            result = accumulator.applyAsDouble(result, value);
-        }
-        return result;
+    public double reduce(double identity, @NotNull final DoubleBinaryOperator accumulator) {
+        final double[] result = { identity };
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                result[0] = accumulator.applyAsDouble(result[0], value);
+            }
+        });
+        return result[0];
     }
 
     /**
@@ -1026,19 +1291,21 @@ public final class DoubleStream implements Closeable {
      * @see #reduce(com.annimon.stream.function.DoubleBinaryOperator)
      */
     @NotNull
-    public OptionalDouble reduce(@NotNull DoubleBinaryOperator accumulator) {
-        boolean foundAny = false;
-        double result = 0;
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.applyAsDouble(result, value);
+    public OptionalDouble reduce(@NotNull final DoubleBinaryOperator accumulator) {
+        final boolean[] foundAny = { false };
+        final double[] result = { 0 };
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                if (!foundAny[0]) {
+                    foundAny[0] = true;
+                    result[0] = value;
+                } else {
+                    result[0] = accumulator.applyAsDouble(result[0], value);
+                }
             }
-        }
-        return foundAny ? OptionalDouble.of(result) : OptionalDouble.empty();
+        });
+        return foundAny[0] ? OptionalDouble.of(result[0]) : OptionalDouble.empty();
     }
 
     /**
@@ -1066,12 +1333,14 @@ public final class DoubleStream implements Closeable {
      */
     @Nullable
     public <R> R collect(@NotNull Supplier<R> supplier,
-                         @NotNull ObjDoubleConsumer<R> accumulator) {
+                         @NotNull final ObjDoubleConsumer<R> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            accumulator.accept(result, value);
-        }
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                accumulator.accept(result, value);
+            }
+        });
         return result;
     }
 
@@ -1081,11 +1350,14 @@ public final class DoubleStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public double sum() {
-        double sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextDouble();
-        }
-        return sum;
+        final double[] sum = { 0 };
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                sum[0] += value;
+            }
+        });
+        return sum[0];
     }
 
     /**
@@ -1127,17 +1399,31 @@ public final class DoubleStream implements Closeable {
     /**
      * Returns the count of elements in this stream.
      *
+     * <p>If the count can be computed directly from the stream source,
+     * the elements are not traversed and the functions of intermediate operations
+     * are not called. For example, in {@code DoubleStream.of(array).map(mapper).count()}
+     * the {@code mapper} is never applied, so its side-effects and exceptions do not occur.
+     * Operations, which do not preserve the size, such as {@code filter} and {@code peek},
+     * always traverse the elements.
+     *
      * <p>This is a terminal operation.
      *
      * @return the count of elements in this stream
      */
     public long count() {
-        long count = 0;
-        while (iterator.hasNext()) {
-            iterator.nextDouble();
-            count++;
+        final long size = iterator.remaining();
+        if (size >= 0) {
+            // Size is known, elements are not traversed
+            return size;
         }
-        return count;
+        final long[] count = { 0 };
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                count[0]++;
+            }
+        });
+        return count[0];
     }
 
     /**
@@ -1149,14 +1435,84 @@ public final class DoubleStream implements Closeable {
      */
     @NotNull
     public OptionalDouble average() {
-        long count = 0;
-        double sum = 0d;
-        while (iterator.hasNext()) {
-            sum += iterator.nextDouble();
-            count++;
-        }
-        if (count == 0) return OptionalDouble.empty();
-        return OptionalDouble.of(sum / (double) count);
+        final long[] count = { 0 };
+        final double[] sum = { 0d };
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                sum[0] += value;
+                count[0]++;
+            }
+        });
+        if (count[0] == 0) return OptionalDouble.empty();
+        return OptionalDouble.of(sum[0] / (double) count[0]);
+    }
+
+    /**
+     * Returns statistics of elements in this stream: count, sum, min, max and average.
+     * Elements are traversed only once.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [0.5, 2.5, 1.5]
+     * result: {count: 3, sum: 4.5, min: 0.5, max: 2.5, average: 1.5}
+     * </pre>
+     *
+     * @return the statistics of elements in this stream
+     * @see DoubleSummaryStatistics
+     * @since 1.2.3
+     */
+    @NotNull
+    public DoubleSummaryStatistics summaryStatistics() {
+        final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        iterator.pushRemaining(statistics);
+        return statistics;
+    }
+
+    /**
+     * Collects elements of this stream into a {@link QuantileSketch}
+     * with {@link QuantileSketch#DEFAULT_COMPRESSION default compression}.
+     * Memory usage is bounded regardless of the number of elements,
+     * the sketch can be queried for any quantile afterwards.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 2, 3, ..., 1000]
+     * result.quantile(0.5): 500.5
+     * result.quantile(0.99): 990.5
+     * </pre>
+     *
+     * @return the quantile sketch of elements in this stream
+     * @see #quantileSketch(int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public QuantileSketch quantileSketch() {
+        return quantileSketch(QuantileSketch.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Collects elements of this stream into a {@link QuantileSketch} with the given compression.
+     * Larger compression gives more accurate estimates and takes more memory.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param compression  the compression of the sketch, from 10 to 10000
+     * @return the quantile sketch of elements in this stream
+     * @throws IllegalArgumentException if {@code compression} is out of range
+     * @throws IllegalArgumentException if the stream contains NaN
+     * @see Collectors#quantiles(ToDoubleFunction, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public QuantileSketch quantileSketch(int compression) {
+        final QuantileSketch sketch = new QuantileSketch(compression);
+        iterator.pushRemaining(sketch);
+        return sketch;
     }
 
     /**
@@ -0,0 +1,130 @@
+package com.annimon.stream;
+
+import com.annimon.stream.function.DoubleConsumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A state object for collecting count, sum, min, max and average
+ * of {@code double} values in a single pass.
+ *
+ * <p>The sum is calculated with Kahan compensated summation,
+ * so rounding errors do not accumulate over a large number of values.
+ *
+ * <p>Example:
+ * <pre>
+ * DoubleSummaryStatistics stats = DoubleStream.of(0.1, 0.2, 0.3).summaryStatistics();
+ * stats: {count: 3, sum: 0.6, min: 0.1, max: 0.3, average: 0.2}
+ * </pre>
+ *
+ * <p>This implementation is not thread safe.
+ * Statistics collected in parallel can be merged with {@link #combine(DoubleSummaryStatistics)}.
+ *
+ * @since 1.2.3
+ */
+public class DoubleSummaryStatistics implements DoubleConsumer {
+
+    private long count;
+    private double sum;
+    // Low-order bits lost while adding to the sum
+    private double compensation;
+    // Plain sum, which is used if the compensated one is NaN because of infinite values
+    private double simpleSum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Records a new value.
+     *
+     * @param value  the input value
+     */
+    @Override
+    public void accept(double value) {
+        count++;
+        simpleSum += value;
+        sumWithCompensation(value);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Merges the state of another {@code DoubleSummaryStatistics} into this one.
+     *
+     * @param other  another {@code DoubleSummaryStatistics}
+     * @throws NullPointerException if {@code other} is null
+     */
+    public void combine(@NotNull DoubleSummaryStatistics other) {
+        count += other.count;
+        simpleSum += other.simpleSum;
+        sumWithCompensation(other.sum);
+        sumWithCompensation(-other.compensation);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the count of recorded values.
+     *
+     * @return the count of values
+     */
+    public final long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of recorded values, or zero if no values have been recorded.
+     * If any recorded value is NaN, the sum is NaN.
+     *
+     * @return the sum of values
+     */
+    public final double getSum() {
+        final double result = sum - compensation;
+        if (Double.isNaN(result) && Double.isInfinite(simpleSum)) {
+            // Compensation of infinite values is NaN, but the plain sum is correct
+            return simpleSum;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the minimum recorded value, {@code Double.NaN} if any recorded value was NaN
+     * or {@code Double.POSITIVE_INFINITY} if no values have been recorded.
+     *
+     * @return the minimum value
+     */
+    public final double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum recorded value, {@code Double.NaN} if any recorded value was NaN
+     * or {@code Double.NEGATIVE_INFINITY} if no values have been recorded.
+     *
+     * @return the maximum value
+     */
+    public final double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of recorded values, or zero if no values have been recorded.
+     *
+     * @return the arithmetic mean of values
+     */
+    public final double getAverage() {
+        return count > 0 ? getSum() / count : 0d;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format("DoubleSummaryStatistics{count=%d, sum=%f, min=%f, average=%f, max=%f}",
+                count, getSum(), min, getAverage(), max);
+    }
+
+    private void sumWithCompensation(double value) {
+        final double y = value - compensation;
+        final double t = sum + y;
+        compensation = (t - sum) - y;
+        sum = t;
+    }
+}
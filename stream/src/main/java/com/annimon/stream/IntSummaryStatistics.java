@@ -0,0 +1,108 @@
+package com.annimon.stream;
+
+import com.annimon.stream.function.IntConsumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A state object for collecting count, sum, min, max and average
+ * of {@code int} values in a single pass.
+ *
+ * <p>Example:
+ * <pre>
+ * IntSummaryStatistics stats = IntStream.of(3, 1, 2).summaryStatistics();
+ * stats: {count: 3, sum: 6, min: 1, max: 3, average: 2.0}
+ * </pre>
+ *
+ * <p>This implementation is not thread safe.
+ * Statistics collected in parallel can be merged with {@link #combine(IntSummaryStatistics)}.
+ *
+ * @since 1.2.3
+ */
+public class IntSummaryStatistics implements IntConsumer {
+
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * Records a new value.
+     *
+     * @param value  the input value
+     */
+    @Override
+    public void accept(int value) {
+        count++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Merges the state of another {@code IntSummaryStatistics} into this one.
+     *
+     * @param other  another {@code IntSummaryStatistics}
+     * @throws NullPointerException if {@code other} is null
+     */
+    public void combine(@NotNull IntSummaryStatistics other) {
+        count += other.count;
+        sum += other.sum;
+        if (other.min < min) min = other.min;
+        if (other.max > max) max = other.max;
+    }
+
+    /**
+     * Returns the count of recorded values.
+     *
+     * @return the count of values
+     */
+    public final long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of recorded values, or zero if no values have been recorded.
+     * The sum is calculated as {@code long}, so it does not overflow for {@code int} values.
+     *
+     * @return the sum of values
+     */
+    public final long getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the minimum recorded value,
+     * or {@code Integer.MAX_VALUE} if no values have been recorded.
+     *
+     * @return the minimum value
+     */
+    public final int getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum recorded value,
+     * or {@code Integer.MIN_VALUE} if no values have been recorded.
+     *
+     * @return the maximum value
+     */
+    public final int getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of recorded values, or zero if no values have been recorded.
+     *
+     * @return the arithmetic mean of values
+     */
+    public final double getAverage() {
+        return count > 0 ? (double) sum / count : 0d;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format("IntSummaryStatistics{count=%d, sum=%d, min=%d, average=%f, max=%d}",
+                count, sum, min, getAverage(), max);
+    }
+}
@@ -1,7 +1,11 @@
 package com.annimon.stream;
 
 import com.annimon.stream.function.*;
+import com.annimon.stream.internal.BloomFilter;
 import com.annimon.stream.internal.Compose;
+import com.annimon.stream.internal.Hashing;
+import com.annimon.stream.internal.HyperLogLog;
+import com.annimon.stream.internal.LongSpaceSaving;
 import com.annimon.stream.internal.Operators;
 import com.annimon.stream.internal.Params;
 import com.annimon.stream.internal.SpinedBuffer;
@@ -9,10 +13,12 @@ import com.annimon.stream.iterator.PrimitiveIndexedIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import com.annimon.stream.operator.*;
 import java.io.Closeable;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -267,6 +273,49 @@ public final class LongStream implements Closeable {
         return result.onClose(Compose.closeables(closeables));
     }
 
+    /**
+     * Lazily merges a {@code List} of sorted streams into a single sorted stream.
+     *
+     * <p>Uses a binary heap of the current elements of each stream,
+     * so it takes {@code O(log k)} comparisons per element for {@code k} streams.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: null (natural order)
+     * stream 1: [1, 4, 7]
+     * stream 2: [2, 5, 8]
+     * stream 3: [3, 6, 9]
+     * result:   [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param comparator  the comparator the streams are sorted with,
+     *                    or {@code null} for the natural order
+     * @param streams  the list of sorted streams
+     * @return the new sorted stream
+     * @throws NullPointerException if {@code streams} is null
+     * @see Stream#mergeSorted(Comparator, List)
+     * @since 1.2.3
+     */
+    @NotNull
+    public static LongStream mergeSorted(
+            @Nullable LongComparator comparator,
+            @NotNull List<LongStream> streams) {
+        Objects.requireNonNull(streams);
+
+        final int size = streams.size();
+        final List<PrimitiveIterator.OfLong> iterators =
+                new ArrayList<PrimitiveIterator.OfLong>(size);
+        final List<Closeable> closeables =
+                new ArrayList<Closeable>(size);
+        for (final LongStream stream : streams) {
+            iterators.add(stream.iterator);
+            closeables.add(stream);
+        }
+
+        LongStream result = new LongStream(new LongMergeSorted(iterators, comparator));
+        return result.onClose(Compose.closeables(closeables));
+    }
+
 
     private final PrimitiveIterator.OfLong iterator;
     private final Params params;
@@ -714,7 +763,74 @@ public final class LongStream implements Closeable {
      */
     @NotNull
     public LongStream distinct() {
-        return boxed().distinct().mapToLong(UNBOX_FUNCTION);
+        return new LongStream(params, new LongDistinct(iterator));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this stream,
+     * using a Bloom filter instead of remembering all seen elements.
+     * Memory usage is fixed by the expected number of distinct elements
+     * and the false positive probability, and does not grow with the stream.
+     *
+     * <p>Duplicates are never emitted, but a distinct element may be dropped
+     * with the probability about {@code fpp}.
+     * The filter never forgets elements, so it saturates if the stream contains more than
+     * {@code expectedItems} distinct elements: the probability grows with each of them and
+     * approaches 1, and then almost all new elements of a long or infinite stream are dropped.
+     * For example, 1 million elements with {@code fpp} 0.01 take about 1.2 MB. Elements are hashed without boxing.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * expectedItems: 100
+     * fpp: 0.01
+     * stream: [1, 4, 2, 3, 3, 4, 1]
+     * result: [1, 4, 2, 3]
+     * </pre>
+     *
+     * @param expectedItems  the expected number of distinct elements
+     * @param fpp  the false positive probability, in range (0, 1)
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code expectedItems} is zero or negative
+     *         or {@code fpp} is out of range
+     * @see #distinct()
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongStream distinctApprox(long expectedItems, double fpp) {
+        final BloomFilter filter = new BloomFilter(expectedItems, fpp);
+        return new LongStream(params, new LongDistinctApprox(iterator, filter));
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream,
+     * which are not equal to any of the last {@code windowSize} emitted elements.
+     * Unlike {@link #distinct()}, only the window is remembered,
+     * so memory usage stays bounded however long the stream runs.
+     * Elements are stored without boxing.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 2
+     * stream: [1, 2, 1, 3, 1, 2, 2]
+     * result: [1, 2, 3, 1, 2]
+     * </pre>
+     *
+     * @param windowSize  the number of last emitted elements to remember
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #distinct()
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongStream distinctWithin(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        }
+        return new LongStream(params, new LongDistinctWithin(iterator, windowSize));
     }
 
     /**
@@ -735,6 +851,30 @@ public final class LongStream implements Closeable {
         return new LongStream(params, new LongSorted(iterator));
     }
 
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted
+     * order, always using the LSD radix sort.
+     *
+     * <p>{@link #sorted()} already switches to the radix sort for large streams.
+     * This method forces it for any size, which is usually faster for
+     * uniformly distributed keys, such as hashes or timestamps.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @return the new stream
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongStream sortedRadix() {
+        return new LongStream(params, new LongSorted(iterator, null, true));
+    }
+
     /**
      * Returns a stream consisting of the elements of this stream
      * in sorted order as determinated by provided {@code Comparator}.
@@ -756,6 +896,100 @@ public final class LongStream implements Closeable {
         return boxed().sorted(comparator).mapToLong(UNBOX_FUNCTION);
     }
 
+    /**
+     * Returns {@code LongStream} with sorted elements (as determinated by provided {@code LongComparator}).
+     * Unlike {@link #sorted(java.util.Comparator)}, elements are sorted without boxing.
+     * The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: LongComparator.Util.reverseOrder()
+     * stream: [1, 2, 3, 4]
+     * result: [4, 3, 2, 1]
+     * </pre>
+     *
+     * @param comparator  the {@code LongComparator} to compare elements,
+     *                    {@code null} means natural order
+     * @return the new {@code LongStream}
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongStream sortedWith(@Nullable LongComparator comparator) {
+        return new LongStream(params, new LongSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns {@code LongStream} with sorted elements, sorting them with up to {@code parallelism} threads.
+     *
+     * <p>The elements are split into parts, which are sorted concurrently and then merged.
+     * The result is the same as for {@link #sortedWith(LongComparator)}.
+     * Plain threads are used, so it works on every Java and Android version.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: null (natural order)
+     * parallelism: 4
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @param comparator  the comparator to compare elements, or {@code null} for the natural order
+     * @param parallelism  the maximum number of threads
+     * @return the new {@code LongStream}
+     * @throws IllegalArgumentException if {@code parallelism} is zero or negative
+     * @see Stream#sortedParallel(Comparator, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongStream sortedParallel(@Nullable LongComparator comparator, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism cannot be zero or negative");
+        return new LongStream(params, new LongSorted(iterator, comparator, parallelism));
+    }
+
+    /**
+     * Returns {@code LongStream} with sorted elements, keeping at most
+     * {@code memoryBudget} elements in memory.
+     *
+     * <p>If the stream is larger than the budget, sorted runs of {@code memoryBudget} elements
+     * are written to temporary files and lazily merged back.
+     * At most 64 runs are merged at once, more runs are merged in several passes.
+     * The files are deleted when the elements are consumed or the stream is closed.
+     * I/O errors are rethrown as {@link UncheckedIOException}.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: null (natural order)
+     * memoryBudget: 2
+     * stream: [3, 1, 4, 2]
+     * runs: [1, 3], [2, 4]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @param comparator  the comparator to compare elements, or {@code null} for the natural order
+     * @param memoryBudget  the maximum number of elements to keep in memory
+     * @return the new {@code LongStream}
+     * @throws IllegalArgumentException if {@code memoryBudget} is zero or negative
+     * @see Stream#sortedExternal(Comparator, Codec, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongStream sortedExternal(@Nullable LongComparator comparator, final int memoryBudget) {
+        if (memoryBudget <= 0) throw new IllegalArgumentException("memoryBudget cannot be zero or negative");
+        final LongSortedExternal sorted = new LongSortedExternal(iterator, comparator, memoryBudget);
+        return new LongStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
     /**
      * Samples the {@code LongStream} by emitting every n-th element.
      *
@@ -780,6 +1014,107 @@ public final class LongStream implements Closeable {
         return new LongStream(params, new LongSample(iterator, stepWidth));
     }
 
+    /**
+     * Returns {@code LongStream} with {@code k} elements randomly selected from this stream,
+     * or all elements if the stream has fewer elements.
+     * Each element has the same probability to be selected.
+     *
+     * <p>Uses reservoir sampling (Algorithm L): elements are processed in a single pass
+     * with O(k) memory, and instead of drawing a random number for each element,
+     * the number of elements to skip before the next selected one is computed.
+     * The stream must be finite.
+     * Selected elements are emitted in no particular order.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 3
+     * stream: [1, 2, 3, 4, 5, 6]
+     * result: [5, 2, 6] (one of possible samples)
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @param random  the source of randomness
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NullPointerException if {@code random} is null
+     * @see #sample(int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongStream sampleRandom(int k, @NotNull RandomCompat random) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        Objects.requireNonNull(random);
+        if (k == 0) return LongStream.empty();
+        return new LongStream(params, new LongSampleRandom(iterator, k, random.getRandom()));
+    }
+
+    /**
+     * Partitions {@code LongStream} into arrays of fixed size by sliding over the elements
+     * with the given step width. Each window is copied to a new array.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3, stepWidth: 2
+     * stream: [1, 2, 3, 4, 5, 6, 7]
+     * result: [[1, 2, 3], [3, 4, 5], [5, 6, 7]]
+     * </pre>
+     *
+     * @param windowSize  number of elements in a window
+     * @param stepWidth  step width
+     * @return the new {@code Stream} of arrays
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#slidingWindow(int, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<long[]> slidingWindow(final int windowSize, final int stepWidth) {
+        return slidingWindowView(windowSize, stepWidth).map(new Function<LongBuffer, long[]>() {
+            @Override
+            public long[] apply(LongBuffer window) {
+                final long[] result = new long[window.remaining()];
+                window.get(result);
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Partitions {@code LongStream} into read-only {@code LongBuffer} views of fixed size
+     * by sliding over the elements with the given step width.
+     *
+     * <p>Elements are kept in a contiguous array and are not copied for each window.
+     * A view is valid only until the next window is requested, so it must be processed
+     * immediately or copied explicitly.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3, stepWidth: 1
+     * stream: [1, 2, 3, 4, 5]
+     * result: [[1, 2, 3], [2, 3, 4], [3, 4, 5]]
+     * </pre>
+     *
+     * @param windowSize  number of elements in a window
+     * @param stepWidth  step width
+     * @return the new {@code Stream} of window views
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#slidingWindowView(int, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<LongBuffer> slidingWindowView(final int windowSize, final int stepWidth) {
+        if (windowSize <= 0) throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        if (stepWidth <= 0) throw new IllegalArgumentException("stepWidth cannot be zero or negative");
+        return new Stream<LongBuffer>(params, new LongSlidingWindow(iterator, windowSize, stepWidth));
+    }
+
     /**
      * Performs provided action on each element.
      *
@@ -936,6 +1271,13 @@ public final class LongStream implements Closeable {
     public LongStream limit(final long maxSize) {
         if (maxSize < 0) throw new IllegalArgumentException("maxSize cannot be negative");
         if (maxSize == 0) return LongStream.empty();
+        if (iterator instanceof LongSorted) {
+            // sorted().limit(k) keeps only k elements in a bounded heap, if k is small enough
+            final LongTopK topK = ((LongSorted) iterator).limit(maxSize);
+            if (topK != null) {
+                return new LongStream(params, topK);
+            }
+        }
         return new LongStream(params, new LongLimit(iterator, maxSize));
     }
 
@@ -976,9 +1318,7 @@ public final class LongStream implements Closeable {
      * @param action  the action to be performed on each element
      */
     public void forEach(@NotNull LongConsumer action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.nextLong());
-        }
+        iterator.pushRemaining(action);
     }
 
     /**
@@ -1039,13 +1379,15 @@ public final class LongStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public long reduce(long identity, @NotNull LongBinaryOperator accumulator) {
-        long result = identity;
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            result = accumulator.applyAsLong(result, value);
-        }
-        return result;
+    public long reduce(long identity, @NotNull final LongBinaryOperator accumulator) {
+        final long[] result = { identity };
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                result[0] = accumulator.applyAsLong(result[0], value);
+            }
+        });
+        return result[0];
     }
 
     /**
@@ -1062,19 +1404,21 @@ public final class LongStream implements Closeable {
      * @see #reduce(com.annimon.stream.function.LongBinaryOperator)
      */
     @NotNull
-    public OptionalLong reduce(@NotNull LongBinaryOperator accumulator) {
-        boolean foundAny = false;
-        long result = 0;
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.applyAsLong(result, value);
+    public OptionalLong reduce(@NotNull final LongBinaryOperator accumulator) {
+        final boolean[] foundAny = { false };
+        final long[] result = { 0 };
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                if (!foundAny[0]) {
+                    foundAny[0] = true;
+                    result[0] = value;
+                } else {
+                    result[0] = accumulator.applyAsLong(result[0], value);
+                }
             }
-        }
-        return foundAny ? OptionalLong.of(result) : OptionalLong.empty();
+        });
+        return foundAny[0] ? OptionalLong.of(result[0]) : OptionalLong.empty();
     }
 
     /**
@@ -1102,12 +1446,14 @@ public final class LongStream implements Closeable {
      */
     @Nullable
     public <R> R collect(@NotNull Supplier<R> supplier,
-                         @NotNull ObjLongConsumer<R> accumulator) {
+                         @NotNull final ObjLongConsumer<R> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            accumulator.accept(result, value);
-        }
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                accumulator.accept(result, value);
+            }
+        });
         return result;
     }
 
@@ -1117,11 +1463,14 @@ public final class LongStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public long sum() {
-        long sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextLong();
-        }
-        return sum;
+        final long[] sum = { 0 };
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                sum[0] += value;
+            }
+        });
+        return sum[0];
     }
 
     /**
@@ -1163,17 +1512,208 @@ public final class LongStream implements Closeable {
     /**
      * Returns the count of elements in this stream.
      *
+     * <p>If the count can be computed directly from the stream source,
+     * the elements are not traversed and the functions of intermediate operations
+     * are not called. For example, in {@code LongStream.of(array).map(mapper).count()}
+     * the {@code mapper} is never applied, so its side-effects and exceptions do not occur.
+     * Operations, which do not preserve the size, such as {@code filter} and {@code peek},
+     * always traverse the elements.
+     *
      * <p>This is a terminal operation.
      *
      * @return the count of elements in this stream
      */
     public long count() {
-        long count = 0;
-        while (iterator.hasNext()) {
-            iterator.nextLong();
-            count++;
+        final long size = iterator.remaining();
+        if (size >= 0) {
+            // Size is known, elements are not traversed
+            return size;
         }
-        return count;
+        final long[] count = { 0 };
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Returns statistics of elements in this stream: count, sum, min, max and average.
+     * Elements are traversed only once.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3, 1, 2]
+     * result: {count: 3, sum: 6, min: 1, max: 3, average: 2.0}
+     * </pre>
+     *
+     * @return the statistics of elements in this stream
+     * @see LongSummaryStatistics
+     * @since 1.2.3
+     */
+    @NotNull
+    public LongSummaryStatistics summaryStatistics() {
+        final LongSummaryStatistics statistics = new LongSummaryStatistics();
+        iterator.pushRemaining(statistics);
+        return statistics;
+    }
+
+    /**
+     * Collects elements of this stream into a {@link QuantileSketch}
+     * with {@link QuantileSketch#DEFAULT_COMPRESSION default compression}.
+     * Memory usage is bounded regardless of the number of elements,
+     * the sketch can be queried for any quantile afterwards.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 2, 3, ..., 1000]
+     * result.quantile(0.5): 500.5
+     * result.quantile(0.99): 990.5
+     * </pre>
+     *
+     * @return the quantile sketch of elements in this stream
+     * @see #quantileSketch(int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public QuantileSketch quantileSketch() {
+        return quantileSketch(QuantileSketch.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Collects elements of this stream into a {@link QuantileSketch} with the given compression.
+     * Larger compression gives more accurate estimates and takes more memory.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param compression  the compression of the sketch, from 10 to 10000
+     * @return the quantile sketch of elements in this stream
+     * @throws IllegalArgumentException if {@code compression} is out of range
+     * @see Collectors#quantiles(ToDoubleFunction, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public QuantileSketch quantileSketch(int compression) {
+        final QuantileSketch sketch = new QuantileSketch(compression);
+        iterator.pushRemaining(sketch);
+        return sketch;
+    }
+
+    /**
+     * Estimates the number of distinct elements in this stream with a HyperLogLog sketch
+     * of default precision 14. The sketch takes 16 KB, the relative standard error is about 0.8%.
+     * Elements are hashed without boxing.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 2, 3, 2, 1]
+     * result: 3
+     * </pre>
+     *
+     * @return the estimated number of distinct elements
+     * @see #approxDistinctCount(int)
+     * @see #distinct()
+     * @since 1.2.3
+     */
+    public long approxDistinctCount() {
+        return approxDistinctCount(HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Estimates the number of distinct elements in this stream with a HyperLogLog sketch.
+     * The sketch takes {@code 2^precision} bytes, the relative standard error
+     * is about {@code 1.04 / sqrt(2^precision)}. Elements are hashed without boxing.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param precision  the number of bits used to select a register, from 4 to 18
+     * @return the estimated number of distinct elements
+     * @throws IllegalArgumentException if {@code precision} is out of range
+     * @see Collectors#approxCountDistinct(int)
+     * @since 1.2.3
+     */
+    public long approxDistinctCount(int precision) {
+        final HyperLogLog sketch = new HyperLogLog(precision);
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                sketch.addHash(Hashing.hash64(value));
+            }
+        });
+        return sketch.estimate();
+    }
+
+    /**
+     * Finds up to {@code k} most frequent elements in this stream
+     * using the Space-Saving algorithm with {@code k} counters.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param k  the number of counters and the maximum number of elements in the result
+     * @return the list of element and estimated count entries
+     * @throws IllegalArgumentException if {@code k} is zero or negative
+     * @see #heavyHitters(int, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public List<Map.Entry<Long, Long>> heavyHitters(int k) {
+        return heavyHitters(k, k);
+    }
+
+    /**
+     * Finds up to {@code k} most frequent elements in this stream
+     * using the Space-Saving algorithm with {@code capacity} counters.
+     * Memory usage is bounded by {@code capacity} regardless of the number of distinct elements,
+     * elements are counted without boxing.
+     *
+     * <p>The result contains elements with estimated counts in descending order of counts.
+     * For {@code n} elements in the stream:
+     * <ul>
+     *   <li>each estimated count is not less than the true count
+     *       and overestimates it by at most {@code n / capacity};</li>
+     *   <li>every element that occurs more than {@code n / capacity} times is counted,
+     *       so it is in the result if it is among the {@code k} largest counts.</li>
+     * </ul>
+     * To get more accurate top elements, use more counters than elements in the result.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * capacity: 3
+     * stream: [1, 2, 1, 3, 1, 2]
+     * result: [{1: 3}, {2: 2}]
+     * </pre>
+     *
+     * @param k  the maximum number of elements in the result
+     * @param capacity  the number of counters
+     * @return the list of element and estimated count entries
+     * @throws IllegalArgumentException if {@code k} is zero or negative,
+     *         or {@code capacity} is less than {@code k}
+     * @see Collectors#heavyHitters(int, int, Function)
+     * @since 1.2.3
+     */
+    @NotNull
+    public List<Map.Entry<Long, Long>> heavyHitters(int k, int capacity) {
+        if (k <= 0) throw new IllegalArgumentException("k cannot be zero or negative");
+        if (capacity < k) throw new IllegalArgumentException("capacity cannot be less than k");
+        final LongSpaceSaving sketch = new LongSpaceSaving(capacity);
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                sketch.add(value);
+            }
+        });
+        return sketch.top(k);
     }
 
     /**
@@ -0,0 +1,330 @@
+package com.annimon.stream;
+
+import com.annimon.stream.function.DoubleConsumer;
+import com.annimon.stream.function.LongConsumer;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A mergeable sketch for estimating quantiles of {@code double} values in bounded memory.
+ *
+ * <p>This is a merging t-digest: values are buffered and periodically merged into
+ * at most about {@code compression} weighted centroids. Centroids near the tails are kept small,
+ * so extreme quantiles like p99 or p999 are estimated more accurately than the median.
+ * The rank error at the median is roughly {@code 1 / compression}.
+ *
+ * <p>Example:
+ * <pre>
+ * QuantileSketch sketch = DoubleStream.of(latencies).quantileSketch();
+ * double p50 = sketch.quantile(0.5);
+ * double p99 = sketch.quantile(0.99);
+ * </pre>
+ *
+ * <p>This implementation is not thread safe.
+ * Sketches collected in parallel can be merged with {@link #merge(QuantileSketch)}.
+ *
+ * @since 1.2.3
+ */
+public class QuantileSketch implements DoubleConsumer, LongConsumer {
+
+    /**
+     * Default compression, which keeps at most about 100 centroids.
+     */
+    public static final int DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+    // Centroids are merged into spare arrays, which are swapped afterwards
+    private double[] spareMeans;
+    private double[] spareWeights;
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int buffered;
+    private double totalWeight;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates a sketch with {@link #DEFAULT_COMPRESSION}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a sketch with the given compression.
+     * Larger compression gives more accurate estimates and takes more memory.
+     *
+     * @param compression  the compression, from 10 to 10000
+     * @throws IllegalArgumentException if {@code compression} is out of range
+     */
+    public QuantileSketch(int compression) {
+        this.compression = checkCompression(compression);
+        // The merge pass emits at most ceil(compression / 2) + 1 centroids for the arcsine scale
+        final int capacity = compression + 1;
+        means = new double[capacity];
+        weights = new double[capacity];
+        spareMeans = new double[capacity];
+        spareWeights = new double[capacity];
+        bufferMeans = new double[5 * compression];
+        bufferWeights = new double[5 * compression];
+    }
+
+    static int checkCompression(int compression) {
+        if (compression < 10 || compression > 10000) {
+            throw new IllegalArgumentException("compression must be in range [10, 10000]");
+        }
+        return compression;
+    }
+
+    /**
+     * Records a new value.
+     *
+     * @param value  the input value
+     * @throws IllegalArgumentException if {@code value} is NaN
+     */
+    @Override
+    public void accept(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot add NaN");
+        }
+        add(value, 1);
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Records a new {@code long} value.
+     *
+     * @param value  the input value
+     */
+    @Override
+    public void accept(long value) {
+        accept((double) value);
+    }
+
+    /**
+     * Merges the state of another sketch into this one.
+     * Sketches may have different compressions, the compression of this sketch is kept.
+     *
+     * @param other  another sketch
+     * @throws NullPointerException if {@code other} is null
+     */
+    public void merge(@NotNull QuantileSketch other) {
+        other.compress();
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        count += other.count;
+        if (other.min < min) min = other.min;
+        if (other.max > max) max = other.max;
+    }
+
+    /**
+     * Returns the count of recorded values.
+     *
+     * @return the count of values
+     */
+    public final long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the minimum recorded value,
+     * or {@code Double.NaN} if no values have been recorded.
+     *
+     * @return the minimum value
+     */
+    public final double getMin() {
+        return (count == 0) ? Double.NaN : min;
+    }
+
+    /**
+     * Returns the maximum recorded value,
+     * or {@code Double.NaN} if no values have been recorded.
+     *
+     * @return the maximum value
+     */
+    public final double getMax() {
+        return (count == 0) ? Double.NaN : max;
+    }
+
+    /**
+     * Estimates the value at the given quantile.
+     *
+     * <p>Example:
+     * <pre>
+     * values: [1, 2, 3, ..., 1000]
+     * quantile(0.5): 500.5
+     * quantile(0.99): 990.5
+     * </pre>
+     *
+     * @param q  the quantile, from 0 to 1
+     * @return the estimated value, or {@code Double.NaN} if no values have been recorded
+     * @throws IllegalArgumentException if {@code q} is out of range
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("q must be in range [0, 1]");
+        }
+        compress();
+        if (centroids == 0) return Double.NaN;
+        if (centroids == 1) return means[0];
+
+        final double index = q * totalWeight;
+        if (index <= 0) return min;
+        if (index >= totalWeight) return max;
+
+        // Each centroid is centered at its mean, interpolate between neighbours
+        final double firstHalf = weights[0] / 2;
+        if (index < firstHalf) {
+            return min + (means[0] - min) * (index / firstHalf);
+        }
+        double cumulative = firstHalf;
+        for (int i = 0; i < centroids - 1; i++) {
+            final double step = (weights[i] + weights[i + 1]) / 2;
+            if (index < cumulative + step) {
+                final double fraction = (index - cumulative) / step;
+                return means[i] + (means[i + 1] - means[i]) * fraction;
+            }
+            cumulative += step;
+        }
+        final double lastHalf = weights[centroids - 1] / 2;
+        final double fraction = (index - cumulative) / lastHalf;
+        return means[centroids - 1] + (max - means[centroids - 1]) * Math.min(1, fraction);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format("QuantileSketch{count=%d, min=%f, p50=%f, p99=%f, max=%f}",
+                count, getMin(), quantile(0.5), quantile(0.99), getMax());
+    }
+
+    private void add(double mean, double weight) {
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = mean;
+        bufferWeights[buffered] = weight;
+        buffered++;
+    }
+
+    /**
+     * Merges buffered values with existing centroids in a single pass over sorted inputs.
+     */
+    private void compress() {
+        if (buffered == 0) return;
+        sortByMean(bufferMeans, bufferWeights, 0, buffered - 1);
+
+        final double[] oldMeans = means;
+        final double[] oldWeights = weights;
+        final int oldCentroids = centroids;
+        double newTotal = totalWeight;
+        for (int i = 0; i < buffered; i++) {
+            newTotal += bufferWeights[i];
+        }
+        means = spareMeans;
+        weights = spareWeights;
+        centroids = 0;
+        totalWeight = newTotal;
+
+        int i = 0;
+        int j = 0;
+        double weightSoFar = 0;
+        double limit = weightLimit(0, newTotal);
+        while (i < oldCentroids || j < buffered) {
+            final double mean;
+            final double weight;
+            if (j >= buffered || (i < oldCentroids && oldMeans[i] <= bufferMeans[j])) {
+                mean = oldMeans[i];
+                weight = oldWeights[i];
+                i++;
+            } else {
+                mean = bufferMeans[j];
+                weight = bufferWeights[j];
+                j++;
+            }
+            if (centroids > 0 && weightSoFar + weight <= limit) {
+                // Merge into the current centroid, keeping the weighted mean
+                final int last = centroids - 1;
+                weights[last] += weight;
+                means[last] += (mean - means[last]) * weight / weights[last];
+                weightSoFar += weight;
+            } else {
+                if (centroids > 0) {
+                    limit = weightLimit(weightSoFar, newTotal);
+                }
+                if (centroids == means.length) {
+                    means = Arrays.copyOf(means, centroids * 2);
+                    weights = Arrays.copyOf(weights, centroids * 2);
+                }
+                means[centroids] = mean;
+                weights[centroids] = weight;
+                centroids++;
+                weightSoFar += weight;
+            }
+        }
+        spareMeans = oldMeans;
+        spareWeights = oldWeights;
+        if (spareMeans.length < means.length) {
+            spareMeans = new double[means.length];
+            spareWeights = new double[means.length];
+        }
+        buffered = 0;
+    }
+
+    /**
+     * Returns the cumulative weight up to which the centroid starting at {@code weightSoFar}
+     * can grow, using the arcsine scale function {@code k(q) = compression / (2 * PI) * asin(2q - 1)}.
+     */
+    private double weightLimit(double weightSoFar, double total) {
+        final double q = weightSoFar / total;
+        final double k = compression / (2 * Math.PI) * Math.asin(2 * q - 1) + 1;
+        final double angle = Math.min(Math.PI / 2, k * 2 * Math.PI / compression);
+        return total * (Math.sin(angle) + 1) / 2;
+    }
+
+    private static void sortByMean(double[] keys, double[] values, int from, int to) {
+        while (to - from > 16) {
+            final double pivot = keys[(from + to) >>> 1];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) {
+                    swap(keys, values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            // Recurse into the smaller part to bound the stack depth
+            if (j - from < to - i) {
+                sortByMean(keys, values, from, j);
+                from = i;
+            } else {
+                sortByMean(keys, values, i, to);
+                to = j;
+            }
+        }
+        for (int i = from + 1; i <= to; i++) {
+            for (int j = i; j > from && keys[j - 1] > keys[j]; j--) {
+                swap(keys, values, j - 1, j);
+            }
+        }
+    }
+
+    private static void swap(double[] keys, double[] values, int i, int j) {
+        final double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        final double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
@@ -1,12 +1,14 @@
 package com.annimon.stream;
 
 import com.annimon.stream.function.*;
+import com.annimon.stream.internal.BloomFilter;
 import com.annimon.stream.internal.Compose;
 import com.annimon.stream.internal.Operators;
 import com.annimon.stream.internal.Params;
 import com.annimon.stream.internal.SpinedBuffer;
 import com.annimon.stream.iterator.IndexedIterator;
 import com.annimon.stream.iterator.LazyIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
 import com.annimon.stream.operator.*;
 import java.io.Closeable;
 import java.util.ArrayList;
@@ -356,6 +358,51 @@ public class Stream<T> implements Closeable {
         return result.onClose(Compose.closeables(closeables));
     }
 
+    /**
+     * Lazily merges a {@code List} of streams, each sorted by the given {@code Comparator},
+     * into a single sorted stream.
+     *
+     * <p>Uses a binary heap of the current elements of each stream,
+     * so it takes {@code O(log k)} comparisons per element for {@code k} streams.
+     * Equal elements are taken from the earlier stream first.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: (a, b) -&gt; a.compareTo(b)
+     * stream 1: [1, 4, 7]
+     * stream 2: [2, 5, 8]
+     * stream 3: [3, 6, 9]
+     * result:   [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param <T> The type of stream elements
+     * @param comparator  the {@code Comparator} the streams are sorted with
+     * @param streams  the list of sorted streams
+     * @return the new sorted stream
+     * @throws NullPointerException if {@code comparator} or {@code streams} is null
+     * @since 1.2.3
+     */
+    @NotNull
+    public static <T> Stream<T> mergeSorted(
+            @NotNull Comparator<? super T> comparator,
+            @NotNull List<? extends Stream<? extends T>> streams) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(streams);
+
+        final int size = streams.size();
+        final List<Iterator<? extends T>> iterators =
+                new ArrayList<Iterator<? extends T>>(size);
+        final List<Closeable> closeables =
+                new ArrayList<Closeable>(size);
+        for (final Stream<? extends T> stream : streams) {
+            iterators.add(stream.iterator);
+            closeables.add(stream);
+        }
+
+        Stream<T> result = new Stream<T>(new ObjMergeSorted<T>(iterators, comparator));
+        return result.onClose(Compose.closeables(closeables));
+    }
+
     /**
      * Concatenates two iterators to a stream.
      *
@@ -1242,6 +1289,111 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(params, new ObjDistinctBy<T, K>(iterator, classifier));
     }
 
+    /**
+     * Returns a stream consisting of the distinct elements of this stream,
+     * using a Bloom filter instead of remembering all seen elements.
+     * Memory usage is fixed by the expected number of distinct elements
+     * and the false positive probability, and does not grow with the stream.
+     *
+     * <p>Duplicates are never emitted, but a distinct element may be dropped
+     * with the probability about {@code fpp}, or if its {@code hashCode} collides with an earlier element.
+     * The filter never forgets elements, so it saturates if the stream contains more than
+     * {@code expectedItems} distinct elements: the probability grows with each of them and
+     * approaches 1, and then almost all new elements of a long or infinite stream are dropped.
+     * For example, 1 million elements with {@code fpp} 0.01 take about 1.2 MB.
+     * Elements are hashed by their {@code hashCode} method, {@code equals} is not used.
+     *
+     * <p>As there are only {@code 2^32} hash codes, a distinct element collides with one of
+     * {@code n} earlier elements with the probability about {@code n / 2^32}, regardless
+     * of {@code fpp}. So a small {@code fpp} is not honored for a large {@code expectedItems}:
+     * for example, the probability exceeds 0.001 after about 4 million distinct elements.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * expectedItems: 100
+     * fpp: 0.01
+     * stream: [1, 4, 2, 3, 3, 4, 1]
+     * result: [1, 4, 2, 3]
+     * </pre>
+     *
+     * @param expectedItems  the expected number of distinct elements
+     * @param fpp  the false positive probability, in range (0, 1)
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code expectedItems} is zero or negative
+     *         or {@code fpp} is out of range
+     * @see #distinct()
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<T> distinctApprox(long expectedItems, double fpp) {
+        final BloomFilter filter = new BloomFilter(expectedItems, fpp);
+        return new Stream<T>(params, new ObjDistinctApprox<T>(iterator, filter));
+    }
+
+    /**
+     * Returns {@code Stream} with elements, which are not equal to any of
+     * the last {@code windowSize} emitted elements
+     * (as determined by {@code hashCode} and {@code equals} methods).
+     * Unlike {@link #distinct()}, only the window is remembered,
+     * so memory usage stays bounded however long the stream runs.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 2
+     * stream: [1, 2, 1, 3, 1, 2, 2]
+     * result: [1, 2, 3, 1, 2]
+     * </pre>
+     *
+     * @param windowSize  the number of last emitted elements to remember
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #distinct()
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<T> distinctWithin(int windowSize) {
+        return distinctByWithin(UnaryOperator.Util.<T>identity(), windowSize);
+    }
+
+    /**
+     * Returns {@code Stream} with elements, which keys are not equal to any of
+     * the keys of the last {@code windowSize} emitted elements
+     * (as determined by {@code hashCode} and {@code equals} methods).
+     * Unlike {@link #distinctBy(Function)}, only the window is remembered,
+     * so memory usage stays bounded however long the stream runs.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (str) -&gt; str.length()
+     * windowSize: 1
+     * stream: ["a", "b", "cd", "ef", "g"]
+     * result: ["a", "cd", "g"]
+     * </pre>
+     *
+     * @param <K> the type of the result of classifier function
+     * @param classifier  the classifier function
+     * @param windowSize  the number of last emitted keys to remember
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #distinctBy(Function)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <K> Stream<T> distinctByWithin(
+            @NotNull Function<? super T, ? extends K> classifier, int windowSize) {
+        Objects.requireNonNull(classifier);
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        }
+        return new Stream<T>(params, new ObjDistinctByWithin<T, K>(iterator, classifier, windowSize));
+    }
+
     /**
      * Returns {@code Stream} with sorted elements (as determinated by {@link Comparable} interface).
      *
@@ -1291,6 +1443,120 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(params, new ObjSorted<T>(iterator, comparator));
     }
 
+    /**
+     * Returns {@code Stream} with sorted elements (as determinated by provided {@code Comparator}),
+     * sorting them with up to {@code parallelism} threads.
+     *
+     * <p>The elements are split into parts, which are sorted concurrently and then merged.
+     * The sort is stable, so the result is the same as for {@link #sorted(Comparator)}.
+     * Plain threads are used, so it works on every Java and Android version.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: (a, b) -&gt; a.compareTo(b)
+     * parallelism: 4
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @param comparator  the {@code Comparator} to compare elements,
+     *                    or {@code null} for the natural order
+     * @param parallelism  the maximum number of threads
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code parallelism} is zero or negative
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<T> sortedParallel(@Nullable Comparator<? super T> comparator, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism cannot be zero or negative");
+        return new Stream<T>(params, new ObjSorted<T>(iterator, comparator, parallelism));
+    }
+
+    /**
+     * Returns {@code Stream} with sorted elements (as determinated by provided {@code Comparator}),
+     * keeping at most {@code memoryBudget} elements in memory.
+     *
+     * <p>If the stream is larger than the budget, sorted runs of {@code memoryBudget} elements
+     * are written to temporary files with the given {@code codec} and lazily merged back.
+     * At most 64 runs are merged at once, more runs are merged in several passes.
+     * The files are deleted when the elements are consumed or the stream is closed.
+     * The sort is stable. I/O errors are rethrown as {@link UncheckedIOException}.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: null (natural order)
+     * codec: Codec.Util.ofString()
+     * memoryBudget: 2
+     * stream: ["c", "a", "d", "b"]
+     * runs: ["a", "c"], ["b", "d"]
+     * result: ["a", "b", "c", "d"]
+     * </pre>
+     *
+     * @param comparator  the {@code Comparator} to compare elements,
+     *                    or {@code null} for the natural order
+     * @param codec  the {@code Codec} to write elements to temporary files and read them back
+     * @param memoryBudget  the maximum number of elements to keep in memory
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code memoryBudget} is zero or negative
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<T> sortedExternal(
+            @Nullable final Comparator<? super T> comparator,
+            @NotNull final Codec<T> codec,
+            final int memoryBudget) {
+        Objects.requireNonNull(codec);
+        if (memoryBudget <= 0) throw new IllegalArgumentException("memoryBudget cannot be zero or negative");
+        final ObjSortedExternal<T> sorted = new ObjSortedExternal<T>(iterator, comparator, codec, memoryBudget);
+        return new Stream<T>(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
+    /**
+     * Returns {@code Stream} with the {@code k} greatest elements
+     * (as determinated by provided {@code Comparator}) in descending order.
+     * Equal elements are kept in encounter order.
+     *
+     * <p>Only {@code k} elements are kept in memory, so this is much cheaper
+     * than sorting the whole stream when {@code k} is small.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 3
+     * comparator: (a, b) -&gt; a.compareTo(b)
+     * stream: [5, 1, 9, 3, 7, 2]
+     * result: [9, 7, 5]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @param comparator  the {@code Comparator} to compare elements
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<T> topK(final int k, @NotNull final Comparator<? super T> comparator) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        Objects.requireNonNull(comparator);
+        if (k == 0) return Stream.empty();
+        return new Stream<T>(params, new ObjTopK<T>(iterator, k, new Comparator<T>() {
+            @Override
+            public int compare(T o1, T o2) {
+                return comparator.compare(o2, o1);
+            }
+        }));
+    }
+
     /**
      * Returns {@code Stream} with sorted elements (as determinated by {@code Comparable} interface).
      * Each element transformed by given function {@code f} before comparing.
@@ -1337,6 +1603,79 @@ public class Stream<T> implements Closeable {
         return new Stream<Map.Entry<K, List<T>>>(params, map.entrySet());
     }
 
+    /**
+     * Aggregates elements by key with the given collector.
+     * Only one accumulation container per key is kept, not the grouped elements,
+     * so memory usage depends on the number of keys rather than on the number of elements.
+     *
+     * <p>Keys are ordered by their first occurrence.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (str) -&gt; str.length()
+     * collector: Collectors.counting()
+     * stream: ["a", "bc", "d", "ef", "ghij"]
+     * result: {1: 2, 2: 2, 4: 1}
+     * </pre>
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the accumulation type
+     * @param <R> the type of the aggregation results
+     * @param classifier  the classifier function
+     * @param collector  the collector of elements with the same key
+     * @return the map of aggregation results
+     * @throws NullPointerException if an element is mapped to a null key
+     * @see #aggregateByEntries(Function, Collector)
+     * @see Collectors#groupingBy(Function, Collector)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <K, A, R> Map<K, R> aggregateBy(
+            @NotNull Function<? super T, ? extends K> classifier,
+            @NotNull Collector<? super T, A, R> collector) {
+        final Map<K, A> map = ObjAggregateBy.<T, K, A>aggregate(iterator, classifier, collector);
+        return Collectors.<K, A, R, Map<K, A>>valuesFinisher(collector.finisher()).apply(map);
+    }
+
+    /**
+     * Aggregates elements by key with the given collector and returns {@code Stream}
+     * of {@code Map} entries with aggregation results.
+     * Only one accumulation container per key is kept, not the grouped elements.
+     *
+     * <p>Elements are aggregated when the first entry is requested,
+     * each result is finished only when its entry is emitted.
+     * Keys are ordered by their first occurrence.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (str) -&gt; str.length()
+     * collector: Collectors.joining()
+     * stream: ["a", "bc", "d", "ef", "ghij"]
+     * result: [{1: "ad"}, {2: "bcef"}, {4: "ghij"}]
+     * </pre>
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the accumulation type
+     * @param <R> the type of the aggregation results
+     * @param classifier  the classifier function
+     * @param collector  the collector of elements with the same key
+     * @return the new stream
+     * @see #aggregateBy(Function, Collector)
+     * @see #groupBy(Function)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <K, A, R> Stream<Map.Entry<K, R>> aggregateByEntries(
+            @NotNull Function<? super T, ? extends K> classifier,
+            @NotNull Collector<? super T, A, R> collector) {
+        return new Stream<Map.Entry<K, R>>(params,
+                new ObjAggregateBy<T, K, A, R>(iterator, classifier, collector));
+    }
+
     /**
      * Partitions {@code Stream} into {@code List}s according to the given classifier function. In contrast
      * to {@link #groupBy(Function)}, this method assumes that the elements of the stream are sorted.
@@ -1362,6 +1701,396 @@ public class Stream<T> implements Closeable {
         return new Stream<List<T>>(params, new ObjChunkBy<T, K>(iterator, classifier));
     }
 
+    /**
+     * Joins elements of this stream with elements of another stream having equal keys.
+     * For each pair of matched elements the combiner result is emitted.
+     *
+     * <p>A hash table is always built from {@code other} and elements of this stream are streamed,
+     * so only {@code other} is held in memory and it should be the smaller input.
+     * Output order follows this stream, and matches of each element follow
+     * the encounter order of {@code other}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId, combiner: (a, b) -&gt; a.name + b.text
+     * this: [{id: 1, name: A}, {id: 2, name: B}]
+     * other: [{userId: 2, text: x}, {userId: 1, text: y}, {userId: 2, text: z}]
+     * result: [Ay, Bx, Bz]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the key
+     * @param <R> the type of the result elements
+     * @param other  the stream to join with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @param combiner  the function that combines matched elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #leftJoin(Stream, Function, Function, BiFunction)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U, K, R> Stream<R> join(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> keyA,
+            @NotNull Function<? super U, ? extends K> keyB,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return hashJoin(other, ObjHashJoin.<T, U, K>keys(keyA, keyB), combiner, ObjHashJoin.INNER);
+    }
+
+    /**
+     * Joins elements of this stream with elements of another stream having equal {@code int} keys.
+     * Same as {@link #join(Stream, Function, Function, BiFunction)}, but keys are not boxed.
+     *
+     * <p>A hash table is always built from {@code other}, so it should be the smaller input.
+     * Output order follows this stream.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId, combiner: (a, b) -&gt; a.name + b.text
+     * this: [{id: 1, name: A}, {id: 2, name: B}]
+     * other: [{userId: 2, text: x}, {userId: 1, text: y}]
+     * result: [Ay, Bx]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <R> the type of the result elements
+     * @param other  the stream to join with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @param combiner  the function that combines matched elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U, R> Stream<R> joinByInt(
+            @NotNull Stream<? extends U> other,
+            @NotNull ToIntFunction<? super T> keyA,
+            @NotNull ToIntFunction<? super U> keyB,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return hashJoin(other, ObjHashJoin.<T, U>intKeys(keyA, keyB), combiner, ObjHashJoin.INNER);
+    }
+
+    /**
+     * Joins elements of this stream with elements of another stream having equal {@code long} keys.
+     * Same as {@link #join(Stream, Function, Function, BiFunction)}, but keys are not boxed.
+     *
+     * <p>A hash table is always built from {@code other}, so it should be the smaller input.
+     * Output order follows this stream.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId, combiner: (a, b) -&gt; a.name + b.text
+     * this: [{id: 1, name: A}, {id: 2, name: B}]
+     * other: [{userId: 2, text: x}, {userId: 1, text: y}]
+     * result: [Ay, Bx]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <R> the type of the result elements
+     * @param other  the stream to join with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @param combiner  the function that combines matched elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U, R> Stream<R> joinByLong(
+            @NotNull Stream<? extends U> other,
+            @NotNull ToLongFunction<? super T> keyA,
+            @NotNull ToLongFunction<? super U> keyB,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return hashJoin(other, ObjHashJoin.<T, U>longKeys(keyA, keyB), combiner, ObjHashJoin.INNER);
+    }
+
+    /**
+     * Joins elements of this stream with elements of another stream having equal keys,
+     * keeping elements of this stream without a match.
+     * For unmatched elements the combiner is called with {@code null} as the second argument.
+     *
+     * <p>A hash table is always built from {@code other}, so it should be the smaller input.
+     * Elements of this stream are streamed in encounter order.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId, combiner: (a, b) -&gt; a.name + (b == null ? "-" : b.text)
+     * this: [{id: 1, name: A}, {id: 2, name: B}]
+     * other: [{userId: 2, text: x}, {userId: 2, text: z}]
+     * result: [A-, Bx, Bz]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the key
+     * @param <R> the type of the result elements
+     * @param other  the stream to join with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @param combiner  the function that combines matched elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #join(Stream, Function, Function, BiFunction)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U, K, R> Stream<R> leftJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> keyA,
+            @NotNull Function<? super U, ? extends K> keyB,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return hashJoin(other, ObjHashJoin.<T, U, K>keys(keyA, keyB), combiner, ObjHashJoin.LEFT_OUTER);
+    }
+
+    /**
+     * Returns {@code Stream} with elements that have a matching key in another stream.
+     * Each element is emitted once regardless of the number of matches.
+     * Only the set of keys of {@code other} is held in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId
+     * this: [{id: 1, name: A}, {id: 2, name: B}, {id: 3, name: C}]
+     * other: [{userId: 2, text: x}, {userId: 2, text: z}, {userId: 3, text: y}]
+     * result: [B, C]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the key
+     * @param other  the stream to match with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #antiJoin(Stream, Function, Function)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U, K> Stream<T> semiJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> keyA,
+            @NotNull Function<? super U, ? extends K> keyB) {
+        return hashJoin(other, ObjHashJoin.<T, U, K>keys(keyA, keyB),
+                Stream.<T, U>firstArgument(), ObjHashJoin.SEMI);
+    }
+
+    /**
+     * Returns {@code Stream} with elements that have no matching key in another stream.
+     * Only the set of keys of {@code other} is held in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId
+     * this: [{id: 1, name: A}, {id: 2, name: B}, {id: 3, name: C}]
+     * other: [{userId: 2, text: x}, {userId: 2, text: z}]
+     * result: [A, C]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the key
+     * @param other  the stream to match with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #semiJoin(Stream, Function, Function)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U, K> Stream<T> antiJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> keyA,
+            @NotNull Function<? super U, ? extends K> keyB) {
+        return hashJoin(other, ObjHashJoin.<T, U, K>keys(keyA, keyB),
+                Stream.<T, U>firstArgument(), ObjHashJoin.ANTI);
+    }
+
+    /**
+     * Returns {@code Stream} with elements that have a matching {@code int} key in another stream.
+     * Same as {@link #semiJoin(Stream, Function, Function)}, but keys are not boxed.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId
+     * this: [{id: 1, name: A}, {id: 2, name: B}, {id: 3, name: C}]
+     * other: [{userId: 2, text: x}, {userId: 2, text: z}, {userId: 3, text: y}]
+     * result: [B, C]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param other  the stream to match with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #antiJoinByInt(Stream, ToIntFunction, ToIntFunction)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U> Stream<T> semiJoinByInt(
+            @NotNull Stream<? extends U> other,
+            @NotNull ToIntFunction<? super T> keyA,
+            @NotNull ToIntFunction<? super U> keyB) {
+        return hashJoin(other, ObjHashJoin.<T, U>intKeys(keyA, keyB),
+                Stream.<T, U>firstArgument(), ObjHashJoin.SEMI);
+    }
+
+    /**
+     * Returns {@code Stream} with elements that have no matching {@code int} key in another stream.
+     * Same as {@link #antiJoin(Stream, Function, Function)}, but keys are not boxed.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId
+     * this: [{id: 1, name: A}, {id: 2, name: B}, {id: 3, name: C}]
+     * other: [{userId: 2, text: x}, {userId: 2, text: z}]
+     * result: [A, C]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param other  the stream to match with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #semiJoinByInt(Stream, ToIntFunction, ToIntFunction)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U> Stream<T> antiJoinByInt(
+            @NotNull Stream<? extends U> other,
+            @NotNull ToIntFunction<? super T> keyA,
+            @NotNull ToIntFunction<? super U> keyB) {
+        return hashJoin(other, ObjHashJoin.<T, U>intKeys(keyA, keyB),
+                Stream.<T, U>firstArgument(), ObjHashJoin.ANTI);
+    }
+
+    /**
+     * Returns {@code Stream} with elements that have a matching {@code long} key in another stream.
+     * Same as {@link #semiJoin(Stream, Function, Function)}, but keys are not boxed.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId
+     * this: [{id: 1, name: A}, {id: 2, name: B}, {id: 3, name: C}]
+     * other: [{userId: 2, text: x}, {userId: 2, text: z}, {userId: 3, text: y}]
+     * result: [B, C]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param other  the stream to match with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #antiJoinByLong(Stream, ToLongFunction, ToLongFunction)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U> Stream<T> semiJoinByLong(
+            @NotNull Stream<? extends U> other,
+            @NotNull ToLongFunction<? super T> keyA,
+            @NotNull ToLongFunction<? super U> keyB) {
+        return hashJoin(other, ObjHashJoin.<T, U>longKeys(keyA, keyB),
+                Stream.<T, U>firstArgument(), ObjHashJoin.SEMI);
+    }
+
+    /**
+     * Returns {@code Stream} with elements that have no matching {@code long} key in another stream.
+     * Same as {@link #antiJoin(Stream, Function, Function)}, but keys are not boxed.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId
+     * this: [{id: 1, name: A}, {id: 2, name: B}, {id: 3, name: C}]
+     * other: [{userId: 2, text: x}, {userId: 2, text: z}]
+     * result: [A, C]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param other  the stream to match with
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #semiJoinByLong(Stream, ToLongFunction, ToLongFunction)
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U> Stream<T> antiJoinByLong(
+            @NotNull Stream<? extends U> other,
+            @NotNull ToLongFunction<? super T> keyA,
+            @NotNull ToLongFunction<? super U> keyB) {
+        return hashJoin(other, ObjHashJoin.<T, U>longKeys(keyA, keyB),
+                Stream.<T, U>firstArgument(), ObjHashJoin.ANTI);
+    }
+
+    /**
+     * Joins elements of this stream with elements of another stream having equal keys.
+     * Both streams must be sorted by key in the order of the given comparator,
+     * for example with {@link #sorted(Comparator)}, otherwise the result is undefined.
+     *
+     * <p>Unlike {@link #join(Stream, Function, Function, BiFunction)}, no hash table is built:
+     * both streams are advanced in lockstep and only the elements of the other stream
+     * with the current key are kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyA: (a) -&gt; a.id, keyB: (b) -&gt; b.userId, combiner: (a, b) -&gt; a.name + b.text
+     * this: [{id: 1, name: A}, {id: 2, name: B}, {id: 2, name: C}, {id: 4, name: D}]
+     * other: [{userId: 1, text: x}, {userId: 2, text: y}, {userId: 2, text: z}, {userId: 3, text: w}]
+     * result: [Ax, By, Bz, Cy, Cz]
+     * </pre>
+     *
+     * @param <U> the type of the other stream elements
+     * @param <K> the type of the key
+     * @param <R> the type of the result elements
+     * @param other  the stream to join with, sorted by key
+     * @param keyA  the key extractor of this stream elements
+     * @param keyB  the key extractor of the other stream elements
+     * @param comparator  the comparator of keys, which both streams are sorted with
+     * @param combiner  the function that combines matched elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} or {@code comparator} is null
+     * @since 1.2.3
+     */
+    @NotNull
+    public <U, K, R> Stream<R> mergeJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull Function<? super T, ? extends K> keyA,
+            @NotNull Function<? super U, ? extends K> keyB,
+            @NotNull Comparator<? super K> comparator,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(comparator);
+        return joined(other, new ObjMergeJoin<T, U, K, R>(
+                iterator, other.iterator, keyA, keyB, comparator, combiner));
+    }
+
     /**
      * Samples the {@code Stream} by emitting every n-th element.
      *
@@ -1382,7 +2111,7 @@ public class Stream<T> implements Closeable {
     public Stream<T> sample(final int stepWidth) {
         if (stepWidth <= 0) throw new IllegalArgumentException("stepWidth cannot be zero or negative");
         if (stepWidth == 1) return this;
-        return slidingWindow(1, stepWidth).map(new Function<List<T>, T>() {
+        return slidingWindowView(1, stepWidth).map(new Function<List<T>, T>() {
             @Override
             public T apply(@NotNull List<T> list) {
                 return list.get(0);
@@ -1390,6 +2119,42 @@ public class Stream<T> implements Closeable {
         });
     }
 
+    /**
+     * Returns {@code Stream} with {@code k} elements randomly selected from this stream,
+     * or all elements if the stream has fewer elements.
+     * Each element has the same probability to be selected.
+     *
+     * <p>Uses reservoir sampling (Algorithm L): elements are processed in a single pass
+     * with O(k) memory, and instead of drawing a random number for each element,
+     * the number of elements to skip before the next selected one is computed.
+     * The stream must be finite.
+     * Selected elements are emitted in no particular order.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 3
+     * stream: ["a", "b", "c", "d", "e", "f"]
+     * result: ["e", "b", "f"] (one of possible samples)
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @param random  the source of randomness
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @throws NullPointerException if {@code random} is null
+     * @see #sample(int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<T> sampleRandom(int k, @NotNull RandomCompat random) {
+        if (k < 0) throw new IllegalArgumentException("k cannot be negative");
+        Objects.requireNonNull(random);
+        if (k == 0) return Stream.empty();
+        return new Stream<T>(params, new ObjSampleRandom<T>(iterator, k, random.getRandom()));
+    }
+
     /**
      * Partitions {@code Stream} into {@code List}s of fixed size by sliding over the elements of the stream.
      * It starts with the first element and in each iteration moves by 1. This method yields the same results
@@ -1447,7 +2212,68 @@ public class Stream<T> implements Closeable {
     public Stream<List<T>> slidingWindow(final int windowSize, final int stepWidth) {
         if (windowSize <= 0) throw new IllegalArgumentException("windowSize cannot be zero or negative");
         if (stepWidth <= 0) throw new IllegalArgumentException("stepWidth cannot be zero or negative");
-        return new Stream<List<T>>(params, new ObjSlidingWindow<T>(iterator, windowSize, stepWidth));
+        return new Stream<List<T>>(params, new ObjSlidingWindow<T>(iterator, windowSize, stepWidth, true));
+    }
+
+    /**
+     * Partitions {@code Stream} into read-only {@code List} views of fixed size
+     * by sliding over the elements of the stream with a step width of 1.
+     *
+     * <p>Unlike {@link #slidingWindow(int)}, elements are not copied for each window.
+     * A view is valid only until the next window is requested, so it must be processed
+     * immediately or copied explicitly.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1, 2, 3, 4, 5]
+     * result: [[1, 2, 3], [2, 3, 4], [3, 4, 5]]
+     * </pre>
+     *
+     * @param windowSize  number of elements in a window
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #slidingWindowView(int, int)
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<List<T>> slidingWindowView(final int windowSize) {
+        return slidingWindowView(windowSize, 1);
+    }
+
+    /**
+     * Partitions {@code Stream} into read-only {@code List} views of fixed size
+     * by sliding over the elements of the stream with the given step width.
+     *
+     * <p>Elements are kept in a ring buffer and are not copied for each window,
+     * which makes large windows cheap.
+     * A view is valid only until the next window is requested, so it must be processed
+     * immediately or copied explicitly. Use {@link #slidingWindow(int, int)}
+     * to get independent lists.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3, stepWidth: 2
+     * stream: [1, 2, 3, 4, 5, 6, 7]
+     * result: [[1, 2, 3], [3, 4, 5], [5, 6, 7]]
+     * </pre>
+     *
+     * @param windowSize  number of elements in a window
+     * @param stepWidth  step width
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<List<T>> slidingWindowView(final int windowSize, final int stepWidth) {
+        if (windowSize <= 0) throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        if (stepWidth <= 0) throw new IllegalArgumentException("stepWidth cannot be zero or negative");
+        return new Stream<List<T>>(params, new ObjSlidingWindow<T>(iterator, windowSize, stepWidth, false));
     }
 
     /**
@@ -1774,6 +2600,13 @@ public class Stream<T> implements Closeable {
         if (maxSize == 0) {
             return Stream.empty();
         }
+        if (iterator instanceof ObjSorted) {
+            // sorted().limit(k) keeps only k elements in a bounded heap, if k is small enough
+            final ObjTopK<? extends T> topK = ((ObjSorted<? extends T>) iterator).limit(maxSize);
+            if (topK != null) {
+                return new Stream<T>(params, topK);
+            }
+        }
         return new Stream<T>(params, new ObjLimit<T>(iterator, maxSize));
     }
 
@@ -1781,6 +2614,10 @@ public class Stream<T> implements Closeable {
      * Skips first {@code n} elements and returns {@code Stream} with remaining elements.
      * If stream contains fewer than {@code n} elements, then an empty stream will be returned.
      *
+     * <p>If the elements of the stream source can be accessed by index, as for arrays and
+     * random access lists, the skipped elements are not traversed and the functions of
+     * preceding {@code map} operations are not applied to them.
+     *
      * <p>This is a stateful intermediate operation.
      *
      * <p>Example:
@@ -1805,6 +2642,29 @@ public class Stream<T> implements Closeable {
         return new Stream<T>(params, new ObjSkip<T>(iterator, n));
     }
 
+    /**
+     * Returns {@code Stream} with elements in reverse order.
+     *
+     * <p>If the source supports random access (arrays, ranges, random access lists),
+     * elements are read from the end without buffering,
+     * otherwise all elements are collected first.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 2, 3, 4]
+     * result: [4, 3, 2, 1]
+     * </pre>
+     *
+     * @return the new stream
+     * @since 1.2.3
+     */
+    @NotNull
+    public Stream<T> reverse() {
+        return new Stream<T>(params, new ObjReverse<T>(iterator));
+    }
+
     /**
      * Performs the given action on each element.
      *
@@ -1813,9 +2673,7 @@ public class Stream<T> implements Closeable {
      * @param action  the action to be performed on each element
      */
     public void forEach(@NotNull final Consumer<? super T> action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.next());
-        }
+        Operators.forEachRemaining(iterator, action);
     }
 
     /**
@@ -1868,14 +2726,17 @@ public class Stream<T> implements Closeable {
      * @return the result of the reduction
      */
     @Nullable
+    @SuppressWarnings("unchecked")
     public <R> R reduce(@Nullable R identity,
-                        @NotNull BiFunction<? super R, ? super T, ? extends R> accumulator) {
-        R result = identity;
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            result = accumulator.apply(result, value);
-        }
-        return result;
+                        @NotNull final BiFunction<? super R, ? super T, ? extends R> accumulator) {
+        final Object[] result = { identity };
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                result[0] = accumulator.apply((R) result[0], value);
+            }
+        });
+        return (R) result[0];
     }
 
     /**
@@ -1954,19 +2815,22 @@ public class Stream<T> implements Closeable {
      * @see #reduce(java.lang.Object, com.annimon.stream.function.BiFunction)
      */
     @NotNull
-    public Optional<T> reduce(@NotNull BiFunction<T, T, T> accumulator) {
-        boolean foundAny = false;
-        T result = null;
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.apply(result, value);
+    @SuppressWarnings("unchecked")
+    public Optional<T> reduce(@NotNull final BiFunction<T, T, T> accumulator) {
+        final boolean[] foundAny = { false };
+        final Object[] result = { null };
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                if (!foundAny[0]) {
+                    foundAny[0] = true;
+                    result[0] = value;
+                } else {
+                    result[0] = accumulator.apply((T) result[0], value);
+                }
             }
-        }
-        return foundAny ? Optional.of(result) : Optional.<T>empty();
+        });
+        return foundAny[0] ? Optional.of((T) result[0]) : Optional.<T>empty();
     }
 
     /**
@@ -2017,11 +2881,7 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public List<T> toList() {
-        final List<T> result = new ArrayList<T>();
-        while (iterator.hasNext()) {
-            result.add(iterator.next());
-        }
-        return result;
+        return Operators.toList(iterator);
     }
 
     /**
@@ -2037,12 +2897,14 @@ public class Stream<T> implements Closeable {
      */
     @Nullable
     public <R> R collect(@NotNull Supplier<R> supplier,
-                         @NotNull BiConsumer<R, ? super T> accumulator) {
+                         @NotNull final BiConsumer<R, ? super T> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            accumulator.accept(result, value);
-        }
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                accumulator.accept(result, value);
+            }
+        });
         return result;
     }
 
@@ -2059,14 +2921,54 @@ public class Stream<T> implements Closeable {
      */
     @Nullable
     public <R, A> R collect(@NotNull Collector<? super T, A, R> collector) {
-        A container = collector.supplier().get();
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            collector.accumulator().accept(container, value);
-        }
+        final A container = Collectors.newContainer(collector, Operators.remaining(iterator));
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                accumulator.accept(container, value);
+            }
+        });
         return collector.finisher().apply(container);
     }
 
+    /**
+     * Collects elements with {@code collector} using up to {@code parallelism} threads.
+     * Elements are split into contiguous parts, each part is accumulated in its own container,
+     * then containers are merged in encounter order by the collector's combiner.
+     *
+     * <p>If the collector is not a {@link CombinableCollector} or has no combiner,
+     * or {@code parallelism} is {@code 1}, elements are collected sequentially.
+     *
+     * <p>This is a terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * parallelism: 4
+     * collector: Collectors.toList()
+     * stream: [1, 2, 3, 4, 5, 6, 7, 8]
+     * result: [1, 2, 3, 4, 5, 6, 7, 8]
+     * </pre>
+     *
+     * @param <R> the type of result
+     * @param <A> the intermediate used by {@code Collector}
+     * @param collector  the {@code Collector}
+     * @param parallelism  the maximum number of threads
+     * @return the result of collect elements
+     * @throws IllegalArgumentException if {@code parallelism} is zero or negative
+     * @see #collect(com.annimon.stream.Collector)
+     * @since 1.2.3
+     */
+    @Nullable
+    public <R, A> R collectParallel(@NotNull Collector<? super T, A, R> collector, int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism cannot be zero or negative");
+        final BinaryOperator<A> combiner = Collectors.combinerOf(collector);
+        if (parallelism == 1 || combiner == null) {
+            return collect(collector);
+        }
+        return Operators.collectParallel(iterator, collector, combiner, parallelism);
+    }
+
     /**
      * Finds the minimum element according to the given comparator.
      *
@@ -2110,17 +3012,31 @@ public class Stream<T> implements Closeable {
     /**
      * Returns the count of elements in this stream.
      *
+     * <p>If the count can be computed directly from the stream source,
+     * the elements are not traversed and the functions of intermediate operations
+     * are not called. For example, in {@code Stream.of(list).map(mapper).count()}
+     * the {@code mapper} is never applied, so its side-effects and exceptions do not occur.
+     * Operations, which do not preserve the size, such as {@code filter} and {@code peek},
+     * always traverse the elements.
+     *
      * <p>This is a terminal operation.
      *
      * @return the count of elements
      */
     public long count() {
-        long count = 0;
-        while (iterator.hasNext()) {
-            iterator.next();
-            count++;
+        final long size = Operators.remaining(iterator);
+        if (size >= 0) {
+            // Size is known, elements are not traversed
+            return size;
         }
-        return count;
+        final long[] count = { 0 };
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                count[0]++;
+            }
+        });
+        return count[0];
     }
 
     /**
@@ -2291,6 +3207,10 @@ public class Stream<T> implements Closeable {
      * Returns the last element wrapped by {@code Optional} class.
      * If stream is empty, returns {@code Optional.empty()}.
      *
+     * <p>The last element of array, range and random access list sources is accessed directly,
+     * even after {@code map}, {@code skip} and {@code limit} operations.
+     * In that case the function passed to {@code map} is applied to the last element only.
+     *
      * <p>This is a short-circuiting terminal operation.
      *
      * @return an {@code Optional} with the last element
@@ -2299,6 +3219,11 @@ public class Stream<T> implements Closeable {
      */
     @NotNull
     public Optional<T> findLast() {
+        if (Operators.isRandomAccess(iterator)) {
+            final long size = Operators.remaining(iterator);
+            if (size == 0) return Optional.empty();
+            return Optional.of(((RandomAccessIterator<? extends T>) iterator).get(size - 1));
+        }
         return reduce(new BinaryOperator<T>() {
             @Override
             public T apply(T left, T right) {
@@ -2307,6 +3232,44 @@ public class Stream<T> implements Closeable {
         });
     }
 
+    /**
+     * Returns the element at the given position wrapped by {@code Optional} class.
+     * If stream contains fewer elements, returns {@code Optional.empty()}.
+     *
+     * <p>Elements of array, range and random access list sources are accessed directly,
+     * even after {@code map}, {@code skip} and {@code limit} operations.
+     * In that case the function passed to {@code map} is applied to the returned element only.
+     *
+     * <p>This is a short-circuiting terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * index: 2
+     * stream: [1, 2, 3, 4]
+     * result: Optional.of(3)
+     *
+     * index: 10
+     * stream: [1, 2]
+     * result: Optional.empty()
+     * </pre>
+     *
+     * @param index  the zero-based position of the element
+     * @return an {@code Optional} with the element at the given position
+     *         or {@code Optional.empty()} if the stream is shorter
+     * @throws IllegalArgumentException if {@code index} is negative
+     * @since 1.2.3
+     */
+    @NotNull
+    public Optional<T> elementAt(long index) {
+        if (index < 0) throw new IllegalArgumentException("index cannot be negative");
+        if (Operators.isRandomAccess(iterator)) {
+            if (index >= Operators.remaining(iterator)) return Optional.empty();
+            return Optional.of(((RandomAccessIterator<? extends T>) iterator).get(index));
+        }
+        Operators.skip(iterator, index);
+        return findFirst();
+    }
+
     /**
      * Returns the single element of stream.
      * If stream is empty, throws {@code NoSuchElementException}.
@@ -2448,5 +3411,35 @@ public class Stream<T> implements Closeable {
         // noneMatch -> true
         return !kindAny;
     }
+
+    @NotNull
+    private <U, R> Stream<R> hashJoin(
+            @NotNull Stream<? extends U> other,
+            @NotNull ObjHashJoin.Keys<T, U> keys,
+            @NotNull BiFunction<? super T, ? super U, ? extends R> combiner,
+            int type) {
+        Objects.requireNonNull(other);
+        return joined(other, new ObjHashJoin<T, U, R>(iterator, other.iterator, keys, combiner, type));
+    }
+
+    @NotNull
+    private <R> Stream<R> joined(@NotNull final Stream<?> other, @NotNull Iterator<? extends R> join) {
+        return new Stream<R>(params, join).onClose(new Runnable() {
+            @Override
+            public void run() {
+                other.close();
+            }
+        });
+    }
+
+    @NotNull
+    private static <T, U> BiFunction<T, U, T> firstArgument() {
+        return new BiFunction<T, U, T>() {
+            @Override
+            public T apply(T first, U second) {
+                return first;
+            }
+        };
+    }
 //</editor-fold>
 }
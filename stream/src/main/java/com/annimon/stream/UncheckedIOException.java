@@ -0,0 +1,35 @@
+package com.annimon.stream;
+
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Wraps an {@link IOException} thrown by a stream operation that uses temporary files.
+ *
+ * @see Stream#sortedExternal(java.util.Comparator, Codec, int)
+ * @since 1.2.3
+ */
+public class UncheckedIOException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an instance of {@code UncheckedIOException}.
+     *
+     * @param message  the detail message
+     * @param cause  the {@code IOException}
+     */
+    public UncheckedIOException(String message, @NotNull IOException cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Returns the cause of this exception.
+     *
+     * @return the {@code IOException} which is the cause of this exception
+     */
+    @Override
+    public IOException getCause() {
+        return (IOException) super.getCause();
+    }
+}
@@ -0,0 +1,112 @@
+package com.annimon.stream.function;
+
+import com.annimon.stream.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a comparison function of two {@code int} values.
+ * This is the primitive type specialization of {@link java.util.Comparator} for {@code int}.
+ *
+ * @since 1.2.3
+ * @see java.util.Comparator
+ */
+public interface IntComparator {
+
+    /**
+     * Compares two values.
+     *
+     * @param value1  the first value
+     * @param value2  the second value
+     * @return a negative integer, zero, or a positive integer
+     *         as the first value is less than, equal to, or greater than the second
+     */
+    int compare(int value1, int value2);
+
+    class Util {
+
+        private static final IntComparator NATURAL_ORDER = new IntComparator() {
+            @Override
+            public int compare(int value1, int value2) {
+                return Objects.compareInt(value1, value2);
+            }
+        };
+
+        private static final IntComparator REVERSE_ORDER = new IntComparator() {
+            @Override
+            public int compare(int value1, int value2) {
+                return Objects.compareInt(value2, value1);
+            }
+        };
+
+        private Util() { }
+
+        /**
+         * Returns a comparator with natural order.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static IntComparator naturalOrder() {
+            return NATURAL_ORDER;
+        }
+
+        /**
+         * Returns a comparator with reverse order.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static IntComparator reverseOrder() {
+            return REVERSE_ORDER;
+        }
+
+        /**
+         * Returns a comparator that reverses the order of the specified comparator.
+         * If the specified comparator is {@code null}, this method is equivalent
+         * to {@link #reverseOrder()}.
+         *
+         * @param comparator  a comparator to be reversed
+         * @return a comparator
+         */
+        @NotNull
+        public static IntComparator reversed(@Nullable final IntComparator comparator) {
+            if (comparator == null || comparator == NATURAL_ORDER) {
+                return REVERSE_ORDER;
+            }
+            if (comparator == REVERSE_ORDER) {
+                return NATURAL_ORDER;
+            }
+            return new IntComparator() {
+                @Override
+                public int compare(int value1, int value2) {
+                    return comparator.compare(value2, value1);
+                }
+            };
+        }
+
+        /**
+         * Returns a comparator that uses {@code c2} comparator
+         * if {@code c1} comparator considers two elements equal.
+         *
+         * @param c1  the first comparator
+         * @param c2  the second comparator
+         * @return a comparator
+         * @throws NullPointerException if {@code c1} or {@code c2} is null
+         */
+        @NotNull
+        public static IntComparator thenComparing(
+                @NotNull final IntComparator c1,
+                @NotNull final IntComparator c2) {
+            Objects.requireNonNull(c1, "comparator1");
+            Objects.requireNonNull(c2, "comparator2");
+            return new IntComparator() {
+                @Override
+                public int compare(int value1, int value2) {
+                    final int result = c1.compare(value1, value2);
+                    return (result != 0) ? result : c2.compare(value1, value2);
+                }
+            };
+        }
+    }
+}
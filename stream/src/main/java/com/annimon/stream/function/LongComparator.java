@@ -0,0 +1,112 @@
+package com.annimon.stream.function;
+
+import com.annimon.stream.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a comparison function of two {@code long} values.
+ * This is the primitive type specialization of {@link java.util.Comparator} for {@code long}.
+ *
+ * @since 1.2.3
+ * @see java.util.Comparator
+ */
+public interface LongComparator {
+
+    /**
+     * Compares two values.
+     *
+     * @param value1  the first value
+     * @param value2  the second value
+     * @return a negative integer, zero, or a positive integer
+     *         as the first value is less than, equal to, or greater than the second
+     */
+    int compare(long value1, long value2);
+
+    class Util {
+
+        private static final LongComparator NATURAL_ORDER = new LongComparator() {
+            @Override
+            public int compare(long value1, long value2) {
+                return Objects.compareLong(value1, value2);
+            }
+        };
+
+        private static final LongComparator REVERSE_ORDER = new LongComparator() {
+            @Override
+            public int compare(long value1, long value2) {
+                return Objects.compareLong(value2, value1);
+            }
+        };
+
+        private Util() { }
+
+        /**
+         * Returns a comparator with natural order.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static LongComparator naturalOrder() {
+            return NATURAL_ORDER;
+        }
+
+        /**
+         * Returns a comparator with reverse order.
+         *
+         * @return a comparator
+         */
+        @NotNull
+        public static LongComparator reverseOrder() {
+            return REVERSE_ORDER;
+        }
+
+        /**
+         * Returns a comparator that reverses the order of the specified comparator.
+         * If the specified comparator is {@code null}, this method is equivalent
+         * to {@link #reverseOrder()}.
+         *
+         * @param comparator  a comparator to be reversed
+         * @return a comparator
+         */
+        @NotNull
+        public static LongComparator reversed(@Nullable final LongComparator comparator) {
+            if (comparator == null || comparator == NATURAL_ORDER) {
+                return REVERSE_ORDER;
+            }
+            if (comparator == REVERSE_ORDER) {
+                return NATURAL_ORDER;
+            }
+            return new LongComparator() {
+                @Override
+                public int compare(long value1, long value2) {
+                    return comparator.compare(value2, value1);
+                }
+            };
+        }
+
+        /**
+         * Returns a comparator that uses {@code c2} comparator
+         * if {@code c1} comparator considers two elements equal.
+         *
+         * @param c1  the first comparator
+         * @param c2  the second comparator
+         * @return a comparator
+         * @throws NullPointerException if {@code c1} or {@code c2} is null
+         */
+        @NotNull
+        public static LongComparator thenComparing(
+                @NotNull final LongComparator c1,
+                @NotNull final LongComparator c2) {
+            Objects.requireNonNull(c1, "comparator1");
+            Objects.requireNonNull(c2, "comparator2");
+            return new LongComparator() {
+                @Override
+                public int compare(long value1, long value2) {
+                    final int result = c1.compare(value1, value2);
+                    return (result != 0) ? result : c2.compare(value1, value2);
+                }
+            };
+        }
+    }
+}
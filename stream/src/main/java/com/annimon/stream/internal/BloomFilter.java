@@ -0,0 +1,123 @@
+package com.annimon.stream.internal;
+
+/**
+ * Bloom filter over 64-bit hashes backed by a bit array.
+ *
+ * <p>The number of bits and hash functions are chosen for the expected
+ * number of items and the desired false positive probability.
+ * For example, 1 million items with 1% false positive probability take about 1.2 MB.
+ * Bit positions are derived from a single hash with double hashing.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    /**
+     * Creates a Bloom filter sized for the given number of items and false positive probability.
+     *
+     * @param expectedItems  the expected number of distinct items
+     * @param fpp  the desired false positive probability, in range (0, 1)
+     * @throws IllegalArgumentException if {@code expectedItems} is zero or negative,
+     *         if {@code fpp} is out of range
+     *         or if the filter is too large for the given parameters
+     */
+    public BloomFilter(long expectedItems, double fpp) {
+        checkExpectedItems(expectedItems);
+        checkFpp(fpp);
+        final double optimalBits = Math.ceil(-expectedItems * Math.log(fpp) / (LN2 * LN2));
+        if (optimalBits > MAX_BITS) {
+            throw new IllegalArgumentException("expectedItems is too large for the given fpp");
+        }
+        final int wordCount = (int) ((Math.max(Long.SIZE, (long) optimalBits) + Long.SIZE - 1) / Long.SIZE);
+        words = new long[wordCount];
+        bitCount = (long) wordCount * Long.SIZE;
+        hashFunctions = (int) Math.max(1, Math.round((double) bitCount / expectedItems * LN2));
+    }
+
+    /**
+     * Checks that the expected number of items is positive.
+     *
+     * @param expectedItems  the value to check
+     * @return the expected number of items
+     * @throws IllegalArgumentException if {@code expectedItems} is zero or negative
+     */
+    public static long checkExpectedItems(long expectedItems) {
+        if (expectedItems <= 0) {
+            throw new IllegalArgumentException("expectedItems cannot be zero or negative");
+        }
+        return expectedItems;
+    }
+
+    /**
+     * Checks that the false positive probability is in range (0, 1).
+     *
+     * @param fpp  the value to check
+     * @return the false positive probability
+     * @throws IllegalArgumentException if {@code fpp} is out of range
+     */
+    public static double checkFpp(double fpp) {
+        // Negated check also rejects NaN
+        if (!(fpp > 0.0 && fpp < 1.0)) {
+            throw new IllegalArgumentException("fpp must be in range (0, 1)");
+        }
+        return fpp;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Adds 64-bit hash of an item to the filter.
+     *
+     * @param hash  the well mixed hash of an item
+     * @return {@code true} if the filter has changed, so the item was definitely not added before,
+     *         {@code false} if the item might have been added before
+     * @see Hashing
+     */
+    public boolean putHash(long hash) {
+        final long hash2 = Hashing.mix64(hash);
+        long combined = hash;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = (combined & Long.MAX_VALUE) % bitCount;
+            final int word = (int) (index >>> 6);
+            final long mask = 1L << index;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                changed = true;
+            }
+            combined += hash2;
+        }
+        return changed;
+    }
+
+    /**
+     * Checks whether an item with the given hash might have been added to the filter.
+     *
+     * @param hash  the well mixed hash of an item
+     * @return {@code false} if the item was definitely not added,
+     *         {@code true} if the item might have been added
+     */
+    public boolean mightContainHash(long hash) {
+        final long hash2 = Hashing.mix64(hash);
+        long combined = hash;
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = (combined & Long.MAX_VALUE) % bitCount;
+            if ((words[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+}
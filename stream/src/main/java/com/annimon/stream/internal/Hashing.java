@@ -0,0 +1,53 @@
+package com.annimon.stream.internal;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 64-bit hash functions for probabilistic data structures.
+ */
+public final class Hashing {
+
+    private Hashing() { }
+
+    /**
+     * Spreads bits of the value, so that each input bit affects all output bits.
+     * This is the finalization step of MurmurHash3.
+     *
+     * @param value  the value to hash
+     * @return the 64-bit hash
+     */
+    public static long mix64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Returns 64-bit hash of the value.
+     *
+     * @param value  the value to hash
+     * @return the 64-bit hash
+     */
+    public static long hash64(long value) {
+        // Golden ratio offset moves zero away from the fixed point of mix64
+        return mix64(value + 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Returns 64-bit hash of the object based on its {@code hashCode}.
+     * {@code null} is hashed as zero hash code.
+     *
+     * <p>Objects with equal hash codes get equal hashes, so there are at most
+     * {@code 2^32} distinct results, and collisions of hash codes are not mixed away.
+     *
+     * @param obj  the object to hash
+     * @return the 64-bit hash
+     */
+    public static long hash64(@Nullable Object obj) {
+        return hash64((long) (obj == null ? 0 : obj.hashCode()));
+    }
+}
@@ -0,0 +1,369 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.Objects;
+import com.annimon.stream.function.Supplier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Map with {@code long} keys without boxing.
+ * Uses open addressing with linear probing.
+ *
+ * <p>Can be used as a regular {@code Map<Long, V>}, boxed keys are unboxed on access.
+ * Mappings can be removed by key, but not through iterators of the map views.
+ *
+ * @param <V> the type of the values
+ */
+public final class LongHashMap<V> extends AbstractMap<Long, V> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Zero key marks an empty slot, so its value is stored separately
+    private long[] keys;
+    private Object[] values;
+    private boolean containsZero;
+    private V zeroValue;
+    private int size;
+    private int mask;
+    private int shift;
+    private int threshold;
+
+    public LongHashMap() {
+        this(16);
+    }
+
+    public LongHashMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity < MAX_CAPACITY && capacity - (capacity >>> 2) < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value for the key.
+     *
+     * @param key  the key
+     * @return the value or {@code null} if the map does not contain the key
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0) return zeroValue;
+        int index = indexOf(key);
+        while (true) {
+            final long current = keys[index];
+            if (current == 0) return null;
+            if (current == key) return (V) values[index];
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Checks whether the map contains the key.
+     *
+     * @param key  the key to check
+     * @return {@code true} if the map contains the key
+     */
+    public boolean containsKey(long key) {
+        if (key == 0) return containsZero;
+        int index = indexOf(key);
+        while (true) {
+            final long current = keys[index];
+            if (current == 0) return false;
+            if (current == key) return true;
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key  the key
+     * @param value  the value
+     * @return the previous value or {@code null} if there was no mapping for the key
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(long key, @Nullable V value) {
+        if (key == 0) {
+            final V previous = zeroValue;
+            zeroValue = value;
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            return previous;
+        }
+        int index = indexOf(key);
+        while (true) {
+            final long current = keys[index];
+            if (current == 0) break;
+            if (current == key) {
+                final V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            grow();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value for the key, or associates the value created by the supplier
+     * with the key if there is no mapping for it.
+     * The table is probed only once, even if the key is absent.
+     *
+     * @param key  the key
+     * @param supplier  the function that creates a value for an absent key
+     * @return the current or the created value
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V getOrPut(long key, @NotNull Supplier<? extends V> supplier) {
+        if (key == 0) {
+            if (!containsZero) {
+                zeroValue = supplier.get();
+                containsZero = true;
+                size++;
+            }
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        while (true) {
+            final long current = keys[index];
+            if (current == 0) break;
+            if (current == key) return (V) values[index];
+            index = (index + 1) & mask;
+        }
+        final V value = supplier.get();
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold) {
+            grow();
+        }
+        return value;
+    }
+
+    @Nullable
+    @Override
+    public V get(Object key) {
+        return (key instanceof Long) ? get(((Long) key).longValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (key instanceof Long) && containsKey(((Long) key).longValue());
+    }
+
+    /**
+     * Removes the mapping for the key.
+     *
+     * @param key  the key
+     * @return the previous value or {@code null} if there was no mapping for the key
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            if (!containsZero) return null;
+            final V previous = zeroValue;
+            zeroValue = null;
+            containsZero = false;
+            size--;
+            return previous;
+        }
+        int index = indexOf(key);
+        while (true) {
+            final long current = keys[index];
+            if (current == 0) return null;
+            if (current == key) break;
+            index = (index + 1) & mask;
+        }
+        final V previous = (V) values[index];
+        // Shift following entries back, so that probe sequences stay unbroken
+        int hole = index;
+        int i = (index + 1) & mask;
+        while (keys[i] != 0) {
+            final int ideal = indexOf(keys[i]);
+            if (((i - ideal) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+        size--;
+        return previous;
+    }
+
+    @Nullable
+    @Override
+    public V put(@NotNull Long key, @Nullable V value) {
+        return put(key.longValue(), value);
+    }
+
+    @Nullable
+    @Override
+    public V remove(Object key) {
+        return (key instanceof Long) ? remove(((Long) key).longValue()) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @NotNull
+    @Override
+    public Set<Map.Entry<Long, V>> entrySet() {
+        return new AbstractSet<Map.Entry<Long, V>>() {
+            @NotNull
+            @Override
+            public Iterator<Map.Entry<Long, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(long key) {
+        // Fibonacci hashing spreads sequential keys across the table
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        threshold = (capacity == MAX_CAPACITY)
+                ? capacity - 1
+                : capacity - (capacity >>> 2);
+    }
+
+    private void grow() {
+        final int capacity = keys.length;
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Map is too large");
+        }
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long key = oldKeys[i];
+            if (key == 0) continue;
+            int index = indexOf(key);
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = oldValues[i];
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Long, V>> {
+
+        // Index -1 is the zero key
+        private int index = containsZero ? -1 : nextIndex(0);
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        public Map.Entry<Long, V> next() {
+            if (index >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            final Entry entry = new Entry(index);
+            index = nextIndex(index + 1);
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+        private int nextIndex(int from) {
+            int i = from;
+            while (i < keys.length && keys[i] == 0) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    private final class Entry implements Map.Entry<Long, V> {
+
+        private final int index;
+
+        Entry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Long getKey() {
+            return (index == -1) ? 0L : keys[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (index == -1) ? zeroValue : (V) values[index];
+        }
+
+        @Override
+        public V setValue(V value) {
+            final V previous = getValue();
+            if (index == -1) {
+                zeroValue = value;
+            } else {
+                values[index] = value;
+            }
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) return false;
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return getKey().equals(other.getKey())
+                    && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
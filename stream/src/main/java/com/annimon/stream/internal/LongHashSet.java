@@ -0,0 +1,149 @@
+package com.annimon.stream.internal;
+
+/**
+ * Set of {@code long} values without boxing.
+ * Uses open addressing with linear probing.
+ */
+public final class LongHashSet {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Zero marks an empty slot, so it is stored separately
+    private long[] table;
+    private boolean containsZero;
+    private int size;
+    private int mask;
+    private int shift;
+    private int threshold;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = 16;
+        while (capacity < MAX_CAPACITY && capacity - (capacity >>> 2) < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Adds the value to the set.
+     *
+     * @param value  the value to add
+     * @return {@code true} if the set did not already contain the value
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int index = indexOf(value);
+        while (true) {
+            final long current = table[index];
+            if (current == 0) break;
+            if (current == value) return false;
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > threshold) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the set contains the value.
+     *
+     * @param value  the value to check
+     * @return {@code true} if the set contains the value
+     */
+    public boolean contains(long value) {
+        if (value == 0) return containsZero;
+        int index = indexOf(value);
+        while (true) {
+            final long current = table[index];
+            if (current == 0) return false;
+            if (current == value) return true;
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes the value from the set.
+     *
+     * @param value  the value to remove
+     * @return {@code true} if the set contained the value
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) return false;
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(value);
+        while (true) {
+            final long current = table[index];
+            if (current == 0) return false;
+            if (current == value) break;
+            index = (index + 1) & mask;
+        }
+        // Shift following values back, so that probe sequences stay unbroken
+        int hole = index;
+        int i = (index + 1) & mask;
+        while (table[i] != 0) {
+            final int ideal = indexOf(table[i]);
+            if (((i - ideal) & mask) >= ((i - hole) & mask)) {
+                table[hole] = table[i];
+                hole = i;
+            }
+            i = (i + 1) & mask;
+        }
+        table[hole] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int indexOf(long value) {
+        // Fibonacci hashing spreads sequential values across the table
+        return (int) ((value * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        threshold = (capacity == MAX_CAPACITY)
+                ? capacity - 1
+                : capacity - (capacity >>> 2);
+    }
+
+    private void grow() {
+        final int capacity = table.length;
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Set is too large");
+        }
+        final long[] oldTable = table;
+        allocate(capacity << 1);
+        for (long value : oldTable) {
+            if (value == 0) continue;
+            int index = indexOf(value);
+            while (table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            table[index] = value;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.annimon.stream.internal;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Space-Saving sketch for finding the most frequent {@code long} keys with a bounded number of counters.
+ * Keys are not boxed while counting.
+ *
+ * <p>When all counters are taken, the key with the minimum count is evicted and the new key
+ * inherits its count. So for {@code n} added keys and {@code capacity} counters:
+ * <ul>
+ *   <li>each estimated count is not less than the true count
+ *       and overestimates it by at most {@code n / capacity};</li>
+ *   <li>every key that occurs more than {@code n / capacity} times is kept.</li>
+ * </ul>
+ *
+ * <p>Counters are ordered in a min-heap, so each update takes {@code O(log capacity)}.
+ *
+ * @see SpaceSaving
+ */
+public final class LongSpaceSaving {
+
+    private final LongHashMap<Counter> counters;
+    private final Counter[] heap;
+    private int size;
+
+    public LongSpaceSaving(int capacity) {
+        counters = new LongHashMap<Counter>(Math.min(capacity, 1 << 16));
+        heap = new Counter[capacity];
+    }
+
+    /**
+     * Counts an occurrence of the key.
+     *
+     * @param key  the key
+     */
+    public void add(long key) {
+        final Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.index);
+            return;
+        }
+        if (size < heap.length) {
+            final Counter created = new Counter(key, size);
+            created.count = 1;
+            heap[size++] = created;
+            counters.put(key, created);
+            siftUp(created.index);
+            return;
+        }
+        // Replace the key with the minimum count
+        final Counter min = heap[0];
+        counters.remove(min.key);
+        min.key = key;
+        min.error = min.count;
+        min.count++;
+        counters.put(key, min);
+        siftDown(0);
+    }
+
+    /**
+     * Returns keys with estimated counts in descending order of counts.
+     *
+     * @param limit  the maximum number of keys to return
+     * @return the list of key and estimated count entries
+     */
+    @NotNull
+    public List<Map.Entry<Long, Long>> top(int limit) {
+        final Counter[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted, new Comparator<Counter>() {
+            @Override
+            public int compare(Counter c1, Counter c2) {
+                return c1.count != c2.count
+                        ? (c1.count > c2.count ? -1 : 1)
+                        : (c1.error < c2.error ? -1 : (c1.error > c2.error ? 1 : 0));
+            }
+        });
+        final int count = Math.min(limit, size);
+        final List<Map.Entry<Long, Long>> result = new ArrayList<Map.Entry<Long, Long>>(count);
+        for (int i = 0; i < count; i++) {
+            final Counter counter = sorted[i];
+            result.add(new AbstractMap.SimpleImmutableEntry<Long, Long>(counter.key, counter.count));
+        }
+        return result;
+    }
+
+    private void siftUp(int index) {
+        final Counter counter = heap[index];
+        int i = index;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (heap[parent].count <= counter.count) break;
+            place(heap[parent], i);
+            i = parent;
+        }
+        place(counter, i);
+    }
+
+    private void siftDown(int index) {
+        final Counter counter = heap[index];
+        int i = index;
+        final int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            final int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) break;
+            place(heap[child], i);
+            i = child;
+        }
+        place(counter, i);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter {
+        long key;
+        long count;
+        long error;
+        int index;
+
+        Counter(long key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+}
@@ -1,8 +1,22 @@
 package com.annimon.stream.internal;
 
+import com.annimon.stream.Collector;
+import com.annimon.stream.function.BiConsumer;
+import com.annimon.stream.function.BinaryOperator;
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.DoubleConsumer;
+import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.function.IntFunction;
+import com.annimon.stream.function.LongConsumer;
+import com.annimon.stream.function.Supplier;
+import com.annimon.stream.iterator.LazyIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.PushIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.iterator.SizedIterator;
+import com.annimon.stream.iterator.SplittableIterator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
@@ -11,12 +25,160 @@ public final class Operators {
 
     private Operators() {}
 
-    @NotNull
-    public static <T> List<T> toList(@NotNull Iterator<? extends T> iterator) {
-        final List<T> result = new ArrayList<T>();
+    /**
+     * Performs the given action for each remaining element of the iterator.
+     * Pushes elements in a single loop if the iterator supports it.
+     *
+     * @param <T> the type of the elements
+     * @param iterator  the iterator
+     * @param action  the action to be performed for each element
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void forEachRemaining(@NotNull Iterator<? extends T> iterator,
+                                            @NotNull Consumer<? super T> action) {
+        if (iterator instanceof PushIterator) {
+            ((PushIterator<T>) iterator).pushRemaining(action);
+            return;
+        }
+        // Boxed primitive streams share the primitive iterator
+        final Consumer<Object> boxedAction = (Consumer<Object>) action;
+        if (iterator instanceof PrimitiveIterator.OfInt) {
+            ((PrimitiveIterator.OfInt) iterator).pushRemaining(new IntConsumer() {
+                @Override
+                public void accept(int value) {
+                    boxedAction.accept(value);
+                }
+            });
+            return;
+        }
+        if (iterator instanceof PrimitiveIterator.OfLong) {
+            ((PrimitiveIterator.OfLong) iterator).pushRemaining(new LongConsumer() {
+                @Override
+                public void accept(long value) {
+                    boxedAction.accept(value);
+                }
+            });
+            return;
+        }
+        if (iterator instanceof PrimitiveIterator.OfDouble) {
+            ((PrimitiveIterator.OfDouble) iterator).pushRemaining(new DoubleConsumer() {
+                @Override
+                public void accept(double value) {
+                    boxedAction.accept(value);
+                }
+            });
+            return;
+        }
         while (iterator.hasNext()) {
-            result.add(iterator.next());
+            action.accept(iterator.next());
+        }
+    }
+
+    /**
+     * Returns the exact number of remaining elements of the iterator.
+     *
+     * @param iterator  the iterator
+     * @return the number of remaining elements, or {@code -1} if it is unknown
+     * @see SizedIterator
+     */
+    public static long remaining(@NotNull Iterator<?> iterator) {
+        if (iterator instanceof SizedIterator) {
+            return ((SizedIterator<?>) iterator).remaining();
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether the remaining elements of the iterator can be accessed by index.
+     *
+     * @param iterator  the iterator
+     * @return {@code true} if the iterator supports random access
+     * @see RandomAccessIterator
+     */
+    public static boolean isRandomAccess(@NotNull Iterator<?> iterator) {
+        return (iterator instanceof RandomAccessIterator)
+                && ((RandomAccessIterator<?>) iterator).isRandomAccess();
+    }
+
+    /**
+     * Skips {@code n} elements of the iterator, or all remaining elements if there are fewer.
+     *
+     * @param iterator  the iterator
+     * @param n  the number of elements to skip
+     */
+    public static void skip(@NotNull Iterator<?> iterator, long n) {
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator<?>) iterator).skip(n);
+            return;
+        }
+        for (long i = 0; i < n && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+    }
+
+    /**
+     * Skips {@code n} elements of the primitive iterator without boxing,
+     * or all remaining elements if there are fewer.
+     *
+     * @param iterator  the iterator
+     * @param n  the number of elements to skip
+     */
+    public static void skip(@NotNull PrimitiveIterator.OfInt iterator, long n) {
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator<?>) iterator).skip(n);
+            return;
+        }
+        for (long i = 0; i < n && iterator.hasNext(); i++) {
+            iterator.nextInt();
+        }
+    }
+
+    /**
+     * Skips {@code n} elements of the primitive iterator without boxing,
+     * or all remaining elements if there are fewer.
+     *
+     * @param iterator  the iterator
+     * @param n  the number of elements to skip
+     */
+    public static void skip(@NotNull PrimitiveIterator.OfLong iterator, long n) {
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator<?>) iterator).skip(n);
+            return;
         }
+        for (long i = 0; i < n && iterator.hasNext(); i++) {
+            iterator.nextLong();
+        }
+    }
+
+    /**
+     * Skips {@code n} elements of the primitive iterator without boxing,
+     * or all remaining elements if there are fewer.
+     *
+     * @param iterator  the iterator
+     * @param n  the number of elements to skip
+     */
+    public static void skip(@NotNull PrimitiveIterator.OfDouble iterator, long n) {
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator<?>) iterator).skip(n);
+            return;
+        }
+        for (long i = 0; i < n && iterator.hasNext(); i++) {
+            iterator.nextDouble();
+        }
+    }
+
+    @NotNull
+    public static <T> List<T> toList(@NotNull Iterator<? extends T> iterator) {
+        final long size = remaining(iterator);
+        final List<T> result = (size >= 0 && size < Compat.MAX_ARRAY_SIZE)
+                ? new ArrayList<T>((int) size)
+                : new ArrayList<T>();
+        forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                result.add(value);
+            }
+        });
         return result;
     }
 
@@ -24,44 +186,260 @@ public final class Operators {
     @SuppressWarnings("unchecked")
     public static <T, R> R[] toArray(@NotNull Iterator<? extends T> iterator,
                                      @NotNull IntFunction<R[]> generator) {
-        final List<T> container = Operators.<T>toList(iterator);
-        final int size = container.size();
-
-        Compat.checkMaxArraySize(size);
-
-        //noinspection unchecked
-        T[] source = container.toArray(Compat.<T>newArray(size));
-        R[] boxed = generator.apply(size);
+        final long knownSize = remaining(iterator);
+        if (knownSize >= 0) {
+            // The reported size is only a hint, the source may produce more or fewer elements
+            Compat.checkMaxArraySize(knownSize);
+            final ArrayFiller<T> filler = new ArrayFiller<T>(
+                    ((IntFunction<T[]>) (IntFunction<?>) generator).apply((int) knownSize));
+            forEachRemaining(iterator, filler);
+            return (R[]) filler.toArray((IntFunction<T[]>) (IntFunction<?>) generator);
+        }
 
-        //noinspection SuspiciousSystemArraycopy
-        System.arraycopy(source, 0, boxed, 0, size);
-        return boxed;
+        // Size is unknown, gather elements into chunks and copy them once
+        final SpinedBuffer.Of<T> buffer = new SpinedBuffer.Of<T>();
+        forEachRemaining(iterator, buffer);
+        return (R[]) buffer.asArray((IntFunction<T[]>) (IntFunction<?>) generator);
     }
 
     @NotNull
     public static int[] toIntArray(@NotNull PrimitiveIterator.OfInt iterator) {
-        final SpinedBuffer.OfInt b = new SpinedBuffer.OfInt();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextInt());
+        final long size = iterator.remaining();
+        if (size >= 0) {
+            Compat.checkMaxArraySize(size);
+            final IntArrayFiller filler = new IntArrayFiller((int) size);
+            iterator.pushRemaining(filler);
+            return filler.toArray();
         }
+
+        final SpinedBuffer.OfInt b = new SpinedBuffer.OfInt();
+        iterator.pushRemaining(b);
         return b.asPrimitiveArray();
     }
 
     @NotNull
     public static long[] toLongArray(@NotNull PrimitiveIterator.OfLong iterator) {
-        final SpinedBuffer.OfLong b = new SpinedBuffer.OfLong();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextLong());
+        final long size = iterator.remaining();
+        if (size >= 0) {
+            Compat.checkMaxArraySize(size);
+            final LongArrayFiller filler = new LongArrayFiller((int) size);
+            iterator.pushRemaining(filler);
+            return filler.toArray();
         }
+
+        final SpinedBuffer.OfLong b = new SpinedBuffer.OfLong();
+        iterator.pushRemaining(b);
         return b.asPrimitiveArray();
     }
 
     @NotNull
     public static double[] toDoubleArray(@NotNull PrimitiveIterator.OfDouble iterator) {
-        final SpinedBuffer.OfDouble b = new SpinedBuffer.OfDouble();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextDouble());
+        final long size = iterator.remaining();
+        if (size >= 0) {
+            Compat.checkMaxArraySize(size);
+            final DoubleArrayFiller filler = new DoubleArrayFiller((int) size);
+            iterator.pushRemaining(filler);
+            return filler.toArray();
         }
+
+        final SpinedBuffer.OfDouble b = new SpinedBuffer.OfDouble();
+        iterator.pushRemaining(b);
         return b.asPrimitiveArray();
     }
+
+    @SuppressWarnings("unchecked")
+    public static <T, A, R> R collectParallel(@NotNull Iterator<? extends T> iterator,
+                                              @NotNull Collector<? super T, A, R> collector,
+                                              @NotNull BinaryOperator<A> combiner,
+                                              int parallelism) {
+        List<SplittableIterator<T>> parts = null;
+        if (iterator instanceof SplittableIterator) {
+            parts = Parallel.split((SplittableIterator<T>) iterator, parallelism);
+            if (parts.size() == 1) {
+                final long size = parts.get(0).remaining();
+                if (size < 0 || size > 1) {
+                    // Source cannot be split
+                    parts = null;
+                }
+            }
+        }
+        if (parts == null) {
+            final List<T> elements = Operators.<T>toList(iterator);
+            parts = Parallel.split(new LazyIterator<T>(elements), parallelism);
+        }
+
+        final int count = parts.size();
+        final Object[] containers = new Object[count];
+        final Runnable[] tasks = new Runnable[count];
+        final Supplier<A> supplier = collector.supplier();
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        for (int i = 0; i < count; i++) {
+            final int part = i;
+            final Iterator<T> partIterator = parts.get(i);
+            tasks[i] = new Runnable() {
+                @Override
+                public void run() {
+                    final A container = supplier.get();
+                    while (partIterator.hasNext()) {
+                        accumulator.accept(container, partIterator.next());
+                    }
+                    containers[part] = container;
+                }
+            };
+        }
+        Parallel.invokeAll(tasks);
+
+        // Merge partial results in encounter order
+        A result = (A) containers[0];
+        for (int i = 1; i < count; i++) {
+            result = combiner.apply(result, (A) containers[i]);
+        }
+        return collector.finisher().apply(result);
+    }
+
+    /**
+     * Fills an array of the reported size.
+     * If the source produces more elements, they are moved to a {@link SpinedBuffer},
+     * if fewer, the array is trimmed.
+     */
+    private static final class ArrayFiller<T> implements Consumer<T> {
+
+        private final T[] array;
+        private SpinedBuffer.Of<T> overflow;
+        private int index;
+
+        ArrayFiller(@NotNull T[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public void accept(T value) {
+            if (index < array.length) {
+                array[index++] = value;
+                return;
+            }
+            if (overflow == null) {
+                overflow = new SpinedBuffer.Of<T>();
+                for (T element : array) {
+                    overflow.accept(element);
+                }
+            }
+            overflow.accept(value);
+        }
+
+        @NotNull
+        T[] toArray(@NotNull IntFunction<T[]> generator) {
+            if (overflow != null) {
+                return overflow.asArray(generator);
+            }
+            if (index == array.length) {
+                return array;
+            }
+            final T[] result = generator.apply(index);
+            System.arraycopy(array, 0, result, 0, index);
+            return result;
+        }
+    }
+
+    private static final class IntArrayFiller implements IntConsumer {
+
+        private final int[] array;
+        private SpinedBuffer.OfInt overflow;
+        private int index;
+
+        IntArrayFiller(int size) {
+            array = new int[size];
+        }
+
+        @Override
+        public void accept(int value) {
+            if (index < array.length) {
+                array[index++] = value;
+                return;
+            }
+            if (overflow == null) {
+                overflow = new SpinedBuffer.OfInt();
+                for (int element : array) {
+                    overflow.accept(element);
+                }
+            }
+            overflow.accept(value);
+        }
+
+        @NotNull
+        int[] toArray() {
+            if (overflow != null) {
+                return overflow.asPrimitiveArray();
+            }
+            return (index == array.length) ? array : Arrays.copyOf(array, index);
+        }
+    }
+
+    private static final class LongArrayFiller implements LongConsumer {
+
+        private final long[] array;
+        private SpinedBuffer.OfLong overflow;
+        private int index;
+
+        LongArrayFiller(int size) {
+            array = new long[size];
+        }
+
+        @Override
+        public void accept(long value) {
+            if (index < array.length) {
+                array[index++] = value;
+                return;
+            }
+            if (overflow == null) {
+                overflow = new SpinedBuffer.OfLong();
+                for (long element : array) {
+                    overflow.accept(element);
+                }
+            }
+            overflow.accept(value);
+        }
+
+        @NotNull
+        long[] toArray() {
+            if (overflow != null) {
+                return overflow.asPrimitiveArray();
+            }
+            return (index == array.length) ? array : Arrays.copyOf(array, index);
+        }
+    }
+
+    private static final class DoubleArrayFiller implements DoubleConsumer {
+
+        private final double[] array;
+        private SpinedBuffer.OfDouble overflow;
+        private int index;
+
+        DoubleArrayFiller(int size) {
+            array = new double[size];
+        }
+
+        @Override
+        public void accept(double value) {
+            if (index < array.length) {
+                array[index++] = value;
+                return;
+            }
+            if (overflow == null) {
+                overflow = new SpinedBuffer.OfDouble();
+                for (double element : array) {
+                    overflow.accept(element);
+                }
+            }
+            overflow.accept(value);
+        }
+
+        @NotNull
+        double[] toArray() {
+            if (overflow != null) {
+                return overflow.asPrimitiveArray();
+            }
+            return (index == array.length) ? array : Arrays.copyOf(array, index);
+        }
+    }
 }
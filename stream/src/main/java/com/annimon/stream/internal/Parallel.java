@@ -0,0 +1,124 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.iterator.SplittableIterator;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs tasks on plain threads, so it works on Java 6 and Android.
+ */
+public final class Parallel {
+
+    private Parallel() { }
+
+    /**
+     * Runs all tasks concurrently and waits for their completion.
+     * The last task is executed in the calling thread.
+     * If any task fails, the first thrown exception is rethrown
+     * after all tasks are finished.
+     *
+     * @param tasks  the tasks to run
+     */
+    public static void invokeAll(@NotNull Runnable[] tasks) {
+        final int count = tasks.length;
+        if (count == 0) return;
+
+        final Throwable[] errors = new Throwable[count];
+        final Thread[] threads = new Thread[count - 1];
+        for (int i = 0; i < count - 1; i++) {
+            threads[i] = new Thread(guarded(tasks[i], errors, i), "lsa-parallel-" + i);
+            threads[i].start();
+        }
+        guarded(tasks[count - 1], errors, count - 1).run();
+
+        boolean interrupted = false;
+        for (Thread thread : threads) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    // Workers use the shared state, so always wait for them
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (Throwable error : errors) {
+            if (error != null) {
+                rethrow(error);
+            }
+        }
+    }
+
+    /**
+     * Splits the source into at most {@code parts} iterators.
+     * The largest part is split first, the encounter order is preserved.
+     *
+     * @param <T> the type of the elements
+     * @param source  the source iterator
+     * @param parts  the maximum number of parts
+     * @return the list of disjoint iterators in encounter order
+     */
+    @NotNull
+    public static <T> List<SplittableIterator<T>> split(
+            @NotNull SplittableIterator<T> source, int parts) {
+        final List<SplittableIterator<T>> result = new ArrayList<SplittableIterator<T>>(parts);
+        final List<Boolean> splittable = new ArrayList<Boolean>(parts);
+        result.add(source);
+        splittable.add(Boolean.TRUE);
+        while (result.size() < parts) {
+            int largest = -1;
+            long largestSize = -1;
+            for (int i = 0; i < result.size(); i++) {
+                if (!splittable.get(i)) continue;
+                long size = result.get(i).remaining();
+                if (size < 0) size = Long.MAX_VALUE;
+                if (size > largestSize) {
+                    largest = i;
+                    largestSize = size;
+                }
+            }
+            if (largest == -1) break;
+
+            final SplittableIterator<T> prefix = result.get(largest).trySplit();
+            if (prefix == null) {
+                splittable.set(largest, Boolean.FALSE);
+            } else {
+                result.add(largest, prefix);
+                splittable.add(largest, Boolean.TRUE);
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    private static Runnable guarded(final Runnable task, final Throwable[] errors, final int index) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    errors[index] = e;
+                }
+            }
+        };
+    }
+
+    private static void rethrow(Throwable e) {
+        // Errors and runtime exceptions are thrown as is
+        // Checked exceptions are wrapped in RuntimeException
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        } else {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.LongComparator;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stable merge sort on plain threads, so it works on Java 6 and Android.
+ * The array is split into contiguous parts, which are sorted concurrently
+ * and then merged pairwise, each level of merges is also concurrent.
+ * Equal elements are kept in their original order.
+ */
+public final class ParallelSort {
+
+    /**
+     * The minimal number of elements for a single task.
+     */
+    static final int MIN_PART_SIZE = 1 << 13;
+
+    private ParallelSort() { }
+
+    @SuppressWarnings("unchecked")
+    public static <T> void sort(@NotNull T[] array, @Nullable Comparator<? super T> comparator,
+                                int parallelism) {
+        final Comparator<Object> c;
+        if (comparator != null) {
+            c = (Comparator<Object>) comparator;
+        } else {
+            c = new Comparator<Object>() {
+                @Override
+                public int compare(Object o1, Object o2) {
+                    return ((Comparable<Object>) o1).compareTo(o2);
+                }
+            };
+        }
+        run(new ObjSorter(array, c), array.length, parallelism);
+    }
+
+    public static void sort(@NotNull int[] array, @Nullable IntComparator comparator,
+                            int parallelism) {
+        run(new IntSorter(array, comparator), array.length, parallelism);
+    }
+
+    public static void sort(@NotNull long[] array, @Nullable LongComparator comparator,
+                            int parallelism) {
+        run(new LongSorter(array, comparator), array.length, parallelism);
+    }
+
+    public static void sort(@NotNull double[] array, @Nullable DoubleComparator comparator,
+                            int parallelism) {
+        run(new DoubleSorter(array, comparator), array.length, parallelism);
+    }
+
+    private static void run(final Sorter sorter, int length, int parallelism) {
+        final int parts = Math.max(1, Math.min(parallelism, length / MIN_PART_SIZE));
+        if (parts == 1) {
+            sorter.sort(0, length);
+            return;
+        }
+
+        int[] bounds = new int[parts + 1];
+        for (int i = 0; i <= parts; i++) {
+            bounds[i] = (int) ((long) length * i / parts);
+        }
+        final Runnable[] tasks = new Runnable[parts];
+        for (int i = 0; i < parts; i++) {
+            final int from = bounds[i];
+            final int to = bounds[i + 1];
+            tasks[i] = new Runnable() {
+                @Override
+                public void run() {
+                    sorter.sort(from, to);
+                }
+            };
+        }
+        Parallel.invokeAll(tasks);
+
+        // Merges adjacent runs, switching between the array and the buffer
+        sorter.allocateBuffer();
+        boolean fromBuffer = false;
+        while (bounds.length > 2) {
+            final int runs = bounds.length - 1;
+            final int merged = (runs + 1) / 2;
+            final int[] newBounds = new int[merged + 1];
+            final Runnable[] merges = new Runnable[merged];
+            final boolean src = fromBuffer;
+            for (int i = 0; i < merged; i++) {
+                final int from = bounds[2 * i];
+                final int mid = bounds[Math.min(2 * i + 1, runs)];
+                final int to = bounds[Math.min(2 * i + 2, runs)];
+                newBounds[i] = from;
+                merges[i] = new Runnable() {
+                    @Override
+                    public void run() {
+                        sorter.merge(src, from, mid, to);
+                    }
+                };
+            }
+            newBounds[merged] = length;
+            Parallel.invokeAll(merges);
+            bounds = newBounds;
+            fromBuffer = !fromBuffer;
+        }
+        if (fromBuffer) {
+            sorter.copyFromBuffer();
+        }
+    }
+
+    private interface Sorter {
+
+        void sort(int from, int to);
+
+        /**
+         * Merges sorted ranges {@code [from, mid)} and {@code [mid, to)}
+         * from the array to the buffer or vice versa.
+         */
+        void merge(boolean fromBuffer, int from, int mid, int to);
+
+        void allocateBuffer();
+
+        void copyFromBuffer();
+    }
+
+    private static final class ObjSorter implements Sorter {
+
+        private final Object[] array;
+        private Object[] buffer;
+        private final Comparator<Object> comparator;
+
+        ObjSorter(Object[] array, Comparator<Object> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void sort(int from, int to) {
+            Arrays.sort(array, from, to, comparator);
+        }
+
+        @Override
+        public void merge(boolean fromBuffer, int from, int mid, int to) {
+            final Object[] src = fromBuffer ? buffer : array;
+            final Object[] dst = fromBuffer ? array : buffer;
+            int i = from;
+            int j = mid;
+            int k = from;
+            while (i < mid && j < to) {
+                // Takes the left element on ties, which keeps the sort stable
+                dst[k++] = (comparator.compare(src[j], src[i]) < 0) ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, mid - i);
+            System.arraycopy(src, j, dst, k + mid - i, to - j);
+        }
+
+        @Override
+        public void allocateBuffer() {
+            buffer = new Object[array.length];
+        }
+
+        @Override
+        public void copyFromBuffer() {
+            System.arraycopy(buffer, 0, array, 0, array.length);
+        }
+    }
+
+    private static final class IntSorter implements Sorter {
+
+        private final int[] array;
+        private int[] buffer;
+        private final IntComparator comparator;
+
+        IntSorter(int[] array, IntComparator comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void sort(int from, int to) {
+            if (comparator == null) {
+                Arrays.sort(array, from, to);
+                return;
+            }
+            final int[] part = Arrays.copyOfRange(array, from, to);
+            PrimitiveSort.sort(part, comparator);
+            System.arraycopy(part, 0, array, from, part.length);
+        }
+
+        @Override
+        public void merge(boolean fromBuffer, int from, int mid, int to) {
+            final int[] src = fromBuffer ? buffer : array;
+            final int[] dst = fromBuffer ? array : buffer;
+            int i = from;
+            int j = mid;
+            int k = from;
+            while (i < mid && j < to) {
+                final boolean less = (comparator == null)
+                        ? src[j] < src[i]
+                        : comparator.compare(src[j], src[i]) < 0;
+                dst[k++] = less ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, mid - i);
+            System.arraycopy(src, j, dst, k + mid - i, to - j);
+        }
+
+        @Override
+        public void allocateBuffer() {
+            buffer = new int[array.length];
+        }
+
+        @Override
+        public void copyFromBuffer() {
+            System.arraycopy(buffer, 0, array, 0, array.length);
+        }
+    }
+
+    private static final class LongSorter implements Sorter {
+
+        private final long[] array;
+        private long[] buffer;
+        private final LongComparator comparator;
+
+        LongSorter(long[] array, LongComparator comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void sort(int from, int to) {
+            if (comparator == null) {
+                Arrays.sort(array, from, to);
+                return;
+            }
+            final long[] part = Arrays.copyOfRange(array, from, to);
+            PrimitiveSort.sort(part, comparator);
+            System.arraycopy(part, 0, array, from, part.length);
+        }
+
+        @Override
+        public void merge(boolean fromBuffer, int from, int mid, int to) {
+            final long[] src = fromBuffer ? buffer : array;
+            final long[] dst = fromBuffer ? array : buffer;
+            int i = from;
+            int j = mid;
+            int k = from;
+            while (i < mid && j < to) {
+                final boolean less = (comparator == null)
+                        ? src[j] < src[i]
+                        : comparator.compare(src[j], src[i]) < 0;
+                dst[k++] = less ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, mid - i);
+            System.arraycopy(src, j, dst, k + mid - i, to - j);
+        }
+
+        @Override
+        public void allocateBuffer() {
+            buffer = new long[array.length];
+        }
+
+        @Override
+        public void copyFromBuffer() {
+            System.arraycopy(buffer, 0, array, 0, array.length);
+        }
+    }
+
+    private static final class DoubleSorter implements Sorter {
+
+        private final double[] array;
+        private double[] buffer;
+        private final DoubleComparator comparator;
+
+        DoubleSorter(double[] array, DoubleComparator comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public void sort(int from, int to) {
+            if (comparator == null) {
+                Arrays.sort(array, from, to);
+                return;
+            }
+            final double[] part = Arrays.copyOfRange(array, from, to);
+            PrimitiveSort.sort(part, comparator);
+            System.arraycopy(part, 0, array, from, part.length);
+        }
+
+        @Override
+        public void merge(boolean fromBuffer, int from, int mid, int to) {
+            final double[] src = fromBuffer ? buffer : array;
+            final double[] dst = fromBuffer ? array : buffer;
+            int i = from;
+            int j = mid;
+            int k = from;
+            while (i < mid && j < to) {
+                // Double.compare orders -0.0 and NaN as Arrays.sort does
+                final boolean less = (comparator == null)
+                        ? Double.compare(src[j], src[i]) < 0
+                        : comparator.compare(src[j], src[i]) < 0;
+                dst[k++] = less ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, mid - i);
+            System.arraycopy(src, j, dst, k + mid - i, to - j);
+        }
+
+        @Override
+        public void allocateBuffer() {
+            buffer = new double[array.length];
+        }
+
+        @Override
+        public void copyFromBuffer() {
+            System.arraycopy(buffer, 0, array, 0, array.length);
+        }
+    }
+}
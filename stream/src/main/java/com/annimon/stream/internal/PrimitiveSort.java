@@ -0,0 +1,120 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.LongComparator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stable sorting of primitive arrays with a custom comparator.
+ * Uses merge sort with insertion sort for small ranges.
+ */
+public final class PrimitiveSort {
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private PrimitiveSort() { }
+
+    public static void sort(@NotNull int[] array, @NotNull final IntComparator comparator) {
+        if (array.length < 2) return;
+        mergeSort(array.clone(), array, 0, array.length, new ArrayAccess<int[]>() {
+            @Override
+            int compare(int[] left, int i, int[] right, int j) {
+                return comparator.compare(left[i], right[j]);
+            }
+
+            @Override
+            void copy(int[] src, int i, int[] dst, int j) {
+                dst[j] = src[i];
+            }
+        });
+    }
+
+    public static void sort(@NotNull long[] array, @NotNull final LongComparator comparator) {
+        if (array.length < 2) return;
+        mergeSort(array.clone(), array, 0, array.length, new ArrayAccess<long[]>() {
+            @Override
+            int compare(long[] left, int i, long[] right, int j) {
+                return comparator.compare(left[i], right[j]);
+            }
+
+            @Override
+            void copy(long[] src, int i, long[] dst, int j) {
+                dst[j] = src[i];
+            }
+        });
+    }
+
+    public static void sort(@NotNull double[] array, @NotNull final DoubleComparator comparator) {
+        if (array.length < 2) return;
+        mergeSort(array.clone(), array, 0, array.length, new ArrayAccess<double[]>() {
+            @Override
+            int compare(double[] left, int i, double[] right, int j) {
+                return comparator.compare(left[i], right[j]);
+            }
+
+            @Override
+            void copy(double[] src, int i, double[] dst, int j) {
+                dst[j] = src[i];
+            }
+        });
+    }
+
+    /**
+     * Element access to a primitive array type,
+     * so that the sorting algorithm is written once for all of them.
+     *
+     * @param <A> the type of the array
+     */
+    private abstract static class ArrayAccess<A> {
+
+        abstract int compare(A left, int i, A right, int j);
+
+        abstract void copy(A src, int i, A dst, int j);
+    }
+
+    /**
+     * Sorts {@code dst[from, to)}, {@code src} holds the same elements and is used as a buffer.
+     */
+    private static <A> void mergeSort(A src, A dst, int from, int to, ArrayAccess<A> access) {
+        final int length = to - from;
+        if (length <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(src, dst, from, to, access);
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        // Sort halves into src, then merge them back to dst
+        mergeSort(dst, src, from, mid, access);
+        mergeSort(dst, src, mid, to, access);
+
+        if (access.compare(src, mid - 1, src, mid) <= 0) {
+            // Already ordered
+            System.arraycopy(src, from, dst, from, length);
+            return;
+        }
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && access.compare(src, left, src, right) <= 0)) {
+                access.copy(src, left++, dst, i);
+            } else {
+                access.copy(src, right++, dst, i);
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code dst[from, to)} by inserting elements of {@code src},
+     * which holds the same elements in the same order in this range.
+     */
+    private static <A> void insertionSort(A src, A dst, int from, int to, ArrayAccess<A> access) {
+        for (int i = from + 1; i < to; i++) {
+            int j = i - 1;
+            while (j >= from && access.compare(dst, j, src, i) > 0) {
+                access.copy(dst, j, dst, j + 1);
+                j--;
+            }
+            access.copy(src, i, dst, j + 1);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.annimon.stream.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * LSD radix sort of primitive arrays in the natural order.
+ * Sorts by 8-bit digits, the passes where all keys have the same digit are skipped.
+ * Doubles are ordered as {@link Double#compare(double, double)} does.
+ */
+public final class RadixSort {
+
+    /**
+     * The array length from which the radix sort is faster than the comparison sort.
+     */
+    public static final int THRESHOLD = 1 << 14;
+
+    private static final int RADIX = 256;
+    private static final int MASK = RADIX - 1;
+
+    private RadixSort() { }
+
+    public static void sort(@NotNull int[] array) {
+        final int length = array.length;
+        if (length < 2) return;
+
+        // The sign bit is flipped, so the keys are ordered as unsigned values
+        final int[][] counts = new int[4][RADIX];
+        for (int value : array) {
+            final int key = value ^ Integer.MIN_VALUE;
+            counts[0][key & MASK]++;
+            counts[1][(key >>> 8) & MASK]++;
+            counts[2][(key >>> 16) & MASK]++;
+            counts[3][key >>> 24]++;
+        }
+
+        int[] src = array;
+        int[] dst = new int[length];
+        for (int pass = 0; pass < 4; pass++) {
+            final int[] count = counts[pass];
+            final int shift = pass * 8;
+            // All keys have the same digit, so the pass does not change the order
+            if (count[((src[0] ^ Integer.MIN_VALUE) >>> shift) & MASK] == length) continue;
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                final int value = src[i];
+                dst[count[((value ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = value;
+            }
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, length);
+        }
+    }
+
+    public static void sort(@NotNull long[] array) {
+        final int length = array.length;
+        if (length < 2) return;
+        for (int i = 0; i < length; i++) {
+            array[i] ^= Long.MIN_VALUE;
+        }
+        sortUnsigned(array);
+        for (int i = 0; i < length; i++) {
+            array[i] ^= Long.MIN_VALUE;
+        }
+    }
+
+    public static void sort(@NotNull double[] array) {
+        final int length = array.length;
+        if (length < 2) return;
+        final long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            // Negative values have all bits flipped, positive values only the sign bit
+            final long bits = Double.doubleToLongBits(array[i]);
+            keys[i] = (bits < 0) ? ~bits : (bits ^ Long.MIN_VALUE);
+        }
+        sortUnsigned(keys);
+        for (int i = 0; i < length; i++) {
+            final long key = keys[i];
+            array[i] = Double.longBitsToDouble((key < 0) ? (key ^ Long.MIN_VALUE) : ~key);
+        }
+    }
+
+    private static void sortUnsigned(long[] array) {
+        final int length = array.length;
+        final int[][] counts = new int[8][RADIX];
+        for (long key : array) {
+            for (int pass = 0; pass < 8; pass++) {
+                counts[pass][(int) (key >>> (pass * 8)) & MASK]++;
+            }
+        }
+
+        long[] src = array;
+        long[] dst = new long[length];
+        for (int pass = 0; pass < 8; pass++) {
+            final int[] count = counts[pass];
+            final int shift = pass * 8;
+            if (count[(int) (src[0] >>> shift) & MASK] == length) continue;
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                final long key = src[i];
+                dst[count[(int) (key >>> shift) & MASK]++] = key;
+            }
+            final long[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, length);
+        }
+    }
+
+    private static void toOffsets(int[] count) {
+        int offset = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            final int c = count[digit];
+            count[digit] = offset;
+            offset += c;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.UncheckedIOException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Temporary files with sorted runs for external sorting.
+ * Each run starts with the number of elements it contains.
+ *
+ * <p>Runs are kept in creation order. Opened runs are taken from the head of the queue,
+ * so merging them into a new run, which is appended to the tail, keeps the order
+ * after a full pass.
+ */
+public final class SortRuns implements Closeable {
+
+    /**
+     * The maximum number of runs to be merged at once.
+     */
+    public static final int MAX_FAN_IN = 64;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<File> files = new ArrayList<File>();
+    private final List<File> openedFiles = new ArrayList<File>();
+    private final List<DataInputStream> inputs = new ArrayList<DataInputStream>();
+
+    /**
+     * Creates a new run file at the tail of the queue.
+     *
+     * @param count  the number of elements to be written
+     * @return the output to write elements to, must be closed by the caller
+     * @throws UncheckedIOException if the file cannot be created
+     */
+    @NotNull
+    public DataOutputStream create(long count) {
+        try {
+            final File file = File.createTempFile("lsa-sort", ".run");
+            files.add(file);
+            final DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+            output.writeLong(count);
+            return output;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Cannot create a sorted run file", e);
+        }
+    }
+
+    /**
+     * Returns the number of runs, which are not opened yet.
+     *
+     * @return the number of runs
+     */
+    public int size() {
+        return files.size();
+    }
+
+    /**
+     * Takes {@code count} runs from the head of the queue and opens them for reading.
+     * Previously opened runs must be released first.
+     * The buffer size is decreased for a large number of runs.
+     *
+     * @param count  the number of runs to open, at most {@link #MAX_FAN_IN}
+     * @return the inputs positioned before the element counts
+     * @throws UncheckedIOException if a file cannot be opened
+     */
+    @NotNull
+    public DataInputStream[] open(int count) {
+        final int bufferSize = Math.max(4096, Math.min(BUFFER_SIZE, (16 << 20) / Math.max(1, count)));
+        final List<File> head = files.subList(0, count);
+        openedFiles.addAll(head);
+        head.clear();
+        try {
+            for (File file : openedFiles) {
+                inputs.add(new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(file), bufferSize)));
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Cannot open a sorted run file", e);
+        }
+        return inputs.toArray(new DataInputStream[count]);
+    }
+
+    /**
+     * Closes the opened runs and deletes their files.
+     */
+    public void release() {
+        for (DataInputStream input : inputs) {
+            closeQuietly(input);
+        }
+        inputs.clear();
+        delete(openedFiles);
+    }
+
+    /**
+     * Closes the given stream after an I/O error, ignoring further errors.
+     *
+     * @param closeable  the stream to close
+     */
+    public static void closeQuietly(@NotNull Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Closes all inputs and deletes all temporary files.
+     */
+    @Override
+    public void close() {
+        release();
+        delete(files);
+    }
+
+    private static void delete(List<File> files) {
+        for (File file : files) {
+            file.delete();
+        }
+        files.clear();
+    }
+}
@@ -0,0 +1,200 @@
+package com.annimon.stream.internal;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Space-Saving sketch for finding the most frequent keys with a bounded number of counters.
+ *
+ * <p>When all counters are taken, the key with the minimum count is evicted and the new key
+ * inherits its count. So for {@code n} added keys and {@code capacity} counters:
+ * <ul>
+ *   <li>each estimated count is not less than the true count
+ *       and overestimates it by at most {@code n / capacity};</li>
+ *   <li>every key that occurs more than {@code n / capacity} times is kept.</li>
+ * </ul>
+ *
+ * <p>Counters are ordered in a min-heap, so each update takes {@code O(log capacity)}.
+ * Sketches of the same capacity can be merged, the bounds then hold for the total
+ * number of keys added to both sketches.
+ *
+ * @param <K> the type of the keys
+ */
+public final class SpaceSaving<K> {
+
+    private static final Comparator<Counter<?>> COUNT_DESCENDING = new Comparator<Counter<?>>() {
+        @Override
+        public int compare(Counter<?> c1, Counter<?> c2) {
+            return c1.count != c2.count
+                    ? (c1.count > c2.count ? -1 : 1)
+                    : (c1.error < c2.error ? -1 : (c1.error > c2.error ? 1 : 0));
+        }
+    };
+
+    private final Map<K, Counter<K>> counters;
+    private final Counter<?>[] heap;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        counters = new HashMap<K, Counter<K>>(Math.min(capacity, 1 << 16));
+        heap = new Counter<?>[capacity];
+    }
+
+    /**
+     * Counts an occurrence of the key.
+     *
+     * @param key  the key
+     */
+    public void add(@Nullable K key) {
+        final Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.index);
+            return;
+        }
+        if (size < heap.length) {
+            final Counter<K> created = new Counter<K>(key, size);
+            created.count = 1;
+            heap[size++] = created;
+            counters.put(key, created);
+            siftUp(created.index);
+            return;
+        }
+        // Replace the key with the minimum count
+        @SuppressWarnings("unchecked")
+        final Counter<K> min = (Counter<K>) heap[0];
+        counters.remove(min.key);
+        min.key = key;
+        min.error = min.count;
+        min.count++;
+        counters.put(key, min);
+        siftDown(0);
+    }
+
+    /**
+     * Returns keys with estimated counts in descending order of counts.
+     *
+     * @param limit  the maximum number of keys to return
+     * @return the list of key and estimated count entries
+     */
+    @NotNull
+    public List<Map.Entry<K, Long>> top(int limit) {
+        final Counter<?>[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted, COUNT_DESCENDING);
+        final int count = Math.min(limit, size);
+        final List<Map.Entry<K, Long>> result = new ArrayList<Map.Entry<K, Long>>(count);
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            final Counter<K> counter = (Counter<K>) sorted[i];
+            result.add(new AbstractMap.SimpleImmutableEntry<K, Long>(counter.key, counter.count));
+        }
+        return result;
+    }
+
+    /**
+     * Merges another sketch into this one.
+     *
+     * <p>A key missing from a full sketch may have occurred there up to its minimum count
+     * times, so that count is added to the key's count and error. Then the counters with
+     * the largest counts are kept.
+     *
+     * @param other  the sketch to merge
+     * @throws IllegalArgumentException if sketches have different capacities
+     */
+    public void merge(@NotNull SpaceSaving<K> other) {
+        if (other.heap.length != heap.length) {
+            throw new IllegalArgumentException("Cannot merge sketches with different capacities");
+        }
+        final long thisMin = minCount();
+        final long otherMin = other.minCount();
+        final List<Counter<K>> merged = new ArrayList<Counter<K>>(size + other.size);
+        for (int i = 0; i < size; i++) {
+            final Counter<K> counter = counter(i);
+            final Counter<K> match = other.counters.get(counter.key);
+            counter.count += (match != null) ? match.count : otherMin;
+            counter.error += (match != null) ? match.error : otherMin;
+            merged.add(counter);
+        }
+        for (int i = 0; i < other.size; i++) {
+            final Counter<K> counter = other.counter(i);
+            if (counters.containsKey(counter.key)) continue;
+            final Counter<K> created = new Counter<K>(counter.key, 0);
+            created.count = counter.count + thisMin;
+            created.error = counter.error + thisMin;
+            merged.add(created);
+        }
+        Collections.sort(merged, COUNT_DESCENDING);
+
+        counters.clear();
+        size = Math.min(heap.length, merged.size());
+        // Counters in ascending order of counts form a valid min-heap
+        for (int i = 0; i < size; i++) {
+            final Counter<K> counter = merged.get(size - 1 - i);
+            place(counter, i);
+            counters.put(counter.key, counter);
+        }
+    }
+
+    private long minCount() {
+        return (size == heap.length) ? heap[0].count : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Counter<K> counter(int index) {
+        return (Counter<K>) heap[index];
+    }
+
+    private void siftUp(int index) {
+        final Counter<?> counter = heap[index];
+        int i = index;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (heap[parent].count <= counter.count) break;
+            place(heap[parent], i);
+            i = parent;
+        }
+        place(counter, i);
+    }
+
+    private void siftDown(int index) {
+        final Counter<?> counter = heap[index];
+        int i = index;
+        final int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            final int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) break;
+            place(heap[child], i);
+            i = child;
+        }
+        place(counter, i);
+    }
+
+    private void place(Counter<?> counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter<K> {
+        K key;
+        long count;
+        long error;
+        int index;
+
+        Counter(K key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+}
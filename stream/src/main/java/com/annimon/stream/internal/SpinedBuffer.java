@@ -354,7 +354,7 @@ public abstract class SpinedBuffer<E, T_ARR> implements Iterable<E> {
 
                 @Override
                 public int nextInt() {
-                    return get(index++);
+                    return OfInt.this.get(index++);
                 }
 
                 @Override
@@ -410,7 +410,7 @@ public abstract class SpinedBuffer<E, T_ARR> implements Iterable<E> {
 
                 @Override
                 public long nextLong() {
-                    return get(index++);
+                    return OfLong.this.get(index++);
                 }
 
                 @Override
@@ -466,7 +466,7 @@ public abstract class SpinedBuffer<E, T_ARR> implements Iterable<E> {
 
                 @Override
                 public double nextDouble() {
-                    return get(index++);
+                    return OfDouble.this.get(index++);
                 }
 
                 @Override
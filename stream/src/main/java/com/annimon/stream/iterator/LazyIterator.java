@@ -1,18 +1,31 @@
 package com.annimon.stream.iterator;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Lazily gets {@code Iterator} from the given {@link Iterable}.
  *
+ * <p>If the iterable is a {@link Collection}, the number of remaining elements is known.
+ * Random access lists can be split and accessed by index until the iteration is started.
+ * Collections from {@code java.util.concurrent} can change their size while being iterated,
+ * so they are treated as plain iterables.
+ *
  * @param <T> the type of the elements
  */
-public class LazyIterator<T> implements Iterator<T> {
-    private final Iterable<? extends T> iterable;
+public class LazyIterator<T> implements SplittableIterator<T>, RandomAccessIterator<T> {
+    private Iterable<? extends T> iterable;
     private Iterator<? extends T> iterator;
+    private int consumed;
+    private final boolean sized;
 
     public LazyIterator(Iterable<? extends T> iterable) {
         this.iterable = iterable;
+        this.sized = (iterable instanceof Collection)
+                && !iterable.getClass().getName().startsWith("java.util.concurrent.");
     }
 
     private void ensureIterator() {
@@ -32,12 +45,95 @@ public class LazyIterator<T> implements Iterator<T> {
     @Override
     public T next() {
         ensureIterator();
-        return iterator.next();
+        final T result = iterator.next();
+        consumed++;
+        return result;
     }
 
     @Override
     public void remove() {
         ensureIterator();
         iterator.remove();
+        // Collection size is decreased, but the remaining count is not changed
+        consumed--;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.2.3
+     */
+    @Override
+    public long remaining() {
+        if (sized) {
+            return Math.max(0, ((Collection<? extends T>) iterable).size() - consumed);
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only random access lists, which iteration is not started yet, can be split.
+     *
+     * @since 1.2.3
+     */
+    @Nullable
+    @Override
+    public LazyIterator<T> trySplit() {
+        if (!isRandomAccess()) {
+            return null;
+        }
+        final List<? extends T> list = (List<? extends T>) iterable;
+        final int size = list.size();
+        final int mid = size >>> 1;
+        if (mid == 0) return null;
+        final LazyIterator<T> prefix = new LazyIterator<T>(list.subList(0, mid));
+        iterable = list.subList(mid, size);
+        return prefix;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only random access lists, which iteration is not started yet, support random access.
+     *
+     * @since 1.2.3
+     */
+    @Override
+    public boolean isRandomAccess() {
+        return iterator == null
+                && sized
+                && (iterable instanceof List)
+                && (iterable instanceof RandomAccess);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.2.3
+     */
+    @Override
+    public T get(long offset) {
+        // Counts from the current position, even if some elements are already consumed
+        return ((List<? extends T>) iterable).get((int) (consumed + offset));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.2.3
+     */
+    @Override
+    public void skip(long n) {
+        if (isRandomAccess()) {
+            final List<? extends T> list = (List<? extends T>) iterable;
+            final int size = list.size();
+            iterable = list.subList((int) Math.min(n, size), size);
+            return;
+        }
+        for (long i = 0; i < n && hasNext(); i++) {
+            next();
+        }
     }
 }
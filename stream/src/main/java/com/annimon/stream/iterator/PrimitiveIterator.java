@@ -1,6 +1,10 @@
 package com.annimon.stream.iterator;
 
+import com.annimon.stream.function.DoubleConsumer;
+import com.annimon.stream.function.IntConsumer;
+import com.annimon.stream.function.LongConsumer;
 import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * A base type for primitive specializations of {@link Iterator}.
@@ -11,10 +15,35 @@ public final class PrimitiveIterator {
 
     private PrimitiveIterator() { }
 
-    public abstract static class OfInt implements Iterator<Integer> {
+    public abstract static class OfInt implements SizedIterator<Integer> {
 
         public abstract int nextInt();
 
+        /**
+         * Performs the given action for each remaining element.
+         * Operators may override it to push elements in a single loop.
+         *
+         * @param action  the action to be performed for each element
+         * @since 1.2.3
+         */
+        public void pushRemaining(@NotNull IntConsumer action) {
+            while (hasNext()) {
+                action.accept(nextInt());
+            }
+        }
+
+        /**
+         * Returns the exact number of remaining elements.
+         * Returns {@code -1} by default, operators that know their size override it.
+         *
+         * @return the number of remaining elements, or {@code -1} if it is unknown
+         * @since 1.2.3
+         */
+        @Override
+        public long remaining() {
+            return -1;
+        }
+
         @Override
         public Integer next() {
             return nextInt();
@@ -26,10 +55,35 @@ public final class PrimitiveIterator {
         }
     }
 
-    public abstract static class OfLong implements Iterator<Long> {
+    public abstract static class OfLong implements SizedIterator<Long> {
 
         public abstract long nextLong();
 
+        /**
+         * Performs the given action for each remaining element.
+         * Operators may override it to push elements in a single loop.
+         *
+         * @param action  the action to be performed for each element
+         * @since 1.2.3
+         */
+        public void pushRemaining(@NotNull LongConsumer action) {
+            while (hasNext()) {
+                action.accept(nextLong());
+            }
+        }
+
+        /**
+         * Returns the exact number of remaining elements.
+         * Returns {@code -1} by default, operators that know their size override it.
+         *
+         * @return the number of remaining elements, or {@code -1} if it is unknown
+         * @since 1.2.3
+         */
+        @Override
+        public long remaining() {
+            return -1;
+        }
+
         @Override
         public Long next() {
             return nextLong();
@@ -41,10 +95,35 @@ public final class PrimitiveIterator {
         }
     }
 
-    public abstract static class OfDouble implements Iterator<Double> {
+    public abstract static class OfDouble implements SizedIterator<Double> {
 
         public abstract double nextDouble();
 
+        /**
+         * Performs the given action for each remaining element.
+         * Operators may override it to push elements in a single loop.
+         *
+         * @param action  the action to be performed for each element
+         * @since 1.2.3
+         */
+        public void pushRemaining(@NotNull DoubleConsumer action) {
+            while (hasNext()) {
+                action.accept(nextDouble());
+            }
+        }
+
+        /**
+         * Returns the exact number of remaining elements.
+         * Returns {@code -1} by default, operators that know their size override it.
+         *
+         * @return the number of remaining elements, or {@code -1} if it is unknown
+         * @since 1.2.3
+         */
+        @Override
+        public long remaining() {
+            return -1;
+        }
+
         @Override
         public Double next() {
             return nextDouble();
@@ -0,0 +1,25 @@
+package com.annimon.stream.iterator;
+
+import com.annimon.stream.function.Consumer;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Iterator that can push all remaining elements to a consumer in a single loop,
+ * avoiding {@code hasNext()}/{@code next()} calls on every element.
+ *
+ * @param <T> the type of the elements
+ * @since 1.2.3
+ */
+public interface PushIterator<T> extends Iterator<T> {
+
+    /**
+     * Performs the given action for each remaining element.
+     * After the call the iterator is exhausted.
+     * The name differs from {@code forEachRemaining}, so that calls with lambdas
+     * stay unambiguous on Java 8 and newer.
+     *
+     * @param action  the action to be performed for each element
+     */
+    void pushRemaining(@NotNull Consumer<? super T> action);
+}
@@ -0,0 +1,37 @@
+package com.annimon.stream.iterator;
+
+/**
+ * Iterator which remaining elements can be accessed by index.
+ *
+ * <p>Index-based methods are only valid while {@link #isRandomAccess()} returns {@code true},
+ * in that case {@link #remaining()} returns the exact number of remaining elements.
+ *
+ * @param <T> the type of the elements
+ * @since 1.2.3
+ */
+public interface RandomAccessIterator<T> extends SizedIterator<T> {
+
+    /**
+     * Checks whether the remaining elements can be accessed by index.
+     *
+     * @return {@code true} if {@link #get(long)} is supported
+     */
+    boolean isRandomAccess();
+
+    /**
+     * Returns the element at the given offset from the current position.
+     * The position is not changed.
+     *
+     * @param offset  the offset, from {@code 0} to {@code remaining() - 1}
+     * @return the element
+     */
+    T get(long offset);
+
+    /**
+     * Skips {@code n} elements, or all remaining elements if there are fewer.
+     * Works in constant time if random access is supported.
+     *
+     * @param n  the number of elements to skip
+     */
+    void skip(long n);
+}
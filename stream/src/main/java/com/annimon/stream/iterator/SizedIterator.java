@@ -0,0 +1,20 @@
+package com.annimon.stream.iterator;
+
+import java.util.Iterator;
+
+/**
+ * Iterator that knows how many elements are left.
+ *
+ * @param <T> the type of the elements
+ * @since 1.2.3
+ */
+public interface SizedIterator<T> extends Iterator<T> {
+
+    /**
+     * Returns the exact number of remaining elements,
+     * or {@code -1} if it is unknown or too large to be represented.
+     *
+     * @return the number of remaining elements, or {@code -1}
+     */
+    long remaining();
+}
@@ -0,0 +1,25 @@
+package com.annimon.stream.iterator;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Iterator which remaining elements can be divided into two disjoint parts.
+ *
+ * @param <T> the type of the elements
+ * @since 1.2.3
+ */
+public interface SplittableIterator<T> extends SizedIterator<T> {
+
+    /**
+     * Splits off about a half of the remaining elements.
+     *
+     * <p>The returned iterator covers the leading part of the remaining elements,
+     * this iterator continues with the rest, so the encounter order is
+     * the returned iterator elements followed by this iterator elements.
+     *
+     * @return an iterator covering the first part of the elements,
+     *         or {@code null} if the elements cannot be split
+     */
+    @Nullable
+    SplittableIterator<T> trySplit();
+}
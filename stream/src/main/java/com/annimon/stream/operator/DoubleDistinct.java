@@ -0,0 +1,28 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.LongHashSet;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class DoubleDistinct extends PrimitiveExtIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final LongHashSet set;
+
+    public DoubleDistinct(@NotNull PrimitiveIterator.OfDouble iterator) {
+        this.iterator = iterator;
+        set = new LongHashSet();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextDouble();
+            // Same equality as Double.equals: NaN is equal to NaN, 0.0 differs from -0.0
+            if (set.add(Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.BloomFilter;
+import com.annimon.stream.internal.Hashing;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class DoubleDistinctApprox extends PrimitiveExtIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final BloomFilter filter;
+
+    public DoubleDistinctApprox(@NotNull PrimitiveIterator.OfDouble iterator, @NotNull BloomFilter filter) {
+        this.iterator = iterator;
+        this.filter = filter;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextDouble();
+            // Same equality as Double.equals: NaN is equal to NaN, 0.0 differs from -0.0
+            if (filter.putHash(Hashing.hash64(Double.doubleToLongBits(next)))) {
+                return;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.DoubleConsumer;
 import com.annimon.stream.function.DoublePredicate;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -50,4 +51,22 @@ public class DoubleFilter extends PrimitiveIterator.OfDouble {
         }
         hasNext = false;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final DoubleConsumer action) {
+        if (hasNextEvaluated) {
+            // Element is already fetched by hasNext()
+            hasNextEvaluated = false;
+            if (!hasNext) return;
+            action.accept(next);
+        }
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+    }
 }
@@ -25,4 +25,11 @@ public class DoubleLimit extends PrimitiveIterator.OfDouble {
         index++;
         return iterator.nextDouble();
     }
+
+    @Override
+    public long remaining() {
+        final long size = iterator.remaining();
+        if (size < 0) return -1;
+        return Math.min(size, maxSize - index);
+    }
 }
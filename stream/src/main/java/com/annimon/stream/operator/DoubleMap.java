@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.DoubleConsumer;
 import com.annimon.stream.function.DoubleUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import org.jetbrains.annotations.NotNull;
@@ -25,4 +26,19 @@ public class DoubleMap extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextDouble());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final DoubleConsumer action) {
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
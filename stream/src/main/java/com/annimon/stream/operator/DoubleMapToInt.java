@@ -25,4 +25,9 @@ public class DoubleMapToInt extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextDouble());
     }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
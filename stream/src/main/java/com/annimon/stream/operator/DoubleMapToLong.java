@@ -25,4 +25,9 @@ public class DoubleMapToLong extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextDouble());
     }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
@@ -1,11 +1,15 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.DoubleConsumer;
 import com.annimon.stream.function.DoubleFunction;
 import com.annimon.stream.iterator.LsaIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.PushIterator;
+import com.annimon.stream.iterator.SizedIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class DoubleMapToObj<R> extends LsaIterator<R> {
+public class DoubleMapToObj<R> extends LsaIterator<R> implements PushIterator<R>, SizedIterator<R> {
 
     private final PrimitiveIterator.OfDouble iterator;
     private final DoubleFunction<? extends R> mapper;
@@ -26,4 +30,19 @@ public class DoubleMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextDouble());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
@@ -27,4 +27,15 @@ public class DoublePeek extends PrimitiveIterator.OfDouble {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final DoubleConsumer downstream) {
+        iterator.pushRemaining(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(value);
+                downstream.accept(value);
+            }
+        });
+    }
 }
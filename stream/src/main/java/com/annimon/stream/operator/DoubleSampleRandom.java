@@ -0,0 +1,77 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.Arrays;
+import java.util.Random;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Selects {@code k} random elements in a single pass with O(k) memory
+ * by reservoir sampling.
+ *
+ * @see ReservoirSampling
+ */
+public class DoubleSampleRandom extends PrimitiveExtIterator.OfDouble {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final int k;
+    private final Random random;
+    private double[] reservoir;
+    private int size;
+    private int index;
+
+    public DoubleSampleRandom(@NotNull PrimitiveIterator.OfDouble iterator, int k, @NotNull Random random) {
+        this.iterator = iterator;
+        this.k = k;
+        this.random = random;
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            sample();
+        }
+        hasNext = index < size;
+        if (hasNext) {
+            next = reservoir[index++];
+        } else {
+            reservoir = null;
+        }
+    }
+
+    @Override
+    public long remaining() {
+        if (!isInit) {
+            final long upstream = iterator.remaining();
+            return (upstream < 0) ? -1 : Math.min(upstream, k);
+        }
+        return size - index + (hasNext ? 1 : 0);
+    }
+
+    private void sample() {
+        final long expected = iterator.remaining();
+        int capacity = Math.min(k, INITIAL_CAPACITY);
+        if (expected >= 0) {
+            capacity = (int) Math.min(k, expected);
+        }
+        reservoir = new double[capacity];
+        while (size < k && iterator.hasNext()) {
+            if (size == reservoir.length) {
+                reservoir = Arrays.copyOf(reservoir, (int) Math.min(k, Math.max(INITIAL_CAPACITY, size * 2L)));
+            }
+            reservoir[size++] = iterator.nextDouble();
+        }
+        if (size < k) return;
+
+        final ReservoirSampling sampling = new ReservoirSampling(random, k);
+        while (true) {
+            Operators.skip(iterator, sampling.nextGap());
+            if (!iterator.hasNext()) break;
+            reservoir[sampling.nextSlot()] = iterator.nextDouble();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import org.jetbrains.annotations.NotNull;
 
@@ -17,6 +18,10 @@ public class DoubleSkip extends PrimitiveIterator.OfDouble {
 
     @Override
     public boolean hasNext() {
+        if (skipped < n && Operators.isRandomAccess(iterator)) {
+            Operators.skip(iterator, n - skipped);
+            skipped = n;
+        }
         while (iterator.hasNext()) {
             if (skipped == n) {
                 break;
@@ -31,4 +36,11 @@ public class DoubleSkip extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return iterator.nextDouble();
     }
+
+    @Override
+    public long remaining() {
+        final long size = iterator.remaining();
+        if (size < 0) return -1;
+        return Math.max(0, size - (n - skipped));
+    }
 }
@@ -0,0 +1,80 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.nio.DoubleBuffer;
+import org.jetbrains.annotations.NotNull;
+
+public class DoubleSlidingWindow extends LsaIterator<DoubleBuffer> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final int windowSize;
+    private final int stepWidth;
+    private final int maxCapacity;
+    // The window is kept contiguous, so it can be wrapped without copying.
+    // The buffer grows up to twice the window size as elements arrive.
+    private double[] buffer;
+    private int start;
+    private int count;
+    private boolean stepPending;
+
+    public DoubleSlidingWindow(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            int windowSize, int stepWidth) {
+        this.iterator = iterator;
+        this.windowSize = windowSize;
+        this.stepWidth = stepWidth;
+        maxCapacity = windowSize <= (Integer.MAX_VALUE >> 1) ? windowSize * 2 : windowSize;
+        buffer = new double[Math.min(maxCapacity, INITIAL_CAPACITY)];
+    }
+
+    @Override
+    public boolean hasNext() {
+        step();
+        return iterator.hasNext();
+    }
+
+    @Override
+    public DoubleBuffer nextIteration() {
+        step();
+        while (count < windowSize && iterator.hasNext()) {
+            if (start + count == buffer.length) {
+                makeRoom();
+            }
+            buffer[start + count] = iterator.nextDouble();
+            count++;
+        }
+        stepPending = true;
+        return DoubleBuffer.wrap(buffer, start, count).slice().asReadOnlyBuffer();
+    }
+
+    private void makeRoom() {
+        if (start >= count || buffer.length == maxCapacity) {
+            // Moves the window to the beginning, amortized O(1) per element
+            System.arraycopy(buffer, start, buffer, 0, count);
+        } else {
+            final double[] grown = new double[(int) Math.min(maxCapacity, buffer.length * 2L)];
+            System.arraycopy(buffer, start, grown, 0, count);
+            buffer = grown;
+        }
+        start = 0;
+    }
+
+    private void step() {
+        if (!stepPending) return;
+        stepPending = false;
+
+        // remove stepWidth elements from the window
+        final int pollCount = Math.min(count, stepWidth);
+        start += pollCount;
+        count -= pollCount;
+        if (count == 0) start = 0;
+
+        // if the stepWidth is greater than the windowSize, skip (stepWidth - windowSize) elements
+        for (int j = windowSize; j < stepWidth && iterator.hasNext(); j++) {
+            iterator.nextDouble();
+        }
+    }
+}
@@ -1,19 +1,57 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.DoubleComparator;
 import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.ParallelSort;
+import com.annimon.stream.internal.PrimitiveSort;
+import com.annimon.stream.internal.RadixSort;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class DoubleSorted extends PrimitiveExtIterator.OfDouble {
 
     private final PrimitiveIterator.OfDouble iterator;
+    private final DoubleComparator comparator;
+    private final boolean radix;
+    private final int parallelism;
     private int index;
     private double[] array;
 
     public DoubleSorted(@NotNull PrimitiveIterator.OfDouble iterator) {
+        this(iterator, null);
+    }
+
+    public DoubleSorted(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @Nullable DoubleComparator comparator) {
+        this(iterator, comparator, false);
+    }
+
+    public DoubleSorted(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @Nullable DoubleComparator comparator,
+            boolean radix) {
+        this(iterator, comparator, radix, 1);
+    }
+
+    public DoubleSorted(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @Nullable DoubleComparator comparator,
+            int parallelism) {
+        this(iterator, comparator, false, parallelism);
+    }
+
+    private DoubleSorted(
+            @NotNull PrimitiveIterator.OfDouble iterator,
+            @Nullable DoubleComparator comparator,
+            boolean radix, int parallelism) {
         this.iterator = iterator;
+        this.comparator = comparator;
+        this.radix = radix;
+        this.parallelism = parallelism;
         index = 0;
     }
 
@@ -21,11 +59,41 @@ public class DoubleSorted extends PrimitiveExtIterator.OfDouble {
     protected void nextIteration() {
         if (!isInit) {
             array = Operators.toDoubleArray(iterator);
-            Arrays.sort(array);
+            if (parallelism > 1) {
+                ParallelSort.sort(array, comparator, parallelism);
+            } else if (comparator != null) {
+                PrimitiveSort.sort(array, comparator);
+            } else if (radix || array.length >= RadixSort.THRESHOLD) {
+                RadixSort.sort(array);
+            } else {
+                Arrays.sort(array);
+            }
         }
         hasNext = index < array.length;
         if (hasNext) {
             next = array[index++];
         }
     }
+
+    @Override
+    public long remaining() {
+        if (!isInit) {
+            return iterator.remaining();
+        }
+        return array.length - index + (hasNext ? 1 : 0);
+    }
+
+    /**
+     * Returns the iterator, which emits only the first {@code maxSize} sorted elements
+     * and keeps them in a bounded heap instead of sorting all elements.
+     *
+     * @param maxSize  the number of elements to select
+     * @return the new iterator or {@code null} if the sorting is already started
+     *         or the number of elements is too close to {@code maxSize}
+     */
+    @Nullable
+    public DoubleTopK limit(long maxSize) {
+        if (isInit || !ObjTopK.isCheaperThanSort(maxSize, iterator.remaining())) return null;
+        return new DoubleTopK(iterator, (int) maxSize, comparator);
+    }
 }
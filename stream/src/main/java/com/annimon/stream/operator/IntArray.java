@@ -1,25 +1,76 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.iterator.SplittableIterator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class IntArray extends PrimitiveIterator.OfInt {
+public class IntArray extends PrimitiveIterator.OfInt
+        implements SplittableIterator<Integer>, RandomAccessIterator<Integer> {
 
     private final int[] values;
+    private final int end;
     private int index;
 
     public IntArray(@NotNull int[] values) {
+        this(values, 0, values.length);
+    }
+
+    private IntArray(@NotNull int[] values, int start, int end) {
         this.values = values;
-        index = 0;
+        this.end = end;
+        index = start;
     }
 
     @Override
     public boolean hasNext() {
-        return index < values.length;
+        return index < end;
     }
-    
+
     @Override
     public int nextInt() {
         return values[index++];
     }
+
+    @Override
+    public long remaining() {
+        return end - index;
+    }
+
+    @Nullable
+    @Override
+    public IntArray trySplit() {
+        final int mid = (index + end) >>> 1;
+        if (mid <= index) return null;
+        final IntArray prefix = new IntArray(values, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public void pushRemaining(@NotNull IntConsumer action) {
+        final int to = end;
+        int i = index;
+        index = to;
+        for (; i < to; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return true;
+    }
+
+    @Override
+    public Integer get(long offset) {
+        return values[(int) (index + offset)];
+    }
+
+    @Override
+    public void skip(long n) {
+        index += (int) Math.min(n, end - index);
+    }
 }
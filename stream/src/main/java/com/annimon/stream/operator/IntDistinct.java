@@ -0,0 +1,27 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.IntHashSet;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class IntDistinct extends PrimitiveExtIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final IntHashSet set;
+
+    public IntDistinct(@NotNull PrimitiveIterator.OfInt iterator) {
+        this.iterator = iterator;
+        set = new IntHashSet();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextInt();
+            if (set.add(next)) {
+                return;
+            }
+        }
+    }
+}
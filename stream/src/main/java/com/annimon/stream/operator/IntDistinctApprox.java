@@ -0,0 +1,28 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.BloomFilter;
+import com.annimon.stream.internal.Hashing;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class IntDistinctApprox extends PrimitiveExtIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final BloomFilter filter;
+
+    public IntDistinctApprox(@NotNull PrimitiveIterator.OfInt iterator, @NotNull BloomFilter filter) {
+        this.iterator = iterator;
+        this.filter = filter;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextInt();
+            if (filter.putHash(Hashing.hash64(next))) {
+                return;
+            }
+        }
+    }
+}
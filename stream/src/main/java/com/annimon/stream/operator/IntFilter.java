@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.function.IntPredicate;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -50,4 +51,22 @@ public class IntFilter extends PrimitiveIterator.OfInt {
         }
         hasNext = false;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final IntConsumer action) {
+        if (hasNextEvaluated) {
+            // Element is already fetched by hasNext()
+            hasNextEvaluated = false;
+            if (!hasNext) return;
+            action.accept(next);
+        }
+        iterator.pushRemaining(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+    }
 }
@@ -25,4 +25,11 @@ public class IntLimit extends PrimitiveIterator.OfInt {
         index++;
         return iterator.nextInt();
     }
+
+    @Override
+    public long remaining() {
+        final long size = iterator.remaining();
+        if (size < 0) return -1;
+        return Math.min(size, maxSize - index);
+    }
 }
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.function.IntUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import org.jetbrains.annotations.NotNull;
@@ -25,4 +26,19 @@ public class IntMap extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextInt());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final IntConsumer action) {
+        iterator.pushRemaining(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
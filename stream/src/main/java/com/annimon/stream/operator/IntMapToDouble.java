@@ -25,4 +25,9 @@ public class IntMapToDouble extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextInt());
     }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
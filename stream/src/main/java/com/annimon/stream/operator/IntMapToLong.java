@@ -25,4 +25,9 @@ public class IntMapToLong extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextInt());
     }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
@@ -1,11 +1,15 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.function.IntFunction;
 import com.annimon.stream.iterator.LsaIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.PushIterator;
+import com.annimon.stream.iterator.SizedIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class IntMapToObj<R> extends LsaIterator<R> {
+public class IntMapToObj<R> extends LsaIterator<R> implements PushIterator<R>, SizedIterator<R> {
 
     private final PrimitiveIterator.OfInt iterator;
     private final IntFunction<? extends R> mapper;
@@ -26,4 +30,19 @@ public class IntMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextInt());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        iterator.pushRemaining(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
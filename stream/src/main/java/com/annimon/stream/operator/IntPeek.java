@@ -27,4 +27,15 @@ public class IntPeek extends PrimitiveIterator.OfInt {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final IntConsumer downstream) {
+        iterator.pushRemaining(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(value);
+                downstream.accept(value);
+            }
+        });
+    }
 }
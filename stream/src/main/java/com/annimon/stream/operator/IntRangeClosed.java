@@ -1,8 +1,14 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.iterator.SplittableIterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class IntRangeClosed extends PrimitiveIterator.OfInt {
+public class IntRangeClosed extends PrimitiveIterator.OfInt
+        implements SplittableIterator<Integer>, RandomAccessIterator<Integer> {
 
     private final int endInclusive;
     private int current;
@@ -27,4 +33,54 @@ public class IntRangeClosed extends PrimitiveIterator.OfInt {
         }
         return current++;
     }
+
+    @Override
+    public long remaining() {
+        if (!hasNext) return 0;
+        return (long) endInclusive - current + 1;
+    }
+
+    @Nullable
+    @Override
+    public IntRangeClosed trySplit() {
+        if (!hasNext || current == endInclusive) return null;
+        // Unsigned shift keeps the middle correct even if the difference overflows
+        final int mid = current + ((endInclusive - current) >>> 1);
+        final IntRangeClosed prefix = new IntRangeClosed(current, mid);
+        current = mid + 1;
+        return prefix;
+    }
+
+    @Override
+    public void pushRemaining(@NotNull IntConsumer action) {
+        if (!hasNext) return;
+        int value = current;
+        current = endInclusive;
+        hasNext = false;
+        while (value < endInclusive) {
+            action.accept(value++);
+        }
+        action.accept(endInclusive);
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return true;
+    }
+
+    @Override
+    public Integer get(long offset) {
+        return (int) (current + offset);
+    }
+
+    @Override
+    public void skip(long n) {
+        if (!hasNext) return;
+        if (n > (long) endInclusive - current) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current += (int) n;
+        }
+    }
 }
@@ -0,0 +1,233 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Objects;
+import com.annimon.stream.UncheckedIOException;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.internal.PrimitiveSort;
+import com.annimon.stream.internal.SortRuns;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sorts elements keeping at most {@code memoryBudget} of them in memory.
+ * Sorted runs are written to temporary files and lazily merged back.
+ */
+public class IntSortedExternal extends PrimitiveExtIterator.OfInt implements Closeable {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final IntComparator comparator;
+    private final int memoryBudget;
+    private final SortRuns runs;
+    // Elements are not spilled if they all fit in memory
+    private int[] array;
+    private int arraySize;
+    private int index;
+    // Merging state: the current element of each run and a min-heap of run indices
+    private DataInputStream[] inputs;
+    private int[] heads;
+    private long[] left;
+    private int[] heap;
+    private int heapSize;
+
+    public IntSortedExternal(
+            @NotNull PrimitiveIterator.OfInt iterator,
+            @Nullable IntComparator comparator, int memoryBudget) {
+        this.iterator = iterator;
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget;
+        runs = new SortRuns();
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            init();
+        }
+        if (array != null) {
+            hasNext = index < arraySize;
+            if (hasNext) {
+                next = array[index++];
+            }
+            return;
+        }
+        hasNext = heapSize > 0;
+        if (hasNext) {
+            next = poll();
+        } else {
+            close();
+        }
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @Override
+    public void close() {
+        runs.close();
+    }
+
+    private void init() {
+        int[] chunk = new int[Math.min(memoryBudget, 1024)];
+        int size = 0;
+        while (iterator.hasNext()) {
+            if (size == chunk.length) {
+                chunk = Arrays.copyOf(chunk, (int) Math.min(memoryBudget, chunk.length * 2L));
+            }
+            chunk[size++] = iterator.nextInt();
+            if (size == memoryBudget && iterator.hasNext()) {
+                spill(chunk, size);
+                size = 0;
+            }
+        }
+        if (runs.size() == 0) {
+            array = sort(chunk, size);
+            arraySize = size;
+            return;
+        }
+        if (size > 0) {
+            spill(chunk, size);
+        }
+
+        while (runs.size() > SortRuns.MAX_FAN_IN) {
+            mergePass();
+        }
+        startMerge(runs.size());
+    }
+
+    // Merges consecutive groups of runs into new runs, keeping the order of runs
+    private void mergePass() {
+        final int count = runs.size();
+        for (int from = 0; from < count; from += SortRuns.MAX_FAN_IN) {
+            final long total = startMerge(Math.min(SortRuns.MAX_FAN_IN, count - from));
+            final DataOutputStream output = runs.create(total);
+            try {
+                while (heapSize > 0) {
+                    output.writeInt(poll());
+                }
+                output.close();
+            } catch (IOException e) {
+                SortRuns.closeQuietly(output);
+                close();
+                throw new UncheckedIOException("Cannot write a sorted run file", e);
+            }
+            runs.release();
+        }
+    }
+
+    private long startMerge(int count) {
+        inputs = runs.open(count);
+        heads = new int[count];
+        left = new long[count];
+        heap = new int[count];
+        heapSize = 0;
+        long total = 0;
+        try {
+            for (int run = 0; run < count; run++) {
+                left[run] = inputs[run].readLong();
+                total += left[run];
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Cannot read a sorted run file", e);
+        }
+        for (int run = 0; run < count; run++) {
+            heads[run] = read(run);
+            heap[heapSize] = run;
+            siftUp(heapSize++);
+        }
+        return total;
+    }
+
+    private int poll() {
+        final int run = heap[0];
+        final int value = heads[run];
+        if (left[run] > 0) {
+            heads[run] = read(run);
+        } else {
+            heap[0] = heap[--heapSize];
+        }
+        siftDown(0);
+        return value;
+    }
+
+    private int[] sort(int[] chunk, int size) {
+        if (comparator == null) {
+            Arrays.sort(chunk, 0, size);
+            return chunk;
+        }
+        final int[] sorted = (size == chunk.length) ? chunk : Arrays.copyOf(chunk, size);
+        PrimitiveSort.sort(sorted, comparator);
+        return sorted;
+    }
+
+    private void spill(int[] chunk, int size) {
+        final int[] sorted = sort(chunk, size);
+        final DataOutputStream output = runs.create(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                output.writeInt(sorted[i]);
+            }
+            output.close();
+        } catch (IOException e) {
+            SortRuns.closeQuietly(output);
+            close();
+            throw new UncheckedIOException("Cannot write a sorted run file", e);
+        }
+    }
+
+    private int read(int run) {
+        left[run]--;
+        try {
+            return inputs[run].readInt();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Cannot read a sorted run file", e);
+        }
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (compare(heap[parent], heap[i]) <= 0) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            final int leftChild = 2 * i + 1;
+            if (leftChild >= heapSize) break;
+            int smallest = leftChild;
+            final int right = leftChild + 1;
+            if (right < heapSize && compare(heap[right], heap[leftChild]) < 0) {
+                smallest = right;
+            }
+            if (compare(heap[i], heap[smallest]) <= 0) break;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private int compare(int run1, int run2) {
+        final int result = (comparator == null)
+                ? Objects.compareInt(heads[run1], heads[run2])
+                : comparator.compare(heads[run1], heads[run2]);
+        if (result != 0) return result;
+        // Earlier runs contain earlier elements
+        return run1 - run2;
+    }
+
+    private void swap(int i, int j) {
+        final int run = heap[i];
+        heap[i] = heap[j];
+        heap[j] = run;
+    }
+}
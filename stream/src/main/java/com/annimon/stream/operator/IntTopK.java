@@ -0,0 +1,137 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Objects;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emits the first {@code maxSize} elements in the comparator order,
+ * as {@code sorted(comparator).limit(maxSize)} does, but keeps only
+ * {@code maxSize} elements in a bounded max-heap.
+ */
+public class IntTopK extends PrimitiveExtIterator.OfInt {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final int maxSize;
+    private final IntComparator comparator;
+    private int[] heap;
+    private long[] order;
+    private int size;
+    private int index;
+
+    public IntTopK(
+            @NotNull PrimitiveIterator.OfInt iterator, int maxSize,
+            @Nullable IntComparator comparator) {
+        this.iterator = iterator;
+        this.maxSize = maxSize;
+        this.comparator = (comparator != null) ? comparator : IntComparator.Util.naturalOrder();
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            select();
+        }
+        hasNext = index < size;
+        if (hasNext) {
+            next = heap[index++];
+        }
+    }
+
+    @Override
+    public long remaining() {
+        if (!isInit) {
+            final long upstream = iterator.remaining();
+            return (upstream < 0) ? -1 : Math.min(upstream, maxSize);
+        }
+        return size - index + (hasNext ? 1 : 0);
+    }
+
+    private void select() {
+        final long expected = iterator.remaining();
+        int capacity = Math.min(maxSize, INITIAL_CAPACITY);
+        if (expected >= 0) {
+            capacity = (int) Math.min(maxSize, expected);
+        }
+        heap = new int[capacity];
+        order = new long[capacity];
+
+        long counter = 0;
+        while (iterator.hasNext()) {
+            final int value = iterator.nextInt();
+            final long position = counter++;
+            if (size < maxSize) {
+                if (size == heap.length) grow();
+                heap[size] = value;
+                order[size] = position;
+                siftUp(size++);
+            } else if (comparator.compare(value, heap[0]) < 0) {
+                // Equal elements come later in the encounter order, so they are rejected
+                heap[0] = value;
+                order[0] = position;
+                siftDown(0, size);
+            }
+        }
+
+        // Heap sort in place, the greatest element goes to the end
+        for (int last = size - 1; last > 0; last--) {
+            swap(0, last);
+            siftDown(0, last);
+        }
+        order = null;
+    }
+
+    private void grow() {
+        final int capacity = (int) Math.min(maxSize, Math.max(1, heap.length * 2L));
+        final int[] newHeap = new int[capacity];
+        final long[] newOrder = new long[capacity];
+        System.arraycopy(heap, 0, newHeap, 0, size);
+        System.arraycopy(order, 0, newOrder, 0, size);
+        heap = newHeap;
+        order = newOrder;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (compare(i, parent) <= 0) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int length) {
+        while (true) {
+            final int left = 2 * i + 1;
+            if (left >= length) break;
+            int largest = left;
+            final int right = left + 1;
+            if (right < length && compare(right, left) > 0) {
+                largest = right;
+            }
+            if (compare(i, largest) >= 0) break;
+            swap(i, largest);
+            i = largest;
+        }
+    }
+
+    private int compare(int i, int j) {
+        final int result = comparator.compare(heap[i], heap[j]);
+        if (result != 0) return result;
+        return Objects.compareLong(order[i], order[j]);
+    }
+
+    private void swap(int i, int j) {
+        final int value = heap[i];
+        heap[i] = heap[j];
+        heap[j] = value;
+        final long position = order[i];
+        order[i] = order[j];
+        order[j] = position;
+    }
+}
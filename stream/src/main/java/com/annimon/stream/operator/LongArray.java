@@ -1,16 +1,32 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.LongConsumer;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.iterator.SplittableIterator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class LongArray extends PrimitiveIterator.OfLong {
+public class LongArray extends PrimitiveIterator.OfLong
+        implements SplittableIterator<Long>, RandomAccessIterator<Long> {
 
     private final long[] values;
+    private final int end;
     private int index;
 
     public LongArray(@NotNull long[] values) {
+        this(values, 0, values.length);
+    }
+
+    private LongArray(@NotNull long[] values, int start, int end) {
         this.values = values;
-        index = 0;
+        this.end = end;
+        index = start;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
     }
 
     @Override
@@ -19,7 +35,42 @@ public class LongArray extends PrimitiveIterator.OfLong {
     }
 
     @Override
-    public boolean hasNext() {
-        return index < values.length;
+    public long remaining() {
+        return end - index;
+    }
+
+    @Nullable
+    @Override
+    public LongArray trySplit() {
+        final int mid = (index + end) >>> 1;
+        if (mid <= index) return null;
+        final LongArray prefix = new LongArray(values, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public void pushRemaining(@NotNull LongConsumer action) {
+        final int to = end;
+        int i = index;
+        index = to;
+        for (; i < to; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return true;
+    }
+
+    @Override
+    public Long get(long offset) {
+        return values[(int) (index + offset)];
+    }
+
+    @Override
+    public void skip(long n) {
+        index += (int) Math.min(n, end - index);
     }
 }
@@ -0,0 +1,27 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.LongHashSet;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class LongDistinct extends PrimitiveExtIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final LongHashSet set;
+
+    public LongDistinct(@NotNull PrimitiveIterator.OfLong iterator) {
+        this.iterator = iterator;
+        set = new LongHashSet();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextLong();
+            if (set.add(next)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.BloomFilter;
+import com.annimon.stream.internal.Hashing;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import org.jetbrains.annotations.NotNull;
+
+public class LongDistinctApprox extends PrimitiveExtIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final BloomFilter filter;
+
+    public LongDistinctApprox(@NotNull PrimitiveIterator.OfLong iterator, @NotNull BloomFilter filter) {
+        this.iterator = iterator;
+        this.filter = filter;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextLong();
+            if (filter.putHash(Hashing.hash64(next))) {
+                return;
+            }
+        }
+    }
+}
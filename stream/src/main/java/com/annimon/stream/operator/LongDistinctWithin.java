@@ -0,0 +1,50 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.LongHashSet;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+
+public class LongDistinctWithin extends PrimitiveExtIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final int windowSize;
+    private final LongHashSet set;
+    // Ring buffer of the last emitted values, grows up to the window size
+    private long[] window;
+    private int head;
+
+    public LongDistinctWithin(@NotNull PrimitiveIterator.OfLong iterator, int windowSize) {
+        this.iterator = iterator;
+        this.windowSize = windowSize;
+        set = new LongHashSet();
+        window = new long[Math.min(windowSize, 16)];
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextLong();
+            if (set.add(next)) {
+                remember(next);
+                return;
+            }
+        }
+    }
+
+    private void remember(long value) {
+        final int size = set.size();
+        if (size <= window.length) {
+            window[size - 1] = value;
+        } else if (window.length < windowSize) {
+            window = Arrays.copyOf(window, (int) Math.min(windowSize, window.length * 2L));
+            window[size - 1] = value;
+        } else {
+            // Window is full, the eldest value leaves it
+            set.remove(window[head]);
+            window[head] = value;
+            head = (head + 1) % windowSize;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.LongConsumer;
 import com.annimon.stream.function.LongPredicate;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -50,4 +51,22 @@ public class LongFilter extends PrimitiveIterator.OfLong {
         }
         hasNext = false;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final LongConsumer action) {
+        if (hasNextEvaluated) {
+            // Element is already fetched by hasNext()
+            hasNextEvaluated = false;
+            if (!hasNext) return;
+            action.accept(next);
+        }
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+    }
 }
@@ -25,4 +25,11 @@ public class LongLimit extends PrimitiveIterator.OfLong {
         index++;
         return iterator.nextLong();
     }
+
+    @Override
+    public long remaining() {
+        final long size = iterator.remaining();
+        if (size < 0) return -1;
+        return Math.min(size, maxSize - index);
+    }
 }
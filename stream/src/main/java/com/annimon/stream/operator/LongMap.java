@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.LongConsumer;
 import com.annimon.stream.function.LongUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import org.jetbrains.annotations.NotNull;
@@ -25,4 +26,19 @@ public class LongMap extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextLong());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final LongConsumer action) {
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
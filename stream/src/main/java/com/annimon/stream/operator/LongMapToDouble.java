@@ -25,4 +25,9 @@ public class LongMapToDouble extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextLong());
     }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
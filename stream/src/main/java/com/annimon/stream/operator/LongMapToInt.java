@@ -25,4 +25,9 @@ public class LongMapToInt extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextLong());
     }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
@@ -1,11 +1,15 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.LongConsumer;
 import com.annimon.stream.function.LongFunction;
 import com.annimon.stream.iterator.LsaIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.PushIterator;
+import com.annimon.stream.iterator.SizedIterator;
 import org.jetbrains.annotations.NotNull;
 
-public class LongMapToObj<R> extends LsaIterator<R> {
+public class LongMapToObj<R> extends LsaIterator<R> implements PushIterator<R>, SizedIterator<R> {
 
     private final PrimitiveIterator.OfLong iterator;
     private final LongFunction<? extends R> mapper;
@@ -26,4 +30,19 @@ public class LongMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextLong());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return iterator.remaining();
+    }
 }
@@ -0,0 +1,93 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Objects;
+import com.annimon.stream.function.LongComparator;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Merges sorted iterators with a binary min-heap of their current elements.
+ * Takes {@code O(log k)} comparisons per element for {@code k} iterators.
+ */
+public class LongMergeSorted extends PrimitiveExtIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong[] iterators;
+    private final LongComparator comparator;
+    private final long[] heads;
+    private final int[] heap;
+    private int heapSize;
+
+    public LongMergeSorted(
+            @NotNull List<? extends PrimitiveIterator.OfLong> iterators,
+            @Nullable LongComparator comparator) {
+        this.iterators = iterators.toArray(new PrimitiveIterator.OfLong[iterators.size()]);
+        this.comparator = comparator;
+        heads = new long[this.iterators.length];
+        heap = new int[this.iterators.length];
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            for (int i = 0; i < iterators.length; i++) {
+                if (iterators[i].hasNext()) {
+                    heads[i] = iterators[i].nextLong();
+                    heap[heapSize] = i;
+                    siftUp(heapSize++);
+                }
+            }
+        }
+        hasNext = heapSize > 0;
+        if (!hasNext) return;
+
+        final int top = heap[0];
+        next = heads[top];
+        if (iterators[top].hasNext()) {
+            heads[top] = iterators[top].nextLong();
+        } else {
+            heap[0] = heap[--heapSize];
+        }
+        siftDown(0);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (compare(heap[parent], heap[i]) <= 0) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            final int left = 2 * i + 1;
+            if (left >= heapSize) break;
+            int smallest = left;
+            final int right = left + 1;
+            if (right < heapSize && compare(heap[right], heap[left]) < 0) {
+                smallest = right;
+            }
+            if (compare(heap[i], heap[smallest]) <= 0) break;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private int compare(int index1, int index2) {
+        final int result = (comparator == null)
+                ? Objects.compareLong(heads[index1], heads[index2])
+                : comparator.compare(heads[index1], heads[index2]);
+        if (result != 0) return result;
+        return index1 - index2;
+    }
+
+    private void swap(int i, int j) {
+        final int index = heap[i];
+        heap[i] = heap[j];
+        heap[j] = index;
+    }
+}
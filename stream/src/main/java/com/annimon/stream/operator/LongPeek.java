@@ -27,4 +27,15 @@ public class LongPeek extends PrimitiveIterator.OfLong {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final LongConsumer downstream) {
+        iterator.pushRemaining(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(value);
+                downstream.accept(value);
+            }
+        });
+    }
 }
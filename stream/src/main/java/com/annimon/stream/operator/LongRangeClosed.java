@@ -1,8 +1,14 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.LongConsumer;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.iterator.SplittableIterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class LongRangeClosed extends PrimitiveIterator.OfLong {
+public class LongRangeClosed extends PrimitiveIterator.OfLong
+        implements SplittableIterator<Long>, RandomAccessIterator<Long> {
 
     private final long endInclusive;
     private long current;
@@ -27,4 +33,59 @@ public class LongRangeClosed extends PrimitiveIterator.OfLong {
         }
         return current++;
     }
+
+    @Override
+    public long remaining() {
+        if (!hasNext) return 0;
+        final long difference = endInclusive - current;
+        // Range is too large if the difference overflows
+        if (difference < 0 || difference == Long.MAX_VALUE) return -1;
+        return difference + 1;
+    }
+
+    @Nullable
+    @Override
+    public LongRangeClosed trySplit() {
+        if (!hasNext || current == endInclusive) return null;
+        // Unsigned shift keeps the middle correct even if the difference overflows
+        final long mid = current + ((endInclusive - current) >>> 1);
+        final LongRangeClosed prefix = new LongRangeClosed(current, mid);
+        current = mid + 1;
+        return prefix;
+    }
+
+    @Override
+    public void pushRemaining(@NotNull LongConsumer action) {
+        if (!hasNext) return;
+        long value = current;
+        current = endInclusive;
+        hasNext = false;
+        while (value < endInclusive) {
+            action.accept(value++);
+        }
+        action.accept(endInclusive);
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return remaining() >= 0;
+    }
+
+    @Override
+    public Long get(long offset) {
+        return current + offset;
+    }
+
+    @Override
+    public void skip(long n) {
+        if (!hasNext) return;
+        final long difference = endInclusive - current;
+        // Negative difference means the range is larger than any n
+        if (difference >= 0 && n > difference) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current += n;
+        }
+    }
 }
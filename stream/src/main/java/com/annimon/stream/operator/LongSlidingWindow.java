@@ -0,0 +1,80 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.nio.LongBuffer;
+import org.jetbrains.annotations.NotNull;
+
+public class LongSlidingWindow extends LsaIterator<LongBuffer> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final int windowSize;
+    private final int stepWidth;
+    private final int maxCapacity;
+    // The window is kept contiguous, so it can be wrapped without copying.
+    // The buffer grows up to twice the window size as elements arrive.
+    private long[] buffer;
+    private int start;
+    private int count;
+    private boolean stepPending;
+
+    public LongSlidingWindow(
+            @NotNull PrimitiveIterator.OfLong iterator,
+            int windowSize, int stepWidth) {
+        this.iterator = iterator;
+        this.windowSize = windowSize;
+        this.stepWidth = stepWidth;
+        maxCapacity = windowSize <= (Integer.MAX_VALUE >> 1) ? windowSize * 2 : windowSize;
+        buffer = new long[Math.min(maxCapacity, INITIAL_CAPACITY)];
+    }
+
+    @Override
+    public boolean hasNext() {
+        step();
+        return iterator.hasNext();
+    }
+
+    @Override
+    public LongBuffer nextIteration() {
+        step();
+        while (count < windowSize && iterator.hasNext()) {
+            if (start + count == buffer.length) {
+                makeRoom();
+            }
+            buffer[start + count] = iterator.nextLong();
+            count++;
+        }
+        stepPending = true;
+        return LongBuffer.wrap(buffer, start, count).slice().asReadOnlyBuffer();
+    }
+
+    private void makeRoom() {
+        if (start >= count || buffer.length == maxCapacity) {
+            // Moves the window to the beginning, amortized O(1) per element
+            System.arraycopy(buffer, start, buffer, 0, count);
+        } else {
+            final long[] grown = new long[(int) Math.min(maxCapacity, buffer.length * 2L)];
+            System.arraycopy(buffer, start, grown, 0, count);
+            buffer = grown;
+        }
+        start = 0;
+    }
+
+    private void step() {
+        if (!stepPending) return;
+        stepPending = false;
+
+        // remove stepWidth elements from the window
+        final int pollCount = Math.min(count, stepWidth);
+        start += pollCount;
+        count -= pollCount;
+        if (count == 0) start = 0;
+
+        // if the stepWidth is greater than the windowSize, skip (stepWidth - windowSize) elements
+        for (int j = windowSize; j < stepWidth && iterator.hasNext(); j++) {
+            iterator.nextLong();
+        }
+    }
+}
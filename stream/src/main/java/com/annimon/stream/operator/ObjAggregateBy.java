@@ -0,0 +1,93 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Collector;
+import com.annimon.stream.Objects;
+import com.annimon.stream.function.BiConsumer;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.function.Supplier;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Accumulates elements into a container per key and emits finished containers
+ * as map entries once the source is exhausted. Elements themselves are not kept.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ * @param <A> the type of the accumulation containers
+ * @param <R> the type of the results
+ */
+public class ObjAggregateBy<T, K, A, R> extends LsaExtIterator<Map.Entry<K, R>> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends K> classifier;
+    private final Collector<? super T, A, R> collector;
+    private Iterator<Map.Entry<K, A>> entries;
+
+    public ObjAggregateBy(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Function<? super T, ? extends K> classifier,
+            @NotNull Collector<? super T, A, R> collector) {
+        this.iterator = iterator;
+        this.classifier = classifier;
+        this.collector = collector;
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            entries = ObjAggregateBy.<T, K, A>aggregate(iterator, classifier, collector)
+                    .entrySet().iterator();
+        }
+        hasNext = entries.hasNext();
+        if (hasNext) {
+            final Map.Entry<K, A> entry = entries.next();
+            // Containers are finished lazily, one per emitted entry
+            next = new AbstractMap.SimpleEntry<K, R>(
+                    entry.getKey(),
+                    collector.finisher().apply(entry.getValue()));
+            entries.remove();
+        } else {
+            entries = null;
+        }
+    }
+
+    /**
+     * Accumulates all elements of the iterator into containers grouped by key.
+     * Keys are ordered by their first occurrence.
+     *
+     * @param <T> the type of the elements
+     * @param <K> the type of the keys
+     * @param <A> the type of the accumulation containers
+     * @param iterator  the source iterator
+     * @param classifier  the classifier function
+     * @param collector  the collector, which supplier and accumulator are used
+     * @return the map of not finished containers
+     * @throws NullPointerException if an element is mapped to a null key
+     */
+    @NotNull
+    public static <T, K, A> Map<K, A> aggregate(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Function<? super T, ? extends K> classifier,
+            @NotNull Collector<? super T, A, ?> collector) {
+        final Supplier<A> supplier = collector.supplier();
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        final Map<K, A> map = new LinkedHashMap<K, A>();
+        while (iterator.hasNext()) {
+            final T element = iterator.next();
+            final K key = Objects.requireNonNull(classifier.apply(element),
+                    "element cannot be mapped to a null key");
+            A container = map.get(key);
+            if (container == null) {
+                container = supplier.get();
+                map.put(key, container);
+            }
+            accumulator.accept(container, element);
+        }
+        return map;
+    }
+}
@@ -1,25 +1,77 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
 import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.PushIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.iterator.SplittableIterator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class ObjArray<T> extends LsaIterator<T> {
+public class ObjArray<T> extends LsaIterator<T>
+        implements SplittableIterator<T>, PushIterator<T>, RandomAccessIterator<T> {
 
     private final T[] elements;
+    private final int end;
     private int index;
 
     public ObjArray(@NotNull T[] elements) {
+        this(elements, 0, elements.length);
+    }
+
+    private ObjArray(@NotNull T[] elements, int start, int end) {
         this.elements = elements;
-        index = 0;
+        this.end = end;
+        index = start;
     }
 
     @Override
     public boolean hasNext() {
-        return index < elements.length;
+        return index < end;
     }
 
     @Override
     public T nextIteration() {
         return elements[index++];
     }
+
+    @Override
+    public long remaining() {
+        return end - index;
+    }
+
+    @Nullable
+    @Override
+    public ObjArray<T> trySplit() {
+        final int mid = (index + end) >>> 1;
+        if (mid <= index) return null;
+        final ObjArray<T> prefix = new ObjArray<T>(elements, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public void pushRemaining(@NotNull Consumer<? super T> action) {
+        final int to = end;
+        int i = index;
+        index = to;
+        for (; i < to; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return true;
+    }
+
+    @Override
+    public T get(long offset) {
+        return elements[(int) (index + offset)];
+    }
+
+    @Override
+    public void skip(long n) {
+        index += (int) Math.min(n, end - index);
+    }
 }
@@ -0,0 +1,28 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.BloomFilter;
+import com.annimon.stream.internal.Hashing;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjDistinctApprox<T> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final BloomFilter filter;
+
+    public ObjDistinctApprox(@NotNull Iterator<? extends T> iterator, @NotNull BloomFilter filter) {
+        this.iterator = iterator;
+        this.filter = filter;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.next();
+            if (filter.putHash(Hashing.hash64(next))) {
+                return;
+            }
+        }
+    }
+}
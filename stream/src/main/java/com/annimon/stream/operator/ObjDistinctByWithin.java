@@ -0,0 +1,42 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.Function;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjDistinctByWithin<T, K> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends K> classifier;
+    private final int windowSize;
+    // Insertion order makes the set a FIFO of the last emitted keys
+    private final LinkedHashSet<K> window;
+
+    public ObjDistinctByWithin(
+            @NotNull Iterator<? extends T> iterator,
+            @NotNull Function<? super T, ? extends K> classifier,
+            int windowSize) {
+        this.iterator = iterator;
+        this.classifier = classifier;
+        this.windowSize = windowSize;
+        window = new LinkedHashSet<K>();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.next();
+            final K key = classifier.apply(next);
+            if (window.add(key)) {
+                if (window.size() > windowSize) {
+                    final Iterator<K> eldest = window.iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+                return;
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
 import com.annimon.stream.function.Predicate;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.PushIterator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjFilter<T> implements Iterator<T> {
+public class ObjFilter<T> implements PushIterator<T> {
 
     private final Iterator<? extends T> iterator;
     private final Predicate<? super T> predicate;
@@ -55,4 +58,24 @@ public class ObjFilter<T> implements Iterator<T> {
     public void remove() {
         throw new UnsupportedOperationException("remove not supported");
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super T> action) {
+        if (hasNextEvaluated) {
+            // Element is already fetched by hasNext()
+            hasNextEvaluated = false;
+            if (!hasNext) return;
+            final T value = next;
+            next = null;
+            action.accept(value);
+        }
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+    }
 }
@@ -0,0 +1,355 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.BiFunction;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.function.ToIntFunction;
+import com.annimon.stream.function.ToLongFunction;
+import com.annimon.stream.internal.IntHashMap;
+import com.annimon.stream.internal.IntHashSet;
+import com.annimon.stream.internal.LongHashMap;
+import com.annimon.stream.internal.LongHashSet;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Joins two iterators by key: builds a hash table from the right side
+ * and streams the left side probing the table, so the output follows the left order.
+ * Semi and anti joins keep only the set of right keys.
+ *
+ * @param <A> the type of the left elements
+ * @param <B> the type of the right elements
+ * @param <R> the type of the result elements
+ */
+public class ObjHashJoin<A, B, R> extends LsaExtIterator<R> {
+
+    public static final int INNER = 0;
+    public static final int LEFT_OUTER = 1;
+    public static final int SEMI = 2;
+    public static final int ANTI = 3;
+
+    private final Iterator<? extends A> left;
+    private final Iterator<? extends B> right;
+    private final Keys<A, B> keys;
+    private final BiFunction<? super A, ? super B, ? extends R> combiner;
+    private final int type;
+    private Table<B, A> rightTable;
+    private KeySet<B, A> rightKeys;
+    private List<? extends B> matches;
+    private A probe;
+    private int matchIndex;
+
+    public ObjHashJoin(
+            @NotNull Iterator<? extends A> left,
+            @NotNull Iterator<? extends B> right,
+            @NotNull Keys<A, B> keys,
+            @NotNull BiFunction<? super A, ? super B, ? extends R> combiner,
+            int type) {
+        this.left = left;
+        this.right = right;
+        this.keys = keys;
+        this.combiner = combiner;
+        this.type = type;
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            build();
+        }
+        while (true) {
+            if (matches != null && matchIndex < matches.size()) {
+                next = combiner.apply(probe, matches.get(matchIndex++));
+                hasNext = true;
+                return;
+            }
+            matches = null;
+            if (!left.hasNext()) break;
+            final A element = left.next();
+            if (rightKeys != null) {
+                if (rightKeys.contains(element) == (type == SEMI)) {
+                    next = combiner.apply(element, null);
+                    hasNext = true;
+                    return;
+                }
+                continue;
+            }
+            final List<B> found = rightTable.get(element);
+            if (found == null && type == LEFT_OUTER) {
+                next = combiner.apply(element, null);
+                hasNext = true;
+                return;
+            }
+            probe = element;
+            matches = found;
+            matchIndex = 0;
+        }
+        hasNext = false;
+        probe = null;
+        rightTable = null;
+        rightKeys = null;
+    }
+
+    private void build() {
+        if (type == SEMI || type == ANTI) {
+            rightKeys = keys.rightKeys();
+            while (right.hasNext()) {
+                rightKeys.add(right.next());
+            }
+        } else {
+            rightTable = keys.rightTable();
+            while (right.hasNext()) {
+                rightTable.add(right.next());
+            }
+        }
+    }
+
+    /**
+     * Creates hash tables of the right side, which are probed by the left elements.
+     *
+     * @param <A> the type of the left elements
+     * @param <B> the type of the right elements
+     */
+    public abstract static class Keys<A, B> {
+
+        @NotNull
+        abstract Table<B, A> rightTable();
+
+        @NotNull
+        abstract KeySet<B, A> rightKeys();
+    }
+
+    @NotNull
+    public static <A, B, K> Keys<A, B> keys(
+            @NotNull final Function<? super A, ? extends K> leftKey,
+            @NotNull final Function<? super B, ? extends K> rightKey) {
+        return new Keys<A, B>() {
+            @NotNull
+            @Override
+            Table<B, A> rightTable() {
+                return new ObjTable<B, A, K>(rightKey, leftKey);
+            }
+
+            @NotNull
+            @Override
+            KeySet<B, A> rightKeys() {
+                return new ObjKeySet<B, A, K>(rightKey, leftKey);
+            }
+        };
+    }
+
+    @NotNull
+    public static <A, B> Keys<A, B> intKeys(
+            @NotNull final ToIntFunction<? super A> leftKey,
+            @NotNull final ToIntFunction<? super B> rightKey) {
+        return new Keys<A, B>() {
+            @NotNull
+            @Override
+            Table<B, A> rightTable() {
+                return new IntTable<B, A>(rightKey, leftKey);
+            }
+
+            @NotNull
+            @Override
+            KeySet<B, A> rightKeys() {
+                return new IntKeySet<B, A>(rightKey, leftKey);
+            }
+        };
+    }
+
+    @NotNull
+    public static <A, B> Keys<A, B> longKeys(
+            @NotNull final ToLongFunction<? super A> leftKey,
+            @NotNull final ToLongFunction<? super B> rightKey) {
+        return new Keys<A, B>() {
+            @NotNull
+            @Override
+            Table<B, A> rightTable() {
+                return new LongTable<B, A>(rightKey, leftKey);
+            }
+
+            @NotNull
+            @Override
+            KeySet<B, A> rightKeys() {
+                return new LongKeySet<B, A>(rightKey, leftKey);
+            }
+        };
+    }
+
+    abstract static class Table<E, P> {
+
+        abstract void add(E element);
+
+        @Nullable
+        abstract List<E> get(P probe);
+    }
+
+    abstract static class KeySet<E, P> {
+
+        abstract void add(E element);
+
+        abstract boolean contains(P probe);
+    }
+
+    private static final class ObjTable<E, P, K> extends Table<E, P> {
+
+        private final Map<K, List<E>> map = new HashMap<K, List<E>>();
+        private final Function<? super E, ? extends K> elementKey;
+        private final Function<? super P, ? extends K> probeKey;
+
+        ObjTable(Function<? super E, ? extends K> elementKey,
+                 Function<? super P, ? extends K> probeKey) {
+            this.elementKey = elementKey;
+            this.probeKey = probeKey;
+        }
+
+        @Override
+        void add(E element) {
+            final K key = elementKey.apply(element);
+            List<E> list = map.get(key);
+            if (list == null) {
+                list = new ArrayList<E>(1);
+                map.put(key, list);
+            }
+            list.add(element);
+        }
+
+        @Nullable
+        @Override
+        List<E> get(P probe) {
+            return map.get(probeKey.apply(probe));
+        }
+    }
+
+    private static final class IntTable<E, P> extends Table<E, P> {
+
+        private final IntHashMap<List<E>> map = new IntHashMap<List<E>>();
+        private final ToIntFunction<? super E> elementKey;
+        private final ToIntFunction<? super P> probeKey;
+
+        IntTable(ToIntFunction<? super E> elementKey, ToIntFunction<? super P> probeKey) {
+            this.elementKey = elementKey;
+            this.probeKey = probeKey;
+        }
+
+        @Override
+        void add(E element) {
+            final int key = elementKey.applyAsInt(element);
+            List<E> list = map.get(key);
+            if (list == null) {
+                list = new ArrayList<E>(1);
+                map.put(key, list);
+            }
+            list.add(element);
+        }
+
+        @Nullable
+        @Override
+        List<E> get(P probe) {
+            return map.get(probeKey.applyAsInt(probe));
+        }
+    }
+
+    private static final class LongTable<E, P> extends Table<E, P> {
+
+        private final LongHashMap<List<E>> map = new LongHashMap<List<E>>();
+        private final ToLongFunction<? super E> elementKey;
+        private final ToLongFunction<? super P> probeKey;
+
+        LongTable(ToLongFunction<? super E> elementKey, ToLongFunction<? super P> probeKey) {
+            this.elementKey = elementKey;
+            this.probeKey = probeKey;
+        }
+
+        @Override
+        void add(E element) {
+            final long key = elementKey.applyAsLong(element);
+            List<E> list = map.get(key);
+            if (list == null) {
+                list = new ArrayList<E>(1);
+                map.put(key, list);
+            }
+            list.add(element);
+        }
+
+        @Nullable
+        @Override
+        List<E> get(P probe) {
+            return map.get(probeKey.applyAsLong(probe));
+        }
+    }
+
+    private static final class ObjKeySet<E, P, K> extends KeySet<E, P> {
+
+        private final Set<K> set = new HashSet<K>();
+        private final Function<? super E, ? extends K> elementKey;
+        private final Function<? super P, ? extends K> probeKey;
+
+        ObjKeySet(Function<? super E, ? extends K> elementKey,
+                  Function<? super P, ? extends K> probeKey) {
+            this.elementKey = elementKey;
+            this.probeKey = probeKey;
+        }
+
+        @Override
+        void add(E element) {
+            set.add(elementKey.apply(element));
+        }
+
+        @Override
+        boolean contains(P probe) {
+            return set.contains(probeKey.apply(probe));
+        }
+    }
+
+    private static final class IntKeySet<E, P> extends KeySet<E, P> {
+
+        private final IntHashSet set = new IntHashSet();
+        private final ToIntFunction<? super E> elementKey;
+        private final ToIntFunction<? super P> probeKey;
+
+        IntKeySet(ToIntFunction<? super E> elementKey, ToIntFunction<? super P> probeKey) {
+            this.elementKey = elementKey;
+            this.probeKey = probeKey;
+        }
+
+        @Override
+        void add(E element) {
+            set.add(elementKey.applyAsInt(element));
+        }
+
+        @Override
+        boolean contains(P probe) {
+            return set.contains(probeKey.applyAsInt(probe));
+        }
+    }
+
+    private static final class LongKeySet<E, P> extends KeySet<E, P> {
+
+        private final LongHashSet set = new LongHashSet();
+        private final ToLongFunction<? super E> elementKey;
+        private final ToLongFunction<? super P> probeKey;
+
+        LongKeySet(ToLongFunction<? super E> elementKey, ToLongFunction<? super P> probeKey) {
+            this.elementKey = elementKey;
+            this.probeKey = probeKey;
+        }
+
+        @Override
+        void add(E element) {
+            set.add(elementKey.applyAsLong(element));
+        }
+
+        @Override
+        boolean contains(P probe) {
+            return set.contains(probeKey.applyAsLong(probe));
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjLimit<T> extends LsaIterator<T> {
+public class ObjLimit<T> extends LsaIterator<T> implements RandomAccessIterator<T> {
 
     private final Iterator<? extends T> iterator;
     private final long maxSize;
@@ -27,4 +29,31 @@ public class ObjLimit<T> extends LsaIterator<T> {
         index++;
         return iterator.next();
     }
+
+    @Override
+    public long remaining() {
+        final long size = Operators.remaining(iterator);
+        if (size < 0) return -1;
+        return Math.min(size, maxSize - index);
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return Operators.isRandomAccess(iterator);
+    }
+
+    @Override
+    public T get(long offset) {
+        if (offset < 0 || offset >= maxSize - index) {
+            throw new IndexOutOfBoundsException(Long.toString(offset));
+        }
+        return ((RandomAccessIterator<? extends T>) iterator).get(offset);
+    }
+
+    @Override
+    public void skip(long n) {
+        final long count = Math.min(n, maxSize - index);
+        Operators.skip(iterator, count);
+        index += count;
+    }
 }
@@ -1,10 +1,14 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
 import com.annimon.stream.function.Function;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.PushIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjMap<T, R> implements Iterator<R> {
+public class ObjMap<T, R> implements PushIterator<R>, RandomAccessIterator<R> {
 
     private final Iterator<? extends T> iterator;
     private final Function<? super T, ? extends R> mapper;
@@ -30,4 +34,43 @@ public class ObjMap<T, R> implements Iterator<R> {
     public R next() {
         return mapper.apply(iterator.next());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super R> action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return Operators.remaining(iterator);
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return Operators.isRandomAccess(iterator);
+    }
+
+    @Override
+    public R get(long offset) {
+        return mapper.apply(((RandomAccessIterator<? extends T>) iterator).get(offset));
+    }
+
+    @Override
+    public void skip(long n) {
+        if (Operators.isRandomAccess(iterator)) {
+            // Skipped elements are not mapped, as with get, so the skip takes constant time
+            ((RandomAccessIterator<? extends T>) iterator).skip(n);
+            return;
+        }
+        // Sequentially skipped elements are still mapped, as with the sequential skip,
+        // so that side-effects of the mapper are preserved
+        for (long i = 0; i < n && iterator.hasNext(); i++) {
+            mapper.apply(iterator.next());
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.DoubleConsumer;
 import com.annimon.stream.function.ToDoubleFunction;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
@@ -26,4 +29,19 @@ public class ObjMapToDouble<T> extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.next());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final DoubleConsumer action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return Operators.remaining(iterator);
+    }
 }
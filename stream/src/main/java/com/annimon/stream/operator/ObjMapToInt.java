@@ -1,6 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.function.ToIntFunction;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
@@ -26,4 +29,19 @@ public class ObjMapToInt<T> extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.next());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final IntConsumer action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return Operators.remaining(iterator);
+    }
 }
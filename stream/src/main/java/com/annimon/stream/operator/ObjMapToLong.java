@@ -1,6 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.LongConsumer;
 import com.annimon.stream.function.ToLongFunction;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
@@ -26,4 +29,19 @@ public class ObjMapToLong<T> extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.next());
     }
+
+    @Override
+    public void pushRemaining(@NotNull final LongConsumer action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long remaining() {
+        return Operators.remaining(iterator);
+    }
 }
@@ -0,0 +1,122 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.BiFunction;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Joins two iterators sorted by key, advancing both in lockstep.
+ * Only the group of right elements with the current key is kept in memory.
+ *
+ * @param <A> the type of the left elements
+ * @param <B> the type of the right elements
+ * @param <K> the type of the key
+ * @param <R> the type of the result elements
+ */
+public class ObjMergeJoin<A, B, K, R> extends LsaExtIterator<R> {
+
+    private final Iterator<? extends A> left;
+    private final Iterator<? extends B> right;
+    private final Function<? super A, ? extends K> leftKey;
+    private final Function<? super B, ? extends K> rightKey;
+    private final Comparator<? super K> comparator;
+    private final BiFunction<? super A, ? super B, ? extends R> combiner;
+    private final List<B> group;
+    private A a;
+    private K aKey;
+    private boolean hasA;
+    private B b;
+    private K bKey;
+    private boolean hasB;
+    private K groupKey;
+    private boolean inGroup;
+    private int index;
+
+    public ObjMergeJoin(
+            @NotNull Iterator<? extends A> left,
+            @NotNull Iterator<? extends B> right,
+            @NotNull Function<? super A, ? extends K> leftKey,
+            @NotNull Function<? super B, ? extends K> rightKey,
+            @NotNull Comparator<? super K> comparator,
+            @NotNull BiFunction<? super A, ? super B, ? extends R> combiner) {
+        this.left = left;
+        this.right = right;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.comparator = comparator;
+        this.combiner = combiner;
+        group = new ArrayList<B>();
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            advanceLeft();
+            advanceRight();
+        }
+        while (true) {
+            if (inGroup) {
+                if (index < group.size()) {
+                    next = combiner.apply(a, group.get(index++));
+                    hasNext = true;
+                    return;
+                }
+                // Next left element may have the same key
+                advanceLeft();
+                if (hasA && comparator.compare(aKey, groupKey) == 0) {
+                    index = 0;
+                    continue;
+                }
+                inGroup = false;
+                group.clear();
+                groupKey = null;
+            }
+            if (!hasA || !hasB) break;
+
+            final int result = comparator.compare(aKey, bKey);
+            if (result < 0) {
+                advanceLeft();
+            } else if (result > 0) {
+                advanceRight();
+            } else {
+                groupKey = bKey;
+                do {
+                    group.add(b);
+                    advanceRight();
+                } while (hasB && comparator.compare(bKey, groupKey) == 0);
+                inGroup = true;
+                index = 0;
+            }
+        }
+        hasNext = false;
+        a = null;
+        b = null;
+    }
+
+    private void advanceLeft() {
+        hasA = left.hasNext();
+        if (hasA) {
+            a = left.next();
+            aKey = leftKey.apply(a);
+        } else {
+            a = null;
+            aKey = null;
+        }
+    }
+
+    private void advanceRight() {
+        hasB = right.hasNext();
+        if (hasB) {
+            b = right.next();
+            bKey = rightKey.apply(b);
+        } else {
+            b = null;
+            bKey = null;
+        }
+    }
+}
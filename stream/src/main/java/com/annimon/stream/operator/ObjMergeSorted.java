@@ -0,0 +1,101 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Merges sorted iterators with a binary min-heap of their current elements.
+ * Takes {@code O(log k)} comparisons per element for {@code k} iterators.
+ * Equal elements are taken from the earlier iterator first.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjMergeSorted<T> extends LsaExtIterator<T> {
+
+    private final List<Iterator<? extends T>> iterators;
+    private final Comparator<? super T> comparator;
+    private final Object[] heads;
+    private final int[] heap;
+    private int heapSize;
+
+    public ObjMergeSorted(
+            @NotNull List<? extends Iterator<? extends T>> iterators,
+            @NotNull Comparator<? super T> comparator) {
+        this.iterators = new ArrayList<Iterator<? extends T>>(iterators);
+        this.comparator = comparator;
+        heads = new Object[this.iterators.size()];
+        heap = new int[this.iterators.size()];
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            for (int i = 0; i < iterators.size(); i++) {
+                final Iterator<? extends T> iterator = iterators.get(i);
+                if (iterator.hasNext()) {
+                    heads[i] = iterator.next();
+                    heap[heapSize] = i;
+                    siftUp(heapSize++);
+                }
+            }
+        }
+        hasNext = heapSize > 0;
+        if (!hasNext) return;
+
+        final int top = heap[0];
+        next = element(top);
+        final Iterator<? extends T> iterator = iterators.get(top);
+        if (iterator.hasNext()) {
+            heads[top] = iterator.next();
+        } else {
+            heads[top] = null;
+            heap[0] = heap[--heapSize];
+        }
+        siftDown(0);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (compare(heap[parent], heap[i]) <= 0) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            final int left = 2 * i + 1;
+            if (left >= heapSize) break;
+            int smallest = left;
+            final int right = left + 1;
+            if (right < heapSize && compare(heap[right], heap[left]) < 0) {
+                smallest = right;
+            }
+            if (compare(heap[i], heap[smallest]) <= 0) break;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private int compare(int index1, int index2) {
+        final int result = comparator.compare(element(index1), element(index2));
+        if (result != 0) return result;
+        return index1 - index2;
+    }
+
+    private void swap(int i, int j) {
+        final int index = heap[i];
+        heap[i] = heap[j];
+        heap[j] = index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) heads[index];
+    }
+}
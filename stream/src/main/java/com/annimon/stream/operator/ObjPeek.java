@@ -1,11 +1,13 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.function.Consumer;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.PushIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjPeek<T> extends LsaIterator<T> {
+public class ObjPeek<T> extends LsaIterator<T> implements PushIterator<T> {
 
     private final Iterator<? extends T> iterator;
     private final Consumer<? super T> action;
@@ -28,4 +30,15 @@ public class ObjPeek<T> extends LsaIterator<T> {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void pushRemaining(@NotNull final Consumer<? super T> downstream) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                action.accept(value);
+                downstream.accept(value);
+            }
+        });
+    }
 }
@@ -0,0 +1,71 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LazyIterator;
+import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+
+public class ObjReverse<T> extends LsaIterator<T> implements RandomAccessIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private RandomAccessIterator<? extends T> source;
+    private long size;
+    private long index;
+
+    public ObjReverse(@NotNull Iterator<? extends T> iterator) {
+        this.iterator = iterator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void init() {
+        if (source != null) return;
+        if (Operators.isRandomAccess(iterator)) {
+            source = (RandomAccessIterator<? extends T>) iterator;
+        } else {
+            // Elements are buffered only if the source has no random access
+            source = new LazyIterator<T>(Operators.toList(iterator));
+        }
+        size = source.remaining();
+        index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        init();
+        return index < size;
+    }
+
+    @Override
+    public T nextIteration() {
+        init();
+        return source.get(size - 1 - index++);
+    }
+
+    @Override
+    public long remaining() {
+        if (source == null) {
+            return Operators.remaining(iterator);
+        }
+        return size - index;
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        init();
+        return true;
+    }
+
+    @Override
+    public T get(long offset) {
+        init();
+        return source.get(size - 1 - index - offset);
+    }
+
+    @Override
+    public void skip(long n) {
+        init();
+        index += Math.min(n, size - index);
+    }
+}
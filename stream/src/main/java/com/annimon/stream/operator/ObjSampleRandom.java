@@ -0,0 +1,81 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaExtIterator;
+import com.annimon.stream.iterator.SizedIterator;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Selects {@code k} random elements in a single pass with O(k) memory
+ * by reservoir sampling.
+ *
+ * @param <T> the type of the elements
+ * @see ReservoirSampling
+ */
+public class ObjSampleRandom<T> extends LsaExtIterator<T> implements SizedIterator<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Iterator<? extends T> iterator;
+    private final int k;
+    private final Random random;
+    private Object[] reservoir;
+    private int size;
+    private int index;
+
+    public ObjSampleRandom(@NotNull Iterator<? extends T> iterator, int k, @NotNull Random random) {
+        this.iterator = iterator;
+        this.k = k;
+        this.random = random;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        if (!isInit) {
+            sample();
+        }
+        hasNext = index < size;
+        if (hasNext) {
+            next = (T) reservoir[index];
+            reservoir[index++] = null;
+        } else {
+            reservoir = null;
+        }
+    }
+
+    @Override
+    public long remaining() {
+        if (!isInit) {
+            final long upstream = Operators.remaining(iterator);
+            return (upstream < 0) ? -1 : Math.min(upstream, k);
+        }
+        return size - index + (hasNext ? 1 : 0);
+    }
+
+    private void sample() {
+        final long expected = Operators.remaining(iterator);
+        int capacity = Math.min(k, INITIAL_CAPACITY);
+        if (expected >= 0) {
+            capacity = (int) Math.min(k, expected);
+        }
+        reservoir = new Object[capacity];
+        while (size < k && iterator.hasNext()) {
+            if (size == reservoir.length) {
+                reservoir = Arrays.copyOf(reservoir, (int) Math.min(k, Math.max(INITIAL_CAPACITY, size * 2L)));
+            }
+            reservoir[size++] = iterator.next();
+        }
+        if (size < k) return;
+
+        final ReservoirSampling sampling = new ReservoirSampling(random, k);
+        while (true) {
+            Operators.skip(iterator, sampling.nextGap());
+            if (!iterator.hasNext()) break;
+            reservoir[sampling.nextSlot()] = iterator.next();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
 import java.util.Iterator;
 import org.jetbrains.annotations.NotNull;
 
-public class ObjSkip<T> extends LsaIterator<T> {
+public class ObjSkip<T> extends LsaIterator<T> implements RandomAccessIterator<T> {
 
     private final Iterator<? extends T> iterator;
     private final long n;
@@ -18,6 +20,9 @@ public class ObjSkip<T> extends LsaIterator<T> {
 
     @Override
     public boolean hasNext() {
+        if (skipped < n && Operators.isRandomAccess(iterator)) {
+            skipLeading();
+        }
         while (skipped < n) {
             if (!iterator.hasNext()) {
                 return false;
@@ -32,4 +37,35 @@ public class ObjSkip<T> extends LsaIterator<T> {
     public T nextIteration() {
         return iterator.next();
     }
+
+    @Override
+    public long remaining() {
+        final long size = Operators.remaining(iterator);
+        if (size < 0) return -1;
+        return Math.max(0, size - (n - skipped));
+    }
+
+    @Override
+    public boolean isRandomAccess() {
+        return Operators.isRandomAccess(iterator);
+    }
+
+    @Override
+    public T get(long offset) {
+        skipLeading();
+        return ((RandomAccessIterator<? extends T>) iterator).get(offset);
+    }
+
+    @Override
+    public void skip(long count) {
+        skipLeading();
+        Operators.skip(iterator, count);
+    }
+
+    private void skipLeading() {
+        if (skipped < n) {
+            Operators.skip(iterator, n - skipped);
+            skipped = n;
+        }
+    }
 }
@@ -1,56 +1,119 @@
 package com.annimon.stream.operator;
 
-import com.annimon.stream.internal.Compat;
 import com.annimon.stream.iterator.LsaIterator;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.RandomAccess;
 import org.jetbrains.annotations.NotNull;
 
 public class ObjSlidingWindow<T> extends LsaIterator<List<T>> {
 
-    private final Queue<T> queue;
+    private static final int INITIAL_CAPACITY = 16;
+
     private final Iterator<? extends T> iterator;
     private final int windowSize;
     private final int stepWidth;
+    private final boolean copy;
+    // Ring buffer of the current window, grows up to the window size as elements arrive
+    private Object[] buffer;
+    private int head;
+    private int count;
+    private boolean stepPending;
 
     public ObjSlidingWindow(
             @NotNull Iterator<? extends T> iterator,
             int windowSize, int stepWidth) {
+        this(iterator, windowSize, stepWidth, true);
+    }
+
+    public ObjSlidingWindow(
+            @NotNull Iterator<? extends T> iterator,
+            int windowSize, int stepWidth, boolean copy) {
         this.iterator = iterator;
         this.windowSize = windowSize;
         this.stepWidth = stepWidth;
-        queue = Compat.queue();
+        this.copy = copy;
+        buffer = new Object[Math.min(windowSize, INITIAL_CAPACITY)];
     }
 
     @Override
     public boolean hasNext() {
+        step();
         return iterator.hasNext();
     }
 
     @Override
     public List<T> nextIteration() {
-        int i = queue.size();
-        while (i < windowSize && iterator.hasNext()) {
-            queue.offer(iterator.next());
-            i++;
+        step();
+        while (count < windowSize && iterator.hasNext()) {
+            if (count == buffer.length) {
+                grow();
+            }
+            buffer[(head + count) % buffer.length] = iterator.next();
+            count++;
         }
+        stepPending = true;
 
-        // the elements that are currently in the queue are the elements of our current window
-        List<T> list = new ArrayList<T>(queue);
+        if (!copy) {
+            // The view reads the buffer, so the window is moved on the next request
+            return new WindowView();
+        }
+        final List<T> list = new ArrayList<T>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(elementAt(i));
+        }
+        return list;
+    }
 
-        // remove stepWidth elements from the queue
-        final int pollCount = Math.min(queue.size(), stepWidth);
+    private void step() {
+        if (!stepPending) return;
+        stepPending = false;
+
+        // remove stepWidth elements from the window
+        final int pollCount = Math.min(count, stepWidth);
         for (int j = 0; j < pollCount; j++) {
-            queue.poll();
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
         }
+        count -= pollCount;
 
         // if the stepWidth is greater than the windowSize, skip (stepWidth - windowSize) elements
         for (int j = windowSize; j < stepWidth && iterator.hasNext(); j++) {
             iterator.next();
         }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) buffer[(head + index) % buffer.length];
+    }
+
+    private void grow() {
+        final Object[] grown = new Object[(int) Math.min(windowSize, buffer.length * 2L)];
+        for (int i = 0; i < count; i++) {
+            grown[i] = buffer[(head + i) % buffer.length];
+        }
+        buffer = grown;
+        head = 0;
+    }
 
-        return list;
+    private final class WindowView extends AbstractList<T> implements RandomAccess {
+
+        private final int size = count;
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return elementAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
@@ -1,7 +1,10 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.ParallelSort;
 import com.annimon.stream.iterator.LsaExtIterator;
+import com.annimon.stream.iterator.SizedIterator;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -9,29 +12,71 @@ import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public class ObjSorted<T> extends LsaExtIterator<T> {
+public class ObjSorted<T> extends LsaExtIterator<T> implements SizedIterator<T> {
 
     private final Iterator<? extends T> iterator;
     private final Comparator<? super T> comparator;
-    private Iterator<T> sortedIterator;
+    private final int parallelism;
+    private List<T> list;
+    private int index;
 
     public ObjSorted(
             @NotNull Iterator<? extends T> iterator,
             @Nullable Comparator<? super T> comparator) {
+        this(iterator, comparator, 1);
+    }
+
+    public ObjSorted(
+            @NotNull Iterator<? extends T> iterator,
+            @Nullable Comparator<? super T> comparator,
+            int parallelism) {
         this.iterator = iterator;
         this.comparator = comparator;
+        this.parallelism = parallelism;
     }
 
     @Override
     protected void nextIteration() {
         if (!isInit) {
-            final List<T> list = Operators.<T>toList(iterator);
-            Collections.sort(list, comparator);
-            sortedIterator = list.iterator();
+            list = Operators.<T>toList(iterator);
+            if (parallelism > 1) {
+                sortParallel();
+            } else {
+                Collections.sort(list, comparator);
+            }
         }
-        hasNext = sortedIterator.hasNext();
+        hasNext = index < list.size();
         if (hasNext) {
-            next = sortedIterator.next();
+            next = list.get(index++);
         }
     }
+
+    @Override
+    public long remaining() {
+        if (!isInit) {
+            return Operators.remaining(iterator);
+        }
+        return list.size() - index + (hasNext ? 1 : 0);
+    }
+
+    /**
+     * Returns the iterator, which emits only the first {@code maxSize} sorted elements
+     * and keeps them in a bounded heap instead of sorting all elements.
+     *
+     * @param maxSize  the number of elements to select
+     * @return the new iterator or {@code null} if the sorting is already started
+     *         or the number of elements is too close to {@code maxSize}
+     */
+    @Nullable
+    public ObjTopK<T> limit(long maxSize) {
+        if (isInit || !ObjTopK.isCheaperThanSort(maxSize, Operators.remaining(iterator))) return null;
+        return new ObjTopK<T>(iterator, (int) maxSize, comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortParallel() {
+        final T[] array = (T[]) list.toArray();
+        ParallelSort.sort(array, comparator, parallelism);
+        list = Arrays.asList(array);
+    }
 }
@@ -0,0 +1,239 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Codec;
+import com.annimon.stream.UncheckedIOException;
+import com.annimon.stream.internal.SortRuns;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sorts elements keeping at most {@code memoryBudget} of them in memory.
+ * Sorted runs are written to temporary files and lazily merged back.
+ * Equal elements are kept in encounter order.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjSortedExternal<T> extends LsaExtIterator<T> implements Closeable {
+
+    private final Iterator<? extends T> iterator;
+    private final Comparator<? super T> comparator;
+    private final Codec<T> codec;
+    private final int memoryBudget;
+    private final SortRuns runs;
+    // Elements are not spilled if they all fit in memory
+    private List<T> list;
+    private int index;
+    // Merging state: the current element of each run and a min-heap of run indices
+    private DataInputStream[] inputs;
+    private Object[] heads;
+    private long[] left;
+    private int[] heap;
+    private int heapSize;
+
+    public ObjSortedExternal(
+            @NotNull Iterator<? extends T> iterator,
+            @Nullable Comparator<? super T> comparator,
+            @NotNull Codec<T> codec, int memoryBudget) {
+        this.iterator = iterator;
+        this.codec = codec;
+        this.memoryBudget = memoryBudget;
+        if (comparator != null) {
+            this.comparator = comparator;
+        } else {
+            this.comparator = new Comparator<T>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public int compare(T o1, T o2) {
+                    return ((Comparable<Object>) o1).compareTo(o2);
+                }
+            };
+        }
+        runs = new SortRuns();
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            init();
+        }
+        if (list != null) {
+            hasNext = index < list.size();
+            if (hasNext) {
+                next = list.get(index++);
+            }
+            return;
+        }
+        hasNext = heapSize > 0;
+        if (hasNext) {
+            next = poll();
+        } else {
+            close();
+        }
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @Override
+    public void close() {
+        runs.close();
+    }
+
+    private void init() {
+        final List<T> chunk = new ArrayList<T>(Math.min(memoryBudget, 1024));
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == memoryBudget && iterator.hasNext()) {
+                spill(chunk);
+            }
+        }
+        if (runs.size() == 0) {
+            Collections.sort(chunk, comparator);
+            list = chunk;
+            return;
+        }
+        if (!chunk.isEmpty()) {
+            spill(chunk);
+        }
+
+        while (runs.size() > SortRuns.MAX_FAN_IN) {
+            mergePass();
+        }
+        startMerge(runs.size());
+    }
+
+    // Merges consecutive groups of runs into new runs, keeping the order of runs
+    private void mergePass() {
+        final int count = runs.size();
+        for (int from = 0; from < count; from += SortRuns.MAX_FAN_IN) {
+            final long total = startMerge(Math.min(SortRuns.MAX_FAN_IN, count - from));
+            final DataOutputStream output = runs.create(total);
+            try {
+                while (heapSize > 0) {
+                    codec.write(output, poll());
+                }
+                output.close();
+            } catch (IOException e) {
+                SortRuns.closeQuietly(output);
+                close();
+                throw new UncheckedIOException("Cannot write a sorted run file", e);
+            }
+            runs.release();
+        }
+    }
+
+    private long startMerge(int count) {
+        inputs = runs.open(count);
+        heads = new Object[count];
+        left = new long[count];
+        heap = new int[count];
+        heapSize = 0;
+        long total = 0;
+        try {
+            for (int run = 0; run < count; run++) {
+                left[run] = inputs[run].readLong();
+                total += left[run];
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Cannot read a sorted run file", e);
+        }
+        for (int run = 0; run < count; run++) {
+            heads[run] = read(run);
+            heap[heapSize] = run;
+            siftUp(heapSize++);
+        }
+        return total;
+    }
+
+    private T poll() {
+        final int run = heap[0];
+        final T value = element(run);
+        if (left[run] > 0) {
+            heads[run] = read(run);
+        } else {
+            heads[run] = null;
+            heap[0] = heap[--heapSize];
+        }
+        siftDown(0);
+        return value;
+    }
+
+    private void spill(List<T> chunk) {
+        Collections.sort(chunk, comparator);
+        final DataOutputStream output = runs.create(chunk.size());
+        try {
+            for (T value : chunk) {
+                codec.write(output, value);
+            }
+            output.close();
+        } catch (IOException e) {
+            SortRuns.closeQuietly(output);
+            close();
+            throw new UncheckedIOException("Cannot write a sorted run file", e);
+        }
+        chunk.clear();
+    }
+
+    private T read(int run) {
+        left[run]--;
+        try {
+            return codec.read(inputs[run]);
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Cannot read a sorted run file", e);
+        }
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (compare(heap[parent], heap[i]) <= 0) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            final int leftChild = 2 * i + 1;
+            if (leftChild >= heapSize) break;
+            int smallest = leftChild;
+            final int right = leftChild + 1;
+            if (right < heapSize && compare(heap[right], heap[leftChild]) < 0) {
+                smallest = right;
+            }
+            if (compare(heap[i], heap[smallest]) <= 0) break;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private int compare(int run1, int run2) {
+        final int result = comparator.compare(element(run1), element(run2));
+        if (result != 0) return result;
+        // Earlier runs contain earlier elements
+        return run1 - run2;
+    }
+
+    private void swap(int i, int j) {
+        final int run = heap[i];
+        heap[i] = heap[j];
+        heap[j] = run;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int run) {
+        return (T) heads[run];
+    }
+}
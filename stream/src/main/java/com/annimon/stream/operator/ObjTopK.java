@@ -0,0 +1,171 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Objects;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaExtIterator;
+import com.annimon.stream.iterator.SizedIterator;
+import java.util.Comparator;
+import java.util.Iterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emits the first {@code maxSize} elements in the comparator order,
+ * as {@code sorted(comparator).limit(maxSize)} does, but keeps only
+ * {@code maxSize} elements in a bounded max-heap.
+ * Equal elements are kept in encounter order.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjTopK<T> extends LsaExtIterator<T> implements SizedIterator<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Iterator<? extends T> iterator;
+    private final int maxSize;
+    private final Comparator<? super T> comparator;
+    private Object[] heap;
+    private long[] order;
+    private int size;
+    private int index;
+
+    public ObjTopK(
+            @NotNull Iterator<? extends T> iterator, int maxSize,
+            @Nullable Comparator<? super T> comparator) {
+        this.iterator = iterator;
+        this.maxSize = maxSize;
+        if (comparator != null) {
+            this.comparator = comparator;
+        } else {
+            this.comparator = new Comparator<T>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public int compare(T o1, T o2) {
+                    return ((Comparable<Object>) o1).compareTo(o2);
+                }
+            };
+        }
+    }
+
+    /**
+     * Returns whether selecting {@code maxSize} elements with a bounded heap is cheaper
+     * than sorting all {@code size} elements. The heap is used only when {@code maxSize}
+     * is much smaller than the number of elements, or when that number is unknown.
+     *
+     * @param maxSize  the number of elements to select
+     * @param size  the number of elements, or {@code -1} if unknown
+     * @return {@code true} if the heap selection should replace the sorting
+     */
+    static boolean isCheaperThanSort(long maxSize, long size) {
+        if (maxSize > Integer.MAX_VALUE) return false;
+        return size < 0 || maxSize <= (size >>> 3);
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            select();
+        }
+        hasNext = index < size;
+        if (hasNext) {
+            next = element(index++);
+        }
+    }
+
+    @Override
+    public long remaining() {
+        if (!isInit) {
+            final long upstream = Operators.remaining(iterator);
+            return (upstream < 0) ? -1 : Math.min(upstream, maxSize);
+        }
+        return size - index + (hasNext ? 1 : 0);
+    }
+
+    private void select() {
+        final long expected = Operators.remaining(iterator);
+        int capacity = Math.min(maxSize, INITIAL_CAPACITY);
+        if (expected >= 0) {
+            capacity = (int) Math.min(maxSize, expected);
+        }
+        heap = new Object[capacity];
+        order = new long[capacity];
+
+        long counter = 0;
+        while (iterator.hasNext()) {
+            final T value = iterator.next();
+            final long position = counter++;
+            if (size < maxSize) {
+                if (size == heap.length) grow();
+                heap[size] = value;
+                order[size] = position;
+                siftUp(size++);
+            } else if (comparator.compare(value, element(0)) < 0) {
+                // Equal elements come later in the encounter order, so they are rejected
+                heap[0] = value;
+                order[0] = position;
+                siftDown(0, size);
+            }
+        }
+
+        // Heap sort in place, the greatest element goes to the end
+        for (int last = size - 1; last > 0; last--) {
+            swap(0, last);
+            siftDown(0, last);
+        }
+        order = null;
+    }
+
+    private void grow() {
+        final int capacity = (int) Math.min(maxSize, Math.max(1, heap.length * 2L));
+        final Object[] newHeap = new Object[capacity];
+        final long[] newOrder = new long[capacity];
+        System.arraycopy(heap, 0, newHeap, 0, size);
+        System.arraycopy(order, 0, newOrder, 0, size);
+        heap = newHeap;
+        order = newOrder;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (compare(i, parent) <= 0) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int length) {
+        while (true) {
+            final int left = 2 * i + 1;
+            if (left >= length) break;
+            int largest = left;
+            final int right = left + 1;
+            if (right < length && compare(right, left) > 0) {
+                largest = right;
+            }
+            if (compare(i, largest) >= 0) break;
+            swap(i, largest);
+            i = largest;
+        }
+    }
+
+    private int compare(int i, int j) {
+        final int result = comparator.compare(element(i), element(j));
+        if (result != 0) return result;
+        return Objects.compareLong(order[i], order[j]);
+    }
+
+    private void swap(int i, int j) {
+        final Object value = heap[i];
+        heap[i] = heap[j];
+        heap[j] = value;
+        final long position = order[i];
+        order[i] = order[j];
+        order[j] = position;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int i) {
+        return (T) heap[i];
+    }
+}
@@ -0,0 +1,49 @@
+package com.annimon.stream.operator;
+
+import java.util.Random;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Algorithm L for reservoir sampling: once the reservoir is full,
+ * computes how many elements to skip before the next replacement,
+ * instead of drawing a random number for each element.
+ */
+final class ReservoirSampling {
+
+    private final Random random;
+    private final int k;
+    private double w;
+
+    ReservoirSampling(@NotNull Random random, int k) {
+        this.random = random;
+        this.k = k;
+        this.w = Math.exp(Math.log(nextUniform()) / k);
+    }
+
+    /**
+     * Returns the number of elements to skip before the next element to put in the reservoir.
+     *
+     * @return the number of elements to skip
+     */
+    long nextGap() {
+        final double gap = Math.floor(Math.log(nextUniform()) / Math.log1p(-w));
+        // Large gaps (including infinity) are saturated by the cast
+        return (long) gap;
+    }
+
+    /**
+     * Returns the reservoir slot to replace and updates the skip distribution.
+     *
+     * @return the index in the reservoir
+     */
+    int nextSlot() {
+        final int slot = random.nextInt(k);
+        w *= Math.exp(Math.log(nextUniform()) / k);
+        return slot;
+    }
+
+    private double nextUniform() {
+        // Value in (0, 1], so the logarithm is finite
+        return 1d - random.nextDouble();
+    }
+}
@@ -0,0 +1,38 @@
+package com.annimon.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public class CodecTest {
+
+    @Test
+    public void testOfString() throws IOException {
+        final StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 70000; i++) {
+            longString.append('я');
+        }
+        assertEquals("", roundTrip(Codec.Util.ofString(), ""));
+        assertEquals("привет", roundTrip(Codec.Util.ofString(), "привет"));
+        assertEquals(longString.toString(), roundTrip(Codec.Util.ofString(), longString.toString()));
+    }
+
+    @Test
+    public void testOfNumbers() throws IOException {
+        assertEquals(Integer.MIN_VALUE, (int) roundTrip(Codec.Util.ofInteger(), Integer.MIN_VALUE));
+        assertEquals(Long.MAX_VALUE, (long) roundTrip(Codec.Util.ofLong(), Long.MAX_VALUE));
+        assertEquals(-0.5, roundTrip(Codec.Util.ofDouble(), -0.5), 0.0);
+    }
+
+    private static <T> T roundTrip(Codec<T> codec, T value) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        codec.write(output, value);
+        output.close();
+        return codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
@@ -16,6 +16,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -629,6 +630,224 @@ public class CollectorsTest {
         ));
     }
 
+    @Test
+    public void testSummarizingInt() {
+        IntSummaryStatistics stats = Stream.of("abc", "a", "ab")
+                .collect(Collectors.summarizingInt(new ToIntFunction<String>() {
+                    @Override
+                    public int applyAsInt(String t) {
+                        return t.length();
+                    }
+                }));
+        assertEquals(3, stats.getCount());
+        assertEquals(6, stats.getSum());
+        assertEquals(1, stats.getMin());
+        assertEquals(3, stats.getMax());
+    }
+
+    @Test
+    public void testSummarizingLongParallel() {
+        LongSummaryStatistics stats = Stream.range(0, 10000)
+                .collectParallel(Collectors.summarizingLong(new ToLongFunction<Integer>() {
+                    @Override
+                    public long applyAsLong(Integer t) {
+                        return t * 1000000L;
+                    }
+                }), 4);
+        assertEquals(10000, stats.getCount());
+        assertEquals(49995000L * 1000000L, stats.getSum());
+        assertEquals(0, stats.getMin());
+        assertEquals(9999000000L, stats.getMax());
+    }
+
+    @Test
+    public void testSummarizingDouble() {
+        DoubleSummaryStatistics stats = Stream.of(0.5, 2.5, 1.5)
+                .collect(Collectors.summarizingDouble(new ToDoubleFunction<Double>() {
+                    @Override
+                    public double applyAsDouble(Double t) {
+                        return t;
+                    }
+                }));
+        assertEquals(3, stats.getCount());
+        assertEquals(4.5, stats.getSum(), 0.0);
+        assertEquals(1.5, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testApproxCountDistinct() {
+        long estimate = Stream.of("a", "b", "c", "b", "a", null)
+                .collect(Collectors.<String>approxCountDistinct(12));
+        assertEquals(4, estimate);
+    }
+
+    @Test
+    public void testApproxCountDistinctParallel() {
+        long estimate = Stream.range(0, 300000)
+                .map(new Function<Integer, String>() {
+                    @Override
+                    public String apply(Integer value) {
+                        return "item" + (value % 150000);
+                    }
+                })
+                .collectParallel(Collectors.<String>approxCountDistinct(14), 4);
+        // Five standard errors of 0.81%
+        assertEquals(150000, estimate, 6100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApproxCountDistinctWithInvalidPrecision() {
+        Collectors.approxCountDistinct(19);
+    }
+
+    @Test
+    public void testQuantiles() {
+        QuantileSketch sketch = Stream.range(0, 100000)
+                .collectParallel(Collectors.quantiles(new ToDoubleFunction<Integer>() {
+                    @Override
+                    public double applyAsDouble(Integer t) {
+                        return t;
+                    }
+                }, 100), 4);
+        assertEquals(100000, sketch.getCount());
+        assertEquals(0, sketch.getMin(), 0.0);
+        assertEquals(99999, sketch.getMax(), 0.0);
+        assertEquals(50000, sketch.quantile(0.5), 1000);
+        assertEquals(99000, sketch.quantile(0.99), 100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantilesWithInvalidCompression() {
+        Collectors.quantiles(new ToDoubleFunction<Integer>() {
+            @Override
+            public double applyAsDouble(Integer t) {
+                return t;
+            }
+        }, 20000);
+    }
+
+    @Test
+    public void testHeavyHitters() {
+        List<Map.Entry<String, Long>> top = Stream.of("a", "b", "a", "c", "a", "b")
+                .collect(Collectors.heavyHitters(3, UnaryOperator.Util.<String>identity()));
+        assertThat(top, contains(
+                (Map.Entry<String, Long>) new AbstractMap.SimpleEntry<String, Long>("a", 3L),
+                new AbstractMap.SimpleEntry<String, Long>("b", 2L),
+                new AbstractMap.SimpleEntry<String, Long>("c", 1L)
+        ));
+    }
+
+    @Test
+    public void testHeavyHittersByStudentCourse() {
+        List<Map.Entry<Integer, Long>> top = Stream.of(Students.ALL)
+                .collect(Collectors.heavyHitters(1, Students.course));
+        assertEquals(1, top.size());
+        assertTrue(top.get(0).getValue() >= 3);
+    }
+
+    @Test
+    public void testHeavyHittersWithCapacity() {
+        List<Map.Entry<String, Long>> top = Stream.of("a", "b", "a", "c", "a", "b")
+                .collect(Collectors.heavyHitters(2, 3, UnaryOperator.Util.<String>identity()));
+        assertThat(top, contains(
+                (Map.Entry<String, Long>) new AbstractMap.SimpleEntry<String, Long>("a", 3L),
+                new AbstractMap.SimpleEntry<String, Long>("b", 2L)
+        ));
+    }
+
+    @Test
+    public void testHeavyHittersCombiner() {
+        Collector<String, ?, List<Map.Entry<String, Long>>> collector =
+                Collectors.heavyHitters(2, 3, UnaryOperator.Util.<String>identity());
+        List<Map.Entry<String, Long>> top = combine(collectorOf(collector),
+                Arrays.asList("a", "b", "a"), Arrays.asList("c", "a", "b"));
+        assertThat(top, contains(
+                (Map.Entry<String, Long>) new AbstractMap.SimpleEntry<String, Long>("a", 3L),
+                new AbstractMap.SimpleEntry<String, Long>("b", 2L)
+        ));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHeavyHittersWithTooSmallCapacity() {
+        Collectors.heavyHitters(3, 2, UnaryOperator.Util.<String>identity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHeavyHittersWithInvalidSize() {
+        Collectors.heavyHitters(0, UnaryOperator.Util.<String>identity());
+    }
+
+    @Test
+    public void testGroupingByInt() {
+        Map<Integer, Long> byCounting = Stream.of(1, 2, 2, 0, 0, 0, -4, -4, -4, -4)
+                .collect(Collectors.groupingByInt(
+                        new ToIntFunction<Integer>() {
+                            @Override
+                            public int applyAsInt(Integer t) {
+                                return t;
+                            }
+                        },
+                        Collectors.<Integer>counting()));
+        assertThat(byCounting.size(), is(4));
+        assertThat(byCounting, allOf(
+                hasEntry(1, 1L),
+                hasEntry(2, 2L),
+                hasEntry(0, 3L),
+                hasEntry(-4, 4L)
+        ));
+    }
+
+    @Test
+    public void testGroupingByIntStudentCourse() {
+        Map<Integer, List<Student>> expected = Stream.of(Students.ALL)
+                .collect(Collectors.groupingBy(Students.course));
+        Map<Integer, List<Student>> byCourse = Stream.of(Students.ALL)
+                .collect(Collectors.groupingByInt(new ToIntFunction<Student>() {
+                    @Override
+                    public int applyAsInt(Student student) {
+                        return student.getCourse();
+                    }
+                }, Collectors.<Student>toList()));
+        assertThat(byCourse, is(expected));
+    }
+
+    @Test
+    public void testGroupingByIntParallel() {
+        Map<Integer, Integer> bySum = Stream.range(0, 10000)
+                .collectParallel(Collectors.groupingByInt(
+                        new ToIntFunction<Integer>() {
+                            @Override
+                            public int applyAsInt(Integer t) {
+                                return t % 3;
+                            }
+                        },
+                        Collectors.summingInt(Functions.toInt())), 4);
+        assertThat(bySum, allOf(
+                hasEntry(0, 16668333),
+                hasEntry(1, 16661667),
+                hasEntry(2, 16665000)
+        ));
+    }
+
+    @Test
+    public void testGroupingByLong() {
+        Map<Long, String> byKey = Stream.of("a", "bb", "c", "dd", "eee")
+                .collect(Collectors.groupingByLong(
+                        new ToLongFunction<String>() {
+                            @Override
+                            public long applyAsLong(String t) {
+                                return t.length() * 10000000000L;
+                            }
+                        },
+                        Collectors.joining()));
+        assertThat(byKey.size(), is(3));
+        assertThat(byKey, allOf(
+                hasEntry(10000000000L, "ac"),
+                hasEntry(20000000000L, "bbdd"),
+                hasEntry(30000000000L, "eee")
+        ));
+    }
+
     @Test
     public void testGroupingByStudentSpeciality() {
         Map<String, List<Student>> bySpeciality = Stream.of(Students.ALL)
@@ -877,6 +1096,119 @@ public class CollectorsTest {
         assertThat(result.getValue(), containsInAnyOrder(1, 2, 3, 4, 5));
     }
 
+    @Test
+    public void testToListCombiner() {
+        Collector<Integer, List<Integer>, List<Integer>> collector = collectorOf(Collectors.<Integer>toList());
+        List<Integer> list = combine(collector, Arrays.asList(1, 2), Arrays.asList(3, 4, 5));
+        assertThat(list, contains(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void testToMapCombinerDuplicateKey() {
+        final Collector<Integer, Map<Integer, Integer>, Map<Integer, Integer>> collector =
+                collectorOf(Collectors.toMap(UnaryOperator.Util.<Integer>identity()));
+        assertThrows(IllegalStateException.class, new ThrowingRunnable() {
+            @Override
+            public void run() {
+                combine(collector, Arrays.asList(1, 2), Arrays.asList(2, 3));
+            }
+        });
+    }
+
+    @Test
+    public void testJoiningCombiner() {
+        Collector<CharSequence, Object, String> collector =
+                collectorOf(Collectors.joining(", ", "[", "]"));
+        assertEquals("[a, b, c]", combine(collector,
+                Arrays.<CharSequence>asList("a", "b"), Arrays.<CharSequence>asList("c")));
+        assertEquals("[c]", combine(collector,
+                Arrays.<CharSequence>asList(), Arrays.<CharSequence>asList("c")));
+        assertEquals("[a]", combine(collector,
+                Arrays.<CharSequence>asList("a"), Arrays.<CharSequence>asList()));
+    }
+
+    @Test
+    public void testJoiningCombinerWithEmptyStrings() {
+        Collector<CharSequence, Object, String> collector =
+                collectorOf(Collectors.joining(","));
+        assertEquals("a,,b", combine(collector,
+                Arrays.<CharSequence>asList("a"), Arrays.<CharSequence>asList("", "b")));
+        assertEquals(",", combine(collector,
+                Arrays.<CharSequence>asList(""), Arrays.<CharSequence>asList("")));
+        assertEquals("", combine(collector,
+                Arrays.<CharSequence>asList(), Arrays.<CharSequence>asList()));
+        assertEquals(",b", Stream.of("", "b").collect(Collectors.joining(",")));
+    }
+
+    @Test
+    public void testAveragingIntCombiner() {
+        Collector<Integer, Object, Double> collector = collectorOf(
+                Collectors.averagingInt(new ToIntFunction<Integer>() {
+                    @Override
+                    public int applyAsInt(Integer t) {
+                        return t;
+                    }
+                }));
+        double avg = combine(collector, Arrays.asList(1, 2, 3), Arrays.asList(10));
+        assertThat(avg, closeTo(4, 0.001));
+    }
+
+    @Test
+    public void testGroupingByCombiner() {
+        Collector<Integer, Object, Map<Integer, Long>> collector = collectorOf(
+                Collectors.groupingBy(
+                        UnaryOperator.Util.<Integer>identity(),
+                        Collectors.<Integer>counting()));
+        Map<Integer, Long> result = combine(collector,
+                Arrays.asList(1, 2, 2, 3), Arrays.asList(3, 3, 4, 4));
+        assertThat(result, allOf(
+                hasEntry(1, 1L),
+                hasEntry(2, 2L),
+                hasEntry(3, 3L),
+                hasEntry(4, 2L)
+        ));
+    }
+
+    @Test
+    public void testTeeingCombiner() {
+        Collector<Integer, Object, String> collector = collectorOf(
+                Collectors.teeing(
+                        Collectors.<Integer>toList(),
+                        Collectors.<Integer>counting(),
+                        new BiFunction<List<Integer>, Long, String>() {
+                            @Override
+                            public String apply(List<Integer> list, Long count) {
+                                return list + ":" + count;
+                            }
+                        }));
+        assertEquals("[1, 2, 3]:3", combine(collector, Arrays.asList(1), Arrays.asList(2, 3)));
+    }
+
+    @Test
+    public void testCombinerOfSequentialOnlyCollector() {
+        Collector<CharSequence, ?, String> collector = Collectors.mapping(
+                UnaryOperator.Util.<CharSequence>identity(),
+                Functions.joiningCollector());
+        assertThat(Collectors.combinerOf(collector), nullValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, A, R> Collector<T, A, R> collectorOf(Collector<T, ?, R> collector) {
+        return (Collector<T, A, R>) collector;
+    }
+
+    private static <T, A, R> R combine(Collector<T, A, R> collector, List<T> first, List<T> second) {
+        final A a = collector.supplier().get();
+        for (T t : first) {
+            collector.accumulator().accept(a, t);
+        }
+        final A b = collector.supplier().get();
+        for (T t : second) {
+            collector.accumulator().accept(b, t);
+        }
+        return collector.finisher().apply(Collectors.combinerOf(collector).apply(a, b));
+    }
+
     @Test
     public void testPrivateConstructor() throws Exception {
         assertThat(Collectors.class, hasOnlyPrivateConstructors());
@@ -0,0 +1,83 @@
+package com.annimon.stream;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class DoubleSummaryStatisticsTest {
+
+    @Test
+    public void testEmpty() {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        assertEquals(0, stats.getCount());
+        assertEquals(0d, stats.getSum(), 0.0);
+        assertEquals(Double.POSITIVE_INFINITY, stats.getMin(), 0.0);
+        assertEquals(Double.NEGATIVE_INFINITY, stats.getMax(), 0.0);
+        assertEquals(0d, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testAccept() {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        stats.accept(0.5);
+        stats.accept(-1.5);
+        stats.accept(4);
+        assertEquals(3, stats.getCount());
+        assertEquals(3d, stats.getSum(), 0.0);
+        assertEquals(-1.5, stats.getMin(), 0.0);
+        assertEquals(4, stats.getMax(), 0.0);
+        assertEquals(1d, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testCompensatedSum() {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        double simpleSum = 0;
+        for (int i = 0; i < 1000000; i++) {
+            stats.accept(0.1);
+            simpleSum += 0.1;
+        }
+        assertEquals(100000d, stats.getSum(), 1e-9);
+        assertTrue(Math.abs(simpleSum - 100000d) > 1e-9);
+    }
+
+    @Test
+    public void testCompensatedSumWithLargeValues() {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        stats.accept(1e16);
+        stats.accept(1.0);
+        stats.accept(1.0);
+        stats.accept(-1e16);
+        assertEquals(2d, stats.getSum(), 0.0);
+    }
+
+    @Test
+    public void testInfiniteAndNaN() {
+        DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        stats.accept(Double.POSITIVE_INFINITY);
+        stats.accept(1.0);
+        assertEquals(Double.POSITIVE_INFINITY, stats.getSum(), 0.0);
+        assertEquals(Double.POSITIVE_INFINITY, stats.getMax(), 0.0);
+
+        stats.accept(Double.NaN);
+        assertTrue(Double.isNaN(stats.getSum()));
+        assertTrue(Double.isNaN(stats.getMin()));
+    }
+
+    @Test
+    public void testCombine() {
+        DoubleSummaryStatistics first = new DoubleSummaryStatistics();
+        DoubleSummaryStatistics second = new DoubleSummaryStatistics();
+        for (int i = 0; i < 500000; i++) {
+            first.accept(0.1);
+            second.accept(0.1);
+        }
+        second.accept(-3);
+
+        first.combine(second);
+        assertEquals(1000001, first.getCount());
+        assertEquals(99997d, first.getSum(), 1e-9);
+        assertEquals(-3, first.getMin(), 0.0);
+        assertEquals(0.1, first.getMax(), 0.0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.annimon.stream;
+
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+
+public final class IntSummaryStatisticsTest {
+
+    @Test
+    public void testEmpty() {
+        IntSummaryStatistics stats = new IntSummaryStatistics();
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getSum());
+        assertEquals(Integer.MAX_VALUE, stats.getMin());
+        assertEquals(Integer.MIN_VALUE, stats.getMax());
+        assertEquals(0d, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testAccept() {
+        IntSummaryStatistics stats = new IntSummaryStatistics();
+        stats.accept(5);
+        stats.accept(-3);
+        stats.accept(10);
+        assertEquals(3, stats.getCount());
+        assertEquals(12, stats.getSum());
+        assertEquals(-3, stats.getMin());
+        assertEquals(10, stats.getMax());
+        assertEquals(4d, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testSumDoesNotOverflow() {
+        IntSummaryStatistics stats = new IntSummaryStatistics();
+        stats.accept(Integer.MAX_VALUE);
+        stats.accept(Integer.MAX_VALUE);
+        assertEquals(2L * Integer.MAX_VALUE, stats.getSum());
+        assertEquals(Integer.MAX_VALUE, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testCombine() {
+        IntSummaryStatistics first = new IntSummaryStatistics();
+        first.accept(1);
+        first.accept(2);
+        IntSummaryStatistics second = new IntSummaryStatistics();
+        second.accept(-7);
+        IntSummaryStatistics empty = new IntSummaryStatistics();
+
+        first.combine(second);
+        first.combine(empty);
+        assertEquals(3, first.getCount());
+        assertEquals(-4, first.getSum());
+        assertEquals(-7, first.getMin());
+        assertEquals(2, first.getMax());
+    }
+
+    @Test
+    public void testToString() {
+        IntSummaryStatistics stats = new IntSummaryStatistics();
+        stats.accept(42);
+        assertThat(stats.toString(), containsString("count=1"));
+        assertThat(stats.toString(), containsString("max=42"));
+    }
+}
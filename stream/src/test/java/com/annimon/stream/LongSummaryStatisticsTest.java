@@ -0,0 +1,45 @@
+package com.annimon.stream;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public final class LongSummaryStatisticsTest {
+
+    @Test
+    public void testEmpty() {
+        LongSummaryStatistics stats = new LongSummaryStatistics();
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getSum());
+        assertEquals(Long.MAX_VALUE, stats.getMin());
+        assertEquals(Long.MIN_VALUE, stats.getMax());
+        assertEquals(0d, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testAccept() {
+        LongSummaryStatistics stats = new LongSummaryStatistics();
+        stats.accept(5000000000L);
+        stats.accept(-3);
+        stats.accept(10000000000L);
+        assertEquals(3, stats.getCount());
+        assertEquals(14999999997L, stats.getSum());
+        assertEquals(-3, stats.getMin());
+        assertEquals(10000000000L, stats.getMax());
+        assertEquals(4999999999d, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testCombine() {
+        LongSummaryStatistics first = new LongSummaryStatistics();
+        first.accept(1L);
+        LongSummaryStatistics second = new LongSummaryStatistics();
+        second.accept(-7L);
+        second.accept(20L);
+
+        first.combine(second);
+        assertEquals(3, first.getCount());
+        assertEquals(14, first.getSum());
+        assertEquals(-7, first.getMin());
+        assertEquals(20, first.getMax());
+    }
+}
@@ -0,0 +1,145 @@
+package com.annimon.stream;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class QuantileSketchTest {
+
+    @Test
+    public void testEmpty() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getMin()));
+        assertTrue(Double.isNaN(sketch.getMax()));
+    }
+
+    @Test
+    public void testSingleValue() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.accept(42.0);
+        assertEquals(42.0, sketch.quantile(0), 0.0);
+        assertEquals(42.0, sketch.quantile(0.5), 0.0);
+        assertEquals(42.0, sketch.quantile(1), 0.0);
+    }
+
+    @Test
+    public void testSmallInputIsExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 5; i++) {
+            sketch.accept((long) i);
+        }
+        assertEquals(1, sketch.quantile(0), 0.0);
+        assertEquals(3, sketch.quantile(0.5), 0.0);
+        assertEquals(5, sketch.quantile(1), 0.0);
+    }
+
+    @Test
+    public void testUniform() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 100000; i++) {
+            sketch.accept((double) i);
+        }
+        assertEquals(100000, sketch.getCount());
+        assertEquals(1, sketch.getMin(), 0.0);
+        assertEquals(100000, sketch.getMax(), 0.0);
+        assertEquals(50000, sketch.quantile(0.5), 1000);
+        assertEquals(99000, sketch.quantile(0.99), 100);
+        assertEquals(99900, sketch.quantile(0.999), 10);
+    }
+
+    @Test
+    public void testRankErrorOfShuffledSkewedData() {
+        final Random random = new Random(42);
+        final double[] values = new double[500000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            // Exponential distribution resembles latencies
+            values[i] = -Math.log(1 - random.nextDouble()) * 20;
+            sketch.accept(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : new double[] {0.01, 0.1, 0.5, 0.9, 0.99, 0.999}) {
+            final double estimate = sketch.quantile(q);
+            final double rank = rank(values, estimate) / (double) values.length;
+            final double tolerance = Math.max(0.0005, 4 * q * (1 - q) / 100);
+            assertEquals("q=" + q, q, rank, tolerance);
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        final Random random = new Random(1);
+        QuantileSketch all = new QuantileSketch(200);
+        QuantileSketch[] parts = new QuantileSketch[4];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new QuantileSketch(200);
+        }
+        for (int i = 0; i < 200000; i++) {
+            final double value = random.nextGaussian();
+            all.accept(value);
+            parts[i % parts.length].accept(value);
+        }
+        for (int i = 1; i < parts.length; i++) {
+            parts[0].merge(parts[i]);
+        }
+        assertEquals(200000, parts[0].getCount());
+        assertEquals(all.getMin(), parts[0].getMin(), 0.0);
+        assertEquals(all.getMax(), parts[0].getMax(), 0.0);
+        for (double q : new double[] {0.001, 0.25, 0.5, 0.75, 0.999}) {
+            assertEquals(all.quantile(q), parts[0].quantile(q), 0.02);
+        }
+        assertEquals(0, parts[0].quantile(0.5), 0.02);
+    }
+
+    @Test
+    public void testMergeEmpty() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.accept(1.0);
+        sketch.merge(new QuantileSketch());
+        assertEquals(1, sketch.getCount());
+        assertEquals(1.0, sketch.quantile(0.5), 0.0);
+    }
+
+    @Test
+    public void testBoundedMemory() {
+        QuantileSketch sketch = new QuantileSketch(50);
+        for (int i = 0; i < 1000000; i++) {
+            sketch.accept((double) (i % 1000));
+        }
+        assertEquals(500, sketch.quantile(0.5), 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaN() {
+        new QuantileSketch().accept(Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidQuantile() {
+        new QuantileSketch().quantile(1.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCompression() {
+        new QuantileSketch(5);
+    }
+
+    @Test
+    public void testToString() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.accept(3.0);
+        assertThat(sketch.toString(), containsString("count=1"));
+    }
+
+    private static int rank(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) index = -index - 1;
+        return index;
+    }
+}
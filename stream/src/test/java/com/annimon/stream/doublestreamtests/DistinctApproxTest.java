@@ -0,0 +1,32 @@
+package com.annimon.stream.doublestreamtests;
+
+import com.annimon.stream.DoubleStream;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.DoubleStreamMatcher.assertElements;
+import static org.hamcrest.Matchers.arrayContaining;
+
+public final class DistinctApproxTest {
+
+    @Test
+    public void testDistinctApprox() {
+        DoubleStream.of(0.09, 1.2, 0, 2.2, 0.09, 1.2, 3.2, 0.09)
+                .distinctApprox(100, 0.01)
+                .custom(assertElements(arrayContaining(
+                        0.09, 1.2, 0d, 2.2, 3.2
+                )));
+    }
+
+    @Test
+    public void testDistinctApproxSpecialValues() {
+        DoubleStream.of(Double.NaN, 0.0, -0.0, Double.NaN, 0.0, Double.POSITIVE_INFINITY)
+                .distinctApprox(100, 0.01)
+                .custom(assertElements(arrayContaining(
+                        Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY
+                )));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctApproxWithZeroExpectedItems() {
+        DoubleStream.of(1).distinctApprox(0, 0.01);
+    }
+}
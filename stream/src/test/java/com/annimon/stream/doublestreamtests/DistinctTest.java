@@ -15,4 +15,13 @@ public final class DistinctTest {
                         0.09, 1.2, 0d, 2.2, 3.2
                 )));
     }
+
+    @Test
+    public void testDistinctSpecialValues() {
+        DoubleStream.of(Double.NaN, 0.0, -0.0, Double.NaN, 0.0, Double.POSITIVE_INFINITY)
+                .distinct()
+                .custom(assertElements(arrayContaining(
+                        Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY
+                )));
+    }
 }
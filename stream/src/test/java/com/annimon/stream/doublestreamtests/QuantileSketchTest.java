@@ -0,0 +1,41 @@
+package com.annimon.stream.doublestreamtests;
+
+import com.annimon.stream.DoubleStream;
+import com.annimon.stream.QuantileSketch;
+import com.annimon.stream.function.DoubleUnaryOperator;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class QuantileSketchTest {
+
+    @Test
+    public void testQuantileSketch() {
+        QuantileSketch sketch = DoubleStream.iterate(1.0, new DoubleUnaryOperator() {
+            @Override
+            public double applyAsDouble(double operand) {
+                return operand + 1;
+            }
+        }).limit(1000).quantileSketch();
+        assertEquals(1000, sketch.getCount());
+        assertEquals(500.5, sketch.quantile(0.5), 0.0);
+        assertEquals(990.5, sketch.quantile(0.99), 0.0);
+        assertEquals(1000, sketch.quantile(1), 0.0);
+    }
+
+    @Test
+    public void testQuantileSketchWithCompression() {
+        QuantileSketch sketch = DoubleStream.of(5, 1, 3).quantileSketch(20);
+        assertEquals(3, sketch.quantile(0.5), 0.0);
+    }
+
+    @Test
+    public void testQuantileSketchOnEmptyStream() {
+        assertTrue(Double.isNaN(DoubleStream.empty().quantileSketch().quantile(0.5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileSketchWithInvalidCompression() {
+        DoubleStream.of(1, 2).quantileSketch(0);
+    }
+}
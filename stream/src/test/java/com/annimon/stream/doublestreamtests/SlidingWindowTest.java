@@ -0,0 +1,80 @@
+package com.annimon.stream.doublestreamtests;
+
+import com.annimon.stream.DoubleStream;
+import com.annimon.stream.function.Function;
+import java.nio.DoubleBuffer;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SlidingWindowTest {
+
+    @Test
+    public void testSlidingWindow() {
+        final List<double[]> windows = DoubleStream.of(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0)
+                .slidingWindow(3, 2)
+                .toList();
+        assertEquals(3, windows.size());
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, windows.get(0), 0.0001);
+        assertArrayEquals(new double[] {3.0, 4.0, 5.0}, windows.get(1), 0.0001);
+        assertArrayEquals(new double[] {5.0, 6.0, 7.0}, windows.get(2), 0.0001);
+    }
+
+    @Test
+    public void testSlidingWindowWithStepGreaterThanWindow() {
+        final List<double[]> windows = DoubleStream.of(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0)
+                .slidingWindow(2, 3)
+                .toList();
+        assertEquals(3, windows.size());
+        assertArrayEquals(new double[] {1.0, 2.0}, windows.get(0), 0.0001);
+        assertArrayEquals(new double[] {4.0, 5.0}, windows.get(1), 0.0001);
+        assertArrayEquals(new double[] {7.0}, windows.get(2), 0.0001);
+    }
+
+    @Test
+    public void testSlidingWindowView() {
+        final List<Double> sums = DoubleStream.of(range(1000))
+                .slidingWindowView(100, 1)
+                .map(new Function<DoubleBuffer, Double>() {
+                    @Override
+                    public Double apply(DoubleBuffer window) {
+                        assertTrue(window.isReadOnly());
+                        assertEquals(100, window.remaining());
+                        double sum = 0;
+                        for (int i = 0; i < window.limit(); i++) {
+                            sum += window.get(i);
+                        }
+                        return sum;
+                    }
+                })
+                .toList();
+        assertEquals(901, sums.size());
+        assertEquals(4950, sums.get(0), 0.0001);
+        assertEquals(4950 + 900 * 100, sums.get(900), 0.0001);
+    }
+
+    @Test
+    public void testSlidingWindowViewOfShortStream() {
+        final List<double[]> windows = DoubleStream.of(1.0, 2.0)
+                .slidingWindow(5, 1)
+                .toList();
+        assertEquals(1, windows.size());
+        assertArrayEquals(new double[] {1.0, 2.0}, windows.get(0), 0.0001);
+        assertEquals(0, DoubleStream.empty().slidingWindowView(5, 1).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSlidingWindowWithNegativeStepSize() {
+        DoubleStream.of(1.0, 2.0).slidingWindowView(2, -1);
+    }
+
+    private static double[] range(int count) {
+        final double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package com.annimon.stream.doublestreamtests;
+
+import com.annimon.stream.DoubleStream;
+import com.annimon.stream.function.DoubleComparator;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+
+public final class SortedExternalTest {
+
+    @Test
+    public void testSortedExternal() {
+        assertArrayEquals(new double[] {1.5, 2.5, 3.5, 5.5, 7.5, 8.5, 9.5},
+                DoubleStream.of(5.5, 1.5, 9.5, 3.5, 7.5, 2.5, 8.5).sortedExternal(null, 2).toArray(), 0.0);
+        assertArrayEquals(new double[] {1.5, 2.5, 3.5, 5.5, 7.5, 8.5, 9.5},
+                DoubleStream.of(5.5, 1.5, 9.5, 3.5, 7.5, 2.5, 8.5).sortedExternal(null, 100).toArray(), 0.0);
+    }
+
+    @Test
+    public void testSortedExternalWithComparator() {
+        assertArrayEquals(new double[] {9.5, 8.5, 7.5, 5.5, 3.5, 2.5, 1.5},
+                DoubleStream.of(5.5, 1.5, 9.5, 3.5, 7.5, 2.5, 8.5)
+                        .sortedExternal(DoubleComparator.Util.reverseOrder(), 3)
+                        .toArray(), 0.0);
+    }
+
+    @Test
+    public void testSortedExternalOfEmptyStream() {
+        assertArrayEquals(new double[0], DoubleStream.empty().sortedExternal(null, 2).toArray(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortedExternalWithNegativeBudget() {
+        DoubleStream.of(5.5, 1.5, 9.5, 3.5, 7.5, 2.5, 8.5).sortedExternal(null, -1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.annimon.stream.doublestreamtests;
 
 import com.annimon.stream.DoubleStream;
+import com.annimon.stream.function.DoubleComparator;
 import java.util.Comparator;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.DoubleStreamMatcher.assertElements;
@@ -39,4 +40,43 @@ public final class SortedTest {
                         3.234, 2.2, 1.2, 0.09
                 )));
     }
+
+    @Test
+    public void testSortedWithDoubleComparator() {
+        DoubleStream.of(1.2, 3.234, 0.09, 2.2)
+                .sortedWith(DoubleComparator.Util.reverseOrder())
+                .custom(assertElements(arrayContaining(
+                        3.234, 2.2, 1.2, 0.09
+                )));
+    }
+
+    @Test
+    public void testSortedRadix() {
+        DoubleStream.of(3.5, Double.NaN, -4, 0.0, -0.0, Double.NEGATIVE_INFINITY)
+                .sortedRadix()
+                .custom(assertElements(arrayContaining(
+                        Double.NEGATIVE_INFINITY, -4.0, -0.0, 0.0, 3.5, Double.NaN
+                )));
+    }
+
+    @Test
+    public void testSortedLimit() {
+        DoubleStream.of(1.2, 3.234, 0.09, 2.2)
+                .sorted()
+                .limit(2)
+                .custom(assertElements(arrayContaining(
+                        0.09, 1.2
+                )));
+
+        final double[] data = new double[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = ((i * 7919) % 1000) / 10d;
+        }
+        DoubleStream.of(data)
+                .sorted()
+                .limit(3)
+                .custom(assertElements(arrayContaining(
+                        0.0, 0.1, 0.2
+                )));
+    }
 }
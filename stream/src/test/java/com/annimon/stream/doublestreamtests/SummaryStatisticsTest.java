@@ -0,0 +1,26 @@
+package com.annimon.stream.doublestreamtests;
+
+import com.annimon.stream.DoubleStream;
+import com.annimon.stream.DoubleSummaryStatistics;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public final class SummaryStatisticsTest {
+
+    @Test
+    public void testSummaryStatistics() {
+        DoubleSummaryStatistics stats = DoubleStream.of(0.5, 2.5, 1.5).summaryStatistics();
+        assertEquals(3, stats.getCount());
+        assertEquals(4.5, stats.getSum(), 0.0);
+        assertEquals(0.5, stats.getMin(), 0.0);
+        assertEquals(2.5, stats.getMax(), 0.0);
+        assertEquals(1.5, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testSummaryStatisticsOnEmptyStream() {
+        DoubleSummaryStatistics stats = DoubleStream.empty().summaryStatistics();
+        assertEquals(0, stats.getCount());
+        assertEquals(Double.POSITIVE_INFINITY, stats.getMin(), 0.0);
+    }
+}
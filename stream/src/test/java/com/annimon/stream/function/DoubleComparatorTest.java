@@ -0,0 +1,70 @@
+package com.annimon.stream.function;
+
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.CommonMatcher.hasOnlyPrivateConstructors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Tests {@link DoubleComparator}
+ */
+public class DoubleComparatorTest {
+
+    @Test
+    public void testNaturalOrder() {
+        DoubleComparator comparator = DoubleComparator.Util.naturalOrder();
+        assertThat(comparator.compare(1.0, 2.0), lessThan(0));
+        assertThat(comparator.compare(2.0, 2.0), is(0));
+        assertThat(comparator.compare(3.0, 2.0), greaterThan(0));
+    }
+
+    @Test
+    public void testReverseOrder() {
+        DoubleComparator comparator = DoubleComparator.Util.reverseOrder();
+        assertThat(comparator.compare(1.0, 2.0), greaterThan(0));
+        assertThat(comparator.compare(2.0, 2.0), is(0));
+        assertThat(comparator.compare(Double.NEGATIVE_INFINITY, Double.NaN), greaterThan(0));
+    }
+
+    @Test
+    public void testReversed() {
+        assertThat(DoubleComparator.Util.reversed(null), is(DoubleComparator.Util.reverseOrder()));
+        assertThat(DoubleComparator.Util.reversed(DoubleComparator.Util.reverseOrder()),
+                is(DoubleComparator.Util.naturalOrder()));
+
+        DoubleComparator comparator = DoubleComparator.Util.reversed(new DoubleComparator() {
+            @Override
+            public int compare(double value1, double value2) {
+                return DoubleComparator.Util.naturalOrder().compare(value1 % 10, value2 % 10);
+            }
+        });
+        assertThat(comparator.compare(12.0, 21.0), lessThan(0));
+    }
+
+    @Test
+    public void testThenComparing() {
+        DoubleComparator byLastDigit = new DoubleComparator() {
+            @Override
+            public int compare(double value1, double value2) {
+                return DoubleComparator.Util.naturalOrder().compare(value1 % 10, value2 % 10);
+            }
+        };
+        DoubleComparator comparator = DoubleComparator.Util.thenComparing(
+                byLastDigit, DoubleComparator.Util.reverseOrder());
+        assertThat(comparator.compare(12.0, 21.0), greaterThan(0));
+        assertThat(comparator.compare(12.0, 22.0), greaterThan(0));
+        assertThat(comparator.compare(22.0, 22.0), is(0));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testThenComparingNull() {
+        DoubleComparator.Util.thenComparing(DoubleComparator.Util.naturalOrder(), null);
+    }
+
+    @Test
+    public void testPrivateUtilConstructor() {
+        assertThat(DoubleComparator.Util.class, hasOnlyPrivateConstructors());
+    }
+}
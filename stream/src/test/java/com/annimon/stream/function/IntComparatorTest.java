@@ -0,0 +1,70 @@
+package com.annimon.stream.function;
+
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.CommonMatcher.hasOnlyPrivateConstructors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Tests {@link IntComparator}
+ */
+public class IntComparatorTest {
+
+    @Test
+    public void testNaturalOrder() {
+        IntComparator comparator = IntComparator.Util.naturalOrder();
+        assertThat(comparator.compare(1, 2), lessThan(0));
+        assertThat(comparator.compare(2, 2), is(0));
+        assertThat(comparator.compare(3, 2), greaterThan(0));
+    }
+
+    @Test
+    public void testReverseOrder() {
+        IntComparator comparator = IntComparator.Util.reverseOrder();
+        assertThat(comparator.compare(1, 2), greaterThan(0));
+        assertThat(comparator.compare(2, 2), is(0));
+        assertThat(comparator.compare(Integer.MIN_VALUE, Integer.MAX_VALUE), greaterThan(0));
+    }
+
+    @Test
+    public void testReversed() {
+        assertThat(IntComparator.Util.reversed(null), is(IntComparator.Util.reverseOrder()));
+        assertThat(IntComparator.Util.reversed(IntComparator.Util.reverseOrder()),
+                is(IntComparator.Util.naturalOrder()));
+
+        IntComparator comparator = IntComparator.Util.reversed(new IntComparator() {
+            @Override
+            public int compare(int value1, int value2) {
+                return IntComparator.Util.naturalOrder().compare(value1 % 10, value2 % 10);
+            }
+        });
+        assertThat(comparator.compare(12, 21), lessThan(0));
+    }
+
+    @Test
+    public void testThenComparing() {
+        IntComparator byLastDigit = new IntComparator() {
+            @Override
+            public int compare(int value1, int value2) {
+                return IntComparator.Util.naturalOrder().compare(value1 % 10, value2 % 10);
+            }
+        };
+        IntComparator comparator = IntComparator.Util.thenComparing(
+                byLastDigit, IntComparator.Util.reverseOrder());
+        assertThat(comparator.compare(12, 21), greaterThan(0));
+        assertThat(comparator.compare(12, 22), greaterThan(0));
+        assertThat(comparator.compare(22, 22), is(0));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testThenComparingNull() {
+        IntComparator.Util.thenComparing(IntComparator.Util.naturalOrder(), null);
+    }
+
+    @Test
+    public void testPrivateUtilConstructor() {
+        assertThat(IntComparator.Util.class, hasOnlyPrivateConstructors());
+    }
+}
@@ -0,0 +1,70 @@
+package com.annimon.stream.function;
+
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.CommonMatcher.hasOnlyPrivateConstructors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Tests {@link LongComparator}
+ */
+public class LongComparatorTest {
+
+    @Test
+    public void testNaturalOrder() {
+        LongComparator comparator = LongComparator.Util.naturalOrder();
+        assertThat(comparator.compare(1L, 2L), lessThan(0));
+        assertThat(comparator.compare(2L, 2L), is(0));
+        assertThat(comparator.compare(3L, 2L), greaterThan(0));
+    }
+
+    @Test
+    public void testReverseOrder() {
+        LongComparator comparator = LongComparator.Util.reverseOrder();
+        assertThat(comparator.compare(1L, 2L), greaterThan(0));
+        assertThat(comparator.compare(2L, 2L), is(0));
+        assertThat(comparator.compare(Long.MIN_VALUE, Long.MAX_VALUE), greaterThan(0));
+    }
+
+    @Test
+    public void testReversed() {
+        assertThat(LongComparator.Util.reversed(null), is(LongComparator.Util.reverseOrder()));
+        assertThat(LongComparator.Util.reversed(LongComparator.Util.reverseOrder()),
+                is(LongComparator.Util.naturalOrder()));
+
+        LongComparator comparator = LongComparator.Util.reversed(new LongComparator() {
+            @Override
+            public int compare(long value1, long value2) {
+                return LongComparator.Util.naturalOrder().compare(value1 % 10, value2 % 10);
+            }
+        });
+        assertThat(comparator.compare(12L, 21L), lessThan(0));
+    }
+
+    @Test
+    public void testThenComparing() {
+        LongComparator byLastDigit = new LongComparator() {
+            @Override
+            public int compare(long value1, long value2) {
+                return LongComparator.Util.naturalOrder().compare(value1 % 10, value2 % 10);
+            }
+        };
+        LongComparator comparator = LongComparator.Util.thenComparing(
+                byLastDigit, LongComparator.Util.reverseOrder());
+        assertThat(comparator.compare(12L, 21L), greaterThan(0));
+        assertThat(comparator.compare(12L, 22L), greaterThan(0));
+        assertThat(comparator.compare(22L, 22L), is(0));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testThenComparingNull() {
+        LongComparator.Util.thenComparing(LongComparator.Util.naturalOrder(), null);
+    }
+
+    @Test
+    public void testPrivateUtilConstructor() {
+        assertThat(LongComparator.Util.class, hasOnlyPrivateConstructors());
+    }
+}
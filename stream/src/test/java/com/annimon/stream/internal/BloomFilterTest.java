@@ -0,0 +1,63 @@
+package com.annimon.stream.internal;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class BloomFilterTest {
+
+    @Test
+    public void testSizing() {
+        BloomFilter filter = new BloomFilter(1000000, 0.01);
+        // About 9.6 bits and 7 hash functions per item
+        assertTrue(filter.getBitCount() >= 9585059);
+        assertTrue(filter.getBitCount() < 9585059 + Long.SIZE);
+        assertEquals(7, filter.getHashFunctions());
+    }
+
+    @Test
+    public void testPutAndMightContain() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        assertFalse(filter.mightContainHash(Hashing.hash64(42L)));
+        assertTrue(filter.putHash(Hashing.hash64(42L)));
+        assertTrue(filter.mightContainHash(Hashing.hash64(42L)));
+        assertFalse(filter.putHash(Hashing.hash64(42L)));
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        final int n = 100000;
+        BloomFilter filter = new BloomFilter(n, 0.01);
+        for (long i = 0; i < n; i++) {
+            filter.putHash(Hashing.hash64(i));
+        }
+        int falsePositives = 0;
+        for (long i = n; i < 2 * n; i++) {
+            if (filter.mightContainHash(Hashing.hash64(i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue("false positives: " + falsePositives, falsePositives < n * 0.015);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroExpectedItems() {
+        new BloomFilter(0, 0.01);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFpp() {
+        new BloomFilter(100, 1.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNaNFpp() {
+        new BloomFilter(100, Double.NaN);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLargeFilter() {
+        new BloomFilter(Long.MAX_VALUE, 0.01);
+    }
+}
@@ -0,0 +1,108 @@
+package com.annimon.stream.internal;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, new HyperLogLog(HyperLogLog.DEFAULT_PRECISION).estimate());
+    }
+
+    @Test
+    public void testSmallCardinality() {
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+        for (int i = 0; i < 100; i++) {
+            sketch.addHash(Hashing.hash64(i % 10));
+        }
+        assertEquals(10, sketch.estimate());
+    }
+
+    @Test
+    public void testLargeCardinality() {
+        for (int precision : new int[] {10, 14}) {
+            HyperLogLog sketch = new HyperLogLog(precision);
+            final int count = 1000000;
+            for (long i = 0; i < count; i++) {
+                sketch.addHash(Hashing.hash64(i * 7919));
+            }
+            // Five standard errors
+            final double error = 5 * 1.04 / Math.sqrt(1 << precision);
+            assertEquals(count, sketch.estimate(), count * error);
+        }
+    }
+
+    @Test
+    public void testDuplicatesDoNotChangeEstimate() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (int i = 0; i < 50000; i++) {
+            sketch.addHash(Hashing.hash64(i));
+        }
+        final long estimate = sketch.estimate();
+        for (int i = 0; i < 50000; i++) {
+            sketch.addHash(Hashing.hash64(i));
+        }
+        assertEquals(estimate, sketch.estimate());
+    }
+
+    @Test
+    public void testMerge() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        HyperLogLog all = new HyperLogLog(12);
+        for (int i = 0; i < 60000; i++) {
+            final long hash = Hashing.hash64(i);
+            all.addHash(hash);
+            if (i < 40000) first.addHash(hash);
+            if (i >= 20000) second.addHash(hash);
+        }
+        first.merge(second);
+        assertEquals(all.estimate(), first.estimate());
+    }
+
+    @Test
+    public void testEstimateOfHashCodes() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (int i = 0; i < 50000; i++) {
+            sketch.addHash(Hashing.hash64(i));
+        }
+        // Collisions of hash codes are negligible for small cardinalities
+        assertEquals(sketch.estimate(), sketch.estimateOfHashCodes(), 1);
+
+        // Every register of the smallest sketch gets rank 28, about 2.9 billion hash codes
+        final int precision = HyperLogLog.MIN_PRECISION;
+        sketch = new HyperLogLog(precision);
+        for (long i = 0; i < (1 << precision); i++) {
+            sketch.addHash((i << (64 - precision)) | (1L << (64 - precision - 28)));
+        }
+        final double hashCodes = 4294967296d;
+        final double estimate = sketch.estimate();
+        assertTrue(estimate > hashCodes / 2);
+        assertEquals(-hashCodes * Math.log(1 - estimate / hashCodes),
+                sketch.estimateOfHashCodes(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeWithDifferentPrecision() {
+        new HyperLogLog(10).merge(new HyperLogLog(12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooSmallPrecision() {
+        new HyperLogLog(HyperLogLog.MIN_PRECISION - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLargePrecision() {
+        HyperLogLog.checkPrecision(HyperLogLog.MAX_PRECISION + 1);
+    }
+
+    @Test
+    public void testHashing() {
+        assertTrue(Hashing.hash64(0L) != 0);
+        assertEquals(Hashing.hash64(42L), Hashing.hash64(Integer.valueOf(42)));
+        assertEquals(Hashing.hash64(0L), Hashing.hash64(null));
+    }
+}
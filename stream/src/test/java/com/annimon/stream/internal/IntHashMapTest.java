@@ -0,0 +1,172 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.function.Supplier;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class IntHashMapTest {
+
+    @Test
+    public void testPut() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(5, "a"));
+        assertNull(map.put(-5, "b"));
+        assertEquals("a", map.put(5, "c"));
+        assertEquals(2, map.size());
+        assertEquals("c", map.get(5));
+        assertEquals("b", map.get(-5));
+        assertNull(map.get(6));
+    }
+
+    @Test
+    public void testZero() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        assertFalse(map.containsKey(0));
+        assertNull(map.get(0));
+        assertNull(map.put(0, "zero"));
+        assertTrue(map.containsKey(0));
+        assertEquals("zero", map.get(0));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testGetOrPut() {
+        final int[] calls = new int[1];
+        final Supplier<String> supplier = new Supplier<String>() {
+            @Override
+            public String get() {
+                return "v" + (calls[0]++);
+            }
+        };
+        IntHashMap<String> map = new IntHashMap<String>(4);
+        assertEquals("v0", map.getOrPut(7, supplier));
+        assertEquals("v0", map.getOrPut(7, supplier));
+        assertEquals("v1", map.getOrPut(0, supplier));
+        assertEquals("v1", map.getOrPut(0, supplier));
+        assertEquals(2, calls[0]);
+        assertEquals(2, map.size());
+        for (int i = 1; i <= 100; i++) {
+            map.getOrPut(-i, supplier);
+        }
+        assertEquals(102, map.size());
+        assertEquals("v0", map.get(7));
+        assertEquals("v2", map.get(-1));
+        assertEquals("v101", map.get(-100));
+    }
+
+    @Test
+    public void testNullValue() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        assertNull(map.put(1, null));
+        assertTrue(map.containsKey(1));
+        assertFalse(map.containsKey(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testExtremeValues() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        map.put(Integer.MIN_VALUE, "min");
+        map.put(Integer.MAX_VALUE, "max");
+        assertEquals("min", map.get(Integer.MIN_VALUE));
+        assertEquals("max", map.get(Integer.MAX_VALUE));
+        assertFalse(map.containsKey(Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testGrow() {
+        IntHashMap<String> map = new IntHashMap<String>(4);
+        for (int i = -5000; i < 5000; i++) {
+            assertNull(map.put(i * 31, String.valueOf(i)));
+        }
+        assertEquals(10000, map.size());
+        for (int i = -5000; i < 5000; i++) {
+            assertEquals(String.valueOf(i), map.get(i * 31));
+        }
+        assertFalse(map.containsKey(1));
+        assertFalse(map.containsKey(10000 * 31));
+    }
+
+    @Test
+    public void testMapView() {
+        IntHashMap<String> primitiveMap = new IntHashMap<String>();
+        primitiveMap.put(0, "zero");
+        primitiveMap.put(7, "seven");
+        primitiveMap.put(-3, "minus three");
+        Map<Integer, String> map = primitiveMap;
+        assertEquals("seven", map.get(Integer.valueOf(7)));
+        assertNull(map.get("7"));
+        assertTrue(map.containsKey(Integer.valueOf(0)));
+        assertFalse(map.containsKey(null));
+        assertNull(map.put(Integer.valueOf(5), "five"));
+
+        Map<Integer, String> expected = new HashMap<Integer, String>();
+        expected.put(0, "zero");
+        expected.put(7, "seven");
+        expected.put(-3, "minus three");
+        expected.put(5, "five");
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(map, expected);
+    }
+
+    @Test
+    public void testEntrySetValue() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        map.put(0, "a");
+        map.put(1, "b");
+        for (Map.Entry<Integer, String> entry : map.entrySet()) {
+            entry.setValue(entry.getValue().toUpperCase());
+        }
+        assertEquals("A", map.get(0));
+        assertEquals("B", map.get(1));
+    }
+
+    @Test
+    public void testRemove() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        map.put(0, "zero");
+        map.put(1, "a");
+        assertNull(map.remove(2));
+        assertEquals("a", map.remove(1));
+        assertEquals("zero", map.remove(Integer.valueOf(0)));
+        assertNull(map.remove(0));
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    public void testRemoveKeepsCollidingKeys() {
+        IntHashMap<String> map = new IntHashMap<String>(4);
+        for (int i = 1; i <= 3000; i++) {
+            map.put(i * 16, String.valueOf(i));
+        }
+        for (int i = 1; i <= 3000; i += 2) {
+            assertEquals(String.valueOf(i), map.remove(i * 16));
+        }
+        assertEquals(1500, map.size());
+        for (int i = 1; i <= 3000; i++) {
+            assertEquals(i % 2 == 0 ? String.valueOf(i) : null, map.get(i * 16));
+        }
+        for (int i = 1; i <= 3000; i += 2) {
+            assertNull(map.put(i * 16, "again"));
+        }
+        assertEquals(3000, map.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoveByIterator() {
+        IntHashMap<String> map = new IntHashMap<String>();
+        map.put(1, "a");
+        Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+    }
+}
@@ -0,0 +1,84 @@
+package com.annimon.stream.internal;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class IntHashSetTest {
+
+    @Test
+    public void testAdd() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(5));
+        assertTrue(set.add(-5));
+        assertFalse(set.add(5));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testZero() {
+        IntHashSet set = new IntHashSet();
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testExtremeValues() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.add(Integer.MIN_VALUE));
+        assertTrue(set.add(Integer.MAX_VALUE));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertTrue(set.contains(Integer.MAX_VALUE));
+        assertFalse(set.contains(Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testGrow() {
+        IntHashSet set = new IntHashSet(4);
+        for (int i = -5000; i < 5000; i++) {
+            assertTrue(set.add(i * 31));
+        }
+        assertEquals(10000, set.size());
+        for (int i = -5000; i < 5000; i++) {
+            assertTrue(set.contains(i * 31));
+            assertFalse(set.add(i * 31));
+        }
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(10000 * 31));
+    }
+
+    @Test
+    public void testRemove() {
+        IntHashSet set = new IntHashSet();
+        set.add(0);
+        set.add(7);
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertTrue(set.remove(7));
+        assertFalse(set.remove(7));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testRemoveKeepsCollidingValues() {
+        IntHashSet set = new IntHashSet(4);
+        for (int i = 1; i <= 1000; i++) {
+            set.add(i * 16);
+        }
+        for (int i = 1; i <= 1000; i += 2) {
+            assertTrue(set.remove(i * 16));
+        }
+        assertEquals(500, set.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0, set.contains(i * 16));
+        }
+        assertTrue(set.add(16));
+        assertFalse(set.add(32));
+    }
+}
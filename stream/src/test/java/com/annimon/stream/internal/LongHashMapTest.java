@@ -0,0 +1,172 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.function.Supplier;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class LongHashMapTest {
+
+    @Test
+    public void testPut() {
+        LongHashMap<String> map = new LongHashMap<String>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(5L, "a"));
+        assertNull(map.put(-5L, "b"));
+        assertEquals("a", map.put(5L, "c"));
+        assertEquals(2, map.size());
+        assertEquals("c", map.get(5L));
+        assertEquals("b", map.get(-5L));
+        assertNull(map.get(6L));
+    }
+
+    @Test
+    public void testZero() {
+        LongHashMap<String> map = new LongHashMap<String>();
+        assertFalse(map.containsKey(0L));
+        assertNull(map.get(0L));
+        assertNull(map.put(0L, "zero"));
+        assertTrue(map.containsKey(0L));
+        assertEquals("zero", map.get(0L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testGetOrPut() {
+        final int[] calls = new int[1];
+        final Supplier<String> supplier = new Supplier<String>() {
+            @Override
+            public String get() {
+                return "v" + (calls[0]++);
+            }
+        };
+        LongHashMap<String> map = new LongHashMap<String>(4);
+        assertEquals("v0", map.getOrPut(7L, supplier));
+        assertEquals("v0", map.getOrPut(7L, supplier));
+        assertEquals("v1", map.getOrPut(0L, supplier));
+        assertEquals("v1", map.getOrPut(0L, supplier));
+        assertEquals(2, calls[0]);
+        assertEquals(2, map.size());
+        for (long i = 1; i <= 100; i++) {
+            map.getOrPut(-i, supplier);
+        }
+        assertEquals(102, map.size());
+        assertEquals("v0", map.get(7L));
+        assertEquals("v2", map.get(-1L));
+        assertEquals("v101", map.get(-100L));
+    }
+
+    @Test
+    public void testNullValue() {
+        LongHashMap<String> map = new LongHashMap<String>();
+        assertNull(map.put(1L, null));
+        assertTrue(map.containsKey(1L));
+        assertFalse(map.containsKey(2L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testExtremeValues() {
+        LongHashMap<String> map = new LongHashMap<String>();
+        map.put(Long.MIN_VALUE, "min");
+        map.put(Long.MAX_VALUE, "max");
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertFalse(map.containsKey(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testGrow() {
+        LongHashMap<String> map = new LongHashMap<String>(4);
+        for (int i = -5000; i < 5000; i++) {
+            assertNull(map.put(i * 31L, String.valueOf(i)));
+        }
+        assertEquals(10000, map.size());
+        for (int i = -5000; i < 5000; i++) {
+            assertEquals(String.valueOf(i), map.get(i * 31L));
+        }
+        assertFalse(map.containsKey(1L));
+        assertFalse(map.containsKey(10000 * 31L));
+    }
+
+    @Test
+    public void testMapView() {
+        LongHashMap<String> primitiveMap = new LongHashMap<String>();
+        primitiveMap.put(0L, "zero");
+        primitiveMap.put(7L, "seven");
+        primitiveMap.put(-3L, "minus three");
+        Map<Long, String> map = primitiveMap;
+        assertEquals("seven", map.get(Long.valueOf(7L)));
+        assertNull(map.get("7"));
+        assertTrue(map.containsKey(Long.valueOf(0L)));
+        assertFalse(map.containsKey(null));
+        assertNull(map.put(Long.valueOf(5L), "five"));
+
+        Map<Long, String> expected = new HashMap<Long, String>();
+        expected.put(0L, "zero");
+        expected.put(7L, "seven");
+        expected.put(-3L, "minus three");
+        expected.put(5L, "five");
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(map, expected);
+    }
+
+    @Test
+    public void testEntrySetValue() {
+        LongHashMap<String> map = new LongHashMap<String>();
+        map.put(0L, "a");
+        map.put(1L, "b");
+        for (Map.Entry<Long, String> entry : map.entrySet()) {
+            entry.setValue(entry.getValue().toUpperCase());
+        }
+        assertEquals("A", map.get(0L));
+        assertEquals("B", map.get(1L));
+    }
+
+    @Test
+    public void testRemove() {
+        LongHashMap<String> map = new LongHashMap<String>();
+        map.put(0L, "zero");
+        map.put(1L, "a");
+        assertNull(map.remove(2L));
+        assertEquals("a", map.remove(1L));
+        assertEquals("zero", map.remove(Long.valueOf(0L)));
+        assertNull(map.remove(0L));
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L));
+    }
+
+    @Test
+    public void testRemoveKeepsCollidingKeys() {
+        LongHashMap<String> map = new LongHashMap<String>(4);
+        for (int i = 1; i <= 3000; i++) {
+            map.put(i * 16L, String.valueOf(i));
+        }
+        for (int i = 1; i <= 3000; i += 2) {
+            assertEquals(String.valueOf(i), map.remove(i * 16L));
+        }
+        assertEquals(1500, map.size());
+        for (int i = 1; i <= 3000; i++) {
+            assertEquals(i % 2 == 0 ? String.valueOf(i) : null, map.get(i * 16L));
+        }
+        for (int i = 1; i <= 3000; i += 2) {
+            assertNull(map.put(i * 16L, "again"));
+        }
+        assertEquals(3000, map.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoveByIterator() {
+        LongHashMap<String> map = new LongHashMap<String>();
+        map.put(1L, "a");
+        Iterator<Map.Entry<Long, String>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+    }
+}
@@ -0,0 +1,84 @@
+package com.annimon.stream.internal;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class LongHashSetTest {
+
+    @Test
+    public void testAdd() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(5L));
+        assertTrue(set.add(-5L));
+        assertFalse(set.add(5L));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testZero() {
+        LongHashSet set = new LongHashSet();
+        assertFalse(set.contains(0L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertTrue(set.contains(0L));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testExtremeValues() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertTrue(set.add(Long.MAX_VALUE));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertFalse(set.contains(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testGrow() {
+        LongHashSet set = new LongHashSet(4);
+        for (long i = -5000; i < 5000; i++) {
+            assertTrue(set.add(i * 31));
+        }
+        assertEquals(10000, set.size());
+        for (long i = -5000; i < 5000; i++) {
+            assertTrue(set.contains(i * 31));
+            assertFalse(set.add(i * 31));
+        }
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(10000 * 31));
+    }
+
+    @Test
+    public void testRemove() {
+        LongHashSet set = new LongHashSet();
+        set.add(0);
+        set.add(7);
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertTrue(set.remove(7));
+        assertFalse(set.remove(7));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testRemoveKeepsCollidingValues() {
+        LongHashSet set = new LongHashSet(4);
+        for (long i = 1; i <= 1000; i++) {
+            set.add(i * 16L);
+        }
+        for (long i = 1; i <= 1000; i += 2) {
+            assertTrue(set.remove(i * 16L));
+        }
+        assertEquals(500, set.size());
+        for (long i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0, set.contains(i * 16L));
+        }
+        assertTrue(set.add(16L));
+        assertFalse(set.add(32L));
+    }
+}
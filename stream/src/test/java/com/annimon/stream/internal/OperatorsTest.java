@@ -1,16 +1,179 @@
 package com.annimon.stream.internal;
 
+import com.annimon.stream.Functions;
+import com.annimon.stream.IntStream;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.IntFunction;
+import com.annimon.stream.function.ToDoubleFunction;
+import com.annimon.stream.function.ToLongFunction;
+import com.annimon.stream.function.UnaryOperator;
+import com.annimon.stream.operator.ObjArray;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.CommonMatcher.hasOnlyPrivateConstructors;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 
 /**
  * Tests for {@link Operators}
 */
 public class OperatorsTest {
 
+    @Test
+    public void testForEachRemaining() {
+        final List<String> result = new ArrayList<String>();
+        Operators.forEachRemaining(Arrays.asList("a", "b").iterator(), collectTo(result));
+        assertThat(result, contains("a", "b"));
+    }
+
+    @Test
+    public void testForEachRemainingOfPushIterator() {
+        final ObjArray<String> iterator = new ObjArray<String>(new String[] {"a", "b", "c"});
+        iterator.next();
+        final List<String> result = new ArrayList<String>();
+        Operators.forEachRemaining(iterator, collectTo(result));
+        assertThat(result, contains("b", "c"));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void testForEachRemainingOfPrimitiveIterator() {
+        final List<Integer> result = new ArrayList<Integer>();
+        Operators.forEachRemaining(IntStream.range(0, 4).boxed().iterator(), new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                result.add(value);
+            }
+        });
+        assertThat(result, contains(0, 1, 2, 3));
+    }
+
     @Test
     public void testPrivateConstructor() {
         assertThat(Operators.class, hasOnlyPrivateConstructors());
     }
+
+    private static Consumer<String> collectTo(final List<String> result) {
+        return new Consumer<String>() {
+            @Override
+            public void accept(String value) {
+                result.add(value);
+            }
+        };
+    }
+
+    @Test
+    public void testRemaining() {
+        assertThat(Operators.remaining(Arrays.asList(1, 2).iterator()), is(-1L));
+        assertThat(Operators.remaining(Stream.of(1, 2, 3).iterator()), is(3L));
+        assertThat(Operators.remaining(Stream.range(0, 10)
+                .map(Functions.<Integer>convertToString())
+                .iterator()), is(10L));
+        assertThat(Operators.remaining(Stream.range(0, 10).skip(8).iterator()), is(2L));
+        assertThat(Operators.remaining(Stream.range(0, 10).skip(20).iterator()), is(0L));
+        assertThat(Operators.remaining(Stream.range(0, 10).limit(4).iterator()), is(4L));
+        assertThat(Operators.remaining(IntStream.range(0, 10).sorted().boxed().iterator()), is(10L));
+        assertThat(Operators.remaining(Stream.range(0, 10)
+                .filter(Functions.remainder(2))
+                .iterator()), is(-1L));
+        assertThat(Operators.remaining(Stream.iterate(0, UnaryOperator.Util.<Integer>identity())
+                .limit(5)
+                .iterator()), is(-1L));
+    }
+
+    @Test
+    public void testRemainingAfterPartialIteration() {
+        final Iterator<? extends Integer> skip = Stream.range(0, 10).skip(2).iterator();
+        skip.next();
+        assertThat(Operators.remaining(skip), is(7L));
+
+        final Iterator<? extends Integer> limit = Stream.range(0, 10).limit(4).iterator();
+        limit.next();
+        assertThat(Operators.remaining(limit), is(3L));
+
+        final Iterator<? extends Integer> sorted = Stream.of(3, 1, 2).sorted().iterator();
+        sorted.next();
+        assertThat(Operators.remaining(sorted), is(2L));
+        sorted.next();
+        sorted.next();
+        assertThat(Operators.remaining(sorted), is(0L));
+    }
+
+    @Test
+    public void testToArrayOfSizedIterator() {
+        final String[] array = Operators.toArray(
+                new ObjArray<String>(new String[] {"a", "b"}),
+                new IntFunction<String[]>() {
+                    @Override
+                    public String[] apply(int value) {
+                        return new String[value];
+                    }
+                });
+        assertThat(array, arrayContaining("a", "b"));
+        assertThat(Operators.toIntArray(IntStream.range(0, 3).iterator()), is(new int[] {0, 1, 2}));
+    }
+
+    @Test
+    public void testToArrayWhenSourceHasMoreElements() {
+        final Collection<Integer> source = withWrongSize(Arrays.asList(0, 1, 2, 3, 4), 2);
+        assertThat(Stream.of(source).toArray(), arrayContaining((Object) 0, 1, 2, 3, 4));
+        assertThat(Stream.of(source).mapToInt(Functions.toInt()).toArray(),
+                is(new int[] {0, 1, 2, 3, 4}));
+        assertThat(Stream.of(source).mapToLong(toLong()).toArray(),
+                is(new long[] {0, 1, 2, 3, 4}));
+        assertThat(Stream.of(source).mapToDouble(toDouble()).toArray(),
+                is(new double[] {0, 1, 2, 3, 4}));
+    }
+
+    @Test
+    public void testToArrayWhenSourceHasFewerElements() {
+        final Collection<Integer> source = withWrongSize(Arrays.asList(0, 1), 5);
+        assertThat(Stream.of(source).toArray(), arrayContaining((Object) 0, 1));
+        assertThat(Stream.of(source).mapToInt(Functions.toInt()).toArray(),
+                is(new int[] {0, 1}));
+        assertThat(Stream.of(source).mapToLong(toLong()).toArray(),
+                is(new long[] {0, 1}));
+        assertThat(Stream.of(source).mapToDouble(toDouble()).toArray(),
+                is(new double[] {0, 1}));
+    }
+
+    private static ToLongFunction<Integer> toLong() {
+        return new ToLongFunction<Integer>() {
+            @Override
+            public long applyAsLong(Integer value) {
+                return value;
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Integer> toDouble() {
+        return new ToDoubleFunction<Integer>() {
+            @Override
+            public double applyAsDouble(Integer value) {
+                return value;
+            }
+        };
+    }
+
+    private static <T> Collection<T> withWrongSize(final List<T> elements, final int size) {
+        return new AbstractCollection<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return elements.iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
 }
@@ -0,0 +1,127 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.LongComparator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.CommonMatcher.hasOnlyPrivateConstructors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class ParallelSortTest {
+
+    private static final int[] SIZES = {
+            0, 1, 100,
+            ParallelSort.MIN_PART_SIZE * 2,
+            ParallelSort.MIN_PART_SIZE * 3 + 17,
+            ParallelSort.MIN_PART_SIZE * 5 + 1
+    };
+
+    @Test
+    public void testSortObjectsIsStable() {
+        final Random random = new Random(42);
+        final Comparator<long[]> byKey = new Comparator<long[]>() {
+            @Override
+            public int compare(long[] o1, long[] o2) {
+                return (int) (o1[0] - o2[0]);
+            }
+        };
+        for (int size : SIZES) {
+            for (int parallelism = 1; parallelism <= 5; parallelism++) {
+                final long[][] array = new long[size][];
+                for (int i = 0; i < size; i++) {
+                    array[i] = new long[] {random.nextInt(100), i};
+                }
+                final long[][] expected = array.clone();
+                Arrays.sort(expected, byKey);
+
+                ParallelSort.sort(array, byKey, parallelism);
+                for (int i = 0; i < size; i++) {
+                    assertThat(array[i], is(expected[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortObjectsInNaturalOrder() {
+        final Random random = new Random(1);
+        final Integer[] array = new Integer[ParallelSort.MIN_PART_SIZE * 4];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+        final Integer[] expected = array.clone();
+        Arrays.sort(expected);
+
+        ParallelSort.sort(array, null, 4);
+        assertThat(array, is(expected));
+    }
+
+    @Test
+    public void testSortInt() {
+        final Random random = new Random(42);
+        for (int size : SIZES) {
+            final int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt();
+            }
+            final int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            final int[] natural = array.clone();
+            ParallelSort.sort(natural, null, 3);
+            assertThat(natural, is(expected));
+
+            ParallelSort.sort(array, IntComparator.Util.naturalOrder(), 4);
+            assertThat(array, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortLong() {
+        final Random random = new Random(42);
+        for (int size : SIZES) {
+            final long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextLong();
+            }
+            final long[] expected = array.clone();
+            Arrays.sort(expected);
+
+            final long[] natural = array.clone();
+            ParallelSort.sort(natural, null, 2);
+            assertThat(natural, is(expected));
+
+            ParallelSort.sort(array, LongComparator.Util.naturalOrder(), 5);
+            assertThat(array, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortDouble() {
+        final Random random = new Random(42);
+        for (int size : SIZES) {
+            final double[] array = new double[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = (i % 1000 == 0) ? -0.0 : random.nextGaussian();
+            }
+            final double[] expected = array.clone();
+            Arrays.sort(expected);
+
+            final double[] natural = array.clone();
+            ParallelSort.sort(natural, null, 4);
+            assertThat(natural, is(expected));
+
+            ParallelSort.sort(array, DoubleComparator.Util.naturalOrder(), 3);
+            assertThat(array, is(expected));
+        }
+    }
+
+    @Test
+    public void testPrivateConstructor() {
+        assertThat(ParallelSort.class, hasOnlyPrivateConstructors());
+    }
+}
@@ -0,0 +1,89 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.LongComparator;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.CommonMatcher.hasOnlyPrivateConstructors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class PrimitiveSortTest {
+
+    @Test
+    public void testSortInt() {
+        final Random random = new Random(42);
+        for (int size : new int[] {0, 1, 2, 31, 32, 33, 100, 1000, 5000}) {
+            final int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt(500) - 250;
+            }
+            final int[] expected = array.clone();
+            Arrays.sort(expected);
+            reverse(expected);
+
+            PrimitiveSort.sort(array, IntComparator.Util.reverseOrder());
+            assertThat(array, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortIntIsStable() {
+        // Compares by tens only, units keep the original order
+        final IntComparator byTens = new IntComparator() {
+            @Override
+            public int compare(int value1, int value2) {
+                return (value1 / 10) - (value2 / 10);
+            }
+        };
+        final int[] array = new int[200];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (9 - i % 10) * 10 + (i / 20);
+        }
+        PrimitiveSort.sort(array, byTens);
+        for (int i = 1; i < array.length; i++) {
+            final int previous = array[i - 1];
+            final int current = array[i];
+            if (previous / 10 == current / 10) {
+                assertThat(previous % 10 <= current % 10, is(true));
+            } else {
+                assertThat(previous / 10 < current / 10, is(true));
+            }
+        }
+    }
+
+    @Test
+    public void testSortLong() {
+        final long[] array = {5L, Long.MIN_VALUE, 3L, Long.MAX_VALUE, -1L};
+        PrimitiveSort.sort(array, LongComparator.Util.naturalOrder());
+        assertThat(array, is(new long[] {Long.MIN_VALUE, -1L, 3L, 5L, Long.MAX_VALUE}));
+    }
+
+    @Test
+    public void testSortDouble() {
+        final Random random = new Random(7);
+        final double[] array = new double[300];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextDouble();
+        }
+        final double[] expected = array.clone();
+        Arrays.sort(expected);
+        PrimitiveSort.sort(array, DoubleComparator.Util.naturalOrder());
+        assertThat(array, is(expected));
+    }
+
+    @Test
+    public void testPrivateConstructor() {
+        assertThat(PrimitiveSort.class, hasOnlyPrivateConstructors());
+    }
+
+    private static void reverse(int[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            final int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.annimon.stream.internal;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.CommonMatcher.hasOnlyPrivateConstructors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class RadixSortTest {
+
+    @Test
+    public void testSortInt() {
+        final Random random = new Random(42);
+        for (int size : new int[] {0, 1, 2, 100, 5000, 70000}) {
+            final int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = random.nextInt();
+            }
+            if (size > 2) {
+                array[0] = Integer.MIN_VALUE;
+                array[1] = Integer.MAX_VALUE;
+            }
+            final int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            RadixSort.sort(array);
+            assertThat(array, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortIntWithNarrowRange() {
+        final Random random = new Random(1);
+        final int[] array = new int[10000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = 1000000 + random.nextInt(200) - 100;
+        }
+        final int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(array);
+        assertThat(array, is(expected));
+    }
+
+    @Test
+    public void testSortLong() {
+        final Random random = new Random(42);
+        for (int size : new int[] {0, 1, 2, 100, 5000, 70000}) {
+            final long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = (i % 3 == 0) ? random.nextLong() : 1500000000000L + random.nextInt(100000);
+            }
+            if (size > 2) {
+                array[0] = Long.MIN_VALUE;
+                array[1] = Long.MAX_VALUE;
+            }
+            final long[] expected = array.clone();
+            Arrays.sort(expected);
+
+            RadixSort.sort(array);
+            assertThat(array, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortDouble() {
+        final Random random = new Random(42);
+        for (int size : new int[] {0, 1, 2, 100, 5000, 70000}) {
+            final double[] array = new double[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 10);
+            }
+            if (size > 8) {
+                array[0] = Double.NaN;
+                array[1] = Double.NEGATIVE_INFINITY;
+                array[2] = Double.POSITIVE_INFINITY;
+                array[3] = -0.0;
+                array[4] = 0.0;
+                array[5] = Double.MIN_VALUE;
+                array[6] = -Double.MAX_VALUE;
+            }
+            final double[] expected = array.clone();
+            Arrays.sort(expected);
+
+            RadixSort.sort(array);
+            assertThat(array, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortDoubleSignedZeros() {
+        final double[] array = {0.0, -0.0, 1.0, -1.0, 0.0, -0.0};
+        RadixSort.sort(array);
+        assertThat(Double.doubleToRawLongBits(array[1]), is(Double.doubleToRawLongBits(-0.0)));
+        assertThat(Double.doubleToRawLongBits(array[2]), is(Double.doubleToRawLongBits(-0.0)));
+        assertThat(Double.doubleToRawLongBits(array[3]), is(Double.doubleToRawLongBits(0.0)));
+        assertThat(array[0], is(-1.0));
+        assertThat(array[5], is(1.0));
+    }
+
+    @Test
+    public void testPrivateConstructor() {
+        assertThat(RadixSort.class, hasOnlyPrivateConstructors());
+    }
+}
@@ -0,0 +1,144 @@
+package com.annimon.stream.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SpaceSavingTest {
+
+    @Test
+    public void testExactWhenKeysFit() {
+        SpaceSaving<String> sketch = new SpaceSaving<String>(3);
+        for (String key : new String[] {"a", "b", "a", "c", "a", "b"}) {
+            sketch.add(key);
+        }
+        List<Map.Entry<String, Long>> top = sketch.top(3);
+        assertEquals(3, top.size());
+        assertEquals("a", top.get(0).getKey());
+        assertEquals(Long.valueOf(3), top.get(0).getValue());
+        assertEquals("b", top.get(1).getKey());
+        assertEquals(Long.valueOf(2), top.get(1).getValue());
+        assertEquals("c", top.get(2).getKey());
+        assertEquals(Long.valueOf(1), top.get(2).getValue());
+    }
+
+    @Test
+    public void testNullKey() {
+        SpaceSaving<String> sketch = new SpaceSaving<String>(2);
+        sketch.add(null);
+        sketch.add(null);
+        sketch.add("a");
+        assertEquals(null, sketch.top(1).get(0).getKey());
+    }
+
+    @Test
+    public void testErrorBounds() {
+        final int capacity = 50;
+        final int n = 200000;
+        final Random random = new Random(42);
+        final int[] trueCounts = new int[100000];
+        SpaceSaving<Integer> sketch = new SpaceSaving<Integer>(capacity);
+        for (int i = 0; i < n; i++) {
+            // Zipf-like: small keys are much more frequent
+            final int key = (int) Math.floor(Math.pow(100000, random.nextDouble())) - 1;
+            trueCounts[key]++;
+            sketch.add(key);
+        }
+        final List<Map.Entry<Integer, Long>> top = sketch.top(capacity);
+        for (Map.Entry<Integer, Long> entry : top) {
+            final long trueCount = trueCounts[entry.getKey()];
+            assertTrue(entry.getValue() >= trueCount);
+            assertTrue(entry.getValue() - trueCount <= n / capacity);
+        }
+        for (int key = 0; key < trueCounts.length; key++) {
+            if (trueCounts[key] > n / capacity) {
+                assertTrue("key " + key, containsKey(top, key));
+            }
+        }
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getValue() >= top.get(i).getValue());
+        }
+    }
+
+    @Test
+    public void testMergeIsExactWhenKeysFit() {
+        SpaceSaving<String> first = new SpaceSaving<String>(3);
+        SpaceSaving<String> second = new SpaceSaving<String>(3);
+        for (String key : new String[] {"a", "b", "a"}) {
+            first.add(key);
+        }
+        for (String key : new String[] {"c", "a", "b"}) {
+            second.add(key);
+        }
+        first.merge(second);
+        List<Map.Entry<String, Long>> top = first.top(3);
+        assertEquals("a", top.get(0).getKey());
+        assertEquals(Long.valueOf(3), top.get(0).getValue());
+        assertEquals("b", top.get(1).getKey());
+        assertEquals(Long.valueOf(2), top.get(1).getValue());
+        assertEquals("c", top.get(2).getKey());
+        assertEquals(Long.valueOf(1), top.get(2).getValue());
+    }
+
+    @Test
+    public void testMergeErrorBounds() {
+        final int capacity = 50;
+        final int n = 200000;
+        final Random random = new Random(7);
+        final int[] trueCounts = new int[100000];
+        SpaceSaving<Integer> first = new SpaceSaving<Integer>(capacity);
+        SpaceSaving<Integer> second = new SpaceSaving<Integer>(capacity);
+        for (int i = 0; i < n; i++) {
+            final int key = (int) Math.floor(Math.pow(100000, random.nextDouble())) - 1;
+            trueCounts[key]++;
+            // Halves have different distributions of keys
+            ((i < n / 4 || key % 2 == 0) ? first : second).add(key);
+        }
+        first.merge(second);
+        final List<Map.Entry<Integer, Long>> top = first.top(capacity);
+        assertEquals(capacity, top.size());
+        for (Map.Entry<Integer, Long> entry : top) {
+            final long trueCount = trueCounts[entry.getKey()];
+            assertTrue(entry.getValue() >= trueCount);
+            assertTrue(entry.getValue() - trueCount <= n / capacity);
+        }
+        for (int key = 0; key < trueCounts.length; key++) {
+            if (trueCounts[key] > n / capacity) {
+                assertTrue("key " + key, containsKey(top, key));
+            }
+        }
+        // The merged sketch keeps counting
+        first.add(0);
+        assertTrue(first.top(1).get(0).getValue() >= trueCounts[0] + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeWithDifferentCapacities() {
+        new SpaceSaving<String>(2).merge(new SpaceSaving<String>(3));
+    }
+
+    @Test
+    public void testLongSpaceSaving() {
+        LongSpaceSaving sketch = new LongSpaceSaving(2);
+        for (long key : new long[] {0, 5000000000L, 0, 7, 0, 7, 7, 7}) {
+            sketch.add(key);
+        }
+        List<Map.Entry<Long, Long>> top = sketch.top(2);
+        assertEquals(Long.valueOf(7), top.get(0).getKey());
+        // 7 takes over the evicted counter of 5000000000
+        assertEquals(Long.valueOf(5), top.get(0).getValue());
+        assertEquals(Long.valueOf(0), top.get(1).getKey());
+        assertTrue(top.get(1).getValue() >= 3);
+        assertEquals(1, sketch.top(1).size());
+    }
+
+    private static boolean containsKey(List<Map.Entry<Integer, Long>> entries, int key) {
+        for (Map.Entry<Integer, Long> entry : entries) {
+            if (entry.getKey() == key) return true;
+        }
+        return false;
+    }
+}
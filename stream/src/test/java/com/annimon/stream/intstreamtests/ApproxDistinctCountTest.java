@@ -0,0 +1,38 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import com.annimon.stream.function.IntUnaryOperator;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public final class ApproxDistinctCountTest {
+
+    @Test
+    public void testApproxDistinctCount() {
+        assertEquals(3, IntStream.of(1, 2, 3, 2, 1).approxDistinctCount());
+    }
+
+    @Test
+    public void testApproxDistinctCountOnEmptyStream() {
+        assertEquals(0, IntStream.empty().approxDistinctCount());
+    }
+
+    @Test
+    public void testApproxDistinctCountWithPrecision() {
+        final long estimate = IntStream.range(0, 200000)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return operand % 100000;
+                    }
+                })
+                .approxDistinctCount(12);
+        // Five standard errors of 1.6%
+        assertEquals(100000, estimate, 8000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApproxDistinctCountWithInvalidPrecision() {
+        IntStream.of(1, 2).approxDistinctCount(3);
+    }
+}
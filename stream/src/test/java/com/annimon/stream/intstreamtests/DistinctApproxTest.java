@@ -0,0 +1,49 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertTrue;
+
+public final class DistinctApproxTest {
+
+    @Test
+    public void testDistinctApprox() {
+        IntStream.of(1, 1, 2, 3, 5, 3, 2, 1, 1, -1)
+                .distinctApprox(100, 0.01)
+                .custom(assertElements(arrayContaining(
+                        1, 2, 3, 5, -1
+                )));
+    }
+
+    @Test
+    public void testDistinctApproxEmpty() {
+        IntStream.empty()
+                .distinctApprox(100, 0.01)
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testDistinctApproxFalseDropRate() {
+        long count = IntStream.range(0, 100000)
+                .distinctApprox(100000, 0.01)
+                .count();
+        assertTrue("count: " + count, count >= 98500);
+    }
+
+    @Test
+    public void testDistinctApproxSaturates() {
+        // The filter for 100 elements drops almost all elements after it is filled
+        long count = IntStream.range(0, 100000)
+                .distinctApprox(100, 0.01)
+                .count();
+        assertTrue("count: " + count, count < 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctApproxWithInvalidFpp() {
+        IntStream.of(1).distinctApprox(100, 1.5);
+    }
+}
@@ -3,6 +3,7 @@ package com.annimon.stream.intstreamtests;
 import com.annimon.stream.Functions;
 import com.annimon.stream.IntStream;
 import com.annimon.stream.Stream;
+import com.annimon.stream.function.IntUnaryOperator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,6 +12,7 @@ import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertElements;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 
 public final class DistinctTest {
 
@@ -37,4 +39,18 @@ public final class DistinctTest {
         List<Integer> actual = stream.boxed().toList();
         assertThat(actual, contains(expected));
     }
+
+    @Test
+    public void testDistinctLargeStream() {
+        long count = IntStream.range(0, 100000)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return operand % 1000 - 500;
+                    }
+                })
+                .distinct()
+                .count();
+        assertThat(count, is(1000L));
+    }
 }
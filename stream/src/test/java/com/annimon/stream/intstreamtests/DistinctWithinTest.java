@@ -0,0 +1,61 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import com.annimon.stream.function.IntUnaryOperator;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertEquals;
+
+public final class DistinctWithinTest {
+
+    @Test
+    public void testDistinctWithin() {
+        IntStream.of(1, 2, 1, 3, 1, 2, 2)
+                .distinctWithin(2)
+                .custom(assertElements(arrayContaining(
+                        1, 2, 3, 1, 2
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinZero() {
+        IntStream.of(0, 0, 1, 0, 2, 1, 0)
+                .distinctWithin(2)
+                .custom(assertElements(arrayContaining(
+                        0, 1, 2, 0
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinEmpty() {
+        IntStream.empty()
+                .distinctWithin(3)
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testDistinctWithinGrowingWindow() {
+        IntUnaryOperator modulo = new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int operand) {
+                return operand % 1000;
+            }
+        };
+        // Values cycle with period 1000
+        assertEquals(100000, IntStream.range(0, 100000)
+                .map(modulo)
+                .distinctWithin(999)
+                .count());
+        assertEquals(1000, IntStream.range(0, 100000)
+                .map(modulo)
+                .distinctWithin(1000)
+                .count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctWithinWithNegativeWindow() {
+        IntStream.of(1).distinctWithin(-1);
+    }
+}
@@ -1,7 +1,9 @@
 package com.annimon.stream.intstreamtests;
 
+import com.annimon.stream.Functions;
 import com.annimon.stream.IntStream;
 import com.annimon.stream.function.IntConsumer;
+import com.annimon.stream.function.IntUnaryOperator;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 
@@ -34,4 +36,38 @@ public final class ForEachTest {
 
         assertEquals(sum[0], 165);
     }
+
+    @Test
+    public void testForEachAfterPartialIteration() {
+        IntStream stream = IntStream.of(1, 2, 3, 4)
+                .filter(Functions.remainderInt(2))
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return operand * 10;
+                    }
+                });
+        assertEquals(20, stream.iterator().nextInt());
+
+        final int[] sum = new int[1];
+        stream.forEach(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                sum[0] += value;
+            }
+        });
+        assertEquals(40, sum[0]);
+    }
+
+    @Test
+    public void testForEachOnRangeEndingAtMaxValue() {
+        final long[] count = new long[1];
+        IntStream.rangeClosed(Integer.MAX_VALUE - 2, Integer.MAX_VALUE).forEach(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                count[0]++;
+            }
+        });
+        assertEquals(3, count[0]);
+    }
 }
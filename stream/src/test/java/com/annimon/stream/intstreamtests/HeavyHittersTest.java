@@ -0,0 +1,67 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import com.annimon.stream.function.IntUnaryOperator;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class HeavyHittersTest {
+
+    @Test
+    public void testHeavyHitters() {
+        List<Map.Entry<Integer, Long>> top = IntStream.of(1, 2, 1, 3, 1, 2).heavyHitters(3);
+        assertEquals(3, top.size());
+        assertEquals(Integer.valueOf(1), top.get(0).getKey());
+        assertEquals(Long.valueOf(3), top.get(0).getValue());
+        assertEquals(Integer.valueOf(2), top.get(1).getKey());
+        assertEquals(Long.valueOf(2), top.get(1).getValue());
+        assertEquals(Integer.valueOf(3), top.get(2).getKey());
+        assertEquals(Long.valueOf(1), top.get(2).getValue());
+    }
+
+    @Test
+    public void testHeavyHittersWithManyDistinctElements() {
+        // Every 10th element is 0, the rest are distinct
+        List<Map.Entry<Integer, Long>> top = IntStream.range(0, 100000)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return operand % 10 == 0 ? 0 : operand;
+                    }
+                })
+                .heavyHitters(20);
+        assertEquals(20, top.size());
+        assertEquals(Integer.valueOf(0), top.get(0).getKey());
+        // Overestimation is at most n / k
+        assertTrue(top.get(0).getValue() >= 10000);
+        assertTrue(top.get(0).getValue() <= 10000 + 100000 / 20);
+    }
+
+    @Test
+    public void testHeavyHittersWithCapacity() {
+        List<Map.Entry<Integer, Long>> top = IntStream.of(1, 2, 1, 3, 1, 2).heavyHitters(2, 3);
+        assertEquals(2, top.size());
+        assertEquals(Integer.valueOf(1), top.get(0).getKey());
+        assertEquals(Long.valueOf(3), top.get(0).getValue());
+        assertEquals(Integer.valueOf(2), top.get(1).getKey());
+        assertEquals(Long.valueOf(2), top.get(1).getValue());
+    }
+
+    @Test
+    public void testHeavyHittersOnEmptyStream() {
+        assertTrue(IntStream.empty().heavyHitters(5).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHeavyHittersWithInvalidSize() {
+        IntStream.of(1).heavyHitters(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHeavyHittersWithTooSmallCapacity() {
+        IntStream.of(1).heavyHitters(3, 2);
+    }
+}
@@ -0,0 +1,58 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import com.annimon.stream.function.IntComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertArrayEquals;
+
+public final class MergeSortedTest {
+
+    @Test
+    public void testMergeSorted() {
+        IntStream.mergeSorted(null, Arrays.asList(
+                IntStream.of(1, 4, 7),
+                IntStream.of(2, 5, 8),
+                IntStream.empty(),
+                IntStream.of(0, 3, 9)))
+                .custom(assertElements(arrayContaining(
+                        0, 1, 2, 3, 4, 5, 7, 8, 9
+                )));
+    }
+
+    @Test
+    public void testMergeSortedWithComparator() {
+        IntStream.mergeSorted(IntComparator.Util.reverseOrder(), Arrays.asList(
+                IntStream.of(9, 5, 1),
+                IntStream.of(8, 6, 2)))
+                .custom(assertElements(arrayContaining(
+                        9, 8, 6, 5, 2, 1
+                )));
+    }
+
+    @Test
+    public void testMergeSortedOfNoStreams() {
+        IntStream.mergeSorted(null, new ArrayList<IntStream>())
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testMergeSortedManyStreams() {
+        final List<IntStream> streams = new ArrayList<IntStream>();
+        final int[] expected = new int[64 * 50];
+        for (int shard = 0; shard < 64; shard++) {
+            final int[] values = new int[50];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (i * 64 + shard) * 3;
+                expected[i * 64 + shard] = values[i];
+            }
+            streams.add(IntStream.of(values));
+        }
+        assertArrayEquals(expected, IntStream.mergeSorted(null, streams).toArray());
+    }
+}
@@ -1,6 +1,7 @@
 package com.annimon.stream.intstreamtests;
 
 import com.annimon.stream.IntStream;
+import com.annimon.stream.function.IntUnaryOperator;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertElements;
 import static org.hamcrest.Matchers.arrayContaining;
@@ -40,4 +41,28 @@ public final class SkipTest {
                         2, 3, 4, 5, 6
                 )));
     }
+
+    @Test
+    public void testSkipOfLargeRange() {
+        IntStream.rangeClosed(0, Integer.MAX_VALUE)
+                .skip(Integer.MAX_VALUE - 1L)
+                .custom(assertElements(arrayContaining(
+                        Integer.MAX_VALUE - 1, Integer.MAX_VALUE
+                )));
+    }
+
+    @Test
+    public void testSkipAfterIteration() {
+        IntStream.of(1, 2, 3, 4, 5)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return operand * 10;
+                    }
+                })
+                .skip(3)
+                .custom(assertElements(arrayContaining(
+                        40, 50
+                )));
+    }
 }
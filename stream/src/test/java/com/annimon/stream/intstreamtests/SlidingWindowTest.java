@@ -0,0 +1,72 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import com.annimon.stream.function.Function;
+import java.nio.IntBuffer;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SlidingWindowTest {
+
+    @Test
+    public void testSlidingWindow() {
+        final List<int[]> windows = IntStream.of(1, 2, 3, 4, 5, 6, 7)
+                .slidingWindow(3, 2)
+                .toList();
+        assertEquals(3, windows.size());
+        assertArrayEquals(new int[] {1, 2, 3}, windows.get(0));
+        assertArrayEquals(new int[] {3, 4, 5}, windows.get(1));
+        assertArrayEquals(new int[] {5, 6, 7}, windows.get(2));
+    }
+
+    @Test
+    public void testSlidingWindowWithStepGreaterThanWindow() {
+        final List<int[]> windows = IntStream.of(1, 2, 3, 4, 5, 6, 7)
+                .slidingWindow(2, 3)
+                .toList();
+        assertEquals(3, windows.size());
+        assertArrayEquals(new int[] {1, 2}, windows.get(0));
+        assertArrayEquals(new int[] {4, 5}, windows.get(1));
+        assertArrayEquals(new int[] {7}, windows.get(2));
+    }
+
+    @Test
+    public void testSlidingWindowView() {
+        final List<Integer> sums = IntStream.range(0, 1000)
+                .slidingWindowView(100, 1)
+                .map(new Function<IntBuffer, Integer>() {
+                    @Override
+                    public Integer apply(IntBuffer window) {
+                        assertTrue(window.isReadOnly());
+                        assertEquals(100, window.remaining());
+                        int sum = 0;
+                        for (int i = 0; i < window.limit(); i++) {
+                            sum += window.get(i);
+                        }
+                        return sum;
+                    }
+                })
+                .toList();
+        assertEquals(901, sums.size());
+        assertEquals(4950, (int) sums.get(0));
+        assertEquals(4950 + 900 * 100, (int) sums.get(900));
+    }
+
+    @Test
+    public void testSlidingWindowViewOfShortStream() {
+        final List<int[]> windows = IntStream.of(1, 2)
+                .slidingWindow(5, 1)
+                .toList();
+        assertEquals(1, windows.size());
+        assertArrayEquals(new int[] {1, 2}, windows.get(0));
+        assertEquals(0, IntStream.empty().slidingWindowView(5, 1).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSlidingWindowWithNegativeStepSize() {
+        IntStream.of(1, 2).slidingWindowView(2, -1);
+    }
+}
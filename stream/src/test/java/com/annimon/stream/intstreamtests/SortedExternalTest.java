@@ -0,0 +1,52 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.IntUnaryOperator;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+
+public final class SortedExternalTest {
+
+    @Test
+    public void testSortedExternal() {
+        assertArrayEquals(new int[] {1, 2, 3, 5, 7, 8, 9},
+                IntStream.of(5, 1, 9, 3, 7, 2, 8).sortedExternal(null, 2).toArray());
+        assertArrayEquals(new int[] {1, 2, 3, 5, 7, 8, 9},
+                IntStream.of(5, 1, 9, 3, 7, 2, 8).sortedExternal(null, 100).toArray());
+    }
+
+    @Test
+    public void testSortedExternalWithComparator() {
+        assertArrayEquals(new int[] {9, 8, 7, 5, 3, 2, 1},
+                IntStream.of(5, 1, 9, 3, 7, 2, 8)
+                        .sortedExternal(IntComparator.Util.reverseOrder(), 3)
+                        .toArray());
+    }
+
+    @Test
+    public void testSortedExternalOfEmptyStream() {
+        assertArrayEquals(new int[0], IntStream.empty().sortedExternal(null, 2).toArray());
+    }
+
+    @Test
+    public void testSortedExternalOfLargeStream() {
+        final int[] data = IntStream.range(0, 100000)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return (int) ((operand * 7919L) % 100003);
+                    }
+                })
+                .toArray();
+        final int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, IntStream.of(data).sortedExternal(null, 1000).toArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortedExternalWithNegativeBudget() {
+        IntStream.of(5, 1, 9, 3, 7, 2, 8).sortedExternal(null, -1);
+    }
+}
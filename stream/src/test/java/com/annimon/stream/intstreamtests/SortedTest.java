@@ -2,7 +2,9 @@ package com.annimon.stream.intstreamtests;
 
 import com.annimon.stream.Functions;
 import com.annimon.stream.IntStream;
+import com.annimon.stream.Objects;
 import com.annimon.stream.Stream;
+import com.annimon.stream.function.IntComparator;
 import com.annimon.stream.function.IntConsumer;
 import com.annimon.stream.function.IntUnaryOperator;
 import java.util.ArrayList;
@@ -68,4 +70,76 @@ public final class SortedTest {
                 .toArray();
         assertThat(actual, is(expected));
     }
+
+    @Test
+    public void testSortedWithIntComparator() {
+        int[] actual = IntStream.of(6, 3, 9, 0, -7, 19)
+                .sortedWith(IntComparator.Util.reverseOrder())
+                .toArray();
+        assertThat(actual, is(new int[] { 19, 9, 6, 3, 0, -7 }));
+    }
+
+    @Test
+    public void testSortedWithIntComparatorIsStable() {
+        int[] actual = IntStream.of(3, -1, 2, 1, -3, -2)
+                .sortedWith(new IntComparator() {
+                    @Override
+                    public int compare(int value1, int value2) {
+                        return Objects.compareInt(Math.abs(value1), Math.abs(value2));
+                    }
+                })
+                .toArray();
+        assertThat(actual, is(new int[] { -1, 1, 2, -2, 3, -3 }));
+    }
+
+    @Test
+    public void testSortedWithNullIntComparator() {
+        int[] actual = IntStream.of(6, 3, 9)
+                .sortedWith(null)
+                .toArray();
+        assertThat(actual, is(new int[] { 3, 6, 9 }));
+    }
+
+    @Test
+    public void testSortedRadix() {
+        assertThat(IntStream.of(3, -4, 1, Integer.MIN_VALUE, 2).sortedRadix().toArray(),
+                is(new int[] {Integer.MIN_VALUE, -4, 1, 2, 3}));
+    }
+
+    @Test
+    public void testSortedLargeStream() {
+        final int[] data = IntStream.range(0, 50000)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return operand * -1640531527;
+                    }
+                })
+                .toArray();
+        final int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertThat(IntStream.of(data).sorted().toArray(), is(expected));
+    }
+
+    @Test
+    public void testSortedParallel() {
+        final int[] data = IntStream.range(0, 50000)
+                .map(new IntUnaryOperator() {
+                    @Override
+                    public int applyAsInt(int operand) {
+                        return operand * -1640531527;
+                    }
+                })
+                .toArray();
+        final int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertThat(IntStream.of(data).sortedParallel(null, 4).toArray(), is(expected));
+        assertThat(IntStream.of(3, 1, 2).sortedParallel(IntComparator.Util.reverseOrder(), 2).toArray(),
+                is(new int[] {3, 2, 1}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortedParallelWithZeroParallelism() {
+        IntStream.of(1, 2).sortedParallel(null, 0);
+    }
 }
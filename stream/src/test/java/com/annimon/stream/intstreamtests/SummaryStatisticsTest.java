@@ -0,0 +1,26 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import com.annimon.stream.IntSummaryStatistics;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public final class SummaryStatisticsTest {
+
+    @Test
+    public void testSummaryStatistics() {
+        IntSummaryStatistics stats = IntStream.of(3, 1, 2).summaryStatistics();
+        assertEquals(3, stats.getCount());
+        assertEquals(6, stats.getSum());
+        assertEquals(1, stats.getMin());
+        assertEquals(3, stats.getMax());
+        assertEquals(2.0, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testSummaryStatisticsOnEmptyStream() {
+        IntSummaryStatistics stats = IntStream.empty().summaryStatistics();
+        assertEquals(0, stats.getCount());
+        assertEquals(Integer.MAX_VALUE, stats.getMin());
+    }
+}
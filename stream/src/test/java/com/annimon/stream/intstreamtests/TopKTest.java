@@ -0,0 +1,75 @@
+package com.annimon.stream.intstreamtests;
+
+import com.annimon.stream.IntStream;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.IntStreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertEquals;
+
+public final class TopKTest {
+
+    @Test
+    public void testTopK() {
+        IntStream.of(5, 1, 9, 3, 7, 2)
+                .topK(3)
+                .custom(assertElements(arrayContaining(
+                        9, 7, 5
+                )));
+    }
+
+    @Test
+    public void testBottomK() {
+        IntStream.of(5, 1, 9, 3, 7, 2)
+                .bottomK(3)
+                .custom(assertElements(arrayContaining(
+                        1, 2, 3
+                )));
+    }
+
+    @Test
+    public void testTopKWithDuplicates() {
+        IntStream.of(5, 9, 5, 9, 1)
+                .topK(3)
+                .custom(assertElements(arrayContaining(
+                        9, 9, 5
+                )));
+    }
+
+    @Test
+    public void testTopKGreaterThanCount() {
+        IntStream.of(2, 1)
+                .bottomK(5)
+                .custom(assertElements(arrayContaining(
+                        1, 2
+                )));
+        IntStream.empty()
+                .topK(5)
+                .custom(assertIsEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTopKNegative() {
+        IntStream.of(1).topK(-1);
+    }
+
+    @Test
+    public void testTopKOfRange() {
+        IntStream.range(0, 1000000)
+                .topK(3)
+                .custom(assertElements(arrayContaining(
+                        999999, 999998, 999997
+                )));
+    }
+
+    @Test
+    public void testSortedLimit() {
+        IntStream.of(5, 1, 9, 3, 7, 2)
+                .sorted()
+                .limit(4)
+                .custom(assertElements(arrayContaining(
+                        1, 2, 3, 5
+                )));
+        assertEquals(2, IntStream.of(5, 1, 9).sorted().limit(2).count());
+    }
+}
@@ -2,12 +2,17 @@ package com.annimon.stream.iterator;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class LazyIteratorTest {
@@ -55,6 +60,75 @@ public class LazyIteratorTest {
         iterator.next();
     }
 
+    @Test
+    public void testRemaining() {
+        final LazyIterator<String> iterator = newIterator();
+        assertEquals(2, iterator.remaining());
+        iterator.next();
+        assertEquals(1, iterator.remaining());
+        iterator.next();
+        assertEquals(0, iterator.remaining());
+        assertEquals(0, newIteratorEmpty().remaining());
+    }
+
+    @Test
+    public void testRemainingAfterRemove() {
+        final List<String> list = new LinkedList<String>();
+        list.addAll(Arrays.asList("1", "2", "3"));
+
+        final LazyIterator<String> iterator = new LazyIterator<String>(list);
+        iterator.next();
+        iterator.remove();
+        assertEquals(2, iterator.remaining());
+    }
+
+    @Test
+    public void testRemainingOfIterable() {
+        final Iterable<String> iterable = new Iterable<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return Arrays.asList("1", "2").iterator();
+            }
+        };
+        assertEquals(-1, new LazyIterator<String>(iterable).remaining());
+    }
+
+    @Test
+    public void testRemainingOfConcurrentCollection() {
+        final List<String> list = new CopyOnWriteArrayList<String>(Arrays.asList("1", "2"));
+        final LazyIterator<String> iterator = new LazyIterator<String>(list);
+        assertEquals(-1, iterator.remaining());
+        assertFalse(iterator.isRandomAccess());
+        assertEquals(-1, new LazyIterator<String>(
+                new ConcurrentLinkedQueue<String>(list)).remaining());
+    }
+
+    @Test
+    public void testTrySplit() {
+        final LazyIterator<String> iterator = new LazyIterator<String>(
+                Arrays.asList("1", "2", "3", "4", "5"));
+        final LazyIterator<String> prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(2, prefix.remaining());
+        assertEquals(3, iterator.remaining());
+        assertEquals("1", prefix.next());
+        assertEquals("2", prefix.next());
+        assertFalse(prefix.hasNext());
+        assertEquals("3", iterator.next());
+    }
+
+    @Test
+    public void testTrySplitNotSupported() {
+        assertNull(newIteratorEmpty().trySplit());
+        assertNull(new LazyIterator<String>(Collections.singletonList("1")).trySplit());
+        assertNull(new LazyIterator<String>(
+                new LinkedList<String>(Arrays.asList("1", "2"))).trySplit());
+
+        final LazyIterator<String> iterator = newIterator();
+        iterator.next();
+        assertNull(iterator.trySplit());
+    }
+
     private static LazyIterator<String> newIteratorEmpty() {
         return new LazyIterator<String>(Collections.<String>emptyList());
     }
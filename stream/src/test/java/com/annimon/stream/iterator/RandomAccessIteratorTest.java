@@ -0,0 +1,135 @@
+package com.annimon.stream.iterator;
+
+import com.annimon.stream.operator.IntArray;
+import com.annimon.stream.operator.IntRangeClosed;
+import com.annimon.stream.operator.LongRangeClosed;
+import com.annimon.stream.operator.ObjLimit;
+import com.annimon.stream.operator.ObjArray;
+import java.util.Arrays;
+import java.util.LinkedList;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RandomAccessIteratorTest {
+
+    @Test
+    public void testObjArray() {
+        final ObjArray<String> iterator = new ObjArray<String>(new String[] {"a", "b", "c", "d"});
+        assertTrue(iterator.isRandomAccess());
+        assertEquals("c", iterator.get(2));
+        iterator.next();
+        assertEquals("c", iterator.get(1));
+        iterator.skip(2);
+        assertEquals(1, iterator.remaining());
+        assertEquals("d", iterator.next());
+        iterator.skip(10);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testIntArray() {
+        final IntArray iterator = new IntArray(new int[] {1, 2, 3, 4});
+        assertTrue(iterator.isRandomAccess());
+        assertEquals(4, (int) iterator.get(3));
+        iterator.skip(3);
+        assertEquals(4, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testIntRangeClosed() {
+        final IntRangeClosed iterator = new IntRangeClosed(Integer.MAX_VALUE - 3, Integer.MAX_VALUE);
+        assertTrue(iterator.isRandomAccess());
+        assertEquals(Integer.MAX_VALUE, (int) iterator.get(3));
+        iterator.skip(3);
+        assertEquals(Integer.MAX_VALUE, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+
+        final IntRangeClosed other = new IntRangeClosed(0, 10);
+        other.skip(Long.MAX_VALUE);
+        assertFalse(other.hasNext());
+    }
+
+    @Test
+    public void testLongRangeClosed() {
+        final LongRangeClosed iterator = new LongRangeClosed(10L, 20L);
+        assertTrue(iterator.isRandomAccess());
+        assertEquals(15L, (long) iterator.get(5));
+        iterator.skip(10);
+        assertEquals(20L, iterator.nextLong());
+        assertFalse(iterator.hasNext());
+
+        final LongRangeClosed overflowing = new LongRangeClosed(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertFalse(overflowing.isRandomAccess());
+        overflowing.skip(Long.MAX_VALUE);
+        assertEquals(-1L, overflowing.nextLong());
+    }
+
+    @Test
+    public void testPrimitiveIteratorHasNoRandomAccessByDefault() {
+        final PrimitiveIterator.OfInt iterator = new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+
+            @Override
+            public int nextInt() {
+                return 0;
+            }
+        };
+        assertFalse(iterator instanceof RandomAccessIterator);
+    }
+
+    @Test
+    public void testObjLimit() {
+        final ObjLimit<String> iterator = new ObjLimit<String>(
+                new ObjArray<String>(new String[] {"a", "b", "c", "d"}), 2);
+        assertTrue(iterator.isRandomAccess());
+        assertEquals("b", iterator.get(1));
+        iterator.next();
+        assertEquals("b", iterator.get(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testObjLimitGetPastLimit() {
+        final ObjLimit<String> iterator = new ObjLimit<String>(
+                new ObjArray<String>(new String[] {"a", "b", "c", "d"}), 2);
+        iterator.next();
+        iterator.get(1);
+    }
+
+    @Test
+    public void testLazyIterator() {
+        final LazyIterator<Integer> iterator = new LazyIterator<Integer>(Arrays.asList(1, 2, 3, 4));
+        assertTrue(iterator.isRandomAccess());
+        assertEquals(3, (int) iterator.get(2));
+        iterator.skip(1);
+        assertEquals(3, iterator.remaining());
+        assertEquals(2, (int) iterator.next());
+        assertFalse(iterator.isRandomAccess());
+        iterator.skip(1);
+        assertEquals(4, (int) iterator.next());
+    }
+
+    @Test
+    public void testLazyIteratorGetCountsFromConsumedPosition() {
+        final LazyIterator<Integer> iterator = new LazyIterator<Integer>(Arrays.asList(1, 2, 3, 4, 5));
+        iterator.next();
+        iterator.next();
+        assertEquals(3, iterator.remaining());
+        assertEquals(3, (int) iterator.get(0));
+        assertEquals(5, (int) iterator.get(2));
+    }
+
+    @Test
+    public void testLazyIteratorOfSequentialList() {
+        final LazyIterator<Integer> iterator = new LazyIterator<Integer>(
+                new LinkedList<Integer>(Arrays.asList(1, 2, 3)));
+        assertFalse(iterator.isRandomAccess());
+        iterator.skip(2);
+        assertEquals(3, (int) iterator.next());
+    }
+}
@@ -0,0 +1,137 @@
+package com.annimon.stream.iterator;
+
+import com.annimon.stream.operator.DoubleArray;
+import com.annimon.stream.operator.IntArray;
+import com.annimon.stream.operator.IntRangeClosed;
+import com.annimon.stream.operator.LongArray;
+import com.annimon.stream.operator.LongRangeClosed;
+import com.annimon.stream.operator.ObjArray;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class SplittableIteratorTest {
+
+    @Test
+    public void testObjArray() {
+        final ObjArray<String> iterator = new ObjArray<String>(new String[] {"a", "b", "c"});
+        assertEquals(3, iterator.remaining());
+        final ObjArray<String> prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertThat(drain(prefix), contains("a"));
+        assertThat(drain(iterator), contains("b", "c"));
+        assertEquals(0, iterator.remaining());
+        assertNull(iterator.trySplit());
+    }
+
+    @Test
+    public void testObjArrayAfterNext() {
+        final ObjArray<String> iterator = new ObjArray<String>(new String[] {"a", "b", "c"});
+        iterator.next();
+        assertEquals(2, iterator.remaining());
+        final ObjArray<String> prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertThat(drain(prefix), contains("b"));
+        assertThat(drain(iterator), contains("c"));
+    }
+
+    @Test
+    public void testIntArray() {
+        final IntArray iterator = new IntArray(new int[] {1, 2, 3, 4});
+        final IntArray prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(2, prefix.remaining());
+        assertEquals(2, iterator.remaining());
+        assertThat(drain(prefix), contains(1, 2));
+        assertThat(drain(iterator), contains(3, 4));
+    }
+
+    @Test
+    public void testLongArray() {
+        final LongArray iterator = new LongArray(new long[] {1, 2, 3, 4, 5});
+        final LongArray prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertThat(drain(prefix), contains(1L, 2L));
+        assertThat(drain(iterator), contains(3L, 4L, 5L));
+    }
+
+    @Test
+    public void testDoubleArray() {
+        final DoubleArray iterator = new DoubleArray(new double[] {0.1, 0.2});
+        final DoubleArray prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertNull(prefix.trySplit());
+        assertThat(drain(prefix), contains(0.1));
+        assertThat(drain(iterator), contains(0.2));
+    }
+
+    @Test
+    public void testIntRangeClosed() {
+        final IntRangeClosed iterator = new IntRangeClosed(1, 5);
+        assertEquals(5, iterator.remaining());
+        final IntRangeClosed prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertThat(drain(prefix), contains(1, 2, 3));
+        assertEquals(2, iterator.remaining());
+        assertThat(drain(iterator), contains(4, 5));
+        assertEquals(0, iterator.remaining());
+        assertNull(iterator.trySplit());
+    }
+
+    @Test
+    public void testIntRangeClosedSingle() {
+        final IntRangeClosed iterator = new IntRangeClosed(5, 5);
+        assertEquals(1, iterator.remaining());
+        assertNull(iterator.trySplit());
+        assertEquals(0, new IntRangeClosed(5, 4).remaining());
+    }
+
+    @Test
+    public void testIntRangeClosedFullRange() {
+        final IntRangeClosed iterator = new IntRangeClosed(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(1L << 32, iterator.remaining());
+        final IntRangeClosed prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(1L << 31, prefix.remaining());
+        assertEquals(1L << 31, iterator.remaining());
+        assertEquals(0, iterator.nextInt());
+        assertEquals(Integer.MIN_VALUE, prefix.nextInt());
+    }
+
+    @Test
+    public void testLongRangeClosed() {
+        final LongRangeClosed iterator = new LongRangeClosed(10, 13);
+        final LongRangeClosed prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertThat(drain(prefix), contains(10L, 11L));
+        assertThat(drain(iterator), contains(12L, 13L));
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testLongRangeClosedFullRange() {
+        final LongRangeClosed iterator = new LongRangeClosed(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(-1, iterator.remaining());
+        final LongRangeClosed prefix = iterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(-1, prefix.remaining());
+        assertEquals(Long.MIN_VALUE, prefix.nextLong());
+        assertEquals(0L, iterator.nextLong());
+
+        assertEquals(Long.MAX_VALUE, new LongRangeClosed(0, Long.MAX_VALUE - 1).remaining());
+    }
+
+    private static <T> List<T> drain(SplittableIterator<T> iterator) {
+        final List<T> result = new ArrayList<T>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+}
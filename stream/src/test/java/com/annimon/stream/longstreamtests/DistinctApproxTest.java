@@ -0,0 +1,40 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.LongStreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.LongStreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertTrue;
+
+public final class DistinctApproxTest {
+
+    @Test
+    public void testDistinctApprox() {
+        LongStream.of(1, 1, 2, 3, 5, 3, 2, 1, 1, -1)
+                .distinctApprox(100, 0.01)
+                .custom(assertElements(arrayContaining(
+                        1L, 2L, 3L, 5L, -1L
+                )));
+    }
+
+    @Test
+    public void testDistinctApproxEmpty() {
+        LongStream.empty()
+                .distinctApprox(100, 0.01)
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testDistinctApproxFalseDropRate() {
+        long count = LongStream.range(0, 100000)
+                .distinctApprox(100000, 0.01)
+                .count();
+        assertTrue("count: " + count, count >= 98500);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctApproxWithInvalidFpp() {
+        LongStream.of(1).distinctApprox(100, 1.5);
+    }
+}
@@ -0,0 +1,61 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.function.LongUnaryOperator;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.LongStreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.LongStreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertEquals;
+
+public final class DistinctWithinTest {
+
+    @Test
+    public void testDistinctWithin() {
+        LongStream.of(1, 2, 1, 3, 1, 2, 2)
+                .distinctWithin(2)
+                .custom(assertElements(arrayContaining(
+                        1L, 2L, 3L, 1L, 2L
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinZero() {
+        LongStream.of(0, 0, 1, 0, 2, 1, 0)
+                .distinctWithin(2)
+                .custom(assertElements(arrayContaining(
+                        0L, 1L, 2L, 0L
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinEmpty() {
+        LongStream.empty()
+                .distinctWithin(3)
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testDistinctWithinGrowingWindow() {
+        LongUnaryOperator modulo = new LongUnaryOperator() {
+            @Override
+            public long applyAsLong(long operand) {
+                return operand % 1000;
+            }
+        };
+        // Values cycle with period 1000
+        assertEquals(100000, LongStream.range(0, 100000)
+                .map(modulo)
+                .distinctWithin(999)
+                .count());
+        assertEquals(1000, LongStream.range(0, 100000)
+                .map(modulo)
+                .distinctWithin(1000)
+                .count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctWithinWithNegativeWindow() {
+        LongStream.of(1).distinctWithin(-1);
+    }
+}
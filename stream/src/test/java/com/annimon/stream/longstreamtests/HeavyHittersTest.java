@@ -0,0 +1,67 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.function.LongUnaryOperator;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class HeavyHittersTest {
+
+    @Test
+    public void testHeavyHitters() {
+        List<Map.Entry<Long, Long>> top = LongStream.of(1, 2, 1, 3, 1, 2).heavyHitters(3);
+        assertEquals(3, top.size());
+        assertEquals(Long.valueOf(1), top.get(0).getKey());
+        assertEquals(Long.valueOf(3), top.get(0).getValue());
+        assertEquals(Long.valueOf(2), top.get(1).getKey());
+        assertEquals(Long.valueOf(2), top.get(1).getValue());
+        assertEquals(Long.valueOf(3), top.get(2).getKey());
+        assertEquals(Long.valueOf(1), top.get(2).getValue());
+    }
+
+    @Test
+    public void testHeavyHittersWithManyDistinctElements() {
+        // Every 10th element is 0, the rest are distinct
+        List<Map.Entry<Long, Long>> top = LongStream.range(0, 100000)
+                .map(new LongUnaryOperator() {
+                    @Override
+                    public long applyAsLong(long operand) {
+                        return operand % 10 == 0 ? 0 : operand;
+                    }
+                })
+                .heavyHitters(20);
+        assertEquals(20, top.size());
+        assertEquals(Long.valueOf(0), top.get(0).getKey());
+        // Overestimation is at most n / k
+        assertTrue(top.get(0).getValue() >= 10000);
+        assertTrue(top.get(0).getValue() <= 10000 + 100000 / 20);
+    }
+
+    @Test
+    public void testHeavyHittersWithCapacity() {
+        List<Map.Entry<Long, Long>> top = LongStream.of(1, 2, 1, 3, 1, 2).heavyHitters(2, 3);
+        assertEquals(2, top.size());
+        assertEquals(Long.valueOf(1), top.get(0).getKey());
+        assertEquals(Long.valueOf(3), top.get(0).getValue());
+        assertEquals(Long.valueOf(2), top.get(1).getKey());
+        assertEquals(Long.valueOf(2), top.get(1).getValue());
+    }
+
+    @Test
+    public void testHeavyHittersOnEmptyStream() {
+        assertTrue(LongStream.empty().heavyHitters(5).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHeavyHittersWithInvalidSize() {
+        LongStream.of(1).heavyHitters(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testHeavyHittersWithTooSmallCapacity() {
+        LongStream.of(1).heavyHitters(3, 2);
+    }
+}
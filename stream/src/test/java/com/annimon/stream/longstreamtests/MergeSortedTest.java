@@ -0,0 +1,58 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.function.LongComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.LongStreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.LongStreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertArrayEquals;
+
+public final class MergeSortedTest {
+
+    @Test
+    public void testMergeSorted() {
+        LongStream.mergeSorted(null, Arrays.asList(
+                LongStream.of(1L, 4L, 7L),
+                LongStream.of(2L, 5L, 8L),
+                LongStream.empty(),
+                LongStream.of(0L, 3L, 9L)))
+                .custom(assertElements(arrayContaining(
+                        0L, 1L, 2L, 3L, 4L, 5L, 7L, 8L, 9L
+                )));
+    }
+
+    @Test
+    public void testMergeSortedWithComparator() {
+        LongStream.mergeSorted(LongComparator.Util.reverseOrder(), Arrays.asList(
+                LongStream.of(9L, 5L, 1L),
+                LongStream.of(8L, 6L, 2L)))
+                .custom(assertElements(arrayContaining(
+                        9L, 8L, 6L, 5L, 2L, 1L
+                )));
+    }
+
+    @Test
+    public void testMergeSortedOfNoStreams() {
+        LongStream.mergeSorted(null, new ArrayList<LongStream>())
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testMergeSortedManyStreams() {
+        final List<LongStream> streams = new ArrayList<LongStream>();
+        final long[] expected = new long[64 * 50];
+        for (int shard = 0; shard < 64; shard++) {
+            final long[] values = new long[50];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (i * 64 + shard) * 3L;
+                expected[i * 64 + shard] = values[i];
+            }
+            streams.add(LongStream.of(values));
+        }
+        assertArrayEquals(expected, LongStream.mergeSorted(null, streams).toArray());
+    }
+}
@@ -0,0 +1,41 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.QuantileSketch;
+import com.annimon.stream.function.LongUnaryOperator;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class QuantileSketchTest {
+
+    @Test
+    public void testQuantileSketch() {
+        QuantileSketch sketch = LongStream.iterate(1, new LongUnaryOperator() {
+            @Override
+            public long applyAsLong(long operand) {
+                return operand + 1;
+            }
+        }).limit(1000).quantileSketch();
+        assertEquals(1000, sketch.getCount());
+        assertEquals(500.5, sketch.quantile(0.5), 0.0);
+        assertEquals(990.5, sketch.quantile(0.99), 0.0);
+        assertEquals(1000, sketch.quantile(1), 0.0);
+    }
+
+    @Test
+    public void testQuantileSketchWithCompression() {
+        QuantileSketch sketch = LongStream.of(5, 1, 3).quantileSketch(20);
+        assertEquals(3, sketch.quantile(0.5), 0.0);
+    }
+
+    @Test
+    public void testQuantileSketchOnEmptyStream() {
+        assertTrue(Double.isNaN(LongStream.empty().quantileSketch().quantile(0.5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileSketchWithInvalidCompression() {
+        LongStream.of(1, 2).quantileSketch(0);
+    }
+}
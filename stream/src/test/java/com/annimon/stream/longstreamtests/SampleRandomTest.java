@@ -0,0 +1,56 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.RandomCompat;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SampleRandomTest {
+
+    @Test
+    public void testSampleRandom() {
+        List<Long> sample = LongStream.range(0, 1000)
+                .sampleRandom(10, new RandomCompat(42))
+                .boxed()
+                .toList();
+        assertEquals(10, sample.size());
+        assertEquals(10, new HashSet<Long>(sample).size());
+        for (Long value : sample) {
+            assertTrue(value >= 0 && value < 1000);
+        }
+    }
+
+    @Test
+    public void testSampleRandomWithFewerElements() {
+        assertEquals(3, LongStream.of(1, 2, 3).sampleRandom(5, new RandomCompat(1)).count());
+        assertEquals(6, LongStream.of(1, 2, 3).sampleRandom(5, new RandomCompat(1)).sum(), 0);
+    }
+
+    @Test
+    public void testSampleRandomIsUniform() {
+        final RandomCompat random = new RandomCompat(123);
+        final int[] counts = new int[10];
+        final int trials = 20000;
+        for (int i = 0; i < trials; i++) {
+            for (Long value : LongStream.range(0, 10).sampleRandom(2, random).boxed().toList()) {
+                counts[value.intValue()]++;
+            }
+        }
+        for (int count : counts) {
+            assertEquals(trials * 2 / 10, count, 300);
+        }
+    }
+
+    @Test
+    public void testSampleRandomWithZeroSize() {
+        assertEquals(0, LongStream.of(1, 2, 3).sampleRandom(0, new RandomCompat()).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSampleRandomWithNegativeSize() {
+        LongStream.of(1, 2, 3).sampleRandom(-1, new RandomCompat());
+    }
+}
@@ -0,0 +1,72 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.function.Function;
+import java.nio.LongBuffer;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SlidingWindowTest {
+
+    @Test
+    public void testSlidingWindow() {
+        final List<long[]> windows = LongStream.of(1L, 2L, 3L, 4L, 5L, 6L, 7L)
+                .slidingWindow(3, 2)
+                .toList();
+        assertEquals(3, windows.size());
+        assertArrayEquals(new long[] {1L, 2L, 3L}, windows.get(0));
+        assertArrayEquals(new long[] {3L, 4L, 5L}, windows.get(1));
+        assertArrayEquals(new long[] {5L, 6L, 7L}, windows.get(2));
+    }
+
+    @Test
+    public void testSlidingWindowWithStepGreaterThanWindow() {
+        final List<long[]> windows = LongStream.of(1L, 2L, 3L, 4L, 5L, 6L, 7L)
+                .slidingWindow(2, 3)
+                .toList();
+        assertEquals(3, windows.size());
+        assertArrayEquals(new long[] {1L, 2L}, windows.get(0));
+        assertArrayEquals(new long[] {4L, 5L}, windows.get(1));
+        assertArrayEquals(new long[] {7L}, windows.get(2));
+    }
+
+    @Test
+    public void testSlidingWindowView() {
+        final List<Long> sums = LongStream.range(0, 1000)
+                .slidingWindowView(100, 1)
+                .map(new Function<LongBuffer, Long>() {
+                    @Override
+                    public Long apply(LongBuffer window) {
+                        assertTrue(window.isReadOnly());
+                        assertEquals(100, window.remaining());
+                        long sum = 0;
+                        for (int i = 0; i < window.limit(); i++) {
+                            sum += window.get(i);
+                        }
+                        return sum;
+                    }
+                })
+                .toList();
+        assertEquals(901, sums.size());
+        assertEquals(4950L, (long) sums.get(0));
+        assertEquals(4950L + 900 * 100, (long) sums.get(900));
+    }
+
+    @Test
+    public void testSlidingWindowViewOfShortStream() {
+        final List<long[]> windows = LongStream.of(1L, 2L)
+                .slidingWindow(5, 1)
+                .toList();
+        assertEquals(1, windows.size());
+        assertArrayEquals(new long[] {1L, 2L}, windows.get(0));
+        assertEquals(0, LongStream.empty().slidingWindowView(5, 1).count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSlidingWindowWithNegativeStepSize() {
+        LongStream.of(1L, 2L).slidingWindowView(2, -1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.function.LongComparator;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+
+public final class SortedExternalTest {
+
+    @Test
+    public void testSortedExternal() {
+        assertArrayEquals(new long[] {1L, 2L, 3L, 5L, 7L, 8L, 9L},
+                LongStream.of(5L, 1L, 9L, 3L, 7L, 2L, 8L).sortedExternal(null, 2).toArray());
+        assertArrayEquals(new long[] {1L, 2L, 3L, 5L, 7L, 8L, 9L},
+                LongStream.of(5L, 1L, 9L, 3L, 7L, 2L, 8L).sortedExternal(null, 100).toArray());
+    }
+
+    @Test
+    public void testSortedExternalWithComparator() {
+        assertArrayEquals(new long[] {9L, 8L, 7L, 5L, 3L, 2L, 1L},
+                LongStream.of(5L, 1L, 9L, 3L, 7L, 2L, 8L)
+                        .sortedExternal(LongComparator.Util.reverseOrder(), 3)
+                        .toArray());
+    }
+
+    @Test
+    public void testSortedExternalOfEmptyStream() {
+        assertArrayEquals(new long[0], LongStream.empty().sortedExternal(null, 2).toArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortedExternalWithNegativeBudget() {
+        LongStream.of(5L, 1L, 9L, 3L, 7L, 2L, 8L).sortedExternal(null, -1);
+    }
+}
@@ -2,6 +2,8 @@ package com.annimon.stream.longstreamtests;
 
 import com.annimon.stream.LongStream;
 import com.annimon.stream.Objects;
+import com.annimon.stream.function.LongComparator;
+import com.annimon.stream.function.LongPredicate;
 import java.util.Comparator;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.LongStreamMatcher.assertElements;
@@ -37,4 +39,45 @@ public final class SortedTest {
                         32L, 22L, 12L, 9L
                 )));
     }
+
+    @Test
+    public void testSortedWithLongComparator() {
+        LongStream.of(12, 32, 9, 22)
+                .sortedWith(LongComparator.Util.reverseOrder())
+                .custom(assertElements(arrayContaining(
+                        32L, 22L, 12L, 9L
+                )));
+    }
+
+    @Test
+    public void testSortedRadix() {
+        LongStream.of(3, -4, 1, Long.MIN_VALUE, 2)
+                .sortedRadix()
+                .custom(assertElements(arrayContaining(
+                        Long.MIN_VALUE, -4L, 1L, 2L, 3L
+                )));
+    }
+
+    @Test
+    public void testSortedLimit() {
+        LongStream.of(12, 32, 9, 22)
+                .sorted()
+                .limit(2)
+                .custom(assertElements(arrayContaining(
+                        9L, 12L
+                )));
+
+        LongStream.range(0, 1000)
+                .filter(new LongPredicate() {
+                    @Override
+                    public boolean test(long value) {
+                        return value % 2 == 0;
+                    }
+                })
+                .sortedWith(LongComparator.Util.reverseOrder())
+                .limit(3)
+                .custom(assertElements(arrayContaining(
+                        998L, 996L, 994L
+                )));
+    }
 }
@@ -0,0 +1,26 @@
+package com.annimon.stream.longstreamtests;
+
+import com.annimon.stream.LongStream;
+import com.annimon.stream.LongSummaryStatistics;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+public final class SummaryStatisticsTest {
+
+    @Test
+    public void testSummaryStatistics() {
+        LongSummaryStatistics stats = LongStream.of(3, 1, 2).summaryStatistics();
+        assertEquals(3, stats.getCount());
+        assertEquals(6, stats.getSum());
+        assertEquals(1, stats.getMin());
+        assertEquals(3, stats.getMax());
+        assertEquals(2.0, stats.getAverage(), 0.0);
+    }
+
+    @Test
+    public void testSummaryStatisticsOnEmptyStream() {
+        LongSummaryStatistics stats = LongStream.empty().summaryStatistics();
+        assertEquals(0, stats.getCount());
+        assertEquals(Long.MAX_VALUE, stats.getMin());
+    }
+}
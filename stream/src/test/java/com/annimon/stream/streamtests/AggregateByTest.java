@@ -0,0 +1,121 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Collectors;
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.Function;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class AggregateByTest {
+
+    @Test
+    public void testAggregateBy() {
+        final Map<Integer, Long> result = Stream.of("a", "bc", "d", "ef", "ghij")
+                .aggregateBy(length(), Collectors.<String>counting());
+        assertEquals(3, result.size());
+        assertEquals(Long.valueOf(2), result.get(1));
+        assertEquals(Long.valueOf(2), result.get(2));
+        assertEquals(Long.valueOf(1), result.get(4));
+    }
+
+    @Test
+    public void testAggregateByKeepsFirstOccurrenceOrder() {
+        final Map<Integer, String> result = Stream.of("ghij", "a", "bc", "d", "ef")
+                .aggregateBy(length(), Collectors.joining());
+        final Iterator<Map.Entry<Integer, String>> it = result.entrySet().iterator();
+        assertEquals(entry(4, "ghij"), it.next());
+        assertEquals(entry(1, "ad"), it.next());
+        assertEquals(entry(2, "bcef"), it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testAggregateByOnEmptyStream() {
+        assertTrue(Stream.<String>empty()
+                .aggregateBy(length(), Collectors.joining())
+                .isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAggregateByWithNullKey() {
+        Stream.of("a", "b").aggregateBy(new Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return null;
+            }
+        }, Collectors.joining());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAggregateByEntries() {
+        Stream.of("a", "bc", "d", "ef", "ghij")
+                .aggregateByEntries(length(), Collectors.joining())
+                .custom(assertElements(contains(
+                        entry(1, "ad"),
+                        entry(2, "bcef"),
+                        entry(4, "ghij")
+                )));
+    }
+
+    @Test
+    public void testAggregateByEntriesIsLazy() {
+        final List<String> consumed = new ArrayList<String>();
+        final Stream<Map.Entry<Integer, String>> stream = Stream.of("a", "bc", "d")
+                .peek(new Consumer<String>() {
+                    @Override
+                    public void accept(String value) {
+                        consumed.add(value);
+                    }
+                })
+                .aggregateByEntries(length(), Collectors.joining());
+        assertTrue(consumed.isEmpty());
+
+        final Iterator<? extends Map.Entry<Integer, String>> it = stream.iterator();
+        assertEquals(entry(1, "ad"), it.next());
+        assertEquals(3, consumed.size());
+        assertEquals(entry(2, "bc"), it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testAggregateByEntriesOnEmptyStream() {
+        Stream.<String>empty()
+                .aggregateByEntries(length(), Collectors.joining())
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testAggregateByEntriesWithBooleanKeys() {
+        final Map.Entry<Boolean, Long> first = Stream.of(1, 2, 3, 1, 2, 3, 1)
+                .aggregateByEntries(Functions.equalityPartitionItem(1), Collectors.<Integer>counting())
+                .findFirst()
+                .get();
+        assertEquals(entry(true, 3L), first);
+    }
+
+    private static Function<String, Integer> length() {
+        return new Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return value.length();
+            }
+        };
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleEntry<K, V>(key, value);
+    }
+}
@@ -0,0 +1,172 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Collectors;
+import com.annimon.stream.CombinableCollector;
+import com.annimon.stream.Functions;
+import com.annimon.stream.IntStream;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.BiConsumer;
+import com.annimon.stream.function.BinaryOperator;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.function.Supplier;
+import com.annimon.stream.function.UnaryOperator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class CollectParallelTest {
+
+    @Test
+    public void testCollectParallel() {
+        List<Integer> list = Stream.range(0, 10)
+                .collectParallel(Collectors.<Integer>toList(), 4);
+        assertThat(list, contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    public void testCollectParallelPreservesOrder() {
+        List<Integer> input = new ArrayList<Integer>(10000);
+        for (int i = 0; i < 10000; i++) {
+            input.add(i);
+        }
+        List<Integer> result = Stream.of(input)
+                .collectParallel(Collectors.<Integer>toList(), 7);
+        assertThat(result, is(input));
+    }
+
+    @Test
+    public void testCollectParallelOfRange() {
+        List<Integer> list = IntStream.rangeClosed(1, 1000)
+                .boxed()
+                .collectParallel(Collectors.<Integer>toList(), 3);
+        assertThat(list.size(), is(1000));
+        assertThat(list.get(0), is(1));
+        assertThat(list.get(999), is(1000));
+    }
+
+    @Test
+    public void testCollectParallelOfNonSplittableSource() {
+        List<Integer> input = new LinkedList<Integer>(Arrays.asList(1, 2, 3, 4, 5));
+        List<Integer> list = Stream.of(input)
+                .collectParallel(Collectors.<Integer>toList(), 2);
+        assertThat(list, contains(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void testCollectParallelGroupingBy() {
+        Map<Integer, Long> result = Stream.of(1, 2, 2, 3, 3, 3, 4, 4, 4, 4)
+                .collectParallel(Collectors.groupingBy(
+                        UnaryOperator.Util.<Integer>identity(),
+                        Collectors.<Integer>counting()), 3);
+        assertThat(result, allOf(
+                hasEntry(1, 1L),
+                hasEntry(2, 2L),
+                hasEntry(3, 3L),
+                hasEntry(4, 4L)
+        ));
+    }
+
+    @Test
+    public void testCollectParallelJoining() {
+        String text = Stream.of("a", "b", "c", "d", "e")
+                .collectParallel(Collectors.joining(", ", "[", "]"), 2);
+        assertEquals("[a, b, c, d, e]", text);
+    }
+
+    @Test
+    public void testCollectParallelMoreThreadsThanElements() {
+        List<String> list = Stream.of("a", "b")
+                .collectParallel(Collectors.<String>toList(), 16);
+        assertThat(list, contains("a", "b"));
+    }
+
+    @Test
+    public void testCollectParallelEmpty() {
+        List<String> list = Stream.<String>empty()
+                .collectParallel(Collectors.<String>toList(), 4);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testCollectParallelWithoutCombiner() {
+        String text = Stream.range(0, 10)
+                .map(Functions.<Integer>convertToString())
+                .collectParallel(Functions.joiningCollector(), 4);
+        assertEquals("0123456789", text);
+    }
+
+    @Test
+    public void testCollectParallelWithCustomCombinableCollector() {
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+        long sum = IntStream.range(0, 100000).boxed()
+                .collectParallel(new CombinableCollector<Integer, long[], Long>() {
+                    @Override
+                    public Supplier<long[]> supplier() {
+                        return new Supplier<long[]>() {
+                            @Override
+                            public long[] get() {
+                                return new long[1];
+                            }
+                        };
+                    }
+
+                    @Override
+                    public BiConsumer<long[], Integer> accumulator() {
+                        return new BiConsumer<long[], Integer>() {
+                            @Override
+                            public void accept(long[] t, Integer u) {
+                                threads.add(Thread.currentThread().getName());
+                                t[0] += u;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public BinaryOperator<long[]> combiner() {
+                        return new BinaryOperator<long[]>() {
+                            @Override
+                            public long[] apply(long[] t, long[] u) {
+                                t[0] += u[0];
+                                return t;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public Function<long[], Long> finisher() {
+                        return new Function<long[], Long>() {
+                            @Override
+                            public Long apply(long[] value) {
+                                return value[0];
+                            }
+                        };
+                    }
+                }, 4);
+        assertEquals(4999950000L, sum);
+        assertTrue(threads.size() > 1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCollectParallelRethrowsWorkerException() {
+        Stream.of(1, 2, 3, 1)
+                .collectParallel(Collectors.toMap(UnaryOperator.Util.<Integer>identity()), 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCollectParallelInvalidParallelism() {
+        Stream.of(1, 2, 3).collectParallel(Collectors.<Integer>toList(), 0);
+    }
+}
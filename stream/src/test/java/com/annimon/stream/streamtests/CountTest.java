@@ -1,6 +1,9 @@
 package com.annimon.stream.streamtests;
 
 import com.annimon.stream.Stream;
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.UnaryOperator;
+import java.util.Arrays;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 
@@ -23,4 +26,38 @@ public final class CountTest {
         long count = Stream.range(Long.MAX_VALUE - 100, Long.MAX_VALUE).count();
         assertEquals(100, count);
     }
+
+    @Test
+    public void testCountOfSizedStreamDoesNotTraverseElements() {
+        final int[] calls = { 0 };
+        long count = Stream.of(Arrays.asList(1, 2, 3, 4, 5))
+                .map(new UnaryOperator<Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        calls[0]++;
+                        return value * 2;
+                    }
+                })
+                .sorted()
+                .skip(1)
+                .limit(3)
+                .count();
+        assertEquals(3, count);
+        assertEquals(0, calls[0]);
+    }
+
+    @Test
+    public void testCountWithPeekTraversesElements() {
+        final int[] calls = { 0 };
+        long count = Stream.of(1, 2, 3)
+                .peek(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer value) {
+                        calls[0]++;
+                    }
+                })
+                .count();
+        assertEquals(3, count);
+        assertEquals(3, calls[0]);
+    }
 }
@@ -0,0 +1,83 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.function.UnaryOperator;
+import com.annimon.stream.test.hamcrest.StreamMatcher;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class DistinctApproxTest {
+
+    @Test
+    public void testDistinctApprox() {
+        Stream.of(1, 1, 2, 3, 5, 3, 2, 1, 1, -1)
+                .distinctApprox(100, 0.01)
+                .custom(assertElements(contains(
+                        1, 2, 3, 5, -1
+                )));
+    }
+
+    @Test
+    public void testDistinctApproxEmpty() {
+        Stream.<Integer>empty()
+                .distinctApprox(100, 0.01)
+                .custom(StreamMatcher.<Integer>assertIsEmpty());
+    }
+
+    @Test
+    public void testDistinctApproxWithNull() {
+        Stream.of("a", null, "b", null, "a")
+                .distinctApprox(100, 0.01)
+                .custom(assertElements(contains(
+                        "a", null, "b"
+                )));
+    }
+
+    @Test
+    public void testDistinctApproxOnInfiniteStream() {
+        // Each number repeats twice, at most about 1% of distinct numbers are dropped
+        long count = Stream.iterate(0, new UnaryOperator<Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        return value + 1;
+                    }
+                })
+                .flatMap(new Function<Integer, Stream<Integer>>() {
+                    @Override
+                    public Stream<Integer> apply(Integer value) {
+                        return Stream.of(value, value);
+                    }
+                })
+                .limit(200000)
+                .distinctApprox(100000, 0.01)
+                .count();
+        assertTrue("count: " + count, count <= 100000);
+        assertTrue("count: " + count, count >= 98500);
+    }
+
+    @Test
+    public void testDistinctApproxOverfilledNeverEmitsDuplicates() {
+        List<Integer> list = Stream.concat(Stream.range(0, 1000), Stream.range(0, 1000))
+                .distinctApprox(10, 0.5)
+                .toList();
+        assertEquals(list.size(), new HashSet<Integer>(list).size());
+        // Filter is too small, so some distinct elements are dropped
+        assertTrue(list.size() < 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctApproxWithZeroExpectedItems() {
+        Stream.of(1).distinctApprox(0, 0.01);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctApproxWithInvalidFpp() {
+        Stream.of(1).distinctApprox(100, 0);
+    }
+}
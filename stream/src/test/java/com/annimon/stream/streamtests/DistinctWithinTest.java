@@ -0,0 +1,93 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.test.hamcrest.StreamMatcher;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+
+public final class DistinctWithinTest {
+
+    @Test
+    public void testDistinctWithin() {
+        Stream.of(1, 2, 1, 3, 1, 2, 2)
+                .distinctWithin(2)
+                .custom(assertElements(contains(
+                        1, 2, 3, 1, 2
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinLargeWindowIsDistinct() {
+        Stream.of(1, 1, 2, 3, 5, 3, 2, 1, 1, -1)
+                .distinctWithin(100)
+                .custom(assertElements(contains(
+                        1, 2, 3, 5, -1
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinWindowOfOne() {
+        Stream.of("a", "a", null, null, "a", "b", "b")
+                .distinctWithin(1)
+                .custom(assertElements(contains(
+                        "a", null, "a", "b"
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinEmpty() {
+        Stream.<Integer>empty()
+                .distinctWithin(3)
+                .custom(StreamMatcher.<Integer>assertIsEmpty());
+    }
+
+    @Test
+    public void testDistinctByWithin() {
+        Stream.of("a", "b", "cd", "ef", "g")
+                .distinctByWithin(new Function<String, Integer>() {
+                    @Override
+                    public Integer apply(String value) {
+                        return value.length();
+                    }
+                }, 1)
+                .custom(assertElements(contains(
+                        "a", "cd", "g"
+                )));
+    }
+
+    @Test
+    public void testDistinctWithinOnPeriodicStream() {
+        // Values cycle with period 10, window of 9 never suppresses them
+        assertEquals(100000, Stream.range(0, 100000)
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        return value % 10;
+                    }
+                })
+                .distinctWithin(9)
+                .count());
+        assertEquals(10, Stream.range(0, 100000)
+                .map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        return value % 10;
+                    }
+                })
+                .distinctWithin(10)
+                .count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDistinctWithinWithZeroWindow() {
+        Stream.of(1).distinctWithin(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testDistinctByWithinWithNullClassifier() {
+        Stream.of(1).distinctByWithin(null, 2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Function;
+import java.util.Arrays;
+import java.util.LinkedList;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.OptionalMatcher.hasValue;
+import static com.annimon.stream.test.hamcrest.OptionalMatcher.isEmpty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+
+public final class ElementAtTest {
+
+    @Test
+    public void testElementAt() {
+        assertThat(Stream.of(1, 2, 3, 4).elementAt(2), hasValue(3));
+        assertThat(Stream.of(1, 2, 3, 4).elementAt(0), hasValue(1));
+    }
+
+    @Test
+    public void testElementAtOutOfBounds() {
+        assertThat(Stream.of(1, 2).elementAt(2), isEmpty());
+        assertThat(Stream.of(1, 2).elementAt(10), isEmpty());
+        assertThat(Stream.empty().elementAt(0), isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testElementAtNegative() {
+        Stream.of(1, 2).elementAt(-1);
+    }
+
+    @Test
+    public void testElementAtOfRange() {
+        assertThat(Stream.range(0, 1000000).elementAt(999999), hasValue(999999));
+        assertThat(Stream.range(0, 1000000).elementAt(1000000), isEmpty());
+    }
+
+    @Test
+    public void testElementAtAfterSkipAndLimit() {
+        assertThat(Stream.range(0, 100)
+                .skip(10)
+                .limit(20)
+                .elementAt(5), hasValue(15));
+        assertThat(Stream.range(0, 100)
+                .skip(10)
+                .limit(20)
+                .elementAt(20), isEmpty());
+    }
+
+    @Test
+    public void testElementAtMapsOnlyOneElement() {
+        final int[] calls = { 0 };
+        Stream<String> stream = Stream.of(Arrays.asList(1, 2, 3, 4, 5))
+                .map(new Function<Integer, String>() {
+                    @Override
+                    public String apply(Integer value) {
+                        calls[0]++;
+                        return String.valueOf(value);
+                    }
+                });
+        assertThat(stream.elementAt(3), hasValue("4"));
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void testElementAtOfSequentialSource() {
+        assertThat(Stream.of(new LinkedList<Integer>(Arrays.asList(1, 2, 3)))
+                .elementAt(1), hasValue(2));
+        assertThat(Stream.range(0, 20)
+                .filter(Functions.remainder(3))
+                .elementAt(2), hasValue(6));
+    }
+}
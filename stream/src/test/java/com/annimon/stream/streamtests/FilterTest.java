@@ -2,11 +2,16 @@ package com.annimon.stream.streamtests;
 
 import com.annimon.stream.Functions;
 import com.annimon.stream.Stream;
+import com.annimon.stream.function.Consumer;
 import com.annimon.stream.function.Predicate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertTrue;
 
 public final class FilterTest {
 
@@ -64,4 +69,19 @@ public final class FilterTest {
                       2, 3, 4, 8, 9
                 )));
     }
+
+    @Test
+    public void testFilterForEachAfterHasNext() {
+        Stream<Integer> stream = Stream.range(0, 10)
+                .filter(Functions.remainder(2));
+        assertTrue(stream.iterator().hasNext());
+        final List<Integer> result = new ArrayList<Integer>();
+        stream.forEach(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                result.add(value);
+            }
+        });
+        assertThat(result, contains(0, 2, 4, 6, 8));
+    }
 }
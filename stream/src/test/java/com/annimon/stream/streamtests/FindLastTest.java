@@ -4,6 +4,7 @@ import com.annimon.stream.Functions;
 import com.annimon.stream.Optional;
 import com.annimon.stream.Stream;
 import com.annimon.stream.test.hamcrest.OptionalMatcher;
+import java.util.Arrays;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.OptionalMatcher.isPresent;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -36,4 +37,11 @@ public final class FindLastTest {
         assertNotNull(result.get());
         assertEquals(96, (int) result.get());
     }
+
+    @Test
+    public void testFindLastOfRandomAccessSource() {
+        assertEquals(7, (int) Stream.range(0, 1000000).limit(8).findLast().get());
+        assertEquals("c", Stream.of(Arrays.asList("a", "b", "c")).findLast().get());
+        assertThat(Stream.range(0, 10).skip(20).findLast(), OptionalMatcher.isEmpty());
+    }
 }
@@ -0,0 +1,226 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.BiFunction;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.function.Predicate;
+import com.annimon.stream.function.ToIntFunction;
+import com.annimon.stream.function.ToLongFunction;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+
+public final class JoinTest {
+
+    private static final Function<String, Character> KEY = Functions.firstCharacterExtractor();
+
+    @Test
+    public void testJoin() {
+        users().filter(all())
+                .join(posts(), KEY, KEY, concat())
+                .custom(assertElements(contains(
+                        "1A1y", "2B2x", "2B2z"
+                )));
+    }
+
+    @Test
+    public void testJoinOrderDoesNotDependOnSizes() {
+        // This stream is streamed in encounter order, even if it is smaller
+        users().join(posts(), KEY, KEY, concat())
+                .custom(assertElements(contains(
+                        "1A1y", "2B2x", "2B2z"
+                )));
+    }
+
+    @Test
+    public void testJoinWithDuplicateKeys() {
+        Stream.of("1a", "1b")
+                .join(Stream.of("1x", "1y", "1z"), KEY, KEY, concat())
+                .custom(assertElements(contains(
+                        "1a1x", "1a1y", "1a1z", "1b1x", "1b1y", "1b1z"
+                )));
+    }
+
+    @Test
+    public void testJoinWithEmptyStream() {
+        users().join(Stream.<String>empty(), KEY, KEY, concat())
+                .custom(assertIsEmpty());
+        Stream.<String>empty().join(posts(), KEY, KEY, concat())
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testJoinByInt() {
+        users().filter(all())
+                .joinByInt(posts(), intKey(), intKey(), concat())
+                .custom(assertElements(contains(
+                        "1A1y", "2B2x", "2B2z"
+                )));
+    }
+
+    @Test
+    public void testJoinByIntWithZeroKey() {
+        Stream.of("0a", "1b")
+                .joinByInt(Stream.of("0x", "0y"), intKey(), intKey(), concat())
+                .custom(assertElements(contains(
+                        "0a0x", "0a0y"
+                )));
+    }
+
+    @Test
+    public void testJoinByLong() {
+        users().filter(all())
+                .joinByLong(posts(), longKey(), longKey(), concat())
+                .custom(assertElements(contains(
+                        "1A1y", "2B2x", "2B2z"
+                )));
+    }
+
+    @Test
+    public void testLeftJoin() {
+        users().leftJoin(posts(), KEY, KEY, concat())
+                .custom(assertElements(contains(
+                        "1A1y", "2B2x", "2B2z", "3Cnull"
+                )));
+    }
+
+    @Test
+    public void testSemiJoin() {
+        users().semiJoin(posts(), KEY, KEY)
+                .custom(assertElements(contains(
+                        "1A", "2B"
+                )));
+    }
+
+    @Test
+    public void testAntiJoin() {
+        users().antiJoin(posts(), KEY, KEY)
+                .custom(assertElements(contains(
+                        "3C"
+                )));
+        users().antiJoin(Stream.<String>empty(), KEY, KEY)
+                .custom(assertElements(contains(
+                        "1A", "2B", "3C"
+                )));
+    }
+
+    @Test
+    public void testSemiJoinByInt() {
+        users().semiJoinByInt(posts(), intKey(), intKey())
+                .custom(assertElements(contains(
+                        "1A", "2B"
+                )));
+        Stream.of("0a", "1b")
+                .semiJoinByInt(Stream.of("0x"), intKey(), intKey())
+                .custom(assertElements(contains(
+                        "0a"
+                )));
+    }
+
+    @Test
+    public void testAntiJoinByInt() {
+        users().antiJoinByInt(posts(), intKey(), intKey())
+                .custom(assertElements(contains(
+                        "3C"
+                )));
+        Stream.of("0a", "1b")
+                .antiJoinByInt(Stream.of("0x"), intKey(), intKey())
+                .custom(assertElements(contains(
+                        "1b"
+                )));
+    }
+
+    @Test
+    public void testSemiJoinByLong() {
+        users().semiJoinByLong(posts(), longKey(), longKey())
+                .custom(assertElements(contains(
+                        "1A", "2B"
+                )));
+    }
+
+    @Test
+    public void testAntiJoinByLong() {
+        users().antiJoinByLong(posts(), longKey(), longKey())
+                .custom(assertElements(contains(
+                        "3C"
+                )));
+        users().antiJoinByLong(Stream.<String>empty(), longKey(), longKey())
+                .custom(assertElements(contains(
+                        "1A", "2B", "3C"
+                )));
+    }
+
+    @Test
+    public void testJoinClosesOtherStream() {
+        final List<String> closed = new ArrayList<String>();
+        users().onClose(closeHandler(closed, "users"))
+                .join(posts().onClose(closeHandler(closed, "posts")), KEY, KEY, concat())
+                .close();
+        assertEquals(2, closed.size());
+        assertEquals("users", closed.get(0));
+        assertEquals("posts", closed.get(1));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testJoinWithNullStream() {
+        users().join(null, KEY, KEY, concat());
+    }
+
+    private static Stream<String> users() {
+        return Stream.of("1A", "2B", "3C");
+    }
+
+    private static Stream<String> posts() {
+        return Stream.of("2x", "1y", "2z", "4w");
+    }
+
+    private static Predicate<String> all() {
+        return new Predicate<String>() {
+            @Override
+            public boolean test(String value) {
+                return true;
+            }
+        };
+    }
+
+    private static BiFunction<String, String, String> concat() {
+        return new BiFunction<String, String, String>() {
+            @Override
+            public String apply(String a, String b) {
+                return a + b;
+            }
+        };
+    }
+
+    private static ToIntFunction<String> intKey() {
+        return new ToIntFunction<String>() {
+            @Override
+            public int applyAsInt(String value) {
+                return value.charAt(0) - '0';
+            }
+        };
+    }
+
+    private static ToLongFunction<String> longKey() {
+        return new ToLongFunction<String>() {
+            @Override
+            public long applyAsLong(String value) {
+                return (value.charAt(0) - '0') * 10000000000L;
+            }
+        };
+    }
+
+    private static Runnable closeHandler(final List<String> closed, final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                closed.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.BiFunction;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.function.UnaryOperator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertIsEmpty;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+
+public final class MergeJoinTest {
+
+    private static final Function<String, Character> KEY = Functions.firstCharacterExtractor();
+
+    @Test
+    public void testMergeJoin() {
+        Stream.of("1A", "2B", "2C", "4D")
+                .mergeJoin(Stream.of("1x", "2y", "2z", "3w"), KEY, KEY, charOrder(), concat())
+                .custom(assertElements(contains(
+                        "1A1x", "2B2y", "2B2z", "2C2y", "2C2z"
+                )));
+    }
+
+    @Test
+    public void testMergeJoinWithoutMatches() {
+        Stream.of("1A", "3B", "5C")
+                .mergeJoin(Stream.of("2x", "4y", "6z"), KEY, KEY, charOrder(), concat())
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testMergeJoinWithEmptyStream() {
+        Stream.of("1A", "2B")
+                .mergeJoin(Stream.<String>empty(), KEY, KEY, charOrder(), concat())
+                .custom(assertIsEmpty());
+        Stream.<String>empty()
+                .mergeJoin(Stream.of("1x"), KEY, KEY, charOrder(), concat())
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testMergeJoinWithDescendingOrder() {
+        Stream.of("3A", "2B", "1C")
+                .mergeJoin(Stream.of("3x", "1y"), KEY, KEY,
+                        Collections.reverseOrder(charOrder()), concat())
+                .custom(assertElements(contains(
+                        "3A3x", "1C1y"
+                )));
+    }
+
+    @Test
+    public void testMergeJoinWithInfiniteStreams() {
+        // Joining stops as soon as one of the streams is exhausted
+        final List<Integer> result = Stream.iterate(0, increment())
+                .mergeJoin(Stream.iterate(0, increment()).filter(Functions.remainder(3)).limit(4),
+                        identity(), identity(), Functions.naturalOrder(), Functions.addition())
+                .toList();
+        assertEquals(4, result.size());
+        assertEquals(Integer.valueOf(18), result.get(3));
+    }
+
+    @Test
+    public void testMergeJoinClosesOtherStream() {
+        final List<String> closed = new ArrayList<String>();
+        Stream.of("1A")
+                .mergeJoin(Stream.of("1x").onClose(new Runnable() {
+                    @Override
+                    public void run() {
+                        closed.add("other");
+                    }
+                }), KEY, KEY, charOrder(), concat())
+                .close();
+        assertEquals(1, closed.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testMergeJoinWithNullComparator() {
+        Stream.of("1A").mergeJoin(Stream.of("1x"), KEY, KEY, null, concat());
+    }
+
+    private static Comparator<Character> charOrder() {
+        return new Comparator<Character>() {
+            @Override
+            public int compare(Character a, Character b) {
+                return a.compareTo(b);
+            }
+        };
+    }
+
+    private static BiFunction<String, String, String> concat() {
+        return new BiFunction<String, String, String>() {
+            @Override
+            public String apply(String a, String b) {
+                return a + b;
+            }
+        };
+    }
+
+    private static UnaryOperator<Integer> increment() {
+        return new UnaryOperator<Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value + 1;
+            }
+        };
+    }
+
+    private static Function<Integer, Integer> identity() {
+        return UnaryOperator.Util.identity();
+    }
+}
@@ -0,0 +1,103 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.test.hamcrest.StreamMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class MergeSortedTest {
+
+    @Test
+    public void testMergeSorted() {
+        Stream.mergeSorted(Functions.naturalOrder(), Arrays.asList(
+                Stream.of(1, 4, 7),
+                Stream.of(2, 5, 8),
+                Stream.of(3, 6, 9)))
+                .custom(assertElements(contains(
+                        1, 2, 3, 4, 5, 6, 7, 8, 9
+                )));
+    }
+
+    @Test
+    public void testMergeSortedWithEmptyStreams() {
+        Stream.mergeSorted(Functions.naturalOrder(), Arrays.asList(
+                Stream.<Integer>empty(),
+                Stream.of(2, 5),
+                Stream.<Integer>empty(),
+                Stream.of(1)))
+                .custom(assertElements(contains(
+                        1, 2, 5
+                )));
+
+        Stream.mergeSorted(Functions.naturalOrder(), new ArrayList<Stream<Integer>>())
+                .custom(StreamMatcher.<Integer>assertIsEmpty());
+    }
+
+    @Test
+    public void testMergeSortedIsStable() {
+        final Comparator<String> firstChar = new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o1.charAt(0) - o2.charAt(0);
+            }
+        };
+        Stream.mergeSorted(firstChar, Arrays.asList(
+                Stream.of("a2", "b2", "c2"),
+                Stream.of("a1", "b1"),
+                Stream.of("b3")))
+                .custom(assertElements(contains(
+                        "a2", "a1", "b2", "b1", "b3", "c2"
+                )));
+    }
+
+    @Test
+    public void testMergeSortedManyStreams() {
+        final List<Stream<Integer>> streams = new ArrayList<Stream<Integer>>();
+        final List<Integer> expected = new ArrayList<Integer>();
+        for (int shard = 0; shard < 64; shard++) {
+            final List<Integer> values = new ArrayList<Integer>();
+            for (int i = 0; i < 100; i++) {
+                values.add((i * 31 + shard * 17) % 1000);
+            }
+            Collections.sort(values);
+            expected.addAll(values);
+            streams.add(Stream.of(values));
+        }
+        Collections.sort(expected);
+        assertEquals(expected, Stream.mergeSorted(Functions.naturalOrder(), streams).toList());
+    }
+
+    @Test
+    public void testMergeSortedCloseHandlers() {
+        final boolean[] closed = new boolean[2];
+        final Stream<Integer> stream = Stream.mergeSorted(Functions.naturalOrder(), Arrays.asList(
+                Stream.of(1).onClose(closeHandler(closed, 0)),
+                Stream.of(2).onClose(closeHandler(closed, 1))));
+        stream.close();
+        assertTrue(closed[0]);
+        assertTrue(closed[1]);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testMergeSortedNullComparator() {
+        Stream.mergeSorted(null, Arrays.asList(Stream.of(1)));
+    }
+
+    private static Runnable closeHandler(final boolean[] closed, final int index) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                closed[index] = true;
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.test.hamcrest.StreamMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+
+public final class ReverseTest {
+
+    @Test
+    public void testReverse() {
+        Stream.of(1, 2, 3, 4)
+                .reverse()
+                .custom(assertElements(contains(
+                        4, 3, 2, 1
+                )));
+    }
+
+    @Test
+    public void testReverseOfEmptyStream() {
+        Stream.empty()
+                .reverse()
+                .custom(StreamMatcher.assertIsEmpty());
+    }
+
+    @Test
+    public void testReverseAfterFiltering() {
+        Stream.range(0, 10)
+                .filter(Functions.remainder(3))
+                .reverse()
+                .custom(assertElements(contains(
+                        9, 6, 3, 0
+                )));
+    }
+
+    @Test
+    public void testReverseSkipAndLimit() {
+        Stream.range(0, 10)
+                .skip(2)
+                .limit(5)
+                .reverse()
+                .skip(1)
+                .custom(assertElements(contains(
+                        5, 4, 3, 2
+                )));
+    }
+
+    @Test
+    public void testReverseTwice() {
+        Stream.of(Arrays.asList(1, 2, 3))
+                .reverse()
+                .reverse()
+                .custom(assertElements(contains(
+                        1, 2, 3
+                )));
+    }
+
+    @Test
+    public void testReverseCountAndFindLast() {
+        assertEquals(10, Stream.range(0, 10).reverse().count());
+        assertEquals(0, (int) Stream.range(0, 10).reverse().findLast().get());
+        assertEquals(7, (int) Stream.range(0, 10).reverse().elementAt(2).get());
+    }
+
+    @Test
+    public void testReverseLazy() {
+        final List<Integer> data = new ArrayList<Integer>();
+        data.add(0);
+
+        Stream<Integer> stream = Stream.of(data).reverse();
+        data.addAll(Arrays.asList(1, 2));
+        stream.custom(assertElements(contains(
+                2, 1, 0
+        )));
+    }
+}
@@ -0,0 +1,118 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.RandomCompat;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Supplier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertIsEmpty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class SampleRandomTest {
+
+    @Test
+    public void testSampleRandom() {
+        List<Integer> sample = Stream.range(0, 1000)
+                .sampleRandom(10, new RandomCompat(42))
+                .toList();
+        assertEquals(10, sample.size());
+        assertEquals(10, new HashSet<Integer>(sample).size());
+        for (Integer value : sample) {
+            assertTrue(value >= 0 && value < 1000);
+        }
+    }
+
+    @Test
+    public void testSampleRandomIsReproducible() {
+        assertEquals(
+                Stream.range(0, 100000).sampleRandom(5, new RandomCompat(7)).toList(),
+                Stream.range(0, 100000).sampleRandom(5, new RandomCompat(7)).toList());
+    }
+
+    @Test
+    public void testSampleRandomWithFewerElements() {
+        List<String> sample = Stream.of("a", "b", "c")
+                .sampleRandom(5, new RandomCompat(1))
+                .toList();
+        assertThat(sample, containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void testSampleRandomWithZeroSize() {
+        Stream.of(1, 2, 3)
+                .sampleRandom(0, new RandomCompat())
+                .custom(assertIsEmpty());
+    }
+
+    @Test
+    public void testSampleRandomIsUniform() {
+        final RandomCompat random = new RandomCompat(123);
+        final int[] counts = new int[10];
+        final int trials = 20000;
+        for (int i = 0; i < trials; i++) {
+            for (Integer value : Stream.range(0, 10).sampleRandom(2, random).toList()) {
+                counts[value]++;
+            }
+        }
+        // Each element is selected with probability 2/10
+        for (int count : counts) {
+            assertEquals(trials * 2 / 10, count, 300);
+        }
+    }
+
+    @Test
+    public void testSampleRandomIsUniformOnLongStream() {
+        final RandomCompat random = new RandomCompat(5);
+        final int[] buckets = new int[10];
+        for (int i = 0; i < 200; i++) {
+            for (Integer value : Stream.range(0, 10000).sampleRandom(50, random).toList()) {
+                buckets[value / 1000]++;
+            }
+        }
+        // 10000 selected values, about 1000 per bucket
+        for (int bucket : buckets) {
+            assertEquals(1000, bucket, 150);
+        }
+    }
+
+    @Test
+    public void testSampleRandomFromGenerator() {
+        final int[] counter = { 0 };
+        final Set<Integer> sample = new HashSet<Integer>(Stream.generate(new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                return counter[0]++;
+            }
+        }).limit(50000).sampleRandom(100, new RandomCompat(3)).toList());
+        assertEquals(100, sample.size());
+        assertEquals(50000, counter[0]);
+    }
+
+    @Test
+    public void testSampleRandomFromRandomAccessList() {
+        final List<Integer> list = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+        List<Integer> sample = Stream.of(list)
+                .sampleRandom(3, new RandomCompat(11))
+                .toList();
+        assertEquals(3, new HashSet<Integer>(sample).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSampleRandomWithNegativeSize() {
+        Stream.of(1, 2).sampleRandom(-1, new RandomCompat());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSampleRandomWithNullRandom() {
+        Stream.of(1, 2).sampleRandom(1, null);
+    }
+}
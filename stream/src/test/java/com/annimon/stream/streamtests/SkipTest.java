@@ -1,13 +1,17 @@
 package com.annimon.stream.streamtests;
 
+import com.annimon.stream.Optional;
 import com.annimon.stream.Stream;
+import com.annimon.stream.function.UnaryOperator;
 import com.annimon.stream.test.hamcrest.StreamMatcher;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
 
 public final class SkipTest {
 
@@ -103,4 +107,67 @@ public final class SkipTest {
                         4, 5
                 )));
     }
+
+    @Test
+    public void testSkipOfRandomAccessList() {
+        final List<Integer> data = new ArrayList<Integer>(Arrays.asList(0, 1, 2, 3, 4));
+        Stream.of(data)
+                .skip(2)
+                .skip(1)
+                .custom(assertElements(contains(
+                        3, 4
+                )));
+    }
+
+    @Test
+    public void testSkipAfterMapAppliesMapperToSkippedElements() {
+        final List<Integer> mapped = new ArrayList<Integer>();
+        Stream.of(Arrays.asList(0, 1, 2, 3, 4).iterator())
+                .map(recording(mapped))
+                .skip(3)
+                .custom(assertElements(contains(
+                        30, 40
+                )));
+        assertThat(mapped, contains(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    public void testSkipAfterMapOfRandomAccessSource() {
+        final List<Integer> mapped = new ArrayList<Integer>();
+        Stream.of(0, 1, 2, 3, 4)
+                .map(recording(mapped))
+                .skip(3)
+                .custom(assertElements(contains(
+                        30, 40
+                )));
+        // Skipped elements are not traversed
+        assertThat(mapped, contains(3, 4));
+    }
+
+    @Test
+    public void testSkipAfterMapOfListThenRandomAccess() {
+        final List<Integer> list = Arrays.asList(1, 2, 3, 4, 5);
+        assertEquals(Optional.of(5), Stream.of(list).map(identity()).skip(2).findLast());
+        assertEquals(Optional.of(3), Stream.of(list).map(identity()).skip(2).elementAt(0));
+        assertEquals(Arrays.asList(5, 4, 3), Stream.of(list).map(identity()).skip(2).reverse().toList());
+    }
+
+    private static UnaryOperator<Integer> recording(final List<Integer> mapped) {
+        return new UnaryOperator<Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                mapped.add(value);
+                return value * 10;
+            }
+        };
+    }
+
+    private static UnaryOperator<Integer> identity() {
+        return new UnaryOperator<Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value;
+            }
+        };
+    }
 }
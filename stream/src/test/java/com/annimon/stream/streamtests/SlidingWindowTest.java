@@ -1,7 +1,11 @@
 package com.annimon.stream.streamtests;
 
 import com.annimon.stream.Stream;
+import com.annimon.stream.function.Consumer;
+import com.annimon.stream.function.Function;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
 import static org.hamcrest.Matchers.contains;
@@ -56,6 +60,23 @@ public final class SlidingWindowTest {
                 )));
     }
 
+    @Test
+    public void testSlidingWindowWithLargeWindowSize() {
+        final List<List<Integer>> windows = Stream.range(0, 50)
+                .slidingWindow(40, 5)
+                .toList();
+        assertEquals(3, windows.size());
+        assertEquals(Stream.range(0, 40).toList(), windows.get(0));
+        assertEquals(Stream.range(5, 45).toList(), windows.get(1));
+        assertEquals(Stream.range(10, 50).toList(), windows.get(2));
+
+        final List<List<Integer>> single = Stream.of(1, 2, 3)
+                .slidingWindow(Integer.MAX_VALUE, 1)
+                .toList();
+        assertEquals(1, single.size());
+        assertEquals(Arrays.asList(1, 2, 3), single.get(0));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testSlidingWindowWithNegativeWindowSize() {
         Stream.of(1, 2, 3, 4).slidingWindow(-1, 1).count();
@@ -65,4 +86,91 @@ public final class SlidingWindowTest {
     public void testSlidingWindowWithNegativeStepSize() {
         Stream.of(1, 2, 3, 4).slidingWindow(5, -1).count();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSlidingWindowView() {
+        Stream.of(                    1, 2, 3, 4, 5, 6, 7)
+                .slidingWindowView(3, 2)
+                .map(copyList())
+                .custom(assertElements(contains(
+                        Arrays.asList(1, 2, 3),
+                        Arrays.asList(      3, 4, 5),
+                        Arrays.asList(            5, 6, 7)
+                )));
+
+        Stream.of(                    1, 2, 3, 1, 2, 3, 1, 2)
+                .slidingWindowView(2, 3)
+                .map(copyList())
+                .custom(assertElements(contains(
+                        Arrays.asList(1, 2),
+                        Arrays.asList(         1, 2),
+                        Arrays.asList(                  1, 2)
+                )));
+
+        Stream.of(                    1, 2, 3, 4)
+                .slidingWindowView(3, 2)
+                .map(copyList())
+                .custom(assertElements(contains(
+                        Arrays.asList(1, 2, 3),
+                        Arrays.asList(      3, 4)
+                )));
+
+        assertEquals(0, Stream.<Integer>empty().slidingWindowView(5).count());
+    }
+
+    @Test
+    public void testSlidingWindowViewSums() {
+        final List<Integer> sums = Stream.range(0, 1000)
+                .slidingWindowView(100)
+                .map(new Function<List<Integer>, Integer>() {
+                    @Override
+                    public Integer apply(List<Integer> window) {
+                        int sum = 0;
+                        for (Integer value : window) {
+                            sum += value;
+                        }
+                        return sum;
+                    }
+                })
+                .toList();
+        assertEquals(901, sums.size());
+        assertEquals(4950, (int) sums.get(0));
+        assertEquals(4950 + 900 * 100, (int) sums.get(900));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSlidingWindowViewIsReadOnly() {
+        Stream.of(1, 2, 3)
+                .slidingWindowView(2)
+                .forEach(new Consumer<List<Integer>>() {
+                    @Override
+                    public void accept(List<Integer> window) {
+                        window.set(0, 10);
+                    }
+                });
+    }
+
+    @Test
+    public void testSlidingWindowCopiesAreIndependent() {
+        final List<List<Integer>> windows = Stream.of(1, 2, 3, 4)
+                .slidingWindow(2)
+                .toList();
+        assertEquals(Arrays.asList(3, 4), windows.get(2));
+        assertEquals(Arrays.asList(1, 2), windows.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSlidingWindowViewWithNegativeWindowSize() {
+        Stream.of(1, 2, 3, 4).slidingWindowView(0, 1);
+    }
+
+    private static Function<List<Integer>, List<Integer>> copyList() {
+        return new Function<List<Integer>, List<Integer>>() {
+            @Override
+            public List<Integer> apply(List<Integer> window) {
+                return new ArrayList<Integer>(window);
+            }
+        };
+    }
 }
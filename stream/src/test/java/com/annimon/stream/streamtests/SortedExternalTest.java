@@ -0,0 +1,155 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Codec;
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.test.hamcrest.StreamMatcher;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+
+public final class SortedExternalTest {
+
+    @Test
+    public void testSortedExternalInMemory() {
+        Stream.of("c", "a", "d", "b")
+                .sortedExternal(null, Codec.Util.ofString(), 10)
+                .custom(assertElements(contains(
+                        "a", "b", "c", "d"
+                )));
+    }
+
+    @Test
+    public void testSortedExternalWithRuns() {
+        Stream.of("c", "a", "d", "b", "e")
+                .sortedExternal(null, Codec.Util.ofString(), 2)
+                .custom(assertElements(contains(
+                        "a", "b", "c", "d", "e"
+                )));
+    }
+
+    @Test
+    public void testSortedExternalWithComparator() {
+        Stream.of(5, 1, 9, 3, 7, 2, 8)
+                .sortedExternal(Collections.reverseOrder(Functions.naturalOrder()),
+                        Codec.Util.ofInteger(), 3)
+                .custom(assertElements(contains(
+                        9, 8, 7, 5, 3, 2, 1
+                )));
+    }
+
+    @Test
+    public void testSortedExternalOfEmptyStream() {
+        Stream.<String>empty()
+                .sortedExternal(null, Codec.Util.ofString(), 2)
+                .custom(StreamMatcher.<String>assertIsEmpty());
+    }
+
+    @Test
+    public void testSortedExternalMatchesSorted() {
+        final List<Integer> data = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            data.add((i * 7919) % 10007);
+        }
+        final List<Integer> expected = new ArrayList<Integer>(data);
+        Collections.sort(expected);
+        assertEquals(expected, Stream.of(data)
+                .sortedExternal(null, Codec.Util.ofInteger(), 333)
+                .toList());
+    }
+
+    @Test
+    public void testSortedExternalIsStable() {
+        final Comparator<String> firstChar = new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o1.charAt(0) - o2.charAt(0);
+            }
+        };
+        Stream.of("b1", "a1", "b2", "c1", "a2", "b3", "a3")
+                .sortedExternal(firstChar, Codec.Util.ofString(), 2)
+                .custom(assertElements(contains(
+                        "a1", "a2", "a3", "b1", "b2", "b3", "c1"
+                )));
+    }
+
+    @Test
+    public void testSortedExternalDeletesFiles() {
+        final File tempDir = new File(System.getProperty("java.io.tmpdir"));
+        final int before = countRuns(tempDir);
+
+        final Iterator<? extends Integer> iterator = Stream.range(0, 100)
+                .sortedExternal(null, Codec.Util.ofInteger(), 10)
+                .iterator();
+        iterator.next();
+        assertEquals(before + 10, countRuns(tempDir));
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        assertEquals(before, countRuns(tempDir));
+
+        final Stream<Integer> stream = Stream.range(0, 100)
+                .sortedExternal(null, Codec.Util.ofInteger(), 10);
+        stream.iterator().next();
+        stream.close();
+        assertEquals(before, countRuns(tempDir));
+    }
+
+    @Test
+    public void testSortedExternalIsStableWithMultiPassMerge() {
+        final Comparator<String> firstChar = new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o1.charAt(0) - o2.charAt(0);
+            }
+        };
+        final List<String> data = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++) {
+            data.add((char) ('a' + (i * 7) % 26) + Integer.toString(i));
+        }
+        final List<String> expected = new ArrayList<String>(data);
+        Collections.sort(expected, firstChar);
+        // 334 runs are merged in two passes
+        assertEquals(expected, Stream.of(data)
+                .sortedExternal(firstChar, Codec.Util.ofString(), 3)
+                .toList());
+    }
+
+    @Test
+    public void testSortedExternalDeletesFilesOfMergedRuns() {
+        final File tempDir = new File(System.getProperty("java.io.tmpdir"));
+        final int before = countRuns(tempDir);
+
+        final Stream<Integer> stream = Stream.range(0, 200)
+                .sortedExternal(null, Codec.Util.ofInteger(), 1);
+        final Iterator<? extends Integer> iterator = stream.iterator();
+        assertEquals(0, (int) iterator.next());
+        // 200 runs are merged to 4 runs before the final merge
+        assertEquals(before + 4, countRuns(tempDir));
+        stream.close();
+        assertEquals(before, countRuns(tempDir));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortedExternalWithZeroBudget() {
+        Stream.of(Arrays.asList("a")).sortedExternal(null, Codec.Util.ofString(), 0);
+    }
+
+    private static int countRuns(File dir) {
+        int count = 0;
+        final String[] names = dir.list();
+        if (names == null) return 0;
+        for (String name : names) {
+            if (name.startsWith("lsa-sort") && name.endsWith(".run")) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,64 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Functions;
+import com.annimon.stream.IntPair;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Function;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+
+public final class SortedParallelTest {
+
+    @Test
+    public void testSortedParallel() {
+        Stream.of(3, 4, 1, 2)
+                .sortedParallel(null, 4)
+                .custom(assertElements(contains(
+                        1, 2, 3, 4
+                )));
+    }
+
+    @Test
+    public void testSortedParallelWithComparator() {
+        Stream.of(3, 4, 1, 2)
+                .sortedParallel(Collections.reverseOrder(Functions.naturalOrder()), 2)
+                .custom(assertElements(contains(
+                        4, 3, 2, 1
+                )));
+    }
+
+    @Test
+    public void testSortedParallelIsSameAsSorted() {
+        final Comparator<IntPair<Integer>> byValue = new Comparator<IntPair<Integer>>() {
+            @Override
+            public int compare(IntPair<Integer> o1, IntPair<Integer> o2) {
+                return o1.getSecond() - o2.getSecond();
+            }
+        };
+        final Function<Integer, IntPair<Integer>> toPair = new Function<Integer, IntPair<Integer>>() {
+            @Override
+            public IntPair<Integer> apply(Integer i) {
+                return new IntPair<Integer>(i, (i * 7919) % 97);
+            }
+        };
+        final List<IntPair<Integer>> expected = Stream.range(0, 100000)
+                .map(toPair)
+                .sorted(byValue)
+                .toList();
+        final List<IntPair<Integer>> actual = Stream.range(0, 100000)
+                .map(toPair)
+                .sortedParallel(byValue, 8)
+                .toList();
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortedParallelWithZeroParallelism() {
+        Stream.of(1, 2).sortedParallel(null, 0);
+    }
+}
@@ -4,6 +4,7 @@ import com.annimon.stream.Functions;
 import com.annimon.stream.Stream;
 import org.junit.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -31,4 +32,32 @@ public final class ToArrayTest {
         assertTrue(numbers.length > 0);
         assertNotNull(numbers[100]);
     }
+
+    @Test
+    public void testToArrayPreservesOrderAcrossChunks() {
+        Integer[] numbers = Stream.range(0, 100000)
+               .filter(Functions.remainder(3))
+               .toArray(Functions.arrayGenerator(Integer[].class));
+
+        assertEquals(33334, numbers.length);
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(i * 3, numbers[i].intValue());
+        }
+    }
+
+    @Test
+    public void testToArrayOfSizedStream() {
+        String[] strings = Stream.of("a", "b", "c")
+               .map(Functions.<String>convertToString())
+               .toArray(Functions.arrayGenerator(String[].class));
+
+        assertThat(strings, arrayContaining("a", "b", "c"));
+    }
+
+    @Test(expected = ArrayStoreException.class)
+    public void testToArrayWithIncompatibleGenerator() {
+        Stream.range(0, 10)
+               .filter(Functions.remainder(2))
+               .toArray(Functions.arrayGenerator(String[].class));
+    }
 }
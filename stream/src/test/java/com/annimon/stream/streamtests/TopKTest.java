@@ -0,0 +1,122 @@
+package com.annimon.stream.streamtests;
+
+import com.annimon.stream.Functions;
+import com.annimon.stream.Stream;
+import com.annimon.stream.function.Function;
+import com.annimon.stream.test.hamcrest.StreamMatcher;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.Test;
+import static com.annimon.stream.test.hamcrest.StreamMatcher.assertElements;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+
+public final class TopKTest {
+
+    @Test
+    public void testTopK() {
+        Stream.of(5, 1, 9, 3, 7, 2)
+                .topK(3, Functions.naturalOrder())
+                .custom(assertElements(contains(
+                        9, 7, 5
+                )));
+    }
+
+    @Test
+    public void testTopKGreaterThanCount() {
+        Stream.of(5, 1, 9)
+                .topK(10, Functions.naturalOrder())
+                .custom(assertElements(contains(
+                        9, 5, 1
+                )));
+    }
+
+    @Test
+    public void testTopKZero() {
+        Stream.of(5, 1, 9)
+                .topK(0, Functions.naturalOrder())
+                .custom(StreamMatcher.<Integer>assertIsEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTopKNegative() {
+        Stream.of(5, 1, 9).topK(-1, Functions.naturalOrder());
+    }
+
+    @Test
+    public void testTopKOfLargeStream() {
+        Stream.range(0, 100000)
+                .topK(5, Functions.naturalOrder())
+                .custom(assertElements(contains(
+                        99999, 99998, 99997, 99996, 99995
+                )));
+    }
+
+    @Test
+    public void testTopKIsStable() {
+        Stream.of("b1", "a1", "b2", "c1", "a2", "b3")
+                .topK(3, firstCharOrder())
+                .custom(assertElements(contains(
+                        "c1", "b1", "b2"
+                )));
+    }
+
+    @Test
+    public void testSortedLimitIsStable() {
+        Stream.of("b1", "a1", "b2", "c1", "a2", "b3")
+                .sorted(firstCharOrder())
+                .limit(4)
+                .custom(assertElements(contains(
+                        "a1", "a2", "b1", "b2"
+                )));
+    }
+
+    @Test
+    public void testSortedLimit() {
+        Stream.of(5, 1, 9, 3, 7, 2)
+                .sorted()
+                .limit(3)
+                .custom(assertElements(contains(
+                        1, 2, 3
+                )));
+
+        Stream.of(5, 1, 9, 3, 7, 2)
+                .sortBy(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer value) {
+                        return -value;
+                    }
+                })
+                .limit(2)
+                .custom(assertElements(contains(
+                        9, 7
+                )));
+    }
+
+    @Test
+    public void testSortedLimitCount() {
+        assertEquals(3, Stream.range(0, 10).sorted().limit(3).count());
+        assertEquals(10, Stream.range(0, 10).sorted().limit(Long.MAX_VALUE).count());
+    }
+
+    @Test
+    public void testSortedLimitMatchesSorting() {
+        final Integer[] data = new Integer[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (i * 7919) % 1000;
+        }
+        final Integer[] sorted = data.clone();
+        Arrays.sort(sorted);
+        assertEquals(Arrays.asList(sorted).subList(0, 100),
+                Stream.of(data).sorted().limit(100).toList());
+    }
+
+    private static Comparator<String> firstCharOrder() {
+        return new Comparator<String>() {
+            @Override
+            public int compare(String o1, String o2) {
+                return o1.charAt(0) - o2.charAt(0);
+            }
+        };
+    }
+}